@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.mule.runtime.http.api.HttpService;
+import org.mule.runtime.http.api.client.HttpClient;
+import org.mule.runtime.http.api.client.HttpClientFactory;
+import org.mule.runtime.http.api.client.auth.HttpAuthentication;
+import org.mule.runtime.http.api.domain.message.request.HttpRequest;
+import org.mule.runtime.http.api.domain.message.response.HttpResponse;
+import org.mule.runtime.http.api.server.HttpServerFactory;
+
+/**
+ * @author Matija Petanjek
+ */
+public class BenchmarkHttpService implements HttpService {
+
+	public BenchmarkHttpService(
+		Function<HttpRequest, HttpResponse> httpResponseFunction) {
+
+		this.httpResponseFunction = httpResponseFunction;
+	}
+
+	@Override
+	public HttpClientFactory getClientFactory() {
+		return httpClientConfiguration -> new HttpClient() {
+
+			@Override
+			public HttpResponse send(
+				HttpRequest httpRequest, int responseTimeout,
+				boolean followRedirects,
+				HttpAuthentication httpAuthentication) {
+
+				return httpResponseFunction.apply(httpRequest);
+			}
+
+			@Override
+			public CompletableFuture<HttpResponse> sendAsync(
+				HttpRequest httpRequest, int responseTimeout,
+				boolean followRedirects,
+				HttpAuthentication httpAuthentication) {
+
+				return CompletableFuture.completedFuture(
+					httpResponseFunction.apply(httpRequest));
+			}
+
+			@Override
+			public void start() {
+			}
+
+			@Override
+			public void stop() {
+			}
+
+		};
+	}
+
+	@Override
+	public String getName() {
+		return "Benchmark HTTP Service";
+	}
+
+	@Override
+	public HttpServerFactory getServerFactory() {
+		throw new UnsupportedOperationException();
+	}
+
+	private final Function<HttpRequest, HttpResponse> httpResponseFunction;
+
+}
\ No newline at end of file
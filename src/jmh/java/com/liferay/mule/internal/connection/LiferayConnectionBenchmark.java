@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.mule.runtime.api.util.MultiMap;
+import org.mule.runtime.http.api.domain.entity.ByteArrayHttpEntity;
+import org.mule.runtime.http.api.domain.message.response.HttpResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Matija Petanjek
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class LiferayConnectionBenchmark {
+
+	@Benchmark
+	public HttpResponse get() {
+		ResourceContext.Builder builder = new ResourceContext.Builder();
+
+		return liferayConnection.get(
+			builder.connectionTimeout(
+				10000
+			).endpoint(
+				"/v1.0/catalogs/{catalogId}/products"
+			).pathParams(
+				pathParams
+			).queryParams(
+				queryParams
+			).build());
+	}
+
+	@Benchmark
+	public HttpResponse post() {
+		ResourceContext.Builder builder = new ResourceContext.Builder();
+
+		return liferayConnection.post(
+			builder.bytes(
+				CONTENT
+			).connectionTimeout(
+				10000
+			).endpoint(
+				"/v1.0/catalogs/{catalogId}/products"
+			).pathParams(
+				pathParams
+			).build());
+	}
+
+	@Setup
+	public void setUp() throws Exception {
+		LiferayConnectionSettings.Builder builder =
+			new LiferayConnectionSettings.Builder();
+
+		liferayConnection = LiferayConnection.withBasicAuthentication(
+			new BenchmarkHttpService(
+				httpRequest -> HttpResponse.builder(
+				).entity(
+					new ByteArrayHttpEntity(CONTENT)
+				).statusCode(
+					200
+				).build()),
+			"http://localhost:8080/o/headless-commerce-admin-catalog/v1.0" +
+				"/openapi.json",
+			null, "test@liferay.com", "test", null, builder.build());
+
+		pathParams.put("catalogId", "12345");
+
+		queryParams.put("page", "1");
+		queryParams.put("pageSize", "20");
+	}
+
+	@TearDown
+	public void tearDown() {
+		liferayConnection.invalidate();
+	}
+
+	private static final byte[] CONTENT = "{\"items\": []}".getBytes(
+		StandardCharsets.UTF_8);
+
+	private LiferayConnection liferayConnection;
+	private final Map<String, String> pathParams = new HashMap<>();
+	private final MultiMap<String, String> queryParams = new MultiMap<>();
+
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.metadata;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.liferay.mule.internal.oas.constants.OASConstants;
+import com.liferay.mule.internal.util.BenchmarkUtil;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.mule.runtime.api.metadata.MetadataContext;
+import org.mule.runtime.api.metadata.MetadataKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Matija Petanjek
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class MetadataKeysBuilderBenchmark {
+
+	@Benchmark
+	public Set<MetadataKey> buildBatchEndpointMetadataKeys()
+		throws Exception {
+
+		return metadataKeysBuilder.buildBatchEndpointMetadataKeys(null);
+	}
+
+	@Benchmark
+	public Set<MetadataKey> buildClassNameMetadataKeys() throws Exception {
+		return metadataKeysBuilder.buildClassNameMetadataKeys(null);
+	}
+
+	@Benchmark
+	public Set<MetadataKey> buildGETEndpointMetadataKeys() throws Exception {
+		return metadataKeysBuilder.buildEndpointMetadataKeys(
+			null, OASConstants.OPERATION_GET);
+	}
+
+	@Setup
+	public void setUp() throws Exception {
+		metadataKeysBuilder = new BenchmarkMetadataKeysBuilder(
+			BenchmarkUtil.readOpenAPISpecJsonNode());
+	}
+
+	private MetadataKeysBuilder metadataKeysBuilder;
+
+	private static class BenchmarkMetadataKeysBuilder
+		extends MetadataKeysBuilder {
+
+		@Override
+		protected JsonNode getOASJsonNode(MetadataContext metadataContext) {
+			return oasJsonNode;
+		}
+
+		private BenchmarkMetadataKeysBuilder(JsonNode oasJsonNode) {
+			this.oasJsonNode = oasJsonNode;
+		}
+
+		private final JsonNode oasJsonNode;
+
+	}
+
+}
\ No newline at end of file
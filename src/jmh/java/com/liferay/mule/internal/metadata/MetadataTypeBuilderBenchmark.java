@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.metadata;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.liferay.mule.internal.oas.constants.OASConstants;
+import com.liferay.mule.internal.util.BenchmarkUtil;
+import com.liferay.mule.internal.util.JsonNodeReader;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * @author Matija Petanjek
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class MetadataTypeBuilderBenchmark {
+
+	@Benchmark
+	public void buildBatchMetadataTypes(Blackhole blackhole) throws Exception {
+		for (String className : classNames) {
+			blackhole.consume(
+				metadataTypeBuilder.buildBatchMetadataType(
+					oasJsonNode, className));
+		}
+	}
+
+	@Benchmark
+	public void buildInputMetadataTypes(Blackhole blackhole) throws Exception {
+		for (String[] endpointOperation : inputEndpointOperations) {
+			blackhole.consume(
+				metadataTypeBuilder.buildMetadataType(
+					oasJsonNode, endpointOperation[0], endpointOperation[1],
+					OASConstants.
+						PATH_REQUEST_BODY_CONTENT_APPLICATION_JSON_SCHEMA_PATTERN));
+		}
+	}
+
+	@Benchmark
+	public void buildOutputMetadataTypes(Blackhole blackhole)
+		throws Exception {
+
+		for (String[] endpointOperation : outputEndpointOperations) {
+			blackhole.consume(
+				metadataTypeBuilder.buildMetadataType(
+					oasJsonNode, endpointOperation[0], endpointOperation[1],
+					OASConstants.
+						PATH_RESPONSES_DEFAULT_CONTENT_APPLICATION_JSON_SCHEMA_PATTERN));
+		}
+	}
+
+	@Setup
+	public void setUp() throws Exception {
+		oasJsonNode = BenchmarkUtil.readOpenAPISpecJsonNode();
+
+		Iterator<Map.Entry<String, JsonNode>> pathsIterator = oasJsonNode.get(
+			OASConstants.PATHS
+		).fields();
+
+		while (pathsIterator.hasNext()) {
+			Map.Entry<String, JsonNode> entry = pathsIterator.next();
+
+			JsonNode pathJsonNode = entry.getValue();
+
+			for (String operation : OPERATIONS) {
+				if (!pathJsonNode.has(operation)) {
+					continue;
+				}
+
+				String[] endpointOperation = {entry.getKey(), operation};
+
+				outputEndpointOperations.add(endpointOperation);
+
+				if (!operation.equals(OASConstants.OPERATION_GET)) {
+					inputEndpointOperations.add(endpointOperation);
+				}
+			}
+		}
+
+		JsonNodeReader jsonNodeReader = new JsonNodeReader();
+
+		Iterator<JsonNode> schemasIterator =
+			jsonNodeReader.getDescendantJsonNode(
+				oasJsonNode, OASConstants.PATH_COMPONENTS_SCHEMAS
+			).elements();
+
+		while (schemasIterator.hasNext()) {
+			JsonNode classNameJsonNode = jsonNodeReader.fetchDescendantJsonNode(
+				schemasIterator.next(),
+				OASConstants.PATH_PROPERTIES_X_CLASS_NAME_DEFAULT);
+
+			if (!classNameJsonNode.isNull()) {
+				classNames.add(classNameJsonNode.asText());
+			}
+		}
+	}
+
+	private static final String[] OPERATIONS = {
+		OASConstants.OPERATION_GET, OASConstants.OPERATION_PATCH,
+		OASConstants.OPERATION_POST
+	};
+
+	private final List<String> classNames = new ArrayList<>();
+	private final List<String[]> inputEndpointOperations = new ArrayList<>();
+	private final MetadataTypeBuilder metadataTypeBuilder =
+		new MetadataTypeBuilder();
+	private JsonNode oasJsonNode;
+	private final List<String[]> outputEndpointOperations = new ArrayList<>();
+
+}
\ No newline at end of file
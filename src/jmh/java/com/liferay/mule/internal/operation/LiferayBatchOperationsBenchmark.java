@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.operation;
+
+import com.liferay.mule.internal.connection.BenchmarkHttpService;
+import com.liferay.mule.internal.connection.LiferayConnection;
+import com.liferay.mule.internal.connection.LiferayConnectionSettings;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.mule.runtime.api.streaming.Cursor;
+import org.mule.runtime.api.streaming.CursorProvider;
+import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.runtime.http.api.domain.entity.ByteArrayHttpEntity;
+import org.mule.runtime.http.api.domain.message.request.HttpRequest;
+import org.mule.runtime.http.api.domain.message.response.HttpResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Matija Petanjek
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class LiferayBatchOperationsBenchmark {
+
+	@Benchmark
+	public long executeExportTask() throws IOException {
+		Result<InputStream, Void> result =
+			liferayBatchOperations.executeExportTask(
+				liferayConnection, "com.liferay.headless.v1_0.Entity", null,
+				null, null, null, null, 10000, TimeUnit.MILLISECONDS,
+				spoolToFile);
+
+		long count = 0;
+
+		try (InputStream inputStream = result.getOutput()) {
+			byte[] buffer = new byte[8192];
+
+			int read;
+
+			while ((read = inputStream.read(buffer)) != -1) {
+				count += read;
+			}
+
+			if (inputStream instanceof Cursor) {
+				Cursor cursor = (Cursor)inputStream;
+
+				CursorProvider cursorProvider = cursor.getProvider();
+
+				cursorProvider.releaseResources();
+			}
+		}
+
+		return count;
+	}
+
+	@Setup
+	public void setUp() throws Exception {
+		exportTaskContent = getExportTaskContent(recordsCount);
+
+		LiferayConnectionSettings.Builder builder =
+			new LiferayConnectionSettings.Builder();
+
+		liferayConnection = LiferayConnection.withBasicAuthentication(
+			new BenchmarkHttpService(this::getHttpResponse),
+			"http://localhost:8080/o/headless-commerce-admin-catalog/v1.0" +
+				"/openapi.json",
+			null, "test@liferay.com", "test", null, builder.build());
+	}
+
+	@TearDown
+	public void tearDown() {
+		liferayConnection.invalidate();
+	}
+
+	@Param({"1000", "100000"})
+	public int recordsCount;
+
+	@Param({"false", "true"})
+	public boolean spoolToFile;
+
+	private byte[] getExportTaskContent(int recordsCount) throws IOException {
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(
+				byteArrayOutputStream)) {
+
+			zipOutputStream.putNextEntry(new ZipEntry("export.json"));
+
+			zipOutputStream.write('[');
+
+			for (int i = 0; i < recordsCount; i++) {
+				if (i > 0) {
+					zipOutputStream.write(',');
+				}
+
+				String record = String.format(
+					"{\"id\": %d, \"name\": \"Entity %d\", \"active\": true}",
+					i, i);
+
+				zipOutputStream.write(record.getBytes(StandardCharsets.UTF_8));
+			}
+
+			zipOutputStream.write(']');
+
+			zipOutputStream.closeEntry();
+		}
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private HttpResponse getHttpResponse(HttpRequest httpRequest) {
+		String path = httpRequest.getPath();
+
+		byte[] content;
+
+		if (path.endsWith("/content")) {
+			content = exportTaskContent;
+		}
+		else if (path.contains("/export-task/com.liferay")) {
+			content = "{\"id\": 1}".getBytes(StandardCharsets.UTF_8);
+		}
+		else {
+			content = "{\"executeStatus\": \"COMPLETED\"}".getBytes(
+				StandardCharsets.UTF_8);
+		}
+
+		return HttpResponse.builder(
+		).entity(
+			new ByteArrayHttpEntity(content)
+		).statusCode(
+			200
+		).build();
+	}
+
+	private byte[] exportTaskContent;
+	private LiferayConnection liferayConnection;
+	private final LiferayBatchOperations liferayBatchOperations =
+		new LiferayBatchOperations();
+
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * @author Matija Petanjek
+ */
+public class BenchmarkUtil {
+
+	public static JsonNode readOpenAPISpecJsonNode() throws IOException {
+		String openAPISpecPath = System.getProperty(
+			"liferay.benchmark.openapi");
+
+		ObjectMapper objectMapper = new ObjectMapper();
+
+		if (openAPISpecPath != null) {
+			try (InputStream inputStream = new FileInputStream(
+					openAPISpecPath)) {
+
+				return objectMapper.readTree(inputStream);
+			}
+		}
+
+		ClassLoader classLoader = BenchmarkUtil.class.getClassLoader();
+
+		try (InputStream inputStream = classLoader.getResourceAsStream(
+				"com/liferay/mule/internal/metadata/openapi.json")) {
+
+			return objectMapper.readTree(inputStream);
+		}
+	}
+
+}
\ No newline at end of file
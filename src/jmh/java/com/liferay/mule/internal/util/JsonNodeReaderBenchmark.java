@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.liferay.mule.internal.oas.constants.OASConstants;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Matija Petanjek
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class JsonNodeReaderBenchmark {
+
+	@Benchmark
+	public JsonNode fetchMissingDescendantJsonNode() {
+		return jsonNodeReader.fetchDescendantJsonNode(
+			oasJsonNode, "components>schemas>Missing>properties");
+	}
+
+	@Benchmark
+	public JsonNode getDescendantJsonNode() {
+		return jsonNodeReader.getDescendantJsonNode(
+			oasJsonNode, OASConstants.PATH_COMPONENTS_SCHEMAS);
+	}
+
+	@Benchmark
+	public boolean hasPath() {
+		return jsonNodeReader.hasPath(
+			oasJsonNode, OASConstants.PATH_COMPONENTS_SCHEMAS);
+	}
+
+	@Setup
+	public void setUp() throws Exception {
+		oasJsonNode = BenchmarkUtil.readOpenAPISpecJsonNode();
+	}
+
+	private final JsonNodeReader jsonNodeReader = new JsonNodeReader();
+	private JsonNode oasJsonNode;
+
+}
\ No newline at end of file
@@ -18,11 +18,13 @@ import com.liferay.mule.internal.connection.BasicCachedConnectionProvider;
 import com.liferay.mule.internal.connection.OAuth2CachedConnectionProvider;
 import com.liferay.mule.internal.operation.LiferayBatchOperations;
 import com.liferay.mule.internal.operation.LiferayCRUDOperations;
+import com.liferay.mule.internal.source.LiferayChangedRecordsSource;
 
 import java.util.concurrent.TimeUnit;
 
 import org.mule.runtime.extension.api.annotation.Configuration;
 import org.mule.runtime.extension.api.annotation.Operations;
+import org.mule.runtime.extension.api.annotation.Sources;
 import org.mule.runtime.extension.api.annotation.connectivity.ConnectionProviders;
 import org.mule.runtime.extension.api.annotation.param.Optional;
 import org.mule.runtime.extension.api.annotation.param.Parameter;
@@ -38,6 +40,7 @@ import org.mule.runtime.extension.api.annotation.param.display.Summary;
 	{BasicCachedConnectionProvider.class, OAuth2CachedConnectionProvider.class}
 )
 @Operations({LiferayBatchOperations.class, LiferayCRUDOperations.class})
+@Sources(LiferayChangedRecordsSource.class)
 public class LiferayConfig {
 
 	@DisplayName("Connection Timeout")
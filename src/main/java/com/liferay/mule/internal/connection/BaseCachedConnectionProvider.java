@@ -14,7 +14,19 @@
 
 package com.liferay.mule.internal.connection;
 
+import com.liferay.mule.internal.connection.callback.BatchTaskCallbackListener;
+import com.liferay.mule.internal.connection.config.LiferayApplicationsConfig;
+import com.liferay.mule.internal.connection.config.LiferayBatchCallbackConfig;
+import com.liferay.mule.internal.connection.config.LiferayBatchTaskTrackerConfig;
+import com.liferay.mule.internal.connection.config.LiferayExportDeduplicationConfig;
+import com.liferay.mule.internal.connection.config.LiferayMetadataCacheConfig;
+import com.liferay.mule.internal.connection.config.LiferayMetricsConfig;
+import com.liferay.mule.internal.connection.config.LiferayNodesConfig;
 import com.liferay.mule.internal.connection.config.LiferayProxyConfig;
+import com.liferay.mule.internal.connection.config.LiferayResponseCacheConfig;
+import com.liferay.mule.internal.connection.config.LiferayTracingConfig;
+import com.liferay.mule.internal.connection.config.LiferayValidationConfig;
+import com.liferay.mule.internal.metadata.MetadataTypeCacheLoader;
 
 import java.io.IOException;
 
@@ -25,7 +37,14 @@ import javax.inject.Inject;
 import org.mule.runtime.api.connection.CachedConnectionProvider;
 import org.mule.runtime.api.connection.ConnectionException;
 import org.mule.runtime.api.connection.ConnectionValidationResult;
+import org.mule.runtime.api.lifecycle.Startable;
+import org.mule.runtime.api.lifecycle.Stoppable;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.scheduler.SchedulerConfig;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.api.store.ObjectStoreManager;
 import org.mule.runtime.extension.api.annotation.param.ParameterGroup;
+import org.mule.runtime.extension.api.annotation.param.RefName;
 import org.mule.runtime.http.api.HttpService;
 import org.mule.runtime.http.api.domain.message.response.HttpResponse;
 
@@ -35,7 +54,8 @@ import org.slf4j.Logger;
  * @author Matija Petanjek
  */
 public abstract class BaseCachedConnectionProvider
-	implements CachedConnectionProvider<LiferayConnection> {
+	implements CachedConnectionProvider<LiferayConnection>, Startable,
+			   Stoppable {
 
 	@Override
 	public void disconnect(LiferayConnection liferayConnection) {
@@ -44,17 +64,55 @@ public abstract class BaseCachedConnectionProvider
 		liferayConnection.invalidate();
 	}
 
+	@Override
+	public void start() {
+		scheduler = schedulerService.ioScheduler(
+			SchedulerConfig.config(
+			).withName(
+				configName + ".io"
+			));
+
+		metadataTypeCacheLoader = new MetadataTypeCacheLoader(scheduler);
+	}
+
+	@Override
+	public void stop() {
+		if (scheduler == null) {
+			return;
+		}
+
+		scheduler.stop();
+
+		metadataTypeCacheLoader = null;
+		scheduler = null;
+	}
+
 	@Override
 	public ConnectionValidationResult validate(
 		LiferayConnection liferayConnection) {
 
+		long lastValidationTime = liferayConnection.getLastValidationTime();
+
+		if ((System.currentTimeMillis() - lastValidationTime) <
+				liferayValidationConfig.getValidationIntervalMillis()) {
+
+			return ConnectionValidationResult.success();
+		}
+
 		try {
-			HttpResponse httpResponse =
-				liferayConnection.getOpenAPISpecHttpResponse();
+			HttpResponse httpResponse = getValidationHttpResponse(
+				liferayConnection);
 
 			int statusCode = httpResponse.getStatusCode();
 
 			if ((statusCode >= 200) && (statusCode < 300)) {
+				liferayConnection.setLastValidationTime(
+					System.currentTimeMillis());
+
+				if (metadataTypeCacheLoader != null) {
+					metadataTypeCacheLoader.load(liferayConnection);
+				}
+
 				return ConnectionValidationResult.success();
 			}
 
@@ -71,12 +129,106 @@ public abstract class BaseCachedConnectionProvider
 		}
 	}
 
+	protected LiferayConnectionSettings getLiferayConnectionSettings() {
+		LiferayConnectionSettings.Builder builder =
+			new LiferayConnectionSettings.Builder();
+
+		return builder.batchTaskCallbackListener(
+			getBatchTaskCallbackListener()
+		).batchTaskTracker(
+			liferayBatchTaskTrackerConfig.getBatchTaskTracker(
+				objectStoreManager, configName)
+		).executor(
+			scheduler
+		).exportContentCache(
+			liferayExportDeduplicationConfig.getExportContentCache(scheduler)
+		).httpResponseCache(
+			liferayResponseCacheConfig.getHttpResponseCache()
+		).liferayMetrics(
+			liferayMetricsConfig.getLiferayMetrics(configName)
+		).liferayNodeBalancer(
+			liferayNodesConfig.getLiferayNodeBalancer()
+		).liferayTracer(
+			liferayTracingConfig.getLiferayTracer()
+		).metadataTypeCache(
+			liferayMetadataCacheConfig.getMetadataTypeCache()
+		).build();
+	}
+
 	protected abstract Logger getLogger();
 
+	private synchronized BatchTaskCallbackListener
+		getBatchTaskCallbackListener() {
+
+		if (batchTaskCallbackListener == null) {
+			batchTaskCallbackListener =
+				liferayBatchCallbackConfig.getBatchTaskCallbackListener();
+		}
+
+		return batchTaskCallbackListener;
+	}
+
+	private HttpResponse getValidationHttpResponse(
+			LiferayConnection liferayConnection)
+		throws IOException, TimeoutException {
+
+		ValidationMode validationMode =
+			liferayValidationConfig.getValidationMode();
+
+		if (validationMode == ValidationMode.HEAD) {
+			return liferayConnection.getOpenAPISpecHeadHttpResponse();
+		}
+
+		return liferayConnection.getOpenAPISpecHttpResponse();
+	}
+
+	@RefName
+	protected String configName;
+
 	@Inject
 	protected HttpService httpService;
 
+	@ParameterGroup(name = "Applications config")
+	protected LiferayApplicationsConfig liferayApplicationsConfig;
+
+	@ParameterGroup(name = "Batch callback config")
+	protected LiferayBatchCallbackConfig liferayBatchCallbackConfig;
+
+	@ParameterGroup(name = "Batch task tracker config")
+	protected LiferayBatchTaskTrackerConfig liferayBatchTaskTrackerConfig;
+
+	@ParameterGroup(name = "Export deduplication config")
+	protected LiferayExportDeduplicationConfig liferayExportDeduplicationConfig;
+
+	@ParameterGroup(name = "Metadata cache config")
+	protected LiferayMetadataCacheConfig liferayMetadataCacheConfig;
+
+	@ParameterGroup(name = "Metrics config")
+	protected LiferayMetricsConfig liferayMetricsConfig;
+
+	@ParameterGroup(name = "Nodes config")
+	protected LiferayNodesConfig liferayNodesConfig;
+
 	@ParameterGroup(name = "Proxy config")
 	protected LiferayProxyConfig liferayProxyConfig;
 
+	@ParameterGroup(name = "Response cache config")
+	protected LiferayResponseCacheConfig liferayResponseCacheConfig;
+
+	@ParameterGroup(name = "Tracing config")
+	protected LiferayTracingConfig liferayTracingConfig;
+
+	@ParameterGroup(name = "Validation config")
+	protected LiferayValidationConfig liferayValidationConfig;
+
+	@Inject
+	protected ObjectStoreManager objectStoreManager;
+
+	@Inject
+	protected SchedulerService schedulerService;
+
+	private BatchTaskCallbackListener batchTaskCallbackListener;
+	private volatile MetadataTypeCacheLoader metadataTypeCacheLoader;
+	private Scheduler scheduler;
+
 }
\ No newline at end of file
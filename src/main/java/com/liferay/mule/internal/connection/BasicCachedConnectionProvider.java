@@ -40,9 +40,11 @@ public class BasicCachedConnectionProvider
 
 		return LiferayConnection.withBasicAuthentication(
 			httpService, basicAuthenticationConfig.getOpenApiSpecPath(),
+			liferayApplicationsConfig.getAdditionalOpenApiSpecPaths(),
 			basicAuthenticationConfig.getUsername(),
 			basicAuthenticationConfig.getPassword(),
-			liferayProxyConfig.getProxyConfig());
+			liferayProxyConfig.getProxyConfig(),
+			getLiferayConnectionSettings());
 	}
 
 	@Override
@@ -14,23 +14,55 @@
 
 package com.liferay.mule.internal.connection;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import com.liferay.mule.internal.connection.authentication.BasicAuthentication;
 import com.liferay.mule.internal.connection.authentication.HttpAuthentication;
 import com.liferay.mule.internal.connection.authentication.OAuth2Authentication;
+import com.liferay.mule.internal.connection.balancer.LiferayNode;
+import com.liferay.mule.internal.connection.balancer.LiferayNodeBalancer;
+import com.liferay.mule.internal.connection.callback.BatchTaskCallbackListener;
+import com.liferay.mule.internal.connection.cache.ExportContentCache;
+import com.liferay.mule.internal.connection.cache.HttpResponseCache;
+import com.liferay.mule.internal.connection.cache.HttpResponseCacheEntry;
+import com.liferay.mule.internal.connection.cache.MetadataTypeCache;
+import com.liferay.mule.internal.connection.tracker.BatchTaskTracker;
 import com.liferay.mule.internal.error.LiferayError;
+import com.liferay.mule.internal.metrics.LiferayMetrics;
+import com.liferay.mule.internal.oas.OASMerger;
 import com.liferay.mule.internal.oas.OASURLParser;
+import com.liferay.mule.internal.tracing.LiferaySpan;
+import com.liferay.mule.internal.tracing.LiferayTracer;
+import com.liferay.mule.internal.util.JsonNodeReader;
+import com.liferay.mule.internal.util.MultipartFileInputStream;
+import com.liferay.mule.internal.util.URITemplate;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 
 import java.net.MalformedURLException;
 
+import java.nio.file.Path;
+
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.mule.runtime.api.connection.ConnectionException;
 import org.mule.runtime.api.util.MultiMap;
+import org.mule.runtime.core.api.util.IOUtils;
 import org.mule.runtime.extension.api.exception.ModuleException;
 import org.mule.runtime.http.api.HttpConstants;
 import org.mule.runtime.http.api.HttpService;
@@ -38,6 +70,7 @@ import org.mule.runtime.http.api.client.HttpClient;
 import org.mule.runtime.http.api.client.HttpClientConfiguration;
 import org.mule.runtime.http.api.client.HttpClientFactory;
 import org.mule.runtime.http.api.client.proxy.ProxyConfig;
+import org.mule.runtime.http.api.domain.entity.HttpEntity;
 import org.mule.runtime.http.api.domain.entity.InputStreamHttpEntity;
 import org.mule.runtime.http.api.domain.entity.multipart.HttpPart;
 import org.mule.runtime.http.api.domain.entity.multipart.MultipartHttpEntity;
@@ -54,138 +87,600 @@ import org.slf4j.LoggerFactory;
 public final class LiferayConnection {
 
 	public static LiferayConnection withBasicAuthentication(
-			HttpService httpService, String openApiSpecPath, String userName,
-			String password, ProxyConfig proxyConfig)
+			HttpService httpService, String openApiSpecPath,
+			List<String> additionalOpenApiSpecPaths, String userName,
+			String password, ProxyConfig proxyConfig,
+			LiferayConnectionSettings liferayConnectionSettings)
 		throws ConnectionException {
 
 		return new LiferayConnection(
-			httpService, openApiSpecPath,
-			new BasicAuthentication(userName, password), proxyConfig);
+			httpService, openApiSpecPath, additionalOpenApiSpecPaths,
+			new BasicAuthentication(userName, password), proxyConfig,
+			liferayConnectionSettings);
 	}
 
 	public static LiferayConnection withOAuth2Authentication(
-			HttpService httpService, String openApiSpecPath, String consumerKey,
-			String consumerSecret, ProxyConfig proxyConfig)
+			HttpService httpService, String openApiSpecPath,
+			List<String> additionalOpenApiSpecPaths, String consumerKey,
+			String consumerSecret, ProxyConfig proxyConfig,
+			LiferayConnectionSettings liferayConnectionSettings)
 		throws ConnectionException {
 
 		return new LiferayConnection(
-			httpService, openApiSpecPath, consumerKey, consumerSecret,
-			proxyConfig);
+			httpService, openApiSpecPath, additionalOpenApiSpecPaths,
+			consumerKey, consumerSecret, proxyConfig,
+			liferayConnectionSettings);
 	}
 
 	public HttpResponse delete(ResourceContext resourceContext)
 		throws ModuleException {
 
-		return send(
-			HttpConstants.Method.DELETE, resourceContext.getJaxRSAppBase(),
-			resourceContext.getEndpoint(), resourceContext.getPathParams(),
-			resourceContext.getQueryParams(), resourceContext.getContentType(),
-			resourceContext.getConnectionTimeout(),
-			resourceContext.getInputStream(), resourceContext.getBytes());
+		return send(HttpConstants.Method.DELETE, resourceContext);
 	}
 
 	public HttpResponse get(ResourceContext resourceContext)
 		throws ModuleException {
 
-		return send(
-			HttpConstants.Method.GET, resourceContext.getJaxRSAppBase(),
-			resourceContext.getEndpoint(), resourceContext.getPathParams(),
-			resourceContext.getQueryParams(), resourceContext.getContentType(),
-			resourceContext.getConnectionTimeout(),
-			resourceContext.getInputStream(), resourceContext.getBytes());
+		return send(HttpConstants.Method.GET, resourceContext);
+	}
+
+	public BatchTaskCallbackListener getBatchTaskCallbackListener() {
+		return batchTaskCallbackListener;
+	}
+
+	public BatchTaskTracker getBatchTaskTracker() {
+		return batchTaskTracker;
+	}
+
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	public ExportContentCache getExportContentCache() {
+		return exportContentCache;
+	}
+
+	public LiferayMetrics getLiferayMetrics() {
+		return liferayMetrics;
+	}
+
+	public LiferayTracer getLiferayTracer() {
+		return liferayTracer;
+	}
+
+	public long getLastValidationTime() {
+		return lastValidationTime;
+	}
+
+	public MetadataTypeCache getMetadataTypeCache() {
+		return metadataTypeCache;
+	}
+
+	public HttpResponse getOpenAPISpecHeadHttpResponse()
+		throws IOException, TimeoutException {
+
+		if (headRequestsSupported) {
+			HttpResponse httpResponse = getOpenAPISpecHttpResponse(
+				HttpConstants.Method.HEAD);
+
+			int statusCode = httpResponse.getStatusCode();
+
+			if ((statusCode != 405) && (statusCode != 501)) {
+				return httpResponse;
+			}
+
+			logger.debug(
+				"HEAD requests are not supported by Liferay Portal instance, " +
+					"falling back to GET requests");
+
+			headRequestsSupported = false;
+		}
+
+		return getOpenAPISpecHttpResponse();
 	}
 
 	public HttpResponse getOpenAPISpecHttpResponse()
 		throws IOException, TimeoutException {
 
-		return httpClient.send(
-			getHttpRequest(
-				HttpConstants.Method.GET, openAPISpecPath, new MultiMap<>(),
-				"application/json", null, null),
-			10000, true, null);
+		return getOpenAPISpecHttpResponse(HttpConstants.Method.GET);
+	}
+
+	public JsonNode getOpenAPISpecJsonNode()
+		throws IOException, TimeoutException {
+
+		if (metadataTypeCache != null) {
+			JsonNode oasJsonNode = metadataTypeCache.getOASJsonNode();
+
+			if (oasJsonNode != null) {
+				return oasJsonNode;
+			}
+		}
+
+		Map<String, CompletableFuture<HttpResponse>> completableFutures =
+			new LinkedHashMap<>();
+
+		for (Map.Entry<String, String> entry :
+				additionalOpenAPISpecPaths.entrySet()) {
+
+			completableFutures.put(
+				entry.getKey(),
+				getOpenAPISpecHttpResponseAsync(entry.getValue()));
+		}
+
+		HttpResponse httpResponse = getOpenAPISpecHttpResponse();
+
+		JsonNode oasJsonNode = jsonNodeReader.fromHttpResponse(httpResponse);
+
+		if (httpResponse.getStatusCode() != 200) {
+			return oasJsonNode;
+		}
+
+		if (!completableFutures.isEmpty()) {
+			oasJsonNode = oasMerger.merge(
+				oasJsonNode, getAdditionalOASJsonNodes(completableFutures));
+		}
+
+		if (metadataTypeCache != null) {
+			metadataTypeCache.setOASJsonNode(oasJsonNode);
+		}
+
+		return oasJsonNode;
 	}
 
 	public void invalidate() {
+		if ((batchTaskCallbackListener != null) &&
+			batchTaskCallbackListenerAcquired.compareAndSet(true, false)) {
+
+			batchTaskCallbackListener.release();
+		}
+
+		if (exportContentCache != null) {
+			exportContentCache.clear();
+		}
+
+		if (httpResponseCache != null) {
+			httpResponseCache.clear();
+		}
+
+		if (liferayMetrics != null) {
+			liferayMetrics.unregister();
+		}
+
+		if (metadataTypeCache != null) {
+			metadataTypeCache.clear();
+		}
+
 		httpClient.stop();
+		streamingHttpClient.stop();
 	}
 
 	public HttpResponse patch(ResourceContext resourceContext)
 		throws ModuleException {
 
-		return send(
-			HttpConstants.Method.PATCH, resourceContext.getJaxRSAppBase(),
-			resourceContext.getEndpoint(), resourceContext.getPathParams(),
-			resourceContext.getQueryParams(), resourceContext.getContentType(),
-			resourceContext.getConnectionTimeout(),
-			resourceContext.getInputStream(), resourceContext.getBytes());
+		return send(HttpConstants.Method.PATCH, resourceContext);
+	}
+
+	public CompletableFuture<HttpResponse> patchAsync(
+			ResourceContext resourceContext)
+		throws ModuleException {
+
+		return sendAsync(HttpConstants.Method.PATCH, resourceContext);
+	}
+
+	public void pinRoutingKey(String routingKey) {
+		if (liferayNodeBalancer != null) {
+			liferayNodeBalancer.pin(routingKey);
+		}
 	}
 
 	public HttpResponse post(ResourceContext resourceContext)
 		throws ModuleException {
 
-		return send(
-			HttpConstants.Method.POST, resourceContext.getJaxRSAppBase(),
-			resourceContext.getEndpoint(), resourceContext.getPathParams(),
-			resourceContext.getQueryParams(), resourceContext.getContentType(),
-			resourceContext.getConnectionTimeout(),
-			resourceContext.getInputStream(), resourceContext.getBytes());
+		return send(HttpConstants.Method.POST, resourceContext);
+	}
+
+	public CompletableFuture<HttpResponse> postAsync(
+			ResourceContext resourceContext)
+		throws ModuleException {
+
+		return sendAsync(HttpConstants.Method.POST, resourceContext);
 	}
 
 	public HttpResponse put(ResourceContext resourceContext)
 		throws ModuleException {
 
-		return send(
-			HttpConstants.Method.PUT, resourceContext.getJaxRSAppBase(),
-			resourceContext.getEndpoint(), resourceContext.getPathParams(),
-			resourceContext.getQueryParams(), resourceContext.getContentType(),
-			resourceContext.getConnectionTimeout(),
-			resourceContext.getInputStream(), resourceContext.getBytes());
+		return send(HttpConstants.Method.PUT, resourceContext);
+	}
+
+	public void releaseRoutingKey(String routingKey) {
+		if (liferayNodeBalancer != null) {
+			liferayNodeBalancer.release(routingKey);
+		}
+	}
+
+	public void setLastValidationTime(long lastValidationTime) {
+		this.lastValidationTime = lastValidationTime;
+	}
+
+	public void transferRoutingKey(String routingKey, String newRoutingKey) {
+		if (liferayNodeBalancer != null) {
+			liferayNodeBalancer.transfer(routingKey, newRoutingKey);
+		}
 	}
 
 	private LiferayConnection(
 			HttpService httpService, String openApiSpecPath,
-			BasicAuthentication basicAuthentication, ProxyConfig proxyConfig)
+			List<String> additionalOpenApiSpecPaths,
+			BasicAuthentication basicAuthentication, ProxyConfig proxyConfig,
+			LiferayConnectionSettings liferayConnectionSettings)
 		throws ConnectionException {
 
 		openAPISpecPath = openApiSpecPath;
 		oasURLParser = getOASURLParser(openApiSpecPath);
+		additionalOpenAPISpecPaths = getAdditionalOpenAPISpecPaths(
+			additionalOpenApiSpecPaths);
 
 		httpAuthentication = basicAuthentication;
+		batchTaskCallbackListener =
+			liferayConnectionSettings.getBatchTaskCallbackListener();
+		batchTaskTracker = liferayConnectionSettings.getBatchTaskTracker();
+		executor = liferayConnectionSettings.getExecutor();
+		exportContentCache = liferayConnectionSettings.getExportContentCache();
+		httpResponseCache = liferayConnectionSettings.getHttpResponseCache();
+		liferayMetrics = liferayConnectionSettings.getLiferayMetrics();
+		liferayNodeBalancer =
+			liferayConnectionSettings.getLiferayNodeBalancer();
+		liferayTracer = liferayConnectionSettings.getLiferayTracer();
+		metadataTypeCache = liferayConnectionSettings.getMetadataTypeCache();
 
 		initHttpClient(httpService, proxyConfig);
+
+		acquireBatchTaskCallbackListener(httpService);
 	}
 
 	private LiferayConnection(
-			HttpService httpService, String openApiSpecPath, String consumerKey,
-			String consumerSecret, ProxyConfig proxyConfig)
+			HttpService httpService, String openApiSpecPath,
+			List<String> additionalOpenApiSpecPaths, String consumerKey,
+			String consumerSecret, ProxyConfig proxyConfig,
+			LiferayConnectionSettings liferayConnectionSettings)
 		throws ConnectionException {
 
 		openAPISpecPath = openApiSpecPath;
 		oasURLParser = getOASURLParser(openApiSpecPath);
+		additionalOpenAPISpecPaths = getAdditionalOpenAPISpecPaths(
+			additionalOpenApiSpecPaths);
+
+		batchTaskCallbackListener =
+			liferayConnectionSettings.getBatchTaskCallbackListener();
+		batchTaskTracker = liferayConnectionSettings.getBatchTaskTracker();
+		executor = liferayConnectionSettings.getExecutor();
+		exportContentCache = liferayConnectionSettings.getExportContentCache();
+		httpResponseCache = liferayConnectionSettings.getHttpResponseCache();
+		liferayMetrics = liferayConnectionSettings.getLiferayMetrics();
+		liferayNodeBalancer =
+			liferayConnectionSettings.getLiferayNodeBalancer();
+		liferayTracer = liferayConnectionSettings.getLiferayTracer();
+		metadataTypeCache = liferayConnectionSettings.getMetadataTypeCache();
 
 		initHttpClient(httpService, proxyConfig);
 
 		try {
 			httpAuthentication = new OAuth2Authentication(
-				consumerKey, consumerSecret, httpClient, openAPISpecPath);
+				consumerKey, consumerSecret, httpClient, liferayMetrics,
+				liferayTracer, openAPISpecPath);
 		}
 		catch (MalformedURLException malformedURLException) {
 			throw new ConnectionException(malformedURLException);
 		}
+
+		acquireBatchTaskCallbackListener(httpService);
+	}
+
+	private void acquireBatchTaskCallbackListener(HttpService httpService)
+		throws ConnectionException {
+
+		if (batchTaskCallbackListener == null) {
+			return;
+		}
+
+		try {
+			batchTaskCallbackListener.acquire(httpService);
+
+			batchTaskCallbackListenerAcquired.set(true);
+		}
+		catch (ConnectionException connectionException) {
+			httpClient.stop();
+			streamingHttpClient.stop();
+
+			throw connectionException;
+		}
+	}
+
+	private void addHeaders(
+		HttpRequestBuilder httpRequestBuilder,
+		MultiMap<String, String> headers) {
+
+		if (headers == null) {
+			return;
+		}
+
+		for (String name : headers.keySet()) {
+			httpRequestBuilder.addHeaders(name, headers.getAll(name));
+		}
 	}
 
-	private HttpRequest getHttpRequest(
+	private HttpClient createHttpClient(
+		HttpService httpService, ProxyConfig proxyConfig, String name,
+		boolean streaming) {
+
+		HttpClientConfiguration.Builder builder =
+			new HttpClientConfiguration.Builder();
+
+		if (proxyConfig != null) {
+			builder.setProxyConfig(proxyConfig);
+		}
+
+		builder.setName(name);
+		builder.setStreaming(streaming);
+
+		HttpClientFactory httpClientFactory = httpService.getClientFactory();
+
+		HttpClient createdHttpClient = httpClientFactory.create(
+			builder.build());
+
+		createdHttpClient.start();
+
+		return createdHttpClient;
+	}
+
+	private HttpResponseCacheEntry fetchHttpResponseCacheEntry(
+			HttpRequestBuilder httpRequestBuilder, long connectionTimeout,
+			String cacheKey, HttpResponseCacheEntry httpResponseCacheEntry)
+		throws ModuleException {
+
+		if ((httpResponseCacheEntry != null) &&
+			httpResponseCacheEntry.isRevalidatable()) {
+
+			if (httpResponseCacheEntry.getETag() != null) {
+				httpRequestBuilder.addHeader(
+					"If-None-Match", httpResponseCacheEntry.getETag());
+			}
+
+			if (httpResponseCacheEntry.getLastModified() != null) {
+				httpRequestBuilder.addHeader(
+					"If-Modified-Since",
+					httpResponseCacheEntry.getLastModified());
+			}
+		}
+
+		HttpResponse httpResponse = send(
+			httpRequestBuilder.build(), connectionTimeout, false);
+
+		if (httpResponse == null) {
+			return null;
+		}
+
+		long expirationTime = System.currentTimeMillis();
+
+		if (httpResponseCache != null) {
+			expirationTime += httpResponseCache.getTimeToLiveMillis();
+		}
+
+		if ((httpResponseCacheEntry != null) &&
+			(httpResponse.getStatusCode() == 304)) {
+
+			logger.debug("Revalidated cached response for {}", cacheKey);
+
+			httpResponseCacheEntry = httpResponseCacheEntry.withExpirationTime(
+				expirationTime);
+
+			httpResponseCache.put(cacheKey, httpResponseCacheEntry);
+
+			return httpResponseCacheEntry;
+		}
+
+		HttpEntity httpEntity = httpResponse.getEntity();
+
+		httpResponseCacheEntry = new HttpResponseCacheEntry(
+			httpResponse, IOUtils.toByteArray(httpEntity.getContent()),
+			expirationTime);
+
+		if (httpResponseCache == null) {
+			return httpResponseCacheEntry;
+		}
+
+		if ((httpResponse.getStatusCode() != 200) || isNoStore(httpResponse)) {
+			httpResponseCache.remove(cacheKey);
+		}
+		else {
+			httpResponseCache.put(cacheKey, httpResponseCacheEntry);
+		}
+
+		return httpResponseCacheEntry;
+	}
+
+	private Map<String, JsonNode> getAdditionalOASJsonNodes(
+			Map<String, CompletableFuture<HttpResponse>> completableFutures)
+		throws IOException, TimeoutException {
+
+		Map<String, JsonNode> additionalOASJsonNodes = new LinkedHashMap<>();
+
+		for (Map.Entry<String, CompletableFuture<HttpResponse>> entry :
+				completableFutures.entrySet()) {
+
+			HttpResponse httpResponse = getHttpResponse(entry.getValue());
+
+			if (httpResponse.getStatusCode() != 200) {
+				throw new IOException(
+					String.format(
+						"Unable to read OpenAPI document %s: %s (%d)",
+						additionalOpenAPISpecPaths.get(entry.getKey()),
+						httpResponse.getReasonPhrase(),
+						httpResponse.getStatusCode()));
+			}
+
+			additionalOASJsonNodes.put(
+				entry.getKey(), jsonNodeReader.fromHttpResponse(httpResponse));
+		}
+
+		return additionalOASJsonNodes;
+	}
+
+	private Map<String, String> getAdditionalOpenAPISpecPaths(
+			List<String> additionalOpenApiSpecPaths)
+		throws ConnectionException {
+
+		Map<String, String> additionalOpenAPISpecPaths = new LinkedHashMap<>();
+
+		if (additionalOpenApiSpecPaths == null) {
+			return additionalOpenAPISpecPaths;
+		}
+
+		for (String additionalOpenApiSpecPath : additionalOpenApiSpecPaths) {
+			OASURLParser additionalOASURLParser = getOASURLParser(
+				additionalOpenApiSpecPath);
+
+			String authorityWithScheme =
+				additionalOASURLParser.getAuthorityWithScheme();
+
+			if (!authorityWithScheme.equals(
+					oasURLParser.getAuthorityWithScheme())) {
+
+				throw new ConnectionException(
+					"Additional OpenAPI Spec URL " + additionalOpenApiSpecPath +
+						" does not belong to the Liferay Portal instance of " +
+							openAPISpecPath);
+			}
+
+			String jaxRSAppBase = additionalOASURLParser.getJaxRSAppBase();
+
+			if (!jaxRSAppBase.equals(oasURLParser.getJaxRSAppBase())) {
+				additionalOpenAPISpecPaths.put(
+					jaxRSAppBase, additionalOpenApiSpecPath);
+			}
+		}
+
+		return additionalOpenAPISpecPaths;
+	}
+
+	private String getCacheKey(
+		String uri, MultiMap<String, String> queryParams) {
+
+		StringBuilder sb = new StringBuilder();
+
+		sb.append(httpAuthentication.getPrincipal());
+		sb.append(" ");
+		sb.append(uri);
+
+		for (String name : new TreeSet<>(queryParams.keySet())) {
+			for (String value : queryParams.getAll(name)) {
+				sb.append(" ");
+				sb.append(name);
+				sb.append("=");
+				sb.append(value);
+			}
+		}
+
+		return sb.toString();
+	}
+
+	private long getContentLength(ResourceContext resourceContext) {
+		Path path = resourceContext.getPath();
+
+		if (path != null) {
+			File file = path.toFile();
+
+			return file.length();
+		}
+
+		byte[] bytes = resourceContext.getBytes();
+
+		if (bytes == null) {
+			return 0;
+		}
+
+		return bytes.length;
+	}
+
+	private MultiMap<String, String> getHeaders(String contentType)
+		throws ModuleException {
+
+		if (!httpAuthentication.isCacheable() || (contentType == null)) {
+			return getHeaders(
+				httpAuthentication.getAuthorizationHeader(), contentType);
+		}
+
+		return headers.computeIfAbsent(
+			contentType,
+			key -> getHeaders(
+				httpAuthentication.getAuthorizationHeader(), key));
+	}
+
+	private MultiMap<String, String> getHeaders(
+		String authorizationHeader, String contentType) {
+
+		MultiMap<String, String> headers = new MultiMap<>();
+
+		headers.put("Authorization", authorizationHeader);
+
+		if (contentType != null) {
+			headers.put("Content-Type", contentType);
+		}
+
+		return headers.toImmutableMultiMap();
+	}
+
+	private HttpResponse getHttpResponse(
+			CompletableFuture<HttpResponse> completableFuture)
+		throws IOException, TimeoutException {
+
+		try {
+			return completableFuture.get();
+		}
+		catch (ExecutionException executionException) {
+			Throwable throwable = executionException.getCause();
+
+			if (throwable instanceof IOException) {
+				throw (IOException)throwable;
+			}
+
+			if (throwable instanceof TimeoutException) {
+				throw (TimeoutException)throwable;
+			}
+
+			throw new IOException(throwable);
+		}
+		catch (InterruptedException interruptedException) {
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
+
+			throw new IOException(interruptedException);
+		}
+	}
+
+	private HttpRequestBuilder getHttpRequestBuilder(
 			HttpConstants.Method method, String uri,
 			MultiMap<String, String> queryParams, String contentType,
-			InputStream inputStream, byte[] bytes)
+			InputStream inputStream, byte[] bytes, Path path)
 		throws ModuleException {
 
 		HttpRequestBuilder httpRequestBuilder = HttpRequest.builder();
 
-		httpRequestBuilder.addHeader(
-			"Authorization", httpAuthentication.getAuthorizationHeader()
-		).addHeader(
-			"Content-Type", contentType
+		if (path != null) {
+			MultipartFileInputStream multipartFileInputStream =
+				getMultipartFileInputStream(path);
+
+			contentType = multipartFileInputStream.getContentType();
+
+			httpRequestBuilder.entity(
+				new InputStreamHttpEntity(
+					multipartFileInputStream,
+					multipartFileInputStream.getLength()));
+		}
+
+		httpRequestBuilder.headers(
+			getHeaders(contentType)
 		).method(
 			method
 		).queryParams(
@@ -197,7 +692,7 @@ public final class LiferayConnection {
 		if (inputStream != null) {
 			httpRequestBuilder.entity(new InputStreamHttpEntity(inputStream));
 		}
-		else if (bytes != null) {
+		else if ((bytes != null) && (path == null)) {
 			httpRequestBuilder.entity(
 				new MultipartHttpEntity(
 					Arrays.asList(
@@ -206,7 +701,19 @@ public final class LiferayConnection {
 							bytes.length))));
 		}
 
-		return httpRequestBuilder.build();
+		return httpRequestBuilder;
+	}
+
+	private MultipartFileInputStream getMultipartFileInputStream(Path path)
+		throws ModuleException {
+
+		try {
+			return new MultipartFileInputStream(
+				"file", path, "application/json");
+		}
+		catch (IOException ioException) {
+			throw new ModuleException(LiferayError.EXECUTION, ioException);
+		}
 	}
 
 	private OASURLParser getOASURLParser(String openApiSpecPath)
@@ -220,23 +727,162 @@ public final class LiferayConnection {
 		}
 	}
 
+	private HttpResponse getOpenAPISpecHttpResponse(
+			HttpConstants.Method method)
+		throws IOException, TimeoutException {
+
+		HttpRequestBuilder httpRequestBuilder = getHttpRequestBuilder(
+			method, openAPISpecPath, new MultiMap<>(), "application/json",
+			null, null, null);
+
+		return httpClient.send(httpRequestBuilder.build(), 10000, true, null);
+	}
+
+	private CompletableFuture<HttpResponse> getOpenAPISpecHttpResponseAsync(
+		String openAPISpecPath) {
+
+		HttpRequestBuilder httpRequestBuilder = getHttpRequestBuilder(
+			HttpConstants.Method.GET, openAPISpecPath, new MultiMap<>(),
+			"application/json", null, null, null);
+
+		return httpClient.sendAsync(
+			httpRequestBuilder.build(), 10000, true, null);
+	}
+
+	private String getURI(
+		ResourceContext resourceContext, LiferayNode liferayNode) {
+
+		String endpoint = resourceContext.getEndpoint();
+		String jaxRSAppBase = resourceContext.getJaxRSAppBase();
+
+		if (jaxRSAppBase == null) {
+			jaxRSAppBase = oasURLParser.getJaxRSAppBase();
+
+			for (String additionalJaxRSAppBase :
+					additionalOpenAPISpecPaths.keySet()) {
+
+				if (isJaxRSAppBaseEndpoint(additionalJaxRSAppBase, endpoint)) {
+					jaxRSAppBase = additionalJaxRSAppBase;
+
+					endpoint = endpoint.substring(jaxRSAppBase.length());
+
+					break;
+				}
+			}
+		}
+
+		String serverBaseURL;
+
+		if (liferayNode == null) {
+			serverBaseURL = serverBaseURLs.computeIfAbsent(
+				jaxRSAppBase, oasURLParser::getServerBaseURL);
+		}
+		else {
+			serverBaseURL = liferayNode.getServerBaseURL(jaxRSAppBase);
+		}
+
+		URITemplate uriTemplate = uriTemplates.get(endpoint);
+
+		if (uriTemplate == null) {
+			uriTemplate = new URITemplate(endpoint);
+
+			if (uriTemplates.size() < URI_TEMPLATES_MAX_SIZE) {
+				uriTemplates.putIfAbsent(endpoint, uriTemplate);
+			}
+		}
+
+		StringBuilder sb = new StringBuilder(
+			serverBaseURL.length() + endpoint.length() + 32);
+
+		sb.append(serverBaseURL);
+
+		uriTemplate.render(sb, resourceContext.getPathParams());
+
+		return sb.toString();
+	}
+
 	private void initHttpClient(
 		HttpService httpService, ProxyConfig proxyConfig) {
 
-		HttpClientConfiguration.Builder builder =
-			new HttpClientConfiguration.Builder();
+		httpClient = createHttpClient(
+			httpService, proxyConfig, "Liferay Http Client", false);
+		streamingHttpClient = createHttpClient(
+			httpService, proxyConfig, "Liferay Streaming Http Client", true);
+	}
 
-		if (proxyConfig != null) {
-			builder.setProxyConfig(proxyConfig);
+	private void injectTraceParent(
+		HttpRequestBuilder httpRequestBuilder, LiferaySpan liferaySpan) {
+
+		String traceParent = liferaySpan.getTraceParent();
+
+		if (traceParent != null) {
+			httpRequestBuilder.addHeader("traceparent", traceParent);
 		}
+	}
 
-		builder.setName("Liferay Http Client");
+	private boolean isConnectionFailure(ModuleException moduleException) {
+		if ((moduleException.getType() == LiferayError.CONNECTION_TIMEOUT) ||
+			(moduleException.getType() == LiferayError.EXECUTION)) {
 
-		HttpClientFactory httpClientFactory = httpService.getClientFactory();
+			return true;
+		}
+
+		return false;
+	}
+
+	private boolean isJaxRSAppBaseEndpoint(
+		String jaxRSAppBase, String endpoint) {
+
+		if ((endpoint.length() > jaxRSAppBase.length()) &&
+			endpoint.startsWith(jaxRSAppBase) &&
+			(endpoint.charAt(jaxRSAppBase.length()) == '/')) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private boolean isNoStore(HttpResponse httpResponse) {
+		String cacheControl = httpResponse.getHeaderValue("Cache-Control");
+
+		if ((cacheControl != null) && cacheControl.contains("no-store")) {
+			return true;
+		}
 
-		httpClient = httpClientFactory.create(builder.build());
+		return false;
+	}
+
+	private HttpResponseCacheEntry joinInFlightRequest(
+			CompletableFuture<HttpResponseCacheEntry> completableFuture,
+			long connectionTimeout)
+		throws ModuleException {
+
+		try {
+			return completableFuture.get(
+				connectionTimeout, TimeUnit.MILLISECONDS);
+		}
+		catch (ExecutionException executionException) {
+			Throwable throwable = executionException.getCause();
+
+			if (throwable instanceof ModuleException) {
+				throw (ModuleException)throwable;
+			}
 
-		httpClient.start();
+			throw new ModuleException(LiferayError.EXECUTION, throwable);
+		}
+		catch (InterruptedException interruptedException) {
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
+
+			throw new ModuleException(
+				LiferayError.EXECUTION, interruptedException);
+		}
+		catch (TimeoutException timeoutException) {
+			throw new ModuleException(
+				LiferayError.CONNECTION_TIMEOUT, timeoutException);
+		}
 	}
 
 	private void logHttpRequest(
@@ -250,62 +896,441 @@ public final class LiferayConnection {
 			method, uri, pathParams, queryParams, connectionTimeout);
 	}
 
-	private String resolvePathParams(
-		String endpoint, Map<String, String> pathParams) {
+	private HttpResponse send(
+			HttpConstants.Method method, ResourceContext resourceContext)
+		throws ModuleException {
+
+		LiferaySpan liferaySpan = liferayTracer.startSpan(REQUEST_SPAN_NAME);
+
+		setSpanAttributes(liferaySpan, method, resourceContext);
+
+		try {
+			HttpResponse httpResponse = send(
+				method, resourceContext, liferaySpan);
+
+			if (httpResponse != null) {
+				liferaySpan.setAttribute(
+					"http.status_code", httpResponse.getStatusCode());
+			}
 
-		for (Map.Entry<String, String> pathParam : pathParams.entrySet()) {
-			endpoint = endpoint.replace(
-				"{" + pathParam.getKey() + "}", pathParam.getValue());
+			return httpResponse;
 		}
+		catch (ModuleException moduleException) {
+			liferaySpan.setError(moduleException);
 
-		return endpoint;
+			throw moduleException;
+		}
+		finally {
+			liferaySpan.end();
+		}
 	}
 
 	private HttpResponse send(
-			HttpConstants.Method method, String jaxRSAppBase, String endpoint,
-			Map<String, String> pathParams,
-			MultiMap<String, String> queryParams, String contentType,
-			long connectionTimeout, InputStream inputStream, byte[] bytes)
+			HttpConstants.Method method, ResourceContext resourceContext,
+			LiferaySpan liferaySpan)
 		throws ModuleException {
 
-		if (jaxRSAppBase == null) {
-			jaxRSAppBase = oasURLParser.getJaxRSAppBase();
+		if (liferayNodeBalancer == null) {
+			return send(method, resourceContext, liferaySpan, null);
+		}
+
+		LiferayNode liferayNode = liferayNodeBalancer.select(
+			resourceContext.getRoutingKey());
+
+		liferaySpan.setAttribute("liferay.node", liferayNode.getBaseURL());
+
+		liferayNode.startRequest();
+
+		try {
+			HttpResponse httpResponse = send(
+				method, resourceContext, liferaySpan, liferayNode);
+
+			if (httpResponse != null) {
+				liferayNodeBalancer.recordResponse(
+					liferayNode, httpResponse.getStatusCode());
+			}
+
+			return httpResponse;
 		}
+		catch (ModuleException moduleException) {
+			if (isConnectionFailure(moduleException)) {
+				liferayNodeBalancer.recordFailure(liferayNode);
+			}
+
+			throw moduleException;
+		}
+		finally {
+			liferayNode.endRequest();
+		}
+	}
+
+	private HttpResponse send(
+			HttpConstants.Method method, ResourceContext resourceContext,
+			LiferaySpan liferaySpan, LiferayNode liferayNode)
+		throws ModuleException {
 
-		String uri =
-			oasURLParser.getServerBaseURL(jaxRSAppBase) +
-				resolvePathParams(endpoint, pathParams);
+		String uri = getURI(resourceContext, liferayNode);
 
-		HttpRequest httpRequest = getHttpRequest(
-			method, uri, queryParams, contentType, inputStream, bytes);
+		HttpRequestBuilder httpRequestBuilder = getHttpRequestBuilder(
+			method, uri, resourceContext.getQueryParams(),
+			resourceContext.getContentType(), resourceContext.getInputStream(),
+			resourceContext.getBytes(), resourceContext.getPath());
 
-		logHttpRequest(connectionTimeout, method, pathParams, queryParams, uri);
+		addHeaders(httpRequestBuilder, resourceContext.getHeaders());
+
+		injectTraceParent(httpRequestBuilder, liferaySpan);
+
+		logHttpRequest(
+			resourceContext.getConnectionTimeout(), method,
+			resourceContext.getPathParams(), resourceContext.getQueryParams(),
+			uri);
+
+		String cacheURI = uri;
+
+		if (liferayNode != null) {
+			String baseURL = liferayNode.getBaseURL();
+
+			cacheURI = uri.substring(baseURL.length());
+		}
+
+		if (liferayMetrics == null) {
+			return send(httpRequestBuilder, method, resourceContext, cacheURI);
+		}
+
+		long startTime = liferayMetrics.startRequest();
 
 		try {
-			return httpClient.send(
+			HttpResponse httpResponse = send(
+				httpRequestBuilder, method, resourceContext, cacheURI);
+
+			liferayMetrics.recordRequest(
+				method.name(), resourceContext.getEndpoint(),
+				getContentLength(resourceContext), httpResponse, startTime);
+
+			return httpResponse;
+		}
+		catch (ModuleException moduleException) {
+			liferayMetrics.recordRequestFailure(
+				method.name(), resourceContext.getEndpoint(),
+				(LiferayError)moduleException.getType(), startTime);
+
+			throw moduleException;
+		}
+	}
+
+	private HttpResponse send(
+			HttpRequestBuilder httpRequestBuilder, HttpConstants.Method method,
+			ResourceContext resourceContext, String cacheURI)
+		throws ModuleException {
+
+		if (resourceContext.isCacheable() &&
+			(method == HttpConstants.Method.GET)) {
+
+			return sendCacheable(
+				httpRequestBuilder, resourceContext.getConnectionTimeout(),
+				getCacheKey(cacheURI, resourceContext.getQueryParams()));
+		}
+
+		return send(
+			httpRequestBuilder.build(), resourceContext.getConnectionTimeout(),
+			resourceContext.isStreaming());
+	}
+
+	private HttpResponse send(
+			HttpRequest httpRequest, long connectionTimeout, boolean streaming)
+		throws ModuleException {
+
+		HttpClient sendHttpClient = httpClient;
+
+		if (streaming) {
+			sendHttpClient = streamingHttpClient;
+		}
+
+		try {
+			return sendHttpClient.send(
 				httpRequest, (int)connectionTimeout, true, null);
 		}
-		catch (IOException ioException) {
-			logger.error(ioException.getMessage(), ioException);
+		catch (IOException | TimeoutException exception) {
+			logger.error(exception.getMessage(), exception);
 
-			throw new ModuleException(
-				ioException.getMessage(), LiferayError.EXECUTION, ioException);
+			throw toModuleException(exception);
 		}
-		catch (TimeoutException timeoutException) {
-			logger.error(timeoutException.getMessage(), timeoutException);
+	}
 
-			throw new ModuleException(
-				timeoutException.getMessage(), LiferayError.CONNECTION_TIMEOUT,
-				timeoutException);
+	private CompletableFuture<HttpResponse> sendAsync(
+			HttpConstants.Method method, ResourceContext resourceContext)
+		throws ModuleException {
+
+		LiferaySpan liferaySpan = liferayTracer.startAsyncSpan(
+			REQUEST_SPAN_NAME);
+
+		setSpanAttributes(liferaySpan, method, resourceContext);
+
+		CompletableFuture<HttpResponse> completableFuture;
+
+		try {
+			completableFuture = sendAsync(method, resourceContext, liferaySpan);
+		}
+		catch (ModuleException moduleException) {
+			liferaySpan.setError(moduleException);
+			liferaySpan.end();
+
+			throw moduleException;
+		}
+
+		return completableFuture.whenComplete(
+			(httpResponse, throwable) -> {
+				if (throwable != null) {
+					liferaySpan.setError(throwable);
+				}
+				else if (httpResponse != null) {
+					liferaySpan.setAttribute(
+						"http.status_code", httpResponse.getStatusCode());
+				}
+
+				liferaySpan.end();
+			});
+	}
+
+	private CompletableFuture<HttpResponse> sendAsync(
+			HttpConstants.Method method, ResourceContext resourceContext,
+			LiferaySpan liferaySpan)
+		throws ModuleException {
+
+		if (liferayNodeBalancer == null) {
+			return sendAsync(method, resourceContext, liferaySpan, null);
+		}
+
+		LiferayNode liferayNode = liferayNodeBalancer.select(
+			resourceContext.getRoutingKey());
+
+		liferaySpan.setAttribute("liferay.node", liferayNode.getBaseURL());
+
+		liferayNode.startRequest();
+
+		CompletableFuture<HttpResponse> completableFuture;
+
+		try {
+			completableFuture = sendAsync(
+				method, resourceContext, liferaySpan, liferayNode);
 		}
+		catch (ModuleException moduleException) {
+			liferayNode.endRequest();
+
+			throw moduleException;
+		}
+
+		return completableFuture.whenComplete(
+			(httpResponse, throwable) -> {
+				liferayNode.endRequest();
+
+				if (throwable != null) {
+					liferayNodeBalancer.recordFailure(liferayNode);
+				}
+				else if (httpResponse != null) {
+					liferayNodeBalancer.recordResponse(
+						liferayNode, httpResponse.getStatusCode());
+				}
+			});
 	}
 
+	private CompletableFuture<HttpResponse> sendAsync(
+			HttpConstants.Method method, ResourceContext resourceContext,
+			LiferaySpan liferaySpan, LiferayNode liferayNode)
+		throws ModuleException {
+
+		String uri = getURI(resourceContext, liferayNode);
+
+		HttpRequestBuilder httpRequestBuilder = getHttpRequestBuilder(
+			method, uri, resourceContext.getQueryParams(),
+			resourceContext.getContentType(), resourceContext.getInputStream(),
+			resourceContext.getBytes(), resourceContext.getPath());
+
+		addHeaders(httpRequestBuilder, resourceContext.getHeaders());
+
+		injectTraceParent(httpRequestBuilder, liferaySpan);
+
+		logHttpRequest(
+			resourceContext.getConnectionTimeout(), method,
+			resourceContext.getPathParams(), resourceContext.getQueryParams(),
+			uri);
+
+		HttpRequest httpRequest = httpRequestBuilder.build();
+
+		if (liferayMetrics == null) {
+			return httpClient.sendAsync(
+				httpRequest, (int)resourceContext.getConnectionTimeout(), true,
+				null);
+		}
+
+		long startTime = liferayMetrics.startRequest();
+
+		CompletableFuture<HttpResponse> completableFuture;
+
+		try {
+			completableFuture = httpClient.sendAsync(
+				httpRequest, (int)resourceContext.getConnectionTimeout(), true,
+				null);
+		}
+		catch (RuntimeException runtimeException) {
+			ModuleException moduleException = toModuleException(
+				runtimeException);
+
+			liferayMetrics.recordRequestFailure(
+				method.name(), resourceContext.getEndpoint(),
+				(LiferayError)moduleException.getType(), startTime);
+
+			throw moduleException;
+		}
+
+		return completableFuture.whenComplete(
+			(httpResponse, throwable) -> {
+				if (throwable == null) {
+					liferayMetrics.recordRequest(
+						method.name(), resourceContext.getEndpoint(),
+						getContentLength(resourceContext), httpResponse,
+						startTime);
+				}
+				else {
+					ModuleException moduleException = toModuleException(
+						throwable);
+
+					liferayMetrics.recordRequestFailure(
+						method.name(), resourceContext.getEndpoint(),
+						(LiferayError)moduleException.getType(), startTime);
+				}
+			});
+	}
+
+	private HttpResponse sendCacheable(
+			HttpRequestBuilder httpRequestBuilder, long connectionTimeout,
+			String cacheKey)
+		throws ModuleException {
+
+		HttpResponseCacheEntry httpResponseCacheEntry = null;
+
+		if (httpResponseCache != null) {
+			httpResponseCacheEntry = httpResponseCache.get(cacheKey);
+
+			if ((httpResponseCacheEntry != null) &&
+				!httpResponseCacheEntry.isExpired(System.currentTimeMillis())) {
+
+				logger.debug("Serving cached response for {}", cacheKey);
+
+				return httpResponseCacheEntry.toHttpResponse();
+			}
+		}
+
+		CompletableFuture<HttpResponseCacheEntry> completableFuture =
+			new CompletableFuture<>();
+
+		CompletableFuture<HttpResponseCacheEntry> inFlightCompletableFuture =
+			inFlightRequests.putIfAbsent(cacheKey, completableFuture);
+
+		if (inFlightCompletableFuture != null) {
+			logger.debug("Joining in flight request for {}", cacheKey);
+
+			return toHttpResponse(
+				joinInFlightRequest(
+					inFlightCompletableFuture, connectionTimeout));
+		}
+
+		try {
+			httpResponseCacheEntry = fetchHttpResponseCacheEntry(
+				httpRequestBuilder, connectionTimeout, cacheKey,
+				httpResponseCacheEntry);
+
+			completableFuture.complete(httpResponseCacheEntry);
+		}
+		catch (Throwable throwable) {
+			completableFuture.completeExceptionally(throwable);
+
+			throw throwable;
+		}
+		finally {
+			inFlightRequests.remove(cacheKey, completableFuture);
+		}
+
+		return toHttpResponse(httpResponseCacheEntry);
+	}
+
+	private void setSpanAttributes(
+		LiferaySpan liferaySpan, HttpConstants.Method method,
+		ResourceContext resourceContext) {
+
+		liferaySpan.setAttribute("http.method", method.name());
+		liferaySpan.setAttribute(
+			"liferay.endpoint", resourceContext.getEndpoint());
+	}
+
+	private HttpResponse toHttpResponse(
+		HttpResponseCacheEntry httpResponseCacheEntry) {
+
+		if (httpResponseCacheEntry == null) {
+			return null;
+		}
+
+		return httpResponseCacheEntry.toHttpResponse();
+	}
+
+	private ModuleException toModuleException(Throwable throwable) {
+		if (((throwable instanceof CompletionException) ||
+			 (throwable instanceof ExecutionException)) &&
+			(throwable.getCause() != null)) {
+
+			throwable = throwable.getCause();
+		}
+
+		if (throwable instanceof ModuleException) {
+			return (ModuleException)throwable;
+		}
+
+		if (throwable instanceof TimeoutException) {
+			return new ModuleException(
+				throwable.getMessage(), LiferayError.CONNECTION_TIMEOUT,
+				throwable);
+		}
+
+		return new ModuleException(
+			throwable.getMessage(), LiferayError.EXECUTION, throwable);
+	}
+
+	private static final String REQUEST_SPAN_NAME = "liferay.request";
+
+	private static final int URI_TEMPLATES_MAX_SIZE = 1000;
+
 	private static final Logger logger = LoggerFactory.getLogger(
 		LiferayConnection.class);
 
+	private final Map<String, String> additionalOpenAPISpecPaths;
+	private final BatchTaskCallbackListener batchTaskCallbackListener;
+	private final AtomicBoolean batchTaskCallbackListenerAcquired =
+		new AtomicBoolean();
+	private final BatchTaskTracker batchTaskTracker;
+	private final Executor executor;
+	private final ExportContentCache exportContentCache;
+	private final ConcurrentMap<String, MultiMap<String, String>> headers =
+		new ConcurrentHashMap<>();
+	private volatile boolean headRequestsSupported = true;
 	private final HttpAuthentication httpAuthentication;
 	private HttpClient httpClient;
+	private final HttpResponseCache httpResponseCache;
+	private final ConcurrentMap
+		<String, CompletableFuture<HttpResponseCacheEntry>> inFlightRequests =
+			new ConcurrentHashMap<>();
+	private final JsonNodeReader jsonNodeReader = new JsonNodeReader();
+	private volatile long lastValidationTime;
+	private final LiferayMetrics liferayMetrics;
+	private final LiferayNodeBalancer liferayNodeBalancer;
+	private final LiferayTracer liferayTracer;
+	private final MetadataTypeCache metadataTypeCache;
+	private final OASMerger oasMerger = new OASMerger();
 	private final OASURLParser oasURLParser;
 	private final String openAPISpecPath;
+	private final ConcurrentMap<String, String> serverBaseURLs =
+		new ConcurrentHashMap<>();
+	private HttpClient streamingHttpClient;
+	private final ConcurrentMap<String, URITemplate> uriTemplates =
+		new ConcurrentHashMap<>();
 
 }
\ No newline at end of file
@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection;
+
+import com.liferay.mule.internal.connection.balancer.LiferayNodeBalancer;
+import com.liferay.mule.internal.connection.callback.BatchTaskCallbackListener;
+import com.liferay.mule.internal.connection.cache.ExportContentCache;
+import com.liferay.mule.internal.connection.cache.HttpResponseCache;
+import com.liferay.mule.internal.connection.cache.MetadataTypeCache;
+import com.liferay.mule.internal.connection.tracker.BatchTaskTracker;
+import com.liferay.mule.internal.metrics.LiferayMetrics;
+import com.liferay.mule.internal.tracing.LiferayTracer;
+import com.liferay.mule.internal.tracing.NoOpLiferayTracer;
+
+import java.util.concurrent.Executor;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LiferayConnectionSettings {
+
+	public BatchTaskCallbackListener getBatchTaskCallbackListener() {
+		return batchTaskCallbackListener;
+	}
+
+	public BatchTaskTracker getBatchTaskTracker() {
+		return batchTaskTracker;
+	}
+
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	public ExportContentCache getExportContentCache() {
+		return exportContentCache;
+	}
+
+	public HttpResponseCache getHttpResponseCache() {
+		return httpResponseCache;
+	}
+
+	public LiferayMetrics getLiferayMetrics() {
+		return liferayMetrics;
+	}
+
+	public LiferayNodeBalancer getLiferayNodeBalancer() {
+		return liferayNodeBalancer;
+	}
+
+	public LiferayTracer getLiferayTracer() {
+		return liferayTracer;
+	}
+
+	public MetadataTypeCache getMetadataTypeCache() {
+		return metadataTypeCache;
+	}
+
+	public static class Builder {
+
+		public LiferayConnectionSettings build() {
+			LiferayConnectionSettings liferayConnectionSettings =
+				new LiferayConnectionSettings();
+
+			liferayConnectionSettings.batchTaskCallbackListener =
+				batchTaskCallbackListener;
+			liferayConnectionSettings.batchTaskTracker = batchTaskTracker;
+			liferayConnectionSettings.executor = executor;
+			liferayConnectionSettings.exportContentCache = exportContentCache;
+			liferayConnectionSettings.httpResponseCache = httpResponseCache;
+			liferayConnectionSettings.liferayMetrics = liferayMetrics;
+			liferayConnectionSettings.liferayNodeBalancer = liferayNodeBalancer;
+			liferayConnectionSettings.liferayTracer = liferayTracer;
+			liferayConnectionSettings.metadataTypeCache = metadataTypeCache;
+
+			return liferayConnectionSettings;
+		}
+
+		public Builder batchTaskCallbackListener(
+			BatchTaskCallbackListener batchTaskCallbackListener) {
+
+			this.batchTaskCallbackListener = batchTaskCallbackListener;
+
+			return this;
+		}
+
+		public Builder batchTaskTracker(BatchTaskTracker batchTaskTracker) {
+			this.batchTaskTracker = batchTaskTracker;
+
+			return this;
+		}
+
+		public Builder executor(Executor executor) {
+			this.executor = executor;
+
+			return this;
+		}
+
+		public Builder exportContentCache(
+			ExportContentCache exportContentCache) {
+
+			this.exportContentCache = exportContentCache;
+
+			return this;
+		}
+
+		public Builder httpResponseCache(HttpResponseCache httpResponseCache) {
+			this.httpResponseCache = httpResponseCache;
+
+			return this;
+		}
+
+		public Builder liferayMetrics(LiferayMetrics liferayMetrics) {
+			this.liferayMetrics = liferayMetrics;
+
+			return this;
+		}
+
+		public Builder liferayNodeBalancer(
+			LiferayNodeBalancer liferayNodeBalancer) {
+
+			this.liferayNodeBalancer = liferayNodeBalancer;
+
+			return this;
+		}
+
+		public Builder liferayTracer(LiferayTracer liferayTracer) {
+			this.liferayTracer = liferayTracer;
+
+			return this;
+		}
+
+		public Builder metadataTypeCache(MetadataTypeCache metadataTypeCache) {
+			this.metadataTypeCache = metadataTypeCache;
+
+			return this;
+		}
+
+		private BatchTaskCallbackListener batchTaskCallbackListener;
+		private BatchTaskTracker batchTaskTracker;
+		private Executor executor;
+		private ExportContentCache exportContentCache;
+		private HttpResponseCache httpResponseCache;
+		private LiferayMetrics liferayMetrics;
+		private LiferayNodeBalancer liferayNodeBalancer;
+		private LiferayTracer liferayTracer = NoOpLiferayTracer.INSTANCE;
+		private MetadataTypeCache metadataTypeCache;
+
+	}
+
+	private LiferayConnectionSettings() {
+	}
+
+	private BatchTaskCallbackListener batchTaskCallbackListener;
+	private BatchTaskTracker batchTaskTracker;
+	private Executor executor;
+	private ExportContentCache exportContentCache;
+	private HttpResponseCache httpResponseCache;
+	private LiferayMetrics liferayMetrics;
+	private LiferayNodeBalancer liferayNodeBalancer;
+	private LiferayTracer liferayTracer;
+	private MetadataTypeCache metadataTypeCache;
+
+}
\ No newline at end of file
@@ -40,9 +40,11 @@ public class OAuth2CachedConnectionProvider
 
 		return LiferayConnection.withOAuth2Authentication(
 			httpService, oAuth2AuthenticationConfig.getOpenApiSpecPath(),
+			liferayApplicationsConfig.getAdditionalOpenApiSpecPaths(),
 			oAuth2AuthenticationConfig.getConsumerKey(),
 			oAuth2AuthenticationConfig.getConsumerSecret(),
-			liferayProxyConfig.getProxyConfig());
+			liferayProxyConfig.getProxyConfig(),
+			getLiferayConnectionSettings());
 	}
 
 	@Override
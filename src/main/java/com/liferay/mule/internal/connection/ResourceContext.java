@@ -16,6 +16,8 @@ package com.liferay.mule.internal.connection;
 
 import java.io.InputStream;
 
+import java.nio.file.Path;
+
 import java.util.HashMap;
 import java.util.Map;
 
@@ -42,6 +44,10 @@ public class ResourceContext {
 		return endpoint;
 	}
 
+	public MultiMap<String, String> getHeaders() {
+		return headers;
+	}
+
 	public InputStream getInputStream() {
 		return inputStream;
 	}
@@ -54,23 +60,44 @@ public class ResourceContext {
 		return pathParams;
 	}
 
+	public Path getPath() {
+		return path;
+	}
+
 	public MultiMap<String, String> getQueryParams() {
 		return queryParams;
 	}
 
+	public String getRoutingKey() {
+		return routingKey;
+	}
+
+	public boolean isCacheable() {
+		return cacheable;
+	}
+
+	public boolean isStreaming() {
+		return streaming;
+	}
+
 	public static class Builder {
 
 		public ResourceContext build() {
 			ResourceContext resourceContext = new ResourceContext();
 
 			resourceContext.bytes = bytes;
+			resourceContext.cacheable = cacheable;
 			resourceContext.connectionTimeout = connectionTimeout;
 			resourceContext.contentType = contentType;
 			resourceContext.endpoint = endpoint;
+			resourceContext.headers = headers;
 			resourceContext.inputStream = inputStream;
 			resourceContext.jaxRSAppBase = jaxRSAppBase;
+			resourceContext.path = path;
 			resourceContext.pathParams = pathParams;
 			resourceContext.queryParams = queryParams;
+			resourceContext.routingKey = routingKey;
+			resourceContext.streaming = streaming;
 
 			return resourceContext;
 		}
@@ -81,6 +108,12 @@ public class ResourceContext {
 			return this;
 		}
 
+		public Builder cacheable(boolean cacheable) {
+			this.cacheable = cacheable;
+
+			return this;
+		}
+
 		public Builder connectionTimeout(long connectionTimeout) {
 			this.connectionTimeout = connectionTimeout;
 
@@ -99,6 +132,12 @@ public class ResourceContext {
 			return this;
 		}
 
+		public Builder headers(MultiMap<String, String> headers) {
+			this.headers = headers;
+
+			return this;
+		}
+
 		public Builder inputStream(InputStream inputStream) {
 			this.inputStream = inputStream;
 
@@ -111,6 +150,12 @@ public class ResourceContext {
 			return this;
 		}
 
+		public Builder path(Path path) {
+			this.path = path;
+
+			return this;
+		}
+
 		public Builder pathParams(Map<String, String> pathParams) {
 			this.pathParams = pathParams;
 
@@ -123,14 +168,31 @@ public class ResourceContext {
 			return this;
 		}
 
+		public Builder routingKey(String routingKey) {
+			this.routingKey = routingKey;
+
+			return this;
+		}
+
+		public Builder streaming(boolean streaming) {
+			this.streaming = streaming;
+
+			return this;
+		}
+
 		private byte[] bytes;
+		private boolean cacheable;
 		private long connectionTimeout;
 		private String contentType = "application/json";
 		private String endpoint;
+		private MultiMap<String, String> headers = new MultiMap<>();
 		private InputStream inputStream;
 		private String jaxRSAppBase;
+		private Path path;
 		private Map<String, String> pathParams = new HashMap<>();
 		private MultiMap<String, String> queryParams = new MultiMap<>();
+		private String routingKey;
+		private boolean streaming;
 
 	}
 
@@ -138,12 +200,17 @@ public class ResourceContext {
 	}
 
 	private byte[] bytes;
+	private boolean cacheable;
 	private long connectionTimeout;
 	private String contentType;
 	private String endpoint;
+	private MultiMap<String, String> headers;
 	private InputStream inputStream;
 	private String jaxRSAppBase;
+	private Path path;
 	private Map<String, String> pathParams;
 	private MultiMap<String, String> queryParams;
+	private String routingKey;
+	private boolean streaming;
 
 }
\ No newline at end of file
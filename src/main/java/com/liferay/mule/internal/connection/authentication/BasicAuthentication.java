@@ -25,11 +25,7 @@ public class BasicAuthentication implements HttpAuthentication {
 
 	public BasicAuthentication(String username, String password) {
 		this.username = username;
-		this.password = password;
-	}
 
-	@Override
-	public String getAuthorizationHeader() {
 		String credentials = username + ":" + password;
 
 		Base64.Encoder encoder = Base64.getEncoder();
@@ -37,10 +33,25 @@ public class BasicAuthentication implements HttpAuthentication {
 		String base64Credentials = encoder.encodeToString(
 			credentials.getBytes(StandardCharsets.UTF_8));
 
-		return "Basic " + base64Credentials;
+		authorizationHeader = "Basic " + base64Credentials;
+	}
+
+	@Override
+	public String getAuthorizationHeader() {
+		return authorizationHeader;
+	}
+
+	@Override
+	public String getPrincipal() {
+		return username;
+	}
+
+	@Override
+	public boolean isCacheable() {
+		return true;
 	}
 
-	private final String password;
+	private final String authorizationHeader;
 	private final String username;
 
 }
\ No newline at end of file
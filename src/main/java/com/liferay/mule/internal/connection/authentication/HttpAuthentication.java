@@ -23,4 +23,8 @@ public interface HttpAuthentication {
 
 	public String getAuthorizationHeader() throws ModuleException;
 
+	public String getPrincipal();
+
+	public boolean isCacheable();
+
 }
\ No newline at end of file
@@ -17,7 +17,10 @@ package com.liferay.mule.internal.connection.authentication;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import com.liferay.mule.internal.error.LiferayError;
+import com.liferay.mule.internal.metrics.LiferayMetrics;
 import com.liferay.mule.internal.oas.OASURLParser;
+import com.liferay.mule.internal.tracing.LiferaySpan;
+import com.liferay.mule.internal.tracing.LiferayTracer;
 import com.liferay.mule.internal.util.JsonNodeReader;
 
 import java.io.IOException;
@@ -46,10 +49,14 @@ public class OAuth2Authentication implements HttpAuthentication {
 
 	public OAuth2Authentication(
 			String consumerKey, String consumerSecret, HttpClient httpClient,
+			LiferayMetrics liferayMetrics, LiferayTracer liferayTracer,
 			String openAPISpecPath)
 		throws MalformedURLException {
 
+		this.consumerKey = consumerKey;
 		this.httpClient = httpClient;
+		this.liferayMetrics = liferayMetrics;
+		this.liferayTracer = liferayTracer;
 		oAuth2AccessTokenURI = getOAuth2AccessTokenURI(openAPISpecPath);
 
 		queryParams.put("client_id", consumerKey);
@@ -59,7 +66,30 @@ public class OAuth2Authentication implements HttpAuthentication {
 
 	@Override
 	public String getAuthorizationHeader() throws ModuleException {
-		JsonNode authorizationJsonNode = getAuthorizationJsonNode();
+		JsonNode authorizationJsonNode = null;
+
+		LiferaySpan liferaySpan = liferayTracer.startSpan(
+			OAUTH2_TOKEN_SPAN_NAME);
+
+		long startTime = System.nanoTime();
+
+		try {
+			authorizationJsonNode = getAuthorizationJsonNode();
+		}
+		catch (ModuleException moduleException) {
+			liferaySpan.setError(moduleException);
+
+			throw moduleException;
+		}
+		finally {
+			if (liferayMetrics != null) {
+				liferayMetrics.recordOAuth2TokenFetch(
+					System.nanoTime() - startTime,
+					authorizationJsonNode != null);
+			}
+
+			liferaySpan.end();
+		}
 
 		JsonNode tokenTypeJsonNode = authorizationJsonNode.get("token_type");
 		JsonNode accessTokenJsonNode = authorizationJsonNode.get(
@@ -70,6 +100,16 @@ public class OAuth2Authentication implements HttpAuthentication {
 			accessTokenJsonNode.textValue());
 	}
 
+	@Override
+	public String getPrincipal() {
+		return consumerKey;
+	}
+
+	@Override
+	public boolean isCacheable() {
+		return false;
+	}
+
 	private JsonNode getAuthorizationJsonNode() throws ModuleException {
 		HttpRequestBuilder httpRequestBuilder = HttpRequest.builder();
 
@@ -139,10 +179,16 @@ public class OAuth2Authentication implements HttpAuthentication {
 
 	private static final String OAUTH2_ENDPOINT = "/o/oauth2/token";
 
+	private static final String OAUTH2_TOKEN_SPAN_NAME =
+		"liferay.oauth2.token";
+
 	private static final Logger logger = LoggerFactory.getLogger(
 		OAuth2Authentication.class);
 
+	private final String consumerKey;
 	private final HttpClient httpClient;
+	private final LiferayMetrics liferayMetrics;
+	private final LiferayTracer liferayTracer;
 	private final String oAuth2AccessTokenURI;
 	private final MultiMap<String, String> queryParams = new MultiMap<>();
 
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.balancer;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LiferayNode {
+
+	public LiferayNode(String baseURL) {
+		this.baseURL = baseURL;
+	}
+
+	public void endRequest() {
+		inFlightRequests.decrementAndGet();
+	}
+
+	public String getBaseURL() {
+		return baseURL;
+	}
+
+	public int getInFlightRequests() {
+		return inFlightRequests.get();
+	}
+
+	public String getServerBaseURL(String jaxRSAppBase) {
+		return serverBaseURLs.computeIfAbsent(
+			jaxRSAppBase, key -> baseURL + "/o" + key);
+	}
+
+	public boolean isEjected(long time) {
+		if (time < ejectionExpirationTime) {
+			return true;
+		}
+
+		return false;
+	}
+
+	public void startRequest() {
+		inFlightRequests.incrementAndGet();
+	}
+
+	@Override
+	public String toString() {
+		return baseURL;
+	}
+
+	protected boolean recordFailure(
+		int failureThreshold, long ejectionTimeMillis) {
+
+		if (consecutiveFailures.incrementAndGet() < failureThreshold) {
+			return false;
+		}
+
+		consecutiveFailures.set(failureThreshold - 1);
+
+		ejectionExpirationTime =
+			System.currentTimeMillis() + ejectionTimeMillis;
+
+		return true;
+	}
+
+	protected void recordSuccess() {
+		consecutiveFailures.set(0);
+	}
+
+	private final String baseURL;
+	private final AtomicInteger consecutiveFailures = new AtomicInteger();
+	private volatile long ejectionExpirationTime;
+	private final AtomicInteger inFlightRequests = new AtomicInteger();
+	private final ConcurrentMap<String, String> serverBaseURLs =
+		new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
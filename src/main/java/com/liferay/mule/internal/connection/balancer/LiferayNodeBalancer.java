@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.balancer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LiferayNodeBalancer {
+
+	public LiferayNodeBalancer(
+		List<String> baseURLs, LoadBalancingStrategy loadBalancingStrategy,
+		int failureThreshold, long ejectionTimeMillis,
+		long routingRetentionMillis) {
+
+		liferayNodes = new LiferayNode[baseURLs.size()];
+
+		for (int i = 0; i < liferayNodes.length; i++) {
+			liferayNodes[i] = new LiferayNode(baseURLs.get(i));
+		}
+
+		this.loadBalancingStrategy = loadBalancingStrategy;
+		this.failureThreshold = failureThreshold;
+		this.ejectionTimeMillis = ejectionTimeMillis;
+		this.routingRetentionMillis = routingRetentionMillis;
+	}
+
+	public int getRoutedCount() {
+		return routedLiferayNodes.size();
+	}
+
+	public void pin(String routingKey) {
+		long time = System.currentTimeMillis();
+
+		removeExpired(time);
+
+		routedLiferayNodes.computeIfAbsent(
+			routingKey,
+			key -> new RoutedLiferayNode(
+				select(), time + routingRetentionMillis));
+	}
+
+	public void recordFailure(LiferayNode liferayNode) {
+		if (liferayNode.recordFailure(failureThreshold, ejectionTimeMillis)) {
+			logger.warn(
+				"Ejected Liferay Portal node {} for {} ms after {} " +
+					"consecutive failures",
+				liferayNode, ejectionTimeMillis, failureThreshold);
+		}
+	}
+
+	public void recordResponse(LiferayNode liferayNode, int statusCode) {
+		if ((statusCode == 502) || (statusCode == 503) ||
+			(statusCode == 504)) {
+
+			recordFailure(liferayNode);
+		}
+		else {
+			liferayNode.recordSuccess();
+		}
+	}
+
+	public void release(String routingKey) {
+		routedLiferayNodes.remove(routingKey);
+	}
+
+	public LiferayNode select(String routingKey) {
+		if (routingKey == null) {
+			return select();
+		}
+
+		RoutedLiferayNode routedLiferayNode = routedLiferayNodes.get(
+			routingKey);
+
+		if (routedLiferayNode == null) {
+			return select();
+		}
+
+		long time = System.currentTimeMillis();
+
+		if (routedLiferayNode.isExpired(time)) {
+			routedLiferayNodes.remove(routingKey, routedLiferayNode);
+
+			return select();
+		}
+
+		routedLiferayNode.setExpirationTime(time + routingRetentionMillis);
+
+		return routedLiferayNode.getLiferayNode();
+	}
+
+	public void transfer(String routingKey, String newRoutingKey) {
+		RoutedLiferayNode routedLiferayNode = routedLiferayNodes.remove(
+			routingKey);
+
+		if (routedLiferayNode != null) {
+			routedLiferayNode.setExpirationTime(
+				System.currentTimeMillis() + routingRetentionMillis);
+
+			routedLiferayNodes.put(newRoutingKey, routedLiferayNode);
+		}
+	}
+
+	private void removeExpired(long time) {
+		long removeExpiredTime = nextRemoveExpiredTime.get();
+
+		if ((time < removeExpiredTime) ||
+			!nextRemoveExpiredTime.compareAndSet(
+				removeExpiredTime, time + routingRetentionMillis)) {
+
+			return;
+		}
+
+		Collection<RoutedLiferayNode> routedLiferayNodesValues =
+			routedLiferayNodes.values();
+
+		routedLiferayNodesValues.removeIf(
+			routedLiferayNode -> routedLiferayNode.isExpired(time));
+	}
+
+	private LiferayNode select() {
+		int offset = Math.floorMod(
+			counter.getAndIncrement(), liferayNodes.length);
+		long time = System.currentTimeMillis();
+
+		LiferayNode selectedLiferayNode = null;
+
+		for (int i = 0; i < liferayNodes.length; i++) {
+			LiferayNode liferayNode =
+				liferayNodes[(offset + i) % liferayNodes.length];
+
+			if (liferayNode.isEjected(time)) {
+				continue;
+			}
+
+			if (loadBalancingStrategy == LoadBalancingStrategy.ROUND_ROBIN) {
+				return liferayNode;
+			}
+
+			if ((selectedLiferayNode == null) ||
+				(liferayNode.getInFlightRequests() <
+					selectedLiferayNode.getInFlightRequests())) {
+
+				selectedLiferayNode = liferayNode;
+			}
+		}
+
+		if (selectedLiferayNode == null) {
+			return liferayNodes[offset];
+		}
+
+		return selectedLiferayNode;
+	}
+
+	private static final Logger logger = LoggerFactory.getLogger(
+		LiferayNodeBalancer.class);
+
+	private final AtomicInteger counter = new AtomicInteger();
+	private final long ejectionTimeMillis;
+	private final int failureThreshold;
+	private final LiferayNode[] liferayNodes;
+	private final LoadBalancingStrategy loadBalancingStrategy;
+	private final AtomicLong nextRemoveExpiredTime = new AtomicLong();
+	private final ConcurrentMap<String, RoutedLiferayNode> routedLiferayNodes =
+		new ConcurrentHashMap<>();
+	private final long routingRetentionMillis;
+
+}
\ No newline at end of file
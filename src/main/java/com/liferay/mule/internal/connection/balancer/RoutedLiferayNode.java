@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.balancer;
+
+/**
+ * @author Matija Petanjek
+ */
+public class RoutedLiferayNode {
+
+	public RoutedLiferayNode(LiferayNode liferayNode, long expirationTime) {
+		this.liferayNode = liferayNode;
+		this.expirationTime = expirationTime;
+	}
+
+	public long getExpirationTime() {
+		return expirationTime;
+	}
+
+	public LiferayNode getLiferayNode() {
+		return liferayNode;
+	}
+
+	public boolean isExpired(long time) {
+		if (time >= expirationTime) {
+			return true;
+		}
+
+		return false;
+	}
+
+	public void setExpirationTime(long expirationTime) {
+		this.expirationTime = expirationTime;
+	}
+
+	private volatile long expirationTime;
+	private final LiferayNode liferayNode;
+
+}
\ No newline at end of file
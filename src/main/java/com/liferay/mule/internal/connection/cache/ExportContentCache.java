@@ -0,0 +1,254 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.cache;
+
+import com.liferay.mule.internal.error.LiferayError;
+import com.liferay.mule.internal.streaming.MappedFileCursorStreamProvider;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.mule.runtime.api.streaming.bytes.CursorStream;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+import org.mule.runtime.extension.api.exception.ModuleException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * @author Matija Petanjek
+ */
+public class ExportContentCache {
+
+	public ExportContentCache(
+		long freshnessMillis,
+		ScheduledExecutorService scheduledExecutorService) {
+
+		this.freshnessMillis = freshnessMillis;
+		this.scheduledExecutorService = scheduledExecutorService;
+	}
+
+	public void clear() {
+		for (Map.Entry<String, CompletableFuture<ExportContentCacheEntry>>
+				entry : completableFutures.entrySet()) {
+
+			expire(entry.getKey(), entry.getValue());
+		}
+	}
+
+	public long getFreshnessMillis() {
+		return freshnessMillis;
+	}
+
+	public String getKey(String... values) {
+		StringBuilder sb = new StringBuilder();
+
+		for (String value : values) {
+			if (value == null) {
+				sb.append('-');
+			}
+			else {
+				sb.append(value.length());
+				sb.append(':');
+				sb.append(value);
+			}
+
+			sb.append(',');
+		}
+
+		return sb.toString();
+	}
+
+	public CursorStream openCursor(
+			String key,
+			Supplier<MappedFileCursorStreamProvider> exportSupplier)
+		throws ModuleException {
+
+		while (true) {
+			removeExpired(System.currentTimeMillis());
+
+			CompletableFuture<ExportContentCacheEntry> completableFuture =
+				new CompletableFuture<>();
+
+			CompletableFuture<ExportContentCacheEntry>
+				cachedCompletableFuture = completableFutures.putIfAbsent(
+					key, completableFuture);
+
+			CursorStreamProvider cursorStreamProvider;
+
+			if (cachedCompletableFuture != null) {
+				logger.debug("Joining export for {}", key);
+
+				ExportContentCacheEntry exportContentCacheEntry = joinExport(
+					cachedCompletableFuture);
+
+				cursorStreamProvider = exportContentCacheEntry.acquire();
+			}
+			else {
+				cursorStreamProvider = export(
+					key, completableFuture, exportSupplier);
+			}
+
+			if (cursorStreamProvider != null) {
+				return cursorStreamProvider.openCursor();
+			}
+
+			logger.debug("Export content for {} expired while joining", key);
+		}
+	}
+
+	public int size() {
+		return completableFutures.size();
+	}
+
+	private void expire(
+		String key,
+		CompletableFuture<ExportContentCacheEntry> completableFuture) {
+
+		if (completableFutures.remove(key, completableFuture)) {
+			logger.debug("Expiring export content for {}", key);
+
+			release(completableFuture);
+		}
+	}
+
+	private CursorStreamProvider export(
+			String key,
+			CompletableFuture<ExportContentCacheEntry> completableFuture,
+			Supplier<MappedFileCursorStreamProvider> exportSupplier)
+		throws ModuleException {
+
+		try {
+			ExportContentCacheEntry exportContentCacheEntry =
+				new ExportContentCacheEntry(
+					exportSupplier.get(),
+					System.currentTimeMillis() + freshnessMillis);
+
+			CursorStreamProvider cursorStreamProvider =
+				exportContentCacheEntry.acquire();
+
+			completableFuture.complete(exportContentCacheEntry);
+
+			scheduleExpiration(key, completableFuture);
+
+			return cursorStreamProvider;
+		}
+		catch (RuntimeException runtimeException) {
+			completableFutures.remove(key, completableFuture);
+
+			completableFuture.completeExceptionally(runtimeException);
+
+			throw runtimeException;
+		}
+	}
+
+	private ExportContentCacheEntry joinExport(
+			CompletableFuture<ExportContentCacheEntry> completableFuture)
+		throws ModuleException {
+
+		try {
+			return completableFuture.get();
+		}
+		catch (ExecutionException executionException) {
+			Throwable throwable = executionException.getCause();
+
+			if (throwable instanceof ModuleException) {
+				throw (ModuleException)throwable;
+			}
+
+			throw new ModuleException(LiferayError.EXECUTION, throwable);
+		}
+		catch (InterruptedException interruptedException) {
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
+
+			throw new ModuleException(
+				LiferayError.EXECUTION, interruptedException);
+		}
+	}
+
+	private void release(
+		CompletableFuture<ExportContentCacheEntry> completableFuture) {
+
+		if (completableFuture.isDone() &&
+			!completableFuture.isCompletedExceptionally()) {
+
+			ExportContentCacheEntry exportContentCacheEntry =
+				completableFuture.join();
+
+			exportContentCacheEntry.release();
+		}
+	}
+
+	private void removeExpired(long time) {
+		for (Map.Entry<String, CompletableFuture<ExportContentCacheEntry>>
+				entry : completableFutures.entrySet()) {
+
+			CompletableFuture<ExportContentCacheEntry> completableFuture =
+				entry.getValue();
+
+			if (!completableFuture.isDone() ||
+				completableFuture.isCompletedExceptionally()) {
+
+				continue;
+			}
+
+			ExportContentCacheEntry exportContentCacheEntry =
+				completableFuture.join();
+
+			if (exportContentCacheEntry.isExpired(time)) {
+				expire(entry.getKey(), completableFuture);
+			}
+		}
+	}
+
+	private void scheduleExpiration(
+		String key,
+		CompletableFuture<ExportContentCacheEntry> completableFuture) {
+
+		if (scheduledExecutorService == null) {
+			return;
+		}
+
+		try {
+			scheduledExecutorService.schedule(
+				() -> expire(key, completableFuture), freshnessMillis,
+				TimeUnit.MILLISECONDS);
+		}
+		catch (RejectedExecutionException rejectedExecutionException) {
+			logger.debug(
+				"Unable to schedule the expiration of export content for {}",
+				key, rejectedExecutionException);
+		}
+	}
+
+	private static final Logger logger = LoggerFactory.getLogger(
+		ExportContentCache.class);
+
+	private final ConcurrentMap
+		<String, CompletableFuture<ExportContentCacheEntry>>
+			completableFutures = new ConcurrentHashMap<>();
+	private final long freshnessMillis;
+	private final ScheduledExecutorService scheduledExecutorService;
+
+}
\ No newline at end of file
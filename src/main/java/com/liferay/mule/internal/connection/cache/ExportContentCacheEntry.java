@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.cache;
+
+import com.liferay.mule.internal.streaming.MappedFileCursorStreamProvider;
+
+import org.mule.runtime.api.streaming.CursorProvider;
+import org.mule.runtime.api.streaming.bytes.CursorStream;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+
+/**
+ * @author Matija Petanjek
+ */
+public class ExportContentCacheEntry {
+
+	public ExportContentCacheEntry(
+		MappedFileCursorStreamProvider mappedFileCursorStreamProvider,
+		long expirationTime) {
+
+		this.mappedFileCursorStreamProvider = mappedFileCursorStreamProvider;
+		this.expirationTime = expirationTime;
+	}
+
+	public synchronized CursorStreamProvider acquire() {
+		if (released) {
+			return null;
+		}
+
+		referencesCount++;
+
+		return new ExportContentCursorStreamProvider(this);
+	}
+
+	public long getExpirationTime() {
+		return expirationTime;
+	}
+
+	public boolean isExpired(long time) {
+		if (time >= expirationTime) {
+			return true;
+		}
+
+		return false;
+	}
+
+	public CursorStream openCursor(
+		CursorProvider<CursorStream> cursorProvider) {
+
+		return mappedFileCursorStreamProvider.openCursor(cursorProvider);
+	}
+
+	public synchronized void release() {
+		if (released) {
+			return;
+		}
+
+		referencesCount--;
+
+		if (referencesCount > 0) {
+			return;
+		}
+
+		released = true;
+
+		mappedFileCursorStreamProvider.releaseResources();
+	}
+
+	private final long expirationTime;
+	private final MappedFileCursorStreamProvider mappedFileCursorStreamProvider;
+	private int referencesCount = 1;
+	private boolean released;
+
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.cache;
+
+import org.mule.runtime.api.streaming.bytes.CursorStream;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+
+/**
+ * @author Matija Petanjek
+ */
+public class ExportContentCursorStreamProvider implements CursorStreamProvider {
+
+	public ExportContentCursorStreamProvider(
+		ExportContentCacheEntry exportContentCacheEntry) {
+
+		this.exportContentCacheEntry = exportContentCacheEntry;
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+	}
+
+	@Override
+	public boolean isClosed() {
+		return closed;
+	}
+
+	@Override
+	public CursorStream openCursor() {
+		if (closed) {
+			throw new IllegalStateException(
+				"Cannot open a cursor on a closed provider");
+		}
+
+		return exportContentCacheEntry.openCursor(this);
+	}
+
+	@Override
+	public synchronized void releaseResources() {
+		closed = true;
+
+		if (released) {
+			return;
+		}
+
+		released = true;
+
+		exportContentCacheEntry.release();
+	}
+
+	private volatile boolean closed;
+	private final ExportContentCacheEntry exportContentCacheEntry;
+	private boolean released;
+
+}
\ No newline at end of file
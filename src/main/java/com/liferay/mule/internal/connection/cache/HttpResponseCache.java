@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @author Matija Petanjek
+ */
+public class HttpResponseCache {
+
+	public HttpResponseCache(int maxEntries, long timeToLiveMillis) {
+		this.maxEntries = maxEntries;
+		this.timeToLiveMillis = timeToLiveMillis;
+
+		httpResponseCacheEntries =
+			new LinkedHashMap<String, HttpResponseCacheEntry>(16, 0.75F, true) {
+
+			@Override
+			protected boolean removeEldestEntry(
+				Map.Entry<String, HttpResponseCacheEntry> eldestEntry) {
+
+				if (size() > HttpResponseCache.this.maxEntries) {
+					return true;
+				}
+
+				return false;
+			}
+
+		};
+	}
+
+	public synchronized void clear() {
+		httpResponseCacheEntries.clear();
+	}
+
+	public synchronized HttpResponseCacheEntry get(String key) {
+		return httpResponseCacheEntries.get(key);
+	}
+
+	public long getTimeToLiveMillis() {
+		return timeToLiveMillis;
+	}
+
+	public synchronized void put(
+		String key, HttpResponseCacheEntry httpResponseCacheEntry) {
+
+		httpResponseCacheEntries.put(key, httpResponseCacheEntry);
+	}
+
+	public synchronized void remove(String key) {
+		httpResponseCacheEntries.remove(key);
+	}
+
+	public synchronized int size() {
+		return httpResponseCacheEntries.size();
+	}
+
+	private final Map<String, HttpResponseCacheEntry> httpResponseCacheEntries;
+	private final int maxEntries;
+	private final long timeToLiveMillis;
+
+}
\ No newline at end of file
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.cache;
+
+import org.mule.runtime.api.util.MultiMap;
+import org.mule.runtime.http.api.domain.entity.ByteArrayHttpEntity;
+import org.mule.runtime.http.api.domain.message.response.HttpResponse;
+
+/**
+ * @author Matija Petanjek
+ */
+public class HttpResponseCacheEntry {
+
+	public HttpResponseCacheEntry(
+		HttpResponse httpResponse, byte[] content, long expirationTime) {
+
+		this(
+			content, httpResponse.getHeaderValue("ETag"), expirationTime,
+			httpResponse.getHeaders(),
+			httpResponse.getHeaderValue("Last-Modified"),
+			httpResponse.getReasonPhrase(), httpResponse.getStatusCode());
+	}
+
+	public byte[] getContent() {
+		return content;
+	}
+
+	public String getETag() {
+		return eTag;
+	}
+
+	public long getExpirationTime() {
+		return expirationTime;
+	}
+
+	public String getLastModified() {
+		return lastModified;
+	}
+
+	public boolean isExpired(long time) {
+		if (time >= expirationTime) {
+			return true;
+		}
+
+		return false;
+	}
+
+	public boolean isRevalidatable() {
+		if ((eTag != null) || (lastModified != null)) {
+			return true;
+		}
+
+		return false;
+	}
+
+	public HttpResponse toHttpResponse() {
+		return HttpResponse.builder(
+		).entity(
+			new ByteArrayHttpEntity(content)
+		).headers(
+			headers
+		).reasonPhrase(
+			reasonPhrase
+		).statusCode(
+			statusCode
+		).build();
+	}
+
+	public HttpResponseCacheEntry withExpirationTime(long expirationTime) {
+		return new HttpResponseCacheEntry(
+			content, eTag, expirationTime, headers, lastModified, reasonPhrase,
+			statusCode);
+	}
+
+	private HttpResponseCacheEntry(
+		byte[] content, String eTag, long expirationTime,
+		MultiMap<String, String> headers, String lastModified,
+		String reasonPhrase, int statusCode) {
+
+		this.content = content;
+		this.eTag = eTag;
+		this.expirationTime = expirationTime;
+		this.headers = headers;
+		this.lastModified = lastModified;
+		this.reasonPhrase = reasonPhrase;
+		this.statusCode = statusCode;
+	}
+
+	private final byte[] content;
+	private final String eTag;
+	private final long expirationTime;
+	private final MultiMap<String, String> headers;
+	private final String lastModified;
+	private final String reasonPhrase;
+	private final int statusCode;
+
+}
\ No newline at end of file
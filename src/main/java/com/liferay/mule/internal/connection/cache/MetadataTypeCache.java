@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.mule.metadata.api.model.MetadataType;
+
+/**
+ * @author Matija Petanjek
+ */
+public class MetadataTypeCache {
+
+	public MetadataTypeCache(int loadParallelism, long timeToLiveMillis) {
+		this.loadParallelism = loadParallelism;
+		this.timeToLiveMillis = timeToLiveMillis;
+	}
+
+	public void clear() {
+		oasJsonNode = null;
+
+		metadataTypes.clear();
+
+		loadStarted.set(false);
+	}
+
+	public MetadataType getBatchMetadataType(String className) {
+		return getMetadataType(BATCH_KEY_PREFIX + className);
+	}
+
+	public int getLoadParallelism() {
+		return loadParallelism;
+	}
+
+	public MetadataType getMetadataType(
+		String endpoint, String operation, String endpointReferencePath) {
+
+		return getMetadataType(
+			getKey(endpoint, operation, endpointReferencePath));
+	}
+
+	public JsonNode getOASJsonNode() {
+		if (isExpired()) {
+			clear();
+
+			return null;
+		}
+
+		return oasJsonNode;
+	}
+
+	public void putBatchMetadataType(
+		String className, MetadataType metadataType) {
+
+		metadataTypes.put(BATCH_KEY_PREFIX + className, metadataType);
+	}
+
+	public void putMetadataType(
+		String endpoint, String operation, String endpointReferencePath,
+		MetadataType metadataType) {
+
+		metadataTypes.put(
+			getKey(endpoint, operation, endpointReferencePath), metadataType);
+	}
+
+	public void setOASJsonNode(JsonNode oasJsonNode) {
+		expirationTime = System.currentTimeMillis() + timeToLiveMillis;
+
+		this.oasJsonNode = oasJsonNode;
+	}
+
+	public int size() {
+		return metadataTypes.size();
+	}
+
+	public boolean startLoad() {
+		if (isExpired()) {
+			clear();
+		}
+
+		return loadStarted.compareAndSet(false, true);
+	}
+
+	private String getKey(
+		String endpoint, String operation, String endpointReferencePath) {
+
+		return endpoint + " " + operation + " " + endpointReferencePath;
+	}
+
+	private MetadataType getMetadataType(String key) {
+		if (isExpired()) {
+			clear();
+
+			return null;
+		}
+
+		return metadataTypes.get(key);
+	}
+
+	private boolean isExpired() {
+		if ((oasJsonNode != null) &&
+			(System.currentTimeMillis() > expirationTime)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private static final String BATCH_KEY_PREFIX = "batch ";
+
+	private volatile long expirationTime;
+	private final AtomicBoolean loadStarted = new AtomicBoolean();
+	private final int loadParallelism;
+	private final ConcurrentMap<String, MetadataType> metadataTypes =
+		new ConcurrentHashMap<>();
+	private volatile JsonNode oasJsonNode;
+	private final long timeToLiveMillis;
+
+}
\ No newline at end of file
@@ -0,0 +1,205 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.mule.internal.connection.callback;
+
+import java.io.IOException;
+
+import java.net.URI;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.mule.runtime.api.connection.ConnectionException;
+import org.mule.runtime.http.api.HttpService;
+import org.mule.runtime.http.api.domain.message.request.HttpRequest;
+import org.mule.runtime.http.api.domain.message.response.HttpResponse;
+import org.mule.runtime.http.api.domain.request.HttpRequestContext;
+import org.mule.runtime.http.api.server.HttpServer;
+import org.mule.runtime.http.api.server.HttpServerConfiguration;
+import org.mule.runtime.http.api.server.HttpServerFactory;
+import org.mule.runtime.http.api.server.ServerCreationException;
+import org.mule.runtime.http.api.server.async.HttpResponseReadyCallback;
+import org.mule.runtime.http.api.server.async.ResponseStatusCallback;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * @author Matija Petanjek
+ */
+public class BatchTaskCallbackListener {
+
+	public BatchTaskCallbackListener(
+		String host, int port, String baseURL, long pollIntervalMillis) {
+
+		this.host = host;
+		this.port = port;
+		this.baseURL = baseURL;
+		this.pollIntervalMillis = pollIntervalMillis;
+	}
+
+	public synchronized void acquire(HttpService httpService)
+		throws ConnectionException {
+
+		if (referenceCount == 0) {
+			start(httpService);
+		}
+
+		referenceCount++;
+	}
+
+	public boolean await(String callbackKey) throws InterruptedException {
+		Semaphore semaphore = semaphores.get(callbackKey);
+
+		if (semaphore == null) {
+			Thread.sleep(pollIntervalMillis);
+
+			return false;
+		}
+
+		return semaphore.tryAcquire(pollIntervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	public synchronized int getReferenceCount() {
+		return referenceCount;
+	}
+
+	public String register(String callbackKey) {
+		semaphores.put(callbackKey, new Semaphore(0));
+
+		return baseURL + CALLBACK_PATH + "/" + callbackKey;
+	}
+
+	public synchronized void release() {
+		if (referenceCount == 0) {
+			return;
+		}
+
+		referenceCount--;
+
+		if (referenceCount == 0) {
+			stop();
+		}
+	}
+
+	public void unregister(String callbackKey) {
+		semaphores.remove(callbackKey);
+	}
+
+	private void handleRequest(
+		HttpRequestContext httpRequestContext,
+		HttpResponseReadyCallback httpResponseReadyCallback) {
+
+		HttpRequest httpRequest = httpRequestContext.getRequest();
+
+		URI uri = httpRequest.getUri();
+
+		String path = uri.getPath();
+
+		String callbackKey = path.substring(path.lastIndexOf('/') + 1);
+
+		Semaphore semaphore = semaphores.get(callbackKey);
+
+		int statusCode = 404;
+
+		if (semaphore != null) {
+			logger.debug("Received batch task callback for {}", callbackKey);
+
+			semaphore.release();
+
+			statusCode = 200;
+		}
+
+		httpResponseReadyCallback.responseReady(
+			HttpResponse.builder(
+			).statusCode(
+				statusCode
+			).build(),
+			new ResponseStatusCallback() {
+
+				@Override
+				public void responseSendFailure(Throwable throwable) {
+					logger.debug(
+						"Unable to respond to batch task callback", throwable);
+				}
+
+				@Override
+				public void responseSendSuccessfully() {
+				}
+
+			});
+	}
+
+	private void start(HttpService httpService) throws ConnectionException {
+		HttpServerConfiguration.Builder builder =
+			new HttpServerConfiguration.Builder();
+
+		builder.setHost(
+			host
+		).setName(
+			"Liferay Batch Callback Listener " + port
+		).setPort(
+			port
+		);
+
+		HttpServerFactory httpServerFactory = httpService.getServerFactory();
+
+		try {
+			httpServer = httpServerFactory.create(builder.build());
+
+			httpServer.addRequestHandler(
+				CALLBACK_PATH + "/*", this::handleRequest);
+
+			httpServer.start();
+		}
+		catch (IOException | ServerCreationException exception) {
+			throw new ConnectionException(
+				"Unable to start batch callback listener on port " + port,
+				exception);
+		}
+
+		logger.debug(
+			"Started batch callback listener on {}:{} with base URL {}", host,
+			port, baseURL);
+	}
+
+	private void stop() {
+		if (httpServer == null) {
+			return;
+		}
+
+		httpServer.stop();
+
+		httpServer.dispose();
+
+		httpServer = null;
+	}
+
+	private static final String CALLBACK_PATH = "/liferay/batch-callback";
+
+	private static final Logger logger = LoggerFactory.getLogger(
+		BatchTaskCallbackListener.class);
+
+	private final String baseURL;
+	private final String host;
+	private volatile HttpServer httpServer;
+	private final long pollIntervalMillis;
+	private final int port;
+	private int referenceCount;
+	private final ConcurrentMap<String, Semaphore> semaphores =
+		new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
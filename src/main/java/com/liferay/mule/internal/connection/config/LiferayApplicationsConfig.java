@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.mule.internal.connection.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mule.runtime.extension.api.annotation.param.Optional;
+import org.mule.runtime.extension.api.annotation.param.Parameter;
+import org.mule.runtime.extension.api.annotation.param.display.DisplayName;
+import org.mule.runtime.extension.api.annotation.param.display.Placement;
+import org.mule.runtime.extension.api.annotation.param.display.Summary;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LiferayApplicationsConfig {
+
+	public List<String> getAdditionalOpenApiSpecPaths() {
+		List<String> openApiSpecPaths = new ArrayList<>();
+
+		if (additionalOpenApiSpecPaths == null) {
+			return openApiSpecPaths;
+		}
+
+		for (String openApiSpecPath : additionalOpenApiSpecPaths.split(",")) {
+			openApiSpecPath = openApiSpecPath.trim();
+
+			if (!openApiSpecPath.isEmpty()) {
+				openApiSpecPaths.add(openApiSpecPath);
+			}
+		}
+
+		return openApiSpecPaths;
+	}
+
+	private static final String APPLICATIONS = "Applications";
+
+	@DisplayName("Additional OpenAPI Spec URLs")
+	@Optional
+	@Parameter
+	@Placement(order = 1, tab = APPLICATIONS)
+	@Summary(
+		"Comma-separated list of OpenAPI Spec URLs of other REST " +
+			"applications of the same Liferay Portal instance"
+	)
+	private String additionalOpenApiSpecPaths;
+
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.mule.internal.connection.config;
+
+import com.liferay.mule.internal.connection.callback.BatchTaskCallbackListener;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mule.runtime.extension.api.annotation.param.Optional;
+import org.mule.runtime.extension.api.annotation.param.Parameter;
+import org.mule.runtime.extension.api.annotation.param.display.DisplayName;
+import org.mule.runtime.extension.api.annotation.param.display.Placement;
+import org.mule.runtime.extension.api.annotation.param.display.Summary;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LiferayBatchCallbackConfig {
+
+	public BatchTaskCallbackListener getBatchTaskCallbackListener() {
+		if (!batchCallbackEnabled) {
+			return null;
+		}
+
+		String baseURL = batchCallbackBaseURL;
+
+		if (baseURL == null) {
+			baseURL = "http://" + getHostName() + ":" + batchCallbackPort;
+		}
+
+		while (baseURL.endsWith("/")) {
+			baseURL = baseURL.substring(0, baseURL.length() - 1);
+		}
+
+		return new BatchTaskCallbackListener(
+			batchCallbackHost, batchCallbackPort, baseURL,
+			batchCallbackPollIntervalTimeUnit.toMillis(
+				batchCallbackPollInterval));
+	}
+
+	private String getHostName() {
+		if (!batchCallbackHost.equals("0.0.0.0")) {
+			return batchCallbackHost;
+		}
+
+		try {
+			InetAddress inetAddress = InetAddress.getLocalHost();
+
+			return inetAddress.getCanonicalHostName();
+		}
+		catch (UnknownHostException unknownHostException) {
+			return "localhost";
+		}
+	}
+
+	private static final String BATCH_CALLBACK = "Batch Callback";
+
+	@DisplayName("Callback Base URL")
+	@Optional
+	@Parameter
+	@Placement(order = 4, tab = BATCH_CALLBACK)
+	@Summary(
+		"Base URL under which Liferay Portal instance reaches the listener, " +
+			"for example http://mule-worker:8091"
+	)
+	private String batchCallbackBaseURL;
+
+	@DisplayName("Enabled")
+	@Optional(defaultValue = "false")
+	@Parameter
+	@Placement(order = 1, tab = BATCH_CALLBACK)
+	@Summary(
+		"Whether batch operations wait for task completion callbacks " +
+			"instead of polling the task status every second"
+	)
+	private boolean batchCallbackEnabled;
+
+	@DisplayName("Listener Host")
+	@Optional(defaultValue = "127.0.0.1")
+	@Parameter
+	@Placement(order = 2, tab = BATCH_CALLBACK)
+	@Summary(
+		"Host the callback listener binds to. Set it to 0.0.0.0 or to an " +
+			"external interface when Liferay Portal runs on another host"
+	)
+	private String batchCallbackHost;
+
+	@DisplayName("Listener Port")
+	@Optional(defaultValue = "8091")
+	@Parameter
+	@Placement(order = 3, tab = BATCH_CALLBACK)
+	@Summary("Port the callback listener binds to")
+	private int batchCallbackPort;
+
+	@DisplayName("Fallback Poll Interval")
+	@Optional(defaultValue = "60")
+	@Parameter
+	@Placement(order = 5, tab = BATCH_CALLBACK)
+	@Summary("Time after which the task status is polled without a callback")
+	private long batchCallbackPollInterval;
+
+	@DisplayName("Fallback Poll Interval Unit")
+	@Optional(defaultValue = "SECONDS")
+	@Parameter
+	@Placement(order = 6, tab = BATCH_CALLBACK)
+	@Summary("Time unit to be used in the Fallback Poll Interval configuration")
+	private TimeUnit batchCallbackPollIntervalTimeUnit;
+
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.config;
+
+import com.liferay.mule.internal.connection.tracker.BatchTaskTracker;
+import com.liferay.mule.internal.connection.tracker.TrackedBatchTask;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mule.runtime.api.store.ObjectStore;
+import org.mule.runtime.api.store.ObjectStoreManager;
+import org.mule.runtime.api.store.ObjectStoreSettings;
+import org.mule.runtime.extension.api.annotation.param.Optional;
+import org.mule.runtime.extension.api.annotation.param.Parameter;
+import org.mule.runtime.extension.api.annotation.param.display.DisplayName;
+import org.mule.runtime.extension.api.annotation.param.display.Placement;
+import org.mule.runtime.extension.api.annotation.param.display.Summary;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LiferayBatchTaskTrackerConfig {
+
+	public BatchTaskTracker getBatchTaskTracker(
+		ObjectStoreManager objectStoreManager, String configName) {
+
+		if (!batchTaskTrackerEnabled) {
+			return null;
+		}
+
+		ObjectStoreSettings.Builder builder = ObjectStoreSettings.builder();
+
+		ObjectStore<TrackedBatchTask> objectStore =
+			objectStoreManager.getOrCreateObjectStore(
+				"liferay-batch-task-tracker-" + configName,
+				builder.entryTtl(
+					batchTaskTrackerRetentionTimeUnit.toMillis(
+						batchTaskTrackerRetention)
+				).persistent(
+					true
+				).build());
+
+		return new BatchTaskTracker(
+			objectStore,
+			batchTaskTrackerExportReuseTimeUnit.toMillis(
+				batchTaskTrackerExportReuse));
+	}
+
+	private static final String BATCH_TASK_TRACKER = "Batch Task Tracker";
+
+	@DisplayName("Enabled")
+	@Optional(defaultValue = "false")
+	@Parameter
+	@Placement(order = 1, tab = BATCH_TASK_TRACKER)
+	@Summary(
+		"Whether batch operations record submitted tasks in a persistent " +
+			"object store and re-attach to them after a restart"
+	)
+	private boolean batchTaskTrackerEnabled;
+
+	@DisplayName("Export Reuse Time")
+	@Optional(defaultValue = "15")
+	@Parameter
+	@Placement(order = 2, tab = BATCH_TASK_TRACKER)
+	@Summary(
+		"Time during which a completed export is reused by an export with " +
+			"the same inputs instead of being run again"
+	)
+	private long batchTaskTrackerExportReuse;
+
+	@DisplayName("Export Reuse Time Unit")
+	@Optional(defaultValue = "MINUTES")
+	@Parameter
+	@Placement(order = 3, tab = BATCH_TASK_TRACKER)
+	@Summary("Time unit to be used in the Export Reuse Time configuration")
+	private TimeUnit batchTaskTrackerExportReuseTimeUnit;
+
+	@DisplayName("Retention Time")
+	@Optional(defaultValue = "1")
+	@Parameter
+	@Placement(order = 4, tab = BATCH_TASK_TRACKER)
+	@Summary("Time after which a tracked task is removed from the object store")
+	private long batchTaskTrackerRetention;
+
+	@DisplayName("Retention Time Unit")
+	@Optional(defaultValue = "DAYS")
+	@Parameter
+	@Placement(order = 5, tab = BATCH_TASK_TRACKER)
+	@Summary("Time unit to be used in the Retention Time configuration")
+	private TimeUnit batchTaskTrackerRetentionTimeUnit;
+
+}
\ No newline at end of file
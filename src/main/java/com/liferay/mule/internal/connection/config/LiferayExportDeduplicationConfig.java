@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.config;
+
+import com.liferay.mule.internal.connection.cache.ExportContentCache;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.mule.runtime.extension.api.annotation.param.Optional;
+import org.mule.runtime.extension.api.annotation.param.Parameter;
+import org.mule.runtime.extension.api.annotation.param.display.DisplayName;
+import org.mule.runtime.extension.api.annotation.param.display.Placement;
+import org.mule.runtime.extension.api.annotation.param.display.Summary;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LiferayExportDeduplicationConfig {
+
+	public ExportContentCache getExportContentCache(
+		ScheduledExecutorService scheduledExecutorService) {
+
+		if (exportDeduplicationEnabled) {
+			return new ExportContentCache(
+				exportDeduplicationFreshnessTimeUnit.toMillis(
+					exportDeduplicationFreshness),
+				scheduledExecutorService);
+		}
+
+		return null;
+	}
+
+	private static final String EXPORT_DEDUPLICATION = "Export Deduplication";
+
+	@DisplayName("Enabled")
+	@Optional(defaultValue = "false")
+	@Parameter
+	@Placement(order = 1, tab = EXPORT_DEDUPLICATION)
+	@Summary(
+		"Whether identical concurrent exports share one batch engine task " +
+			"and its spooled content"
+	)
+	private boolean exportDeduplicationEnabled;
+
+	@DisplayName("Freshness Window")
+	@Optional(defaultValue = "5")
+	@Parameter
+	@Placement(order = 2, tab = EXPORT_DEDUPLICATION)
+	@Summary(
+		"Time during which the spooled content of an export is reused by " +
+			"exports with the same inputs"
+	)
+	private long exportDeduplicationFreshness;
+
+	@DisplayName("Freshness Window Unit")
+	@Optional(defaultValue = "MINUTES")
+	@Parameter
+	@Placement(order = 3, tab = EXPORT_DEDUPLICATION)
+	@Summary("Time unit to be used in the Freshness Window configuration")
+	private TimeUnit exportDeduplicationFreshnessTimeUnit;
+
+}
\ No newline at end of file
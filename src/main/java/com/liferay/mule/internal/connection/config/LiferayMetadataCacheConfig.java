@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.config;
+
+import com.liferay.mule.internal.connection.cache.MetadataTypeCache;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mule.runtime.extension.api.annotation.param.Optional;
+import org.mule.runtime.extension.api.annotation.param.Parameter;
+import org.mule.runtime.extension.api.annotation.param.display.DisplayName;
+import org.mule.runtime.extension.api.annotation.param.display.Placement;
+import org.mule.runtime.extension.api.annotation.param.display.Summary;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LiferayMetadataCacheConfig {
+
+	public MetadataTypeCache getMetadataTypeCache() {
+		if (metadataCacheEnabled) {
+			return new MetadataTypeCache(
+				metadataCacheParallelism,
+				metadataCacheTimeToLiveTimeUnit.toMillis(
+					metadataCacheTimeToLive));
+		}
+
+		return null;
+	}
+
+	private static final String METADATA_CACHE = "Metadata Cache";
+
+	@DisplayName("Enabled")
+	@Optional(defaultValue = "false")
+	@Parameter
+	@Placement(order = 1, tab = METADATA_CACHE)
+	@Summary(
+		"Build the metadata of every endpoint in the background once the " +
+			"connection is validated"
+	)
+	private boolean metadataCacheEnabled;
+
+	@DisplayName("Parallelism")
+	@Optional(defaultValue = "4")
+	@Parameter
+	@Placement(order = 2, tab = METADATA_CACHE)
+	@Summary("Maximum number of metadata types built concurrently")
+	private int metadataCacheParallelism;
+
+	@DisplayName("Time To Live")
+	@Optional(defaultValue = "10")
+	@Parameter
+	@Placement(order = 3, tab = METADATA_CACHE)
+	@Summary("Time the OpenAPI document and built metadata are reused")
+	private long metadataCacheTimeToLive;
+
+	@DisplayName("Time To Live Unit")
+	@Optional(defaultValue = "MINUTES")
+	@Parameter
+	@Placement(order = 4, tab = METADATA_CACHE)
+	@Summary("Time unit to be used in the Time To Live configuration")
+	private TimeUnit metadataCacheTimeToLiveTimeUnit;
+
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.config;
+
+import com.liferay.mule.internal.metrics.LiferayMetrics;
+
+import org.mule.runtime.extension.api.annotation.param.Optional;
+import org.mule.runtime.extension.api.annotation.param.Parameter;
+import org.mule.runtime.extension.api.annotation.param.display.DisplayName;
+import org.mule.runtime.extension.api.annotation.param.display.Placement;
+import org.mule.runtime.extension.api.annotation.param.display.Summary;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LiferayMetricsConfig {
+
+	public LiferayMetrics getLiferayMetrics(String configName) {
+		if (!metricsEnabled) {
+			return null;
+		}
+
+		LiferayMetrics liferayMetrics = new LiferayMetrics();
+
+		if (metricsJMXEnabled) {
+			liferayMetrics.register(configName);
+		}
+
+		return liferayMetrics;
+	}
+
+	private static final String METRICS = "Metrics";
+
+	@DisplayName("Enabled")
+	@Optional(defaultValue = "false")
+	@Parameter
+	@Placement(order = 1, tab = METRICS)
+	@Summary("Collect latency, traffic and error metrics of every request")
+	private boolean metricsEnabled;
+
+	@DisplayName("Expose Through JMX")
+	@Optional(defaultValue = "true")
+	@Parameter
+	@Placement(order = 2, tab = METRICS)
+	@Summary("Register the collected metrics as a JMX MXBean")
+	private boolean metricsJMXEnabled;
+
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.config;
+
+import com.liferay.mule.internal.connection.balancer.LiferayNodeBalancer;
+import com.liferay.mule.internal.connection.balancer.LoadBalancingStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mule.runtime.extension.api.annotation.param.Optional;
+import org.mule.runtime.extension.api.annotation.param.Parameter;
+import org.mule.runtime.extension.api.annotation.param.display.DisplayName;
+import org.mule.runtime.extension.api.annotation.param.display.Placement;
+import org.mule.runtime.extension.api.annotation.param.display.Summary;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LiferayNodesConfig {
+
+	public LiferayNodeBalancer getLiferayNodeBalancer() {
+		if (nodeBaseURLs == null) {
+			return null;
+		}
+
+		List<String> baseURLs = new ArrayList<>();
+
+		for (String nodeBaseURL : nodeBaseURLs.split(",")) {
+			nodeBaseURL = nodeBaseURL.trim();
+
+			while (nodeBaseURL.endsWith("/")) {
+				nodeBaseURL = nodeBaseURL.substring(
+					0, nodeBaseURL.length() - 1);
+			}
+
+			if (!nodeBaseURL.isEmpty()) {
+				baseURLs.add(nodeBaseURL);
+			}
+		}
+
+		if (baseURLs.isEmpty()) {
+			return null;
+		}
+
+		return new LiferayNodeBalancer(
+			baseURLs, nodeLoadBalancingStrategy, nodeFailureThreshold,
+			nodeEjectionTimeUnit.toMillis(nodeEjectionTime),
+			nodeRoutingRetentionTimeUnit.toMillis(nodeRoutingRetention));
+	}
+
+	private static final String NODES = "Nodes";
+
+	@DisplayName("Node Base URLs")
+	@Optional
+	@Parameter
+	@Placement(order = 1, tab = NODES)
+	@Summary(
+		"Comma-separated list of portal node base URLs, for example " +
+			"https://node1:8080, that requests are balanced across"
+	)
+	private String nodeBaseURLs;
+
+	@DisplayName("Ejection Time")
+	@Optional(defaultValue = "30")
+	@Parameter
+	@Placement(order = 4, tab = NODES)
+	@Summary("Time a failing node is removed from the balancing")
+	private long nodeEjectionTime;
+
+	@DisplayName("Ejection Time Unit")
+	@Optional(defaultValue = "SECONDS")
+	@Parameter
+	@Placement(order = 5, tab = NODES)
+	@Summary("Time unit to be used in the Ejection Time configuration")
+	private TimeUnit nodeEjectionTimeUnit;
+
+	@DisplayName("Failure Threshold")
+	@Optional(defaultValue = "3")
+	@Parameter
+	@Placement(order = 3, tab = NODES)
+	@Summary(
+		"Consecutive connection failures or 502, 503 and 504 responses " +
+			"after which a node is ejected"
+	)
+	private int nodeFailureThreshold;
+
+	@DisplayName("Load Balancing Strategy")
+	@Optional(defaultValue = "ROUND_ROBIN")
+	@Parameter
+	@Placement(order = 2, tab = NODES)
+	@Summary("Strategy used to select the node of each request")
+	private LoadBalancingStrategy nodeLoadBalancingStrategy;
+
+	@DisplayName("Routing Retention Time")
+	@Optional(defaultValue = "1")
+	@Parameter
+	@Placement(order = 6, tab = NODES)
+	@Summary(
+		"Time after its last request during which a batch task stays " +
+			"routed to the node that received it"
+	)
+	private long nodeRoutingRetention;
+
+	@DisplayName("Routing Retention Time Unit")
+	@Optional(defaultValue = "DAYS")
+	@Parameter
+	@Placement(order = 7, tab = NODES)
+	@Summary(
+		"Time unit to be used in the Routing Retention Time configuration"
+	)
+	private TimeUnit nodeRoutingRetentionTimeUnit;
+
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.config;
+
+import com.liferay.mule.internal.connection.cache.HttpResponseCache;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mule.runtime.extension.api.annotation.param.Optional;
+import org.mule.runtime.extension.api.annotation.param.Parameter;
+import org.mule.runtime.extension.api.annotation.param.display.DisplayName;
+import org.mule.runtime.extension.api.annotation.param.display.Placement;
+import org.mule.runtime.extension.api.annotation.param.display.Summary;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LiferayResponseCacheConfig {
+
+	public HttpResponseCache getHttpResponseCache() {
+		if (responseCacheEnabled) {
+			return new HttpResponseCache(
+				responseCacheMaxEntries,
+				responseCacheTimeToLiveTimeUnit.toMillis(
+					responseCacheTimeToLive));
+		}
+
+		return null;
+	}
+
+	private static final String RESPONSE_CACHE = "Response Cache";
+
+	@DisplayName("Enabled")
+	@Optional(defaultValue = "false")
+	@Parameter
+	@Placement(order = 1, tab = RESPONSE_CACHE)
+	@Summary("Cache responses of Get Records operation in memory")
+	private boolean responseCacheEnabled;
+
+	@DisplayName("Max Entries")
+	@Optional(defaultValue = "100")
+	@Parameter
+	@Placement(order = 2, tab = RESPONSE_CACHE)
+	@Summary("Maximum number of cached responses")
+	private int responseCacheMaxEntries;
+
+	@DisplayName("Time To Live")
+	@Optional(defaultValue = "60")
+	@Parameter
+	@Placement(order = 3, tab = RESPONSE_CACHE)
+	@Summary("Time a cached response is served without revalidation")
+	private long responseCacheTimeToLive;
+
+	@DisplayName("Time To Live Unit")
+	@Optional(defaultValue = "SECONDS")
+	@Parameter
+	@Placement(order = 4, tab = RESPONSE_CACHE)
+	@Summary("Time unit to be used in the Time To Live configuration")
+	private TimeUnit responseCacheTimeToLiveTimeUnit;
+
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.config;
+
+import com.liferay.mule.internal.tracing.LiferayTracer;
+import com.liferay.mule.internal.tracing.LoggingLiferayTracer;
+import com.liferay.mule.internal.tracing.NoOpLiferayTracer;
+import com.liferay.mule.internal.tracing.TracingMode;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+import org.mule.runtime.extension.api.annotation.param.Optional;
+import org.mule.runtime.extension.api.annotation.param.Parameter;
+import org.mule.runtime.extension.api.annotation.param.display.DisplayName;
+import org.mule.runtime.extension.api.annotation.param.display.Placement;
+import org.mule.runtime.extension.api.annotation.param.display.Summary;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LiferayTracingConfig {
+
+	public LiferayTracer getLiferayTracer() {
+		if (tracingMode == TracingMode.LOGGING) {
+			return new LoggingLiferayTracer();
+		}
+
+		if (tracingMode == TracingMode.SERVICE_PROVIDER) {
+			ServiceLoader<LiferayTracer> serviceLoader = ServiceLoader.load(
+				LiferayTracer.class, LiferayTracer.class.getClassLoader());
+
+			Iterator<LiferayTracer> iterator = serviceLoader.iterator();
+
+			if (iterator.hasNext()) {
+				return iterator.next();
+			}
+
+			logger.warn(
+				"No {} service provider found, tracing is disabled",
+				LiferayTracer.class.getName());
+		}
+
+		return NoOpLiferayTracer.INSTANCE;
+	}
+
+	private static final String TRACING = "Tracing";
+
+	private static final Logger logger = LoggerFactory.getLogger(
+		LiferayTracingConfig.class);
+
+	@DisplayName("Tracing Mode")
+	@Optional(defaultValue = "DISABLED")
+	@Parameter
+	@Placement(order = 1, tab = TRACING)
+	@Summary(
+		"Emit spans around requests, OAuth 2.0 token fetches and batch task " +
+			"phases and propagate them with the traceparent header"
+	)
+	private TracingMode tracingMode;
+
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.config;
+
+import com.liferay.mule.internal.connection.ValidationMode;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mule.runtime.extension.api.annotation.param.Optional;
+import org.mule.runtime.extension.api.annotation.param.Parameter;
+import org.mule.runtime.extension.api.annotation.param.display.DisplayName;
+import org.mule.runtime.extension.api.annotation.param.display.Placement;
+import org.mule.runtime.extension.api.annotation.param.display.Summary;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LiferayValidationConfig {
+
+	public long getValidationIntervalMillis() {
+		return validationIntervalTimeUnit.toMillis(validationInterval);
+	}
+
+	public ValidationMode getValidationMode() {
+		return validationMode;
+	}
+
+	private static final String VALIDATION = "Validation";
+
+	@DisplayName("Validation Interval")
+	@Optional(defaultValue = "30")
+	@Parameter
+	@Placement(order = 2, tab = VALIDATION)
+	@Summary(
+		"Time a successful validation is trusted without contacting the portal"
+	)
+	private long validationInterval;
+
+	@DisplayName("Validation Interval Unit")
+	@Optional(defaultValue = "SECONDS")
+	@Parameter
+	@Placement(order = 3, tab = VALIDATION)
+	@Summary("Time unit to be used in the Validation Interval configuration")
+	private TimeUnit validationIntervalTimeUnit;
+
+	@DisplayName("Validation Mode")
+	@Optional(defaultValue = "HEAD")
+	@Parameter
+	@Placement(order = 1, tab = VALIDATION)
+	@Summary(
+		"Validate the connection with a HEAD request instead of downloading " +
+			"the OpenAPI document"
+	)
+	private ValidationMode validationMode;
+
+}
\ No newline at end of file
@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.tracker;
+
+import java.nio.charset.StandardCharsets;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import java.util.Base64;
+
+import org.mule.runtime.api.store.ObjectStore;
+import org.mule.runtime.api.store.ObjectStoreException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * @author Matija Petanjek
+ */
+public class BatchTaskTracker {
+
+	public BatchTaskTracker(
+		ObjectStore<TrackedBatchTask> objectStore, long reuseTimeMillis) {
+
+		this.objectStore = objectStore;
+		this.reuseTimeMillis = reuseTimeMillis;
+	}
+
+	public TrackedBatchTask get(String taskKey) {
+		try {
+			if (!objectStore.contains(taskKey)) {
+				return null;
+			}
+
+			TrackedBatchTask trackedBatchTask = objectStore.retrieve(taskKey);
+
+			if (trackedBatchTask.isCompleted() &&
+				((System.currentTimeMillis() -
+					trackedBatchTask.getCompleteTime()) >= reuseTimeMillis)) {
+
+				objectStore.remove(taskKey);
+
+				return null;
+			}
+
+			return trackedBatchTask;
+		}
+		catch (ObjectStoreException objectStoreException) {
+			logger.warn(
+				"Unable to retrieve tracked batch task {}", taskKey,
+				objectStoreException);
+
+			return null;
+		}
+	}
+
+	public String getTaskKey(String taskType, byte[] bytes, String... values) {
+		MessageDigest messageDigest = getMessageDigest();
+
+		for (String value : values) {
+			if (value == null) {
+				messageDigest.update((byte)1);
+			}
+			else {
+				messageDigest.update(value.getBytes(StandardCharsets.UTF_8));
+			}
+
+			messageDigest.update((byte)0);
+		}
+
+		if (bytes != null) {
+			messageDigest.update(bytes);
+		}
+
+		Base64.Encoder encoder = Base64.getUrlEncoder();
+
+		return taskType + ":" +
+			encoder.withoutPadding(
+			).encodeToString(
+				messageDigest.digest()
+			);
+	}
+
+	public void trackCompleted(String taskKey, String taskId) {
+		store(
+			taskKey,
+			new TrackedBatchTask(taskId, System.currentTimeMillis()));
+	}
+
+	public void trackSubmitted(String taskKey, String taskId) {
+		store(taskKey, new TrackedBatchTask(taskId, 0));
+	}
+
+	public void untrack(String taskKey) {
+		try {
+			if (objectStore.contains(taskKey)) {
+				objectStore.remove(taskKey);
+			}
+		}
+		catch (ObjectStoreException objectStoreException) {
+			logger.warn(
+				"Unable to remove tracked batch task {}", taskKey,
+				objectStoreException);
+		}
+	}
+
+	private MessageDigest getMessageDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException noSuchAlgorithmException) {
+			throw new IllegalStateException(noSuchAlgorithmException);
+		}
+	}
+
+	private void store(String taskKey, TrackedBatchTask trackedBatchTask) {
+		try {
+			if (objectStore.contains(taskKey)) {
+				objectStore.remove(taskKey);
+			}
+
+			objectStore.store(taskKey, trackedBatchTask);
+		}
+		catch (ObjectStoreException objectStoreException) {
+			logger.warn(
+				"Unable to track batch task {}", taskKey,
+				objectStoreException);
+		}
+	}
+
+	private static final Logger logger = LoggerFactory.getLogger(
+		BatchTaskTracker.class);
+
+	private final ObjectStore<TrackedBatchTask> objectStore;
+	private final long reuseTimeMillis;
+
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.tracker;
+
+import java.io.Serializable;
+
+/**
+ * @author Matija Petanjek
+ */
+public class TrackedBatchTask implements Serializable {
+
+	public TrackedBatchTask(String taskId, long completeTime) {
+		this.taskId = taskId;
+		this.completeTime = completeTime;
+	}
+
+	public long getCompleteTime() {
+		return completeTime;
+	}
+
+	public String getTaskId() {
+		return taskId;
+	}
+
+	public boolean isCompleted() {
+		if (completeTime > 0) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private static final long serialVersionUID = 1L;
+
+	private final long completeTime;
+	private final String taskId;
+
+}
\ No newline at end of file
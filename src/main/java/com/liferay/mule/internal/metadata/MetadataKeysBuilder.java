@@ -44,6 +44,44 @@ import org.slf4j.LoggerFactory;
  */
 public class MetadataKeysBuilder {
 
+	public Set<MetadataKey> buildBatchEndpointMetadataKeys(
+			MetadataContext metadataContext)
+		throws ConnectionException, MetadataResolvingException {
+
+		Set<MetadataKey> metadataKeys = new HashSet<>();
+
+		JsonNode oasJsonNode = getOASJsonNode(metadataContext);
+
+		JsonNode pathsJsonNode = oasJsonNode.get(OASConstants.PATHS);
+
+		Iterator<Map.Entry<String, JsonNode>> pathsIterator =
+			pathsJsonNode.fields();
+
+		while (pathsIterator.hasNext()) {
+			Map.Entry<String, JsonNode> entry = pathsIterator.next();
+
+			String path = entry.getKey();
+
+			if (!path.endsWith(OASConstants.BATCH_PATH_SUFFIX)) {
+				continue;
+			}
+
+			JsonNode pathJsonNode = entry.getValue();
+
+			if (pathJsonNode.has(OASConstants.OPERATION_DELETE) ||
+				pathJsonNode.has(OASConstants.OPERATION_POST) ||
+				pathJsonNode.has(OASConstants.OPERATION_PUT)) {
+
+				MetadataKeyBuilder metadataKeyBuilder =
+					MetadataKeyBuilder.newKey(path);
+
+				metadataKeys.add(metadataKeyBuilder.build());
+			}
+		}
+
+		return metadataKeys;
+	}
+
 	public Set<MetadataKey> buildClassNameMetadataKeys(
 			MetadataContext metadataContext)
 		throws ConnectionException, MetadataResolvingException {
@@ -118,8 +156,7 @@ public class MetadataKeysBuilder {
 			LiferayConnection liferayConnection =
 				liferayConnectionOptional.get();
 
-			return jsonNodeReader.fromHttpResponse(
-				liferayConnection.getOpenAPISpecHttpResponse());
+			return liferayConnection.getOpenAPISpecJsonNode();
 		}
 		catch (IOException ioException) {
 			logger.error(
@@ -18,6 +18,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.NullNode;
 
 import com.liferay.mule.internal.connection.LiferayConnection;
+import com.liferay.mule.internal.connection.cache.MetadataTypeCache;
 import com.liferay.mule.internal.oas.OASFormat;
 import com.liferay.mule.internal.oas.OASType;
 import com.liferay.mule.internal.oas.constants.OASConstants;
@@ -26,8 +27,11 @@ import com.liferay.mule.internal.util.StringUtil;
 
 import java.io.IOException;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -54,44 +58,63 @@ import org.slf4j.LoggerFactory;
 public class MetadataTypeBuilder {
 
 	public MetadataType buildBatchMetadataType(
-			MetadataContext metadataContext, String className)
-		throws ConnectionException, MetadataResolvingException {
-
-		JsonNode oasJsonNode = getOASJsonNode(metadataContext);
+		JsonNode oasJsonNode, String className) {
 
 		JsonNode schemaJsonNode = getSchemaJsonNodeByClassName(
 			jsonNodeReader.getDescendantJsonNode(
 				oasJsonNode, OASConstants.PATH_COMPONENTS_SCHEMAS),
 			className);
 
-		ObjectTypeBuilder objectTypeBuilder = getObjectTypeBuilder(
-			metadataContext, className);
+		ObjectTypeBuilder objectTypeBuilder = getObjectTypeBuilder(className);
 
 		resolveObjectMetadataType(
 			objectTypeBuilder, oasJsonNode,
 			schemaJsonNode.get(OASConstants.PROPERTIES),
-			fetchRequiredJsonNode(schemaJsonNode), className);
+			fetchRequiredJsonNode(schemaJsonNode), className,
+			new HashSet<>());
 
-		ArrayTypeBuilder arrayTypeBuilder = getArrayTypeBuilder(
-			metadataContext, className);
+		ArrayTypeBuilder arrayTypeBuilder = getArrayTypeBuilder(className);
 
 		return arrayTypeBuilder.of(
 			objectTypeBuilder.build()
 		).build();
 	}
 
-	public MetadataType buildMetadataType(
-			MetadataContext metadataContext, String endpoint, String operation,
-			String endpointReferencePath)
+	public MetadataType buildBatchMetadataType(
+			MetadataContext metadataContext, String className)
 		throws ConnectionException, MetadataResolvingException {
 
-		JsonNode oasJsonNode = getOASJsonNode(metadataContext);
+		MetadataTypeCache metadataTypeCache = getMetadataTypeCache(
+			metadataContext);
+
+		if (metadataTypeCache != null) {
+			MetadataType metadataType =
+				metadataTypeCache.getBatchMetadataType(className);
+
+			if (metadataType != null) {
+				return metadataType;
+			}
+		}
+
+		MetadataType metadataType = buildBatchMetadataType(
+			getOASJsonNode(metadataContext), className);
+
+		if (metadataTypeCache != null) {
+			metadataTypeCache.putBatchMetadataType(className, metadataType);
+		}
+
+		return metadataType;
+	}
+
+	public MetadataType buildMetadataType(
+		JsonNode oasJsonNode, String endpoint, String operation,
+		String endpointReferencePath) {
 
 		JsonNode endpointReferenceJsonNode = fetchEndpointReferenceJsonNode(
 			oasJsonNode, endpoint, operation, endpointReferencePath);
 
 		if (endpointReferenceJsonNode.isNull()) {
-			return resolveAnyMetadataType(metadataContext);
+			return null;
 		}
 
 		String schemaName = getSchemaName(
@@ -107,39 +130,156 @@ public class MetadataTypeBuilder {
 
 		if (schemaType.equals(OASConstants.ARRAY)) {
 			ArrayTypeBuilder arrayTypeBuilder = getArrayTypeBuilder(
-				metadataContext, schemaName);
+				schemaName);
 
 			resolveArrayMetadataType(
 				arrayTypeBuilder, oasJsonNode,
 				jsonNodeReader.getDescendantJsonNode(
-					propertiesJsonNode, OASConstants.PATH_ITEMS_ITEMS_REF));
+					propertiesJsonNode, OASConstants.PATH_ITEMS_ITEMS_REF),
+				new HashSet<>());
 
 			return arrayTypeBuilder.build();
 		}
 
-		ObjectTypeBuilder objectTypeBuilder = getObjectTypeBuilder(
-			metadataContext, schemaName);
+		ObjectTypeBuilder objectTypeBuilder = getObjectTypeBuilder(schemaName);
 
 		resolveObjectMetadataType(
 			objectTypeBuilder, oasJsonNode, propertiesJsonNode,
-			fetchRequiredJsonNode(schemaJsonNode), schemaName);
+			fetchRequiredJsonNode(schemaJsonNode), schemaName, new HashSet<>());
 
 		return objectTypeBuilder.build();
 	}
 
-	protected ArrayTypeBuilder getArrayTypeBuilder(
-		MetadataContext metadataContext, String label) {
+	public MetadataType buildMetadataType(
+			MetadataContext metadataContext, String endpoint, String operation,
+			String endpointReferencePath)
+		throws ConnectionException, MetadataResolvingException {
 
-		BaseTypeBuilder baseTypeBuilder = metadataContext.getTypeBuilder();
+		MetadataTypeCache metadataTypeCache = getMetadataTypeCache(
+			metadataContext);
+
+		if (metadataTypeCache != null) {
+			MetadataType metadataType = metadataTypeCache.getMetadataType(
+				endpoint, operation, endpointReferencePath);
+
+			if (metadataType != null) {
+				return metadataType;
+			}
+		}
+
+		MetadataType metadataType = buildMetadataType(
+			getOASJsonNode(metadataContext), endpoint, operation,
+			endpointReferencePath);
+
+		if (metadataType == null) {
+			return resolveAnyMetadataType(metadataContext);
+		}
+
+		if (metadataTypeCache != null) {
+			metadataTypeCache.putMetadataType(
+				endpoint, operation, endpointReferencePath, metadataType);
+		}
+
+		return metadataType;
+	}
+
+	public OASFormat getFieldOASFormat(
+		JsonNode oasJsonNode, String className, String fieldName) {
+
+		JsonNode schemaJsonNode = getSchemaJsonNodeByClassName(
+			jsonNodeReader.getDescendantJsonNode(
+				oasJsonNode, OASConstants.PATH_COMPONENTS_SCHEMAS),
+			className);
+
+		JsonNode propertiesJsonNode = schemaJsonNode.get(
+			OASConstants.PROPERTIES);
+
+		if (propertiesJsonNode == null) {
+			return null;
+		}
+
+		JsonNode propertyJsonNode = propertiesJsonNode.get(fieldName);
+
+		if ((propertyJsonNode == null) ||
+			!propertyJsonNode.has(OASConstants.TYPE)) {
+
+			return null;
+		}
+
+		return getOASFormat(propertyJsonNode);
+	}
+
+	public List<String> getFilterableFieldNames(
+		JsonNode oasJsonNode, String className) {
+
+		JsonNode schemaJsonNode = getSchemaJsonNodeByClassName(
+			jsonNodeReader.getDescendantJsonNode(
+				oasJsonNode, OASConstants.PATH_COMPONENTS_SCHEMAS),
+			className);
+
+		List<String> fieldNames = new ArrayList<>();
+
+		JsonNode propertiesJsonNode = schemaJsonNode.get(
+			OASConstants.PROPERTIES);
+
+		if (propertiesJsonNode == null) {
+			return fieldNames;
+		}
+
+		Iterator<Map.Entry<String, JsonNode>> propertiesIterator =
+			propertiesJsonNode.fields();
+
+		while (propertiesIterator.hasNext()) {
+			Map.Entry<String, JsonNode> propertyEntry =
+				propertiesIterator.next();
+
+			String propertyName = propertyEntry.getKey();
+
+			JsonNode propertyJsonNode = propertyEntry.getValue();
+
+			JsonNode typeJsonNode = propertyJsonNode.get(OASConstants.TYPE);
+
+			if (propertyName.startsWith("x-") || (typeJsonNode == null) ||
+				Objects.equals(typeJsonNode.textValue(), OASConstants.ARRAY) ||
+				Objects.equals(typeJsonNode.textValue(), OASConstants.OBJECT)) {
+
+				continue;
+			}
+
+			fieldNames.add(propertyName);
+		}
+
+		Collections.sort(fieldNames);
 
-		return baseTypeBuilder.create(
-			MetadataFormat.JSON
-		).arrayType(
+		return fieldNames;
+	}
+
+	protected ArrayTypeBuilder getArrayTypeBuilder(String label) {
+		BaseTypeBuilder baseTypeBuilder = BaseTypeBuilder.create(
+			MetadataFormat.JSON);
+
+		return baseTypeBuilder.arrayType(
 		).label(
 			label
 		);
 	}
 
+	protected MetadataTypeCache getMetadataTypeCache(
+			MetadataContext metadataContext)
+		throws ConnectionException {
+
+		Optional<LiferayConnection> liferayConnectionOptional =
+			metadataContext.getConnection();
+
+		if (!liferayConnectionOptional.isPresent()) {
+			return null;
+		}
+
+		LiferayConnection liferayConnection = liferayConnectionOptional.get();
+
+		return liferayConnection.getMetadataTypeCache();
+	}
+
 	protected JsonNode getOASJsonNode(MetadataContext metadataContext)
 		throws ConnectionException, MetadataResolvingException {
 
@@ -150,8 +290,7 @@ public class MetadataTypeBuilder {
 			LiferayConnection liferayConnection =
 				liferayConnectionOptional.get();
 
-			return jsonNodeReader.fromHttpResponse(
-				liferayConnection.getOpenAPISpecHttpResponse());
+			return liferayConnection.getOpenAPISpecJsonNode();
 		}
 		catch (IOException ioException) {
 			logger.error(
@@ -173,14 +312,11 @@ public class MetadataTypeBuilder {
 		}
 	}
 
-	protected ObjectTypeBuilder getObjectTypeBuilder(
-		MetadataContext metadataContext, String label) {
-
-		BaseTypeBuilder baseTypeBuilder = metadataContext.getTypeBuilder();
+	protected ObjectTypeBuilder getObjectTypeBuilder(String label) {
+		BaseTypeBuilder baseTypeBuilder = BaseTypeBuilder.create(
+			MetadataFormat.JSON);
 
-		return baseTypeBuilder.create(
-			MetadataFormat.JSON
-		).objectType(
+		return baseTypeBuilder.objectType(
 		).label(
 			label
 		);
@@ -219,20 +355,7 @@ public class MetadataTypeBuilder {
 	}
 
 	private MetadataType getMetadataType(JsonNode propertyJsonNode) {
-		JsonNode typeJsonNode = propertyJsonNode.get(OASConstants.TYPE);
-
-		OASType oasType = OASType.fromDefinition(typeJsonNode.textValue());
-
-		JsonNode formatJsonNode = propertyJsonNode.get(OASConstants.FORMAT);
-
-		String oasFormatValue = null;
-
-		if (formatJsonNode != null) {
-			oasFormatValue = formatJsonNode.textValue();
-		}
-
-		OASFormat oasFormat = OASFormat.fromOpenAPITypeAndFormat(
-			oasType, oasFormatValue);
+		OASFormat oasFormat = getOASFormat(propertyJsonNode);
 
 		BaseTypeBuilder baseTypeBuilder = BaseTypeBuilder.create(
 			MetadataFormat.JSON);
@@ -283,6 +406,22 @@ public class MetadataTypeBuilder {
 		return baseTypeBuilder.build();
 	}
 
+	private OASFormat getOASFormat(JsonNode propertyJsonNode) {
+		JsonNode typeJsonNode = propertyJsonNode.get(OASConstants.TYPE);
+
+		OASType oasType = OASType.fromDefinition(typeJsonNode.textValue());
+
+		JsonNode formatJsonNode = propertyJsonNode.get(OASConstants.FORMAT);
+
+		String oasFormatValue = null;
+
+		if (formatJsonNode != null) {
+			oasFormatValue = formatJsonNode.textValue();
+		}
+
+		return OASFormat.fromOpenAPITypeAndFormat(oasType, oasFormatValue);
+	}
+
 	private JsonNode getSchemaJsonNodeByClassName(
 		JsonNode schemasJsonNode, String className) {
 
@@ -338,7 +477,7 @@ public class MetadataTypeBuilder {
 
 	private void resolveArrayMetadataType(
 		ArrayTypeBuilder arrayTypeBuilder, JsonNode oasJsonNode,
-		JsonNode referenceJsonNode) {
+		JsonNode referenceJsonNode, Set<String> unresolvedSchemaNames) {
 
 		ObjectTypeBuilder objectTypeBuilder = arrayTypeBuilder.of(
 		).objectType();
@@ -351,12 +490,13 @@ public class MetadataTypeBuilder {
 		resolveObjectMetadataType(
 			objectTypeBuilder, oasJsonNode,
 			schemaJsonNode.get(OASConstants.PROPERTIES),
-			fetchRequiredJsonNode(schemaJsonNode), schemaName);
+			fetchRequiredJsonNode(schemaJsonNode), schemaName,
+			unresolvedSchemaNames);
 	}
 
 	private void resolveNestedArrayMetadataType(
 		ObjectFieldTypeBuilder objectFieldTypeBuilder, JsonNode oasJsonNode,
-		JsonNode propertyJsonNode) {
+		JsonNode propertyJsonNode, Set<String> unresolvedSchemaNames) {
 
 		ArrayTypeBuilder nestedArrayTypeBuilder = objectFieldTypeBuilder.value(
 		).arrayType();
@@ -368,7 +508,8 @@ public class MetadataTypeBuilder {
 				propertyJsonNode, OASConstants.PATH_ITEMS_REF);
 
 			resolveArrayMetadataType(
-				nestedArrayTypeBuilder, oasJsonNode, referenceJsonNode);
+				nestedArrayTypeBuilder, oasJsonNode, referenceJsonNode,
+				unresolvedSchemaNames);
 		}
 		else {
 			nestedArrayTypeBuilder.of(
@@ -378,7 +519,7 @@ public class MetadataTypeBuilder {
 
 	private void resolveNestedObjectMetadataType(
 		ObjectFieldTypeBuilder objectFieldTypeBuilder, JsonNode oasJsonNode,
-		JsonNode propertyJsonNode) {
+		JsonNode propertyJsonNode, Set<String> unresolvedSchemaNames) {
 
 		ObjectTypeBuilder nestedObjectTypeBuilder =
 			objectFieldTypeBuilder.value(
@@ -401,13 +542,13 @@ public class MetadataTypeBuilder {
 		resolveObjectMetadataType(
 			nestedObjectTypeBuilder, oasJsonNode,
 			nestedObjectPropertiesJsonNode, nestedObjectRequiredJsonNode,
-			schemaName);
+			schemaName, unresolvedSchemaNames);
 	}
 
 	private void resolveObjectMetadataType(
 		ObjectTypeBuilder objectTypeBuilder, JsonNode oasJsonNode,
 		JsonNode propertiesJsonNode, JsonNode requiredJsonNode,
-		String schemaName) {
+		String schemaName, Set<String> unresolvedSchemaNames) {
 
 		if (unresolvedSchemaNames.contains(schemaName)) {
 			objectTypeBuilder.addField(
@@ -438,7 +579,8 @@ public class MetadataTypeBuilder {
 				objectFieldTypeBuilder, propertyEntry.getKey(),
 				requiredJsonNode);
 			setObjectFieldValue(
-				objectFieldTypeBuilder, propertyEntry, oasJsonNode);
+				objectFieldTypeBuilder, propertyEntry, oasJsonNode,
+				unresolvedSchemaNames);
 		}
 
 		unresolvedSchemaNames.remove(schemaName);
@@ -468,7 +610,8 @@ public class MetadataTypeBuilder {
 
 	private void setObjectFieldValue(
 		ObjectFieldTypeBuilder objectFieldTypeBuilder,
-		Map.Entry<String, JsonNode> propertyEntry, JsonNode oasJsonNode) {
+		Map.Entry<String, JsonNode> propertyEntry, JsonNode oasJsonNode,
+		Set<String> unresolvedSchemaNames) {
 
 		JsonNode propertyJsonNode = propertyEntry.getValue();
 
@@ -476,7 +619,8 @@ public class MetadataTypeBuilder {
 
 		if (typeJsonNode == null) {
 			resolveNestedObjectMetadataType(
-				objectFieldTypeBuilder, oasJsonNode, propertyJsonNode);
+				objectFieldTypeBuilder, oasJsonNode, propertyJsonNode,
+				unresolvedSchemaNames);
 
 			return;
 		}
@@ -490,7 +634,8 @@ public class MetadataTypeBuilder {
 		}
 		else if (Objects.equals(typeJsonNode.textValue(), OASConstants.ARRAY)) {
 			resolveNestedArrayMetadataType(
-				objectFieldTypeBuilder, oasJsonNode, propertyJsonNode);
+				objectFieldTypeBuilder, oasJsonNode, propertyJsonNode,
+				unresolvedSchemaNames);
 
 			return;
 		}
@@ -502,6 +647,5 @@ public class MetadataTypeBuilder {
 		MetadataTypeBuilder.class);
 
 	private final JsonNodeReader jsonNodeReader = new JsonNodeReader();
-	private final Set<String> unresolvedSchemaNames = new HashSet<>();
 
 }
\ No newline at end of file
@@ -0,0 +1,215 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.metadata;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.liferay.mule.internal.connection.LiferayConnection;
+import com.liferay.mule.internal.connection.cache.MetadataTypeCache;
+import com.liferay.mule.internal.oas.constants.OASConstants;
+import com.liferay.mule.internal.util.JsonNodeReader;
+import com.liferay.mule.internal.util.RunnableUtil;
+
+import java.io.IOException;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+
+import org.mule.metadata.api.model.MetadataType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * @author Matija Petanjek
+ */
+public class MetadataTypeCacheLoader {
+
+	public MetadataTypeCacheLoader(Executor executor) {
+		this.executor = executor;
+	}
+
+	public CompletableFuture<Void> load(LiferayConnection liferayConnection) {
+		MetadataTypeCache metadataTypeCache =
+			liferayConnection.getMetadataTypeCache();
+
+		if ((metadataTypeCache == null) || !metadataTypeCache.startLoad()) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		long startTime = System.currentTimeMillis();
+
+		CompletableFuture<Void> completableFuture =
+			CompletableFuture.supplyAsync(
+				() -> getOASJsonNode(liferayConnection), executor
+			).thenCompose(
+				oasJsonNode -> load(metadataTypeCache, oasJsonNode)
+			);
+
+		return completableFuture.whenComplete(
+			(result, throwable) -> {
+				if (throwable != null) {
+					logger.warn(
+						"Unable to build metadata of Liferay Portal instance",
+						throwable);
+
+					metadataTypeCache.clear();
+
+					return;
+				}
+
+				logger.debug(
+					"Built {} metadata types in {} ms",
+					metadataTypeCache.size(),
+					System.currentTimeMillis() - startTime);
+			});
+	}
+
+	private JsonNode getOASJsonNode(LiferayConnection liferayConnection) {
+		try {
+			return liferayConnection.getOpenAPISpecJsonNode();
+		}
+		catch (IOException | TimeoutException exception) {
+			throw new CompletionException(exception);
+		}
+	}
+
+	private CompletableFuture<Void> load(
+		MetadataTypeCache metadataTypeCache, JsonNode oasJsonNode) {
+
+		Queue<Runnable> runnables = new ConcurrentLinkedQueue<>();
+
+		String requestBodyReferencePath =
+			OASConstants.
+				PATH_REQUEST_BODY_CONTENT_APPLICATION_JSON_SCHEMA_PATTERN;
+		String responsesReferencePath =
+			OASConstants.
+				PATH_RESPONSES_DEFAULT_CONTENT_APPLICATION_JSON_SCHEMA_PATTERN;
+
+		Iterator<Map.Entry<String, JsonNode>> pathsIterator =
+			oasJsonNode.get(
+				OASConstants.PATHS
+			).fields();
+
+		while (pathsIterator.hasNext()) {
+			Map.Entry<String, JsonNode> entry = pathsIterator.next();
+
+			String endpoint = entry.getKey();
+			JsonNode pathJsonNode = entry.getValue();
+
+			for (String operation : outputOperations) {
+				if (!pathJsonNode.has(operation)) {
+					continue;
+				}
+
+				runnables.add(
+					() -> loadMetadataType(
+						metadataTypeCache, oasJsonNode, endpoint, operation,
+						responsesReferencePath));
+
+				if (operation.equals(OASConstants.OPERATION_PATCH) ||
+					operation.equals(OASConstants.OPERATION_POST)) {
+
+					runnables.add(
+						() -> loadMetadataType(
+							metadataTypeCache, oasJsonNode, endpoint,
+							operation, requestBodyReferencePath));
+				}
+			}
+		}
+
+		Iterator<Map.Entry<String, JsonNode>> schemasIterator =
+			jsonNodeReader.getDescendantJsonNode(
+				oasJsonNode, OASConstants.PATH_COMPONENTS_SCHEMAS
+			).fields();
+
+		while (schemasIterator.hasNext()) {
+			Map.Entry<String, JsonNode> entry = schemasIterator.next();
+
+			JsonNode classNameJsonNode = jsonNodeReader.fetchDescendantJsonNode(
+				entry.getValue(),
+				OASConstants.PATH_PROPERTIES_X_CLASS_NAME_DEFAULT);
+
+			if (classNameJsonNode.isNull()) {
+				continue;
+			}
+
+			runnables.add(
+				() -> loadBatchMetadataType(
+					metadataTypeCache, oasJsonNode,
+					classNameJsonNode.asText()));
+		}
+
+		return RunnableUtil.runAsync(
+			runnables, metadataTypeCache.getLoadParallelism(), executor);
+	}
+
+	private void loadBatchMetadataType(
+		MetadataTypeCache metadataTypeCache, JsonNode oasJsonNode,
+		String className) {
+
+		try {
+			metadataTypeCache.putBatchMetadataType(
+				className,
+				metadataTypeBuilder.buildBatchMetadataType(
+					oasJsonNode, className));
+		}
+		catch (RuntimeException runtimeException) {
+			logger.debug(
+				"Unable to build batch metadata of {}", className,
+				runtimeException);
+		}
+	}
+
+	private void loadMetadataType(
+		MetadataTypeCache metadataTypeCache, JsonNode oasJsonNode,
+		String endpoint, String operation, String endpointReferencePath) {
+
+		try {
+			MetadataType metadataType = metadataTypeBuilder.buildMetadataType(
+				oasJsonNode, endpoint, operation, endpointReferencePath);
+
+			if (metadataType != null) {
+				metadataTypeCache.putMetadataType(
+					endpoint, operation, endpointReferencePath, metadataType);
+			}
+		}
+		catch (RuntimeException runtimeException) {
+			logger.debug(
+				"Unable to build metadata of {} {}", operation, endpoint,
+				runtimeException);
+		}
+	}
+
+	private static final Logger logger = LoggerFactory.getLogger(
+		MetadataTypeCacheLoader.class);
+
+	private static final String[] outputOperations = {
+		OASConstants.OPERATION_DELETE, OASConstants.OPERATION_GET,
+		OASConstants.OPERATION_PATCH, OASConstants.OPERATION_POST
+	};
+
+	private final Executor executor;
+	private final JsonNodeReader jsonNodeReader = new JsonNodeReader();
+	private final MetadataTypeBuilder metadataTypeBuilder =
+		new MetadataTypeBuilder();
+
+}
\ No newline at end of file
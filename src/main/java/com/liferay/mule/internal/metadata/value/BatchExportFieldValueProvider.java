@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.metadata.value;
+
+import com.liferay.mule.internal.connection.LiferayConnection;
+import com.liferay.mule.internal.metadata.MetadataTypeBuilder;
+
+import java.io.IOException;
+
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+import org.mule.runtime.api.value.Value;
+import org.mule.runtime.extension.api.annotation.param.Connection;
+import org.mule.runtime.extension.api.annotation.param.Parameter;
+import org.mule.runtime.extension.api.values.ValueBuilder;
+import org.mule.runtime.extension.api.values.ValueProvider;
+import org.mule.runtime.extension.api.values.ValueResolvingException;
+
+/**
+ * @author Matija Petanjek
+ */
+public class BatchExportFieldValueProvider implements ValueProvider {
+
+	@Override
+	public Set<Value> resolve() throws ValueResolvingException {
+		try {
+			return ValueBuilder.getValuesFor(
+				metadataTypeBuilder.getFilterableFieldNames(
+					connection.getOpenAPISpecJsonNode(), className));
+		}
+		catch (IOException | TimeoutException exception) {
+			throw new ValueResolvingException(
+				"Unable to read OpenAPI document from Liferay Portal instance",
+				ValueResolvingException.CONNECTION_FAILURE, exception);
+		}
+	}
+
+	@Parameter
+	private String className;
+
+	@Connection
+	private LiferayConnection connection;
+
+	private final MetadataTypeBuilder metadataTypeBuilder =
+		new MetadataTypeBuilder();
+
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LatencyHistogram {
+
+	public LatencyHistogram() {
+		for (int i = 0; i < BUCKETS_COUNT; i++) {
+			buckets[i] = new LongAdder();
+		}
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public LatencyStatistics getLatencyStatistics() {
+		long[] bucketCounts = new long[BUCKETS_COUNT];
+
+		long count = 0;
+
+		for (int i = 0; i < BUCKETS_COUNT; i++) {
+			bucketCounts[i] = buckets[i].sum();
+
+			count += bucketCounts[i];
+		}
+
+		double meanMillis = 0;
+
+		if (count > 0) {
+			meanMillis = toMillis(sum.sum()) / count;
+		}
+
+		return new LatencyStatistics(
+			count, toMillis(max.get()), meanMillis,
+			getPercentileMillis(bucketCounts, count, 0.5),
+			getPercentileMillis(bucketCounts, count, 0.95),
+			getPercentileMillis(bucketCounts, count, 0.99));
+	}
+
+	public void record(long durationNanos) {
+		if (durationNanos < 0) {
+			durationNanos = 0;
+		}
+
+		buckets[getBucketIndex(durationNanos)].increment();
+
+		count.increment();
+		max.accumulate(durationNanos);
+		sum.add(durationNanos);
+	}
+
+	private int getBucketIndex(long durationNanos) {
+		long durationMicros = TimeUnit.NANOSECONDS.toMicros(durationNanos);
+
+		if (durationMicros <= 1) {
+			return 0;
+		}
+
+		int index = 64 - Long.numberOfLeadingZeros(durationMicros - 1);
+
+		return Math.min(index, BUCKETS_COUNT - 1);
+	}
+
+	private double getPercentileMillis(
+		long[] bucketCounts, long count, double percentile) {
+
+		if (count == 0) {
+			return 0;
+		}
+
+		long rank = (long)Math.ceil(count * percentile);
+
+		long cumulativeCount = 0;
+
+		for (int i = 0; i < BUCKETS_COUNT; i++) {
+			cumulativeCount += bucketCounts[i];
+
+			if (cumulativeCount >= rank) {
+				return Math.min((1L << i) / 1000.0, toMillis(max.get()));
+			}
+		}
+
+		return toMillis(max.get());
+	}
+
+	private double toMillis(long nanos) {
+		return nanos / 1000000.0;
+	}
+
+	private static final int BUCKETS_COUNT = 32;
+
+	private final LongAdder[] buckets = new LongAdder[BUCKETS_COUNT];
+	private final LongAdder count = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+	private final LongAdder sum = new LongAdder();
+
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.metrics;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LatencyStatistics {
+
+	@ConstructorProperties(
+		{
+			"count", "maxMillis", "meanMillis", "p50Millis", "p95Millis",
+			"p99Millis"
+		}
+	)
+	public LatencyStatistics(
+		long count, double maxMillis, double meanMillis, double p50Millis,
+		double p95Millis, double p99Millis) {
+
+		this.count = count;
+		this.maxMillis = maxMillis;
+		this.meanMillis = meanMillis;
+		this.p50Millis = p50Millis;
+		this.p95Millis = p95Millis;
+		this.p99Millis = p99Millis;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public double getMaxMillis() {
+		return maxMillis;
+	}
+
+	public double getMeanMillis() {
+		return meanMillis;
+	}
+
+	public double getP50Millis() {
+		return p50Millis;
+	}
+
+	public double getP95Millis() {
+		return p95Millis;
+	}
+
+	public double getP99Millis() {
+		return p99Millis;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"{count=%d, max=%.3f, mean=%.3f, p50=%.3f, p95=%.3f, p99=%.3f}",
+			count, maxMillis, meanMillis, p50Millis, p95Millis, p99Millis);
+	}
+
+	private final long count;
+	private final double maxMillis;
+	private final double meanMillis;
+	private final double p50Millis;
+	private final double p95Millis;
+	private final double p99Millis;
+
+}
\ No newline at end of file
@@ -0,0 +1,342 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.metrics;
+
+import com.liferay.mule.internal.error.LiferayError;
+
+import java.lang.management.ManagementFactory;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.mule.runtime.http.api.domain.message.response.HttpResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LiferayMetrics implements LiferayMetricsMXBean {
+
+	public LiferayMetrics() {
+		for (LiferayError liferayError : LiferayError.values()) {
+			errorCounts.put(liferayError, new LongAdder());
+		}
+	}
+
+	@Override
+	public Map<String, LatencyStatistics> getBatchTaskDurations() {
+		return toLatencyStatisticsMap(batchTaskDurations);
+	}
+
+	@Override
+	public Map<String, Long> getBatchTaskPollCounts() {
+		return toCountMap(batchTaskPollCounts);
+	}
+
+	@Override
+	public long getBytesReceived() {
+		return bytesReceived.sum();
+	}
+
+	@Override
+	public long getBytesSent() {
+		return bytesSent.sum();
+	}
+
+	@Override
+	public Map<String, Long> getErrorCounts() {
+		Map<String, Long> errorCounts = new TreeMap<>();
+
+		for (Map.Entry<LiferayError, LongAdder> entry :
+				this.errorCounts.entrySet()) {
+
+			long count = entry.getValue(
+			).sum();
+
+			if (count > 0) {
+				LiferayError liferayError = entry.getKey();
+
+				errorCounts.put(liferayError.name(), count);
+			}
+		}
+
+		return errorCounts;
+	}
+
+	@Override
+	public long getInFlightRequests() {
+		return inFlightRequests.get();
+	}
+
+	@Override
+	public long getOAuth2TokenFetchCount() {
+		return oAuth2TokenFetchDurations.getCount();
+	}
+
+	@Override
+	public LatencyStatistics getOAuth2TokenFetchDurations() {
+		return oAuth2TokenFetchDurations.getLatencyStatistics();
+	}
+
+	@Override
+	public long getOAuth2TokenFetchFailureCount() {
+		return oAuth2TokenFetchFailureCount.sum();
+	}
+
+	@Override
+	public Map<String, Long> getRequestCounts() {
+		return toCountMap(requestCounts);
+	}
+
+	@Override
+	public Map<String, LatencyStatistics> getRequestDurations() {
+		return toLatencyStatisticsMap(requestDurations);
+	}
+
+	public void recordBatchTask(String taskType, long durationNanos) {
+		LatencyHistogram latencyHistogram = batchTaskDurations.computeIfAbsent(
+			taskType, key -> new LatencyHistogram());
+
+		latencyHistogram.record(durationNanos);
+	}
+
+	public void recordBatchTaskPoll(String taskType) {
+		LongAdder longAdder = batchTaskPollCounts.computeIfAbsent(
+			taskType, key -> new LongAdder());
+
+		longAdder.increment();
+	}
+
+	public void recordOAuth2TokenFetch(long durationNanos, boolean success) {
+		oAuth2TokenFetchDurations.record(durationNanos);
+
+		if (!success) {
+			oAuth2TokenFetchFailureCount.increment();
+		}
+	}
+
+	public void recordRequest(
+		String method, String endpoint, long bytesSent,
+		HttpResponse httpResponse, long startTime) {
+
+		long durationNanos = System.nanoTime() - startTime;
+
+		inFlightRequests.decrementAndGet();
+
+		String key = getEndpointKey(method, endpoint);
+
+		LatencyHistogram latencyHistogram = getLatencyHistogram(key);
+
+		latencyHistogram.record(durationNanos);
+
+		if (bytesSent > 0) {
+			this.bytesSent.add(bytesSent);
+		}
+
+		if (httpResponse == null) {
+			return;
+		}
+
+		int statusCode = httpResponse.getStatusCode();
+
+		LongAdder longAdder = requestCounts.computeIfAbsent(
+			key + " " + statusCode, countKey -> new LongAdder());
+
+		longAdder.increment();
+
+		String contentLength = httpResponse.getHeaderValueIgnoreCase(
+			"Content-Length");
+
+		if (contentLength != null) {
+			try {
+				bytesReceived.add(Long.parseLong(contentLength));
+			}
+			catch (NumberFormatException numberFormatException) {
+				logger.debug(
+					"Invalid Content-Length header {}", contentLength,
+					numberFormatException);
+			}
+		}
+
+		if (statusCode >= 400) {
+			recordError(getLiferayError(statusCode));
+		}
+	}
+
+	public void recordRequestFailure(
+		String method, String endpoint, LiferayError liferayError,
+		long startTime) {
+
+		long durationNanos = System.nanoTime() - startTime;
+
+		inFlightRequests.decrementAndGet();
+
+		LatencyHistogram latencyHistogram = getLatencyHistogram(
+			getEndpointKey(method, endpoint));
+
+		latencyHistogram.record(durationNanos);
+
+		recordError(liferayError);
+	}
+
+	public void register(String name) {
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+		try {
+			ObjectName objectName = new ObjectName(
+				"com.liferay.mule:type=LiferayConnection,name=" +
+					ObjectName.quote(name));
+
+			mBeanServer.registerMBean(this, objectName);
+
+			this.objectName = objectName;
+		}
+		catch (InstanceAlreadyExistsException
+					instanceAlreadyExistsException) {
+
+			logger.warn(
+				"Metrics of connection {} are already registered", name,
+				instanceAlreadyExistsException);
+		}
+		catch (JMException jmException) {
+			logger.error(
+				"Unable to register metrics of connection " + name,
+				jmException);
+		}
+	}
+
+	public long startRequest() {
+		inFlightRequests.incrementAndGet();
+
+		return System.nanoTime();
+	}
+
+	public void unregister() {
+		if (objectName == null) {
+			return;
+		}
+
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+		try {
+			mBeanServer.unregisterMBean(objectName);
+		}
+		catch (JMException jmException) {
+			logger.error(
+				"Unable to unregister metrics " + objectName, jmException);
+		}
+
+		objectName = null;
+	}
+
+	private String getEndpointKey(String method, String endpoint) {
+		String key = method + " " + endpoint;
+
+		if ((requestDurations.size() < ENDPOINTS_MAX_SIZE) ||
+			requestDurations.containsKey(key)) {
+
+			return key;
+		}
+
+		return OTHER_ENDPOINTS_KEY;
+	}
+
+	private LatencyHistogram getLatencyHistogram(String key) {
+		return requestDurations.computeIfAbsent(
+			key, histogramKey -> new LatencyHistogram());
+	}
+
+	private LiferayError getLiferayError(int statusCode) {
+		try {
+			return LiferayError.fromStatus(statusCode);
+		}
+		catch (IllegalArgumentException illegalArgumentException) {
+			return LiferayError.EXECUTION;
+		}
+	}
+
+	private void recordError(LiferayError liferayError) {
+		LongAdder longAdder = errorCounts.get(liferayError);
+
+		longAdder.increment();
+	}
+
+	private Map<String, Long> toCountMap(Map<String, LongAdder> longAdders) {
+		Map<String, Long> counts = new TreeMap<>();
+
+		for (Map.Entry<String, LongAdder> entry : longAdders.entrySet()) {
+			LongAdder longAdder = entry.getValue();
+
+			counts.put(entry.getKey(), longAdder.sum());
+		}
+
+		return counts;
+	}
+
+	private Map<String, LatencyStatistics> toLatencyStatisticsMap(
+		Map<String, LatencyHistogram> latencyHistograms) {
+
+		Map<String, LatencyStatistics> latencyStatisticsMap = new TreeMap<>();
+
+		for (Map.Entry<String, LatencyHistogram> entry :
+				latencyHistograms.entrySet()) {
+
+			LatencyHistogram latencyHistogram = entry.getValue();
+
+			latencyStatisticsMap.put(
+				entry.getKey(), latencyHistogram.getLatencyStatistics());
+		}
+
+		return latencyStatisticsMap;
+	}
+
+	private static final int ENDPOINTS_MAX_SIZE = 1000;
+
+	private static final String OTHER_ENDPOINTS_KEY = "OTHER";
+
+	private static final Logger logger = LoggerFactory.getLogger(
+		LiferayMetrics.class);
+
+	private final ConcurrentMap<String, LatencyHistogram> batchTaskDurations =
+		new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, LongAdder> batchTaskPollCounts =
+		new ConcurrentHashMap<>();
+	private final LongAdder bytesReceived = new LongAdder();
+	private final LongAdder bytesSent = new LongAdder();
+	private final Map<LiferayError, LongAdder> errorCounts = new EnumMap<>(
+		LiferayError.class);
+	private final AtomicLong inFlightRequests = new AtomicLong();
+	private volatile ObjectName objectName;
+	private final LatencyHistogram oAuth2TokenFetchDurations =
+		new LatencyHistogram();
+	private final LongAdder oAuth2TokenFetchFailureCount = new LongAdder();
+	private final ConcurrentMap<String, LongAdder> requestCounts =
+		new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, LatencyHistogram> requestDurations =
+		new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.metrics;
+
+import java.util.Map;
+
+/**
+ * @author Matija Petanjek
+ */
+public interface LiferayMetricsMXBean {
+
+	public Map<String, LatencyStatistics> getBatchTaskDurations();
+
+	public Map<String, Long> getBatchTaskPollCounts();
+
+	public long getBytesReceived();
+
+	public long getBytesSent();
+
+	public Map<String, Long> getErrorCounts();
+
+	public long getInFlightRequests();
+
+	public long getOAuth2TokenFetchCount();
+
+	public LatencyStatistics getOAuth2TokenFetchDurations();
+
+	public long getOAuth2TokenFetchFailureCount();
+
+	public Map<String, Long> getRequestCounts();
+
+	public Map<String, LatencyStatistics> getRequestDurations();
+
+}
\ No newline at end of file
@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.mule.internal.oas;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import com.liferay.mule.internal.oas.constants.OASConstants;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * @author Matija Petanjek
+ */
+public class OASMerger {
+
+	public JsonNode merge(
+		JsonNode oasJsonNode, Map<String, JsonNode> additionalOASJsonNodes) {
+
+		ObjectNode mergedOASJsonNode = oasJsonNode.deepCopy();
+
+		ObjectNode pathsJsonNode = mergedOASJsonNode.with(OASConstants.PATHS);
+
+		ObjectNode componentsJsonNode = mergedOASJsonNode.with(COMPONENTS);
+
+		ObjectNode schemasJsonNode = componentsJsonNode.with(SCHEMAS);
+
+		for (Map.Entry<String, JsonNode> entry :
+				additionalOASJsonNodes.entrySet()) {
+
+			merge(
+				entry.getKey(), entry.getValue(), pathsJsonNode,
+				schemasJsonNode);
+		}
+
+		return mergedOASJsonNode;
+	}
+
+	private Map<String, String> getSchemaNames(
+		String jaxRSAppBase, JsonNode additionalSchemasJsonNode,
+		ObjectNode schemasJsonNode) {
+
+		Map<String, String> schemaNames = new HashMap<>();
+
+		Iterator<Map.Entry<String, JsonNode>> iterator =
+			additionalSchemasJsonNode.fields();
+
+		while (iterator.hasNext()) {
+			Map.Entry<String, JsonNode> entry = iterator.next();
+
+			String schemaName = entry.getKey();
+
+			JsonNode schemaJsonNode = schemasJsonNode.get(schemaName);
+
+			if ((schemaJsonNode != null) &&
+				!schemaJsonNode.equals(entry.getValue())) {
+
+				schemaNames.put(
+					schemaName, jaxRSAppBase.substring(1) + "." + schemaName);
+			}
+		}
+
+		return schemaNames;
+	}
+
+	private void merge(
+		String jaxRSAppBase, JsonNode additionalOASJsonNode,
+		ObjectNode pathsJsonNode, ObjectNode schemasJsonNode) {
+
+		ObjectNode oasJsonNode = additionalOASJsonNode.deepCopy();
+
+		ObjectNode additionalSchemasJsonNode = oasJsonNode.with(
+			COMPONENTS
+		).with(
+			SCHEMAS
+		);
+
+		Map<String, String> schemaNames = getSchemaNames(
+			jaxRSAppBase, additionalSchemasJsonNode, schemasJsonNode);
+
+		if (!schemaNames.isEmpty()) {
+			renameSchemaReferences(oasJsonNode, schemaNames);
+		}
+
+		Iterator<Map.Entry<String, JsonNode>> iterator =
+			additionalSchemasJsonNode.fields();
+
+		while (iterator.hasNext()) {
+			Map.Entry<String, JsonNode> entry = iterator.next();
+
+			String schemaName = schemaNames.getOrDefault(
+				entry.getKey(), entry.getKey());
+
+			schemasJsonNode.set(schemaName, entry.getValue());
+		}
+
+		iterator = oasJsonNode.with(
+			OASConstants.PATHS
+		).fields();
+
+		while (iterator.hasNext()) {
+			Map.Entry<String, JsonNode> entry = iterator.next();
+
+			pathsJsonNode.set(jaxRSAppBase + entry.getKey(), entry.getValue());
+		}
+	}
+
+	private void renameSchemaReferences(
+		JsonNode jsonNode, Map<String, String> schemaNames) {
+
+		if (jsonNode.isArray()) {
+			for (JsonNode elementJsonNode : jsonNode) {
+				renameSchemaReferences(elementJsonNode, schemaNames);
+			}
+
+			return;
+		}
+
+		if (!jsonNode.isObject()) {
+			return;
+		}
+
+		ObjectNode objectNode = (ObjectNode)jsonNode;
+
+		JsonNode referenceJsonNode = objectNode.get(OASConstants.REF);
+
+		if ((referenceJsonNode != null) && referenceJsonNode.isTextual()) {
+			String reference = referenceJsonNode.textValue();
+
+			if (reference.startsWith(OASConstants.PATH_SCHEMA_REFERENCE)) {
+				String schemaName = schemaNames.get(
+					reference.substring(
+						OASConstants.PATH_SCHEMA_REFERENCE.length()));
+
+				if (schemaName != null) {
+					objectNode.set(
+						OASConstants.REF,
+						new TextNode(
+							OASConstants.PATH_SCHEMA_REFERENCE + schemaName));
+				}
+			}
+		}
+
+		for (JsonNode childJsonNode : objectNode) {
+			renameSchemaReferences(childJsonNode, schemaNames);
+		}
+	}
+
+	private static final String COMPONENTS = "components";
+
+	private static final String SCHEMAS = "schemas";
+
+}
\ No newline at end of file
@@ -24,6 +24,8 @@ public class OASConstants {
 
 	public static final String ARRAY = "array";
 
+	public static final String BATCH_PATH_SUFFIX = "/batch";
+
 	public static final String FORMAT = "format";
 
 	public static final String ITEMS = "items";
@@ -38,6 +40,8 @@ public class OASConstants {
 
 	public static final String OPERATION_POST = "post";
 
+	public static final String OPERATION_PUT = "put";
+
 	public static final String PATH_COMPONENTS_SCHEMAS = "components>schemas";
 
 	public static final String PATH_COMPONENTS_SCHEMAS_PATTERN =
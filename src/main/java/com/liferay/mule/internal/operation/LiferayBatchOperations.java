@@ -18,20 +18,61 @@ import com.fasterxml.jackson.databind.JsonNode;
 
 import com.liferay.mule.internal.connection.LiferayConnection;
 import com.liferay.mule.internal.connection.ResourceContext;
+import com.liferay.mule.internal.connection.cache.ExportContentCache;
+import com.liferay.mule.internal.connection.callback.BatchTaskCallbackListener;
+import com.liferay.mule.internal.connection.tracker.BatchTaskTracker;
+import com.liferay.mule.internal.connection.tracker.TrackedBatchTask;
 import com.liferay.mule.internal.error.LiferayError;
 import com.liferay.mule.internal.error.LiferayResponseValidator;
 import com.liferay.mule.internal.error.provider.LiferayResponseErrorProvider;
+import com.liferay.mule.internal.metadata.MetadataTypeBuilder;
 import com.liferay.mule.internal.metadata.input.BatchImportInputTypeResolver;
+import com.liferay.mule.internal.metadata.key.BatchEndpointTypeKeysResolver;
 import com.liferay.mule.internal.metadata.key.ClassNameTypeKeysResolver;
 import com.liferay.mule.internal.metadata.output.BatchExportOutputTypeResolver;
+import com.liferay.mule.internal.metadata.value.BatchExportFieldValueProvider;
+import com.liferay.mule.internal.metrics.LiferayMetrics;
+import com.liferay.mule.internal.oas.OASFormat;
+import com.liferay.mule.internal.streaming.JsonArrayFileSequenceInputStream;
+import com.liferay.mule.internal.streaming.MappedFileCursorStreamProvider;
+import com.liferay.mule.internal.tracing.LiferaySpan;
+import com.liferay.mule.internal.tracing.LiferayTracer;
 import com.liferay.mule.internal.util.JsonNodeReader;
+import com.liferay.mule.internal.util.ResumableInputStream;
+import com.liferay.mule.internal.util.RunnableUtil;
 
+import java.io.EOFException;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 
+import java.math.BigDecimal;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.zip.ZipInputStream;
 
 import org.mule.runtime.api.util.MultiMap;
@@ -49,6 +90,8 @@ import org.mule.runtime.extension.api.annotation.param.Optional;
 import org.mule.runtime.extension.api.annotation.param.display.DisplayName;
 import org.mule.runtime.extension.api.annotation.param.display.Placement;
 import org.mule.runtime.extension.api.annotation.param.display.Summary;
+import org.mule.runtime.extension.api.annotation.values.OfValues;
+import org.mule.runtime.extension.api.error.ErrorTypeDefinition;
 import org.mule.runtime.extension.api.exception.ModuleException;
 import org.mule.runtime.extension.api.runtime.operation.Result;
 import org.mule.runtime.http.api.domain.entity.HttpEntity;
@@ -63,14 +106,12 @@ import org.slf4j.LoggerFactory;
 @Throws(LiferayResponseErrorProvider.class)
 public class LiferayBatchOperations {
 
-	@DisplayName("Batch - Export Records")
+	@DisplayName("Batch - Download Export Task Content")
 	@MediaType(MediaType.APPLICATION_JSON)
-	@OutputResolver(output = BatchExportOutputTypeResolver.class)
-	public Result<InputStream, Void> executeExportTask(
+	@Summary("Streams the records exported by a completed export task")
+	public Result<InputStream, Void> downloadExportTaskContent(
 			@Connection LiferayConnection connection,
-			@MetadataKeyId(ClassNameTypeKeysResolver.class) String className,
-			@Optional String siteId,
-			@Optional @Summary("Comma-separated list") String fieldNames,
+			@DisplayName("Export Task ID") String exportTaskId,
 			@ConfigOverride @DisplayName("Connection Timeout") @Optional
 			@Placement(order = 1, tab = Placement.ADVANCED_TAB)
 			@Summary("Socket connection timeout value")
@@ -78,59 +119,157 @@ public class LiferayBatchOperations {
 			@ConfigOverride @DisplayName("Connection Timeout Unit") @Optional
 			@Placement(order = 2, tab = Placement.ADVANCED_TAB)
 			@Summary("Time unit to be used in the timeout configurations")
-			TimeUnit connectionTimeoutTimeUnit)
+			TimeUnit connectionTimeoutTimeUnit,
+			@DisplayName("Spool To File") @Optional(defaultValue = "false")
+			@Placement(order = 3, tab = Placement.ADVANCED_TAB)
+			@Summary(
+				"Whether the exported records are written to a temporary " +
+					"file and read through memory-mapped repeatable cursors"
+			)
+			boolean spoolToFile)
 		throws ModuleException {
 
 		long connectionTimeoutMillis = connectionTimeoutTimeUnit.toMillis(
 			connectionTimeout);
 
-		String exportTaskId = submitExportTask(
-			className, connection, fieldNames, siteId, connectionTimeoutMillis);
-
-		logger.info("Started batch export task with ID {}", exportTaskId);
+		String routingKey = getBatchTaskRoutingKey(
+			EXPORT_TASK_TYPE, exportTaskId);
 
 		try {
-			while (true) {
-				JsonNode exportTaskJsonNode = getExportTaskJsonNode(
-					connection, exportTaskId, connectionTimeoutMillis);
+			return executeInSpan(
+				connection, DOWNLOAD_SPAN_NAME,
+				() -> getExportTaskResult(
+					getExportTaskContentZipInputStream(
+						connection, exportTaskId, connectionTimeoutMillis,
+						routingKey),
+					spoolToFile));
+		}
+		finally {
+			connection.releaseRoutingKey(routingKey);
+		}
+	}
 
-				String exportTaskStatus = exportTaskJsonNode.get(
-					"executeStatus"
-				).asText();
+	@DisplayName("Batch - Endpoint Records")
+	@Summary(
+		"Sends records to a batch endpoint of a resource and waits for the " +
+			"returned import task to finish"
+	)
+	public void executeBatchEndpointTask(
+			@Connection LiferayConnection connection,
+			@MetadataKeyId(BatchEndpointTypeKeysResolver.class) String endpoint,
+			@DisplayName("Method") @Optional(defaultValue = "POST")
+			BatchEndpointMethod batchEndpointMethod,
+			@Content @DisplayName("Records") InputStream inputStream,
+			@DisplayName("Path Parameters") @NullSafe @Optional Map
+				<String, String> pathParams,
+			@DisplayName("Query Parameters") @NullSafe @Optional MultiMap
+				<String, String> queryParams,
+			@ConfigOverride @DisplayName("Connection Timeout") @Optional
+			@Placement(order = 1, tab = Placement.ADVANCED_TAB)
+			@Summary("Socket connection timeout value")
+			int connectionTimeout,
+			@ConfigOverride @DisplayName("Connection Timeout Unit") @Optional
+			@Placement(order = 2, tab = Placement.ADVANCED_TAB)
+			@Summary("Time unit to be used in the timeout configurations")
+			TimeUnit connectionTimeoutTimeUnit)
+		throws ModuleException {
 
-				if (exportTaskStatus.equalsIgnoreCase("completed")) {
-					break;
-				}
-				else if (exportTaskStatus.equalsIgnoreCase("failed")) {
-					String errorMessage = exportTaskJsonNode.get(
-						"errorMessage"
-					).asText();
+		long connectionTimeoutMillis = connectionTimeoutTimeUnit.toMillis(
+			connectionTimeout);
 
-					logger.error(
-						"Batch export task with ID {} failed with message: {}",
-						exportTaskId, errorMessage);
+		String routingKey = getRoutingKey(connection);
 
-					throw new ModuleException(
-						exportTaskJsonNode.get(
-							"errorMessage"
-						).asText(),
-						LiferayError.BATCH_EXPORT_FAILED);
-				}
+		String callbackURL = registerBatchTaskCallback(connection, routingKey);
 
-				Thread.sleep(1000);
-			}
+		try {
+			String importTaskId = executeInSpan(
+				connection, SUBMIT_SPAN_NAME,
+				() -> doSubmitBatchEndpointTask(
+					connection, endpoint, batchEndpointMethod, inputStream,
+					pathParams, queryParams, connectionTimeoutMillis,
+					callbackURL, routingKey));
+
+			logger.info(
+				"Started batch {} task with ID {} for endpoint {}",
+				batchEndpointMethod, importTaskId, endpoint);
+
+			checkImportTaskExecutionResult(
+				connection, importTaskId, connectionTimeoutMillis, routingKey);
+
+			logger.info(
+				"Batch {} task with ID {} finished successfully",
+				batchEndpointMethod, importTaskId);
 		}
-		catch (InterruptedException interruptedException) {
-			throw new ModuleException(
-				LiferayError.EXECUTION, interruptedException);
+		finally {
+			connection.releaseRoutingKey(routingKey);
+
+			unregisterBatchTaskCallback(connection, routingKey);
 		}
+	}
+
+	@DisplayName("Batch - Export Records")
+	@MediaType(MediaType.APPLICATION_JSON)
+	@OutputResolver(output = BatchExportOutputTypeResolver.class)
+	public Result<InputStream, Void> executeExportTask(
+			@Connection LiferayConnection connection,
+			@MetadataKeyId(ClassNameTypeKeysResolver.class) String className,
+			@Optional String siteId,
+			@Optional @Summary("Comma-separated list") String fieldNames,
+			@Optional
+			@Summary(
+				"OData filter expression, for example \"active eq true and " +
+					"dateModified ge 2021-01-01T00:00:00Z\""
+			)
+			String filter,
+			@Optional @Summary("Keywords that the records must match")
+			String search,
+			@OfValues(BatchExportFieldValueProvider.class) @Optional
+			@Summary(
+				"Comma-separated list of fields, each optionally followed by " +
+					"\":asc\" or \":desc\""
+			)
+			String sort,
+			@ConfigOverride @DisplayName("Connection Timeout") @Optional
+			@Placement(order = 1, tab = Placement.ADVANCED_TAB)
+			@Summary("Socket connection timeout value")
+			int connectionTimeout,
+			@ConfigOverride @DisplayName("Connection Timeout Unit") @Optional
+			@Placement(order = 2, tab = Placement.ADVANCED_TAB)
+			@Summary("Time unit to be used in the timeout configurations")
+			TimeUnit connectionTimeoutTimeUnit,
+			@DisplayName("Spool To File") @Optional(defaultValue = "false")
+			@Placement(order = 3, tab = Placement.ADVANCED_TAB)
+			@Summary(
+				"Whether the exported records are written to a temporary " +
+					"file and read through memory-mapped repeatable cursors"
+			)
+			boolean spoolToFile)
+		throws ModuleException {
+
+		long connectionTimeoutMillis = connectionTimeoutTimeUnit.toMillis(
+			connectionTimeout);
+
+		ExportContentCache exportContentCache =
+			connection.getExportContentCache();
 
-		logger.info(
-			"Batch export with ID {} finished successfully", exportTaskId);
+		if (exportContentCache == null) {
+			return doExecuteExportTask(
+				connection, className, fieldNames, filter, search, siteId,
+				sort, connectionTimeoutMillis,
+				zipInputStream -> getExportTaskResult(
+					zipInputStream, spoolToFile));
+		}
 
-		return getExportTaskResult(
-			getExportTaskContentZipInputStream(
-				connection, exportTaskId, connectionTimeoutMillis));
+		return Result.<InputStream, Void>builder(
+		).output(
+			exportContentCache.openCursor(
+				exportContentCache.getKey(
+					className, fieldNames, filter, search, siteId, sort),
+				() -> doExecuteExportTask(
+					connection, className, fieldNames, filter, search, siteId,
+					sort, connectionTimeoutMillis,
+					this::spoolMappedExportTaskContent))
+		).build();
 	}
 
 	@DisplayName("Batch - Import Records - Create")
@@ -154,26 +293,43 @@ public class LiferayBatchOperations {
 		long connectionTimeoutMillis = connectionTimeoutTimeUnit.toMillis(
 			connectionTimeout);
 
-		String importTaskId = submitImportCreateTask(
-			connection, inputStream, className, fieldNameMappings,
-			connectionTimeoutMillis);
+		byte[] bytes = IOUtils.toByteArray(inputStream);
+
+		String routingKey = getRoutingKey(connection);
 
-		logger.info("Started batch create task with ID {}", importTaskId);
+		String callbackURL = registerBatchTaskCallback(connection, routingKey);
 
-		checkImportTaskExecutionResult(
-			connection, importTaskId, connectionTimeoutMillis);
+		try {
+			String taskKey = getTaskKey(
+				connection, "create", bytes, className,
+				getFieldNameMappingsString(fieldNameMappings));
+
+			executeImportTask(
+				connection, "create", taskKey, connectionTimeoutMillis,
+				routingKey,
+				() -> doSubmitImportCreateTask(
+					connection, bytes, null, className, fieldNameMappings,
+					connectionTimeoutMillis, callbackURL, routingKey));
+		}
+		finally {
+			connection.releaseRoutingKey(routingKey);
 
-		logger.info(
-			"Batch create task with ID {} finished successfully", importTaskId);
+			unregisterBatchTaskCallback(connection, routingKey);
+		}
 	}
 
-	@DisplayName("Batch - Import Records - Delete")
-	public void executeImportDeleteTask(
+	@DisplayName("Batch - Import Records From File - Create")
+	@Summary(
+		"Streams a local file to a create import task without loading it " +
+			"into memory"
+	)
+	public void executeImportCreateTaskFromFile(
 			@Connection LiferayConnection connection,
 			@MetadataKeyId(ClassNameTypeKeysResolver.class) String className,
-			@Content @DisplayName("Records")
-			@TypeResolver(value = BatchImportInputTypeResolver.class)
-			InputStream inputStream,
+			@NullSafe @Optional Map<String, String> fieldNameMappings,
+			@DisplayName("File Path")
+			@Summary("Path of a JSON file on the local file system")
+			String filePath,
 			@ConfigOverride @DisplayName("Connection Timeout") @Optional
 			@Placement(order = 1, tab = Placement.ADVANCED_TAB)
 			@Summary("Socket connection timeout value")
@@ -187,20 +343,34 @@ public class LiferayBatchOperations {
 		long connectionTimeoutMillis = connectionTimeoutTimeUnit.toMillis(
 			connectionTimeout);
 
-		String importTaskId = submitImportDeleteTask(
-			connection, inputStream, className, connectionTimeoutMillis);
+		Path path = getFilePath(filePath);
+
+		String routingKey = getRoutingKey(connection);
 
-		logger.info("Started batch delete task with ID {}", importTaskId);
+		String callbackURL = registerBatchTaskCallback(connection, routingKey);
 
-		checkImportTaskExecutionResult(
-			connection, importTaskId, connectionTimeoutMillis);
+		try {
+			String taskKey = getTaskKey(
+				connection, "create", null, className,
+				getFieldNameMappingsString(fieldNameMappings),
+				String.valueOf(path.toAbsolutePath()), getFileVersion(path));
+
+			executeImportTask(
+				connection, "create", taskKey, connectionTimeoutMillis,
+				routingKey,
+				() -> doSubmitImportCreateTask(
+					connection, null, path, className, fieldNameMappings,
+					connectionTimeoutMillis, callbackURL, routingKey));
+		}
+		finally {
+			connection.releaseRoutingKey(routingKey);
 
-		logger.info(
-			"Batch delete task with ID {} finished successfully", importTaskId);
+			unregisterBatchTaskCallback(connection, routingKey);
+		}
 	}
 
-	@DisplayName("Batch - Import Records - Update")
-	public void executeImportUpdateTask(
+	@DisplayName("Batch - Import Records - Delete")
+	public void executeImportDeleteTask(
 			@Connection LiferayConnection connection,
 			@MetadataKeyId(ClassNameTypeKeysResolver.class) String className,
 			@Content @DisplayName("Records")
@@ -219,150 +389,1168 @@ public class LiferayBatchOperations {
 		long connectionTimeoutMillis = connectionTimeoutTimeUnit.toMillis(
 			connectionTimeout);
 
-		String importTaskId = submitImportUpdateTask(
-			connection, inputStream, className, connectionTimeoutMillis);
+		byte[] bytes = IOUtils.toByteArray(inputStream);
+
+		String routingKey = getRoutingKey(connection);
 
-		logger.info("Started batch update task with ID {}", importTaskId);
+		String callbackURL = registerBatchTaskCallback(connection, routingKey);
 
-		checkImportTaskExecutionResult(
-			connection, importTaskId, connectionTimeoutMillis);
+		try {
+			String taskKey = getTaskKey(
+				connection, "delete", bytes, className);
+
+			executeImportTask(
+				connection, "delete", taskKey, connectionTimeoutMillis,
+				routingKey,
+				() -> doSubmitImportDeleteTask(
+					connection, bytes, null, className,
+					connectionTimeoutMillis, callbackURL, routingKey));
+		}
+		finally {
+			connection.releaseRoutingKey(routingKey);
 
-		logger.info(
-			"Batch update task with ID {} finished successfully", importTaskId);
+			unregisterBatchTaskCallback(connection, routingKey);
+		}
 	}
 
-	private void checkImportTaskExecutionResult(
-			LiferayConnection connection, String importTaskId,
-			long connectionTimeoutMillis)
+	@DisplayName("Batch - Import Records From File - Delete")
+	@Summary(
+		"Streams a local file to a delete import task without loading it " +
+			"into memory"
+	)
+	public void executeImportDeleteTaskFromFile(
+			@Connection LiferayConnection connection,
+			@MetadataKeyId(ClassNameTypeKeysResolver.class) String className,
+			@DisplayName("File Path")
+			@Summary("Path of a JSON file on the local file system")
+			String filePath,
+			@ConfigOverride @DisplayName("Connection Timeout") @Optional
+			@Placement(order = 1, tab = Placement.ADVANCED_TAB)
+			@Summary("Socket connection timeout value")
+			int connectionTimeout,
+			@ConfigOverride @DisplayName("Connection Timeout Unit") @Optional
+			@Placement(order = 2, tab = Placement.ADVANCED_TAB)
+			@Summary("Time unit to be used in the timeout configurations")
+			TimeUnit connectionTimeoutTimeUnit)
 		throws ModuleException {
 
-		try {
-			while (true) {
-				JsonNode importTaskJsonNode = getImportTaskJsonNode(
-					connection, importTaskId, connectionTimeoutMillis);
-
-				String importTaskStatus = importTaskJsonNode.get(
-					"executeStatus"
-				).asText();
+		long connectionTimeoutMillis = connectionTimeoutTimeUnit.toMillis(
+			connectionTimeout);
 
-				if (importTaskStatus.equalsIgnoreCase("completed")) {
-					break;
-				}
-				else if (importTaskStatus.equalsIgnoreCase("failed")) {
-					String errorMessage = importTaskJsonNode.get(
-						"errorMessage"
-					).asText();
+		Path path = getFilePath(filePath);
 
-					logger.error(
-						"Batch import task with ID {} failed with message: {}",
-						importTaskId, errorMessage);
+		String routingKey = getRoutingKey(connection);
 
-					throw new ModuleException(
-						errorMessage, LiferayError.BATCH_IMPORT_FAILED);
-				}
+		String callbackURL = registerBatchTaskCallback(connection, routingKey);
 
-				Thread.sleep(1000);
-			}
+		try {
+			String taskKey = getTaskKey(
+				connection, "delete", null, className,
+				String.valueOf(path.toAbsolutePath()), getFileVersion(path));
+
+			executeImportTask(
+				connection, "delete", taskKey, connectionTimeoutMillis,
+				routingKey,
+				() -> doSubmitImportDeleteTask(
+					connection, null, path, className,
+					connectionTimeoutMillis, callbackURL, routingKey));
 		}
-		catch (InterruptedException interruptedException) {
-			throw new ModuleException(
-				LiferayError.EXECUTION, interruptedException);
+		finally {
+			connection.releaseRoutingKey(routingKey);
+
+			unregisterBatchTaskCallback(connection, routingKey);
 		}
 	}
 
-	private ZipInputStream getExportTaskContentZipInputStream(
-			LiferayConnection connection, String exportTaskId,
-			long connectionTimeout)
+	@DisplayName("Batch - Import Records - Update")
+	public void executeImportUpdateTask(
+			@Connection LiferayConnection connection,
+			@MetadataKeyId(ClassNameTypeKeysResolver.class) String className,
+			@Content @DisplayName("Records")
+			@TypeResolver(value = BatchImportInputTypeResolver.class)
+			InputStream inputStream,
+			@ConfigOverride @DisplayName("Connection Timeout") @Optional
+			@Placement(order = 1, tab = Placement.ADVANCED_TAB)
+			@Summary("Socket connection timeout value")
+			int connectionTimeout,
+			@ConfigOverride @DisplayName("Connection Timeout Unit") @Optional
+			@Placement(order = 2, tab = Placement.ADVANCED_TAB)
+			@Summary("Time unit to be used in the timeout configurations")
+			TimeUnit connectionTimeoutTimeUnit)
 		throws ModuleException {
 
-		ResourceContext.Builder builder = new ResourceContext.Builder();
-
-		Map<String, String> pathParams = new HashMap<>();
+		long connectionTimeoutMillis = connectionTimeoutTimeUnit.toMillis(
+			connectionTimeout);
 
-		pathParams.put("exportTaskId", exportTaskId);
+		byte[] bytes = IOUtils.toByteArray(inputStream);
 
-		HttpResponse httpResponse = connection.get(
-			builder.connectionTimeout(
-				connectionTimeout
-			).endpoint(
-				"/v1.0/export-task/{exportTaskId}/content"
-			).jaxRSAppBase(
-				"/headless-batch-engine"
-			).pathParams(
-				pathParams
-			).build());
+		String routingKey = getRoutingKey(connection);
 
-		liferayResponseValidator.validate(httpResponse);
+		String callbackURL = registerBatchTaskCallback(connection, routingKey);
 
-		HttpEntity httpEntity = httpResponse.getEntity();
+		try {
+			String taskKey = getTaskKey(
+				connection, "update", bytes, className);
+
+			executeImportTask(
+				connection, "update", taskKey, connectionTimeoutMillis,
+				routingKey,
+				() -> doSubmitImportUpdateTask(
+					connection, bytes, null, className,
+					connectionTimeoutMillis, callbackURL, routingKey));
+		}
+		finally {
+			connection.releaseRoutingKey(routingKey);
 
-		return new ZipInputStream(httpEntity.getContent());
+			unregisterBatchTaskCallback(connection, routingKey);
+		}
 	}
 
-	private JsonNode getExportTaskJsonNode(
-			LiferayConnection connection, String exportTaskId,
-			long connectionTimeout)
+	@DisplayName("Batch - Import Records From File - Update")
+	@Summary(
+		"Streams a local file to a update import task without loading it " +
+			"into memory"
+	)
+	public void executeImportUpdateTaskFromFile(
+			@Connection LiferayConnection connection,
+			@MetadataKeyId(ClassNameTypeKeysResolver.class) String className,
+			@DisplayName("File Path")
+			@Summary("Path of a JSON file on the local file system")
+			String filePath,
+			@ConfigOverride @DisplayName("Connection Timeout") @Optional
+			@Placement(order = 1, tab = Placement.ADVANCED_TAB)
+			@Summary("Socket connection timeout value")
+			int connectionTimeout,
+			@ConfigOverride @DisplayName("Connection Timeout Unit") @Optional
+			@Placement(order = 2, tab = Placement.ADVANCED_TAB)
+			@Summary("Time unit to be used in the timeout configurations")
+			TimeUnit connectionTimeoutTimeUnit)
 		throws ModuleException {
 
-		ResourceContext.Builder builder = new ResourceContext.Builder();
+		long connectionTimeoutMillis = connectionTimeoutTimeUnit.toMillis(
+			connectionTimeout);
 
-		Map<String, String> pathParams = new HashMap<>();
+		Path path = getFilePath(filePath);
 
-		pathParams.put("exportTaskId", exportTaskId);
+		String routingKey = getRoutingKey(connection);
 
-		HttpResponse httpResponse = connection.get(
-			builder.connectionTimeout(
-				connectionTimeout
-			).endpoint(
-				"/v1.0/export-task/{exportTaskId}"
-			).jaxRSAppBase(
-				"/headless-batch-engine"
-			).pathParams(
-				pathParams
-			).build());
+		String callbackURL = registerBatchTaskCallback(connection, routingKey);
 
-		liferayResponseValidator.validate(httpResponse);
+		try {
+			String taskKey = getTaskKey(
+				connection, "update", null, className,
+				String.valueOf(path.toAbsolutePath()), getFileVersion(path));
+
+			executeImportTask(
+				connection, "update", taskKey, connectionTimeoutMillis,
+				routingKey,
+				() -> doSubmitImportUpdateTask(
+					connection, null, path, className,
+					connectionTimeoutMillis, callbackURL, routingKey));
+		}
+		finally {
+			connection.releaseRoutingKey(routingKey);
 
-		return jsonNodeReader.fromHttpResponse(httpResponse);
+			unregisterBatchTaskCallback(connection, routingKey);
+		}
 	}
 
-	private Result<InputStream, Void> getExportTaskResult(
-			ZipInputStream zipInputStream)
+	@DisplayName("Batch - Export Records - Partitioned")
+	@MediaType(MediaType.APPLICATION_JSON)
+	@OutputResolver(output = BatchExportOutputTypeResolver.class)
+	public Result<InputStream, Void> executePartitionedExportTask(
+			@Connection LiferayConnection connection,
+			@MetadataKeyId(ClassNameTypeKeysResolver.class) String className,
+			@Optional String siteId,
+			@Optional @Summary("Comma-separated list") String fieldNames,
+			@Optional
+			@Summary("OData filter expression applied to every partition")
+			String filter,
+			@Optional @Summary("Keywords that the records must match")
+			String search,
+			@OfValues(BatchExportFieldValueProvider.class)
+			@Optional(defaultValue = "id")
+			@Summary("Field whose values split the records into partitions")
+			String partitionField,
+			@Summary(
+				"Comma-separated ascending list of partition field values, " +
+					"for example \"10000,20000,30000\""
+			)
+			String partitionBoundaries,
+			@DisplayName("Parallelism") @Optional(defaultValue = "4")
+			@Summary("Maximum number of partitions exported concurrently")
+			int parallelism,
+			@ConfigOverride @DisplayName("Connection Timeout") @Optional
+			@Placement(order = 1, tab = Placement.ADVANCED_TAB)
+			@Summary("Socket connection timeout value")
+			int connectionTimeout,
+			@ConfigOverride @DisplayName("Connection Timeout Unit") @Optional
+			@Placement(order = 2, tab = Placement.ADVANCED_TAB)
+			@Summary("Time unit to be used in the timeout configurations")
+			TimeUnit connectionTimeoutTimeUnit)
 		throws ModuleException {
 
+		if (parallelism < 1) {
+			throw new ModuleException(
+				"Parallelism must be greater than 0", LiferayError.EXECUTION);
+		}
+
+		List<String> partitionFilters = getPartitionFilters(
+			connection, className, filter, partitionField,
+			partitionBoundaries);
+
+		long connectionTimeoutMillis = connectionTimeoutTimeUnit.toMillis(
+			connectionTimeout);
+
+		Path[] paths = new Path[partitionFilters.size()];
+
+		Queue<Runnable> runnables = new ConcurrentLinkedQueue<>();
+
+		for (int i = 0; i < partitionFilters.size(); i++) {
+			int index = i;
+			String partitionFilter = partitionFilters.get(i);
+
+			runnables.add(
+				() -> paths[index] = doExecuteExportTask(
+					connection, className, fieldNames, partitionFilter, search,
+					siteId, null, connectionTimeoutMillis,
+					this::spoolExportTaskContent));
+		}
+
+		Executor executor = connection.getExecutor();
+
+		if (executor == null) {
+			executor = Runnable::run;
+		}
+
+		CompletableFuture<Void> completableFuture = RunnableUtil.runAsync(
+			runnables, parallelism, executor);
+
 		try {
-			zipInputStream.getNextEntry();
+			completableFuture.join();
+
+			logger.info(
+				"Exported {} partitions of {} with parallelism {}",
+				paths.length, className, parallelism);
 
 			return Result.<InputStream, Void>builder(
 			).output(
-				zipInputStream
+				new JsonArrayFileSequenceInputStream(Arrays.asList(paths))
 			).build();
 		}
+		catch (CompletionException completionException) {
+			deletePartitionFiles(paths);
+
+			Throwable throwable = completionException.getCause();
+
+			if (throwable instanceof ModuleException) {
+				throw (ModuleException)throwable;
+			}
+
+			throw new ModuleException(LiferayError.EXECUTION, throwable);
+		}
 		catch (IOException ioException) {
+			deletePartitionFiles(paths);
+
 			throw new ModuleException(LiferayError.EXECUTION, ioException);
 		}
 	}
 
-	private JsonNode getImportTaskJsonNode(
-			LiferayConnection connection, String importTaskId,
-			long connectionTimeout)
+	@DisplayName("Batch - Get Task Status")
+	@MediaType(MediaType.APPLICATION_JSON)
+	@Summary(
+		"Returns the import or export task, including its execute status, " +
+			"without waiting for it to finish"
+	)
+	public Result<String, Void> getBatchTaskStatus(
+			@Connection LiferayConnection connection,
+			@DisplayName("Task Type") BatchTaskType batchTaskType,
+			@DisplayName("Task ID") String taskId,
+			@ConfigOverride @DisplayName("Connection Timeout") @Optional
+			@Placement(order = 1, tab = Placement.ADVANCED_TAB)
+			@Summary("Socket connection timeout value")
+			int connectionTimeout,
+			@ConfigOverride @DisplayName("Connection Timeout Unit") @Optional
+			@Placement(order = 2, tab = Placement.ADVANCED_TAB)
+			@Summary("Time unit to be used in the timeout configurations")
+			TimeUnit connectionTimeoutTimeUnit)
+		throws ModuleException {
+
+		long connectionTimeoutMillis = connectionTimeoutTimeUnit.toMillis(
+			connectionTimeout);
+
+		String taskType = IMPORT_TASK_TYPE;
+
+		if (batchTaskType == BatchTaskType.EXPORT) {
+			taskType = EXPORT_TASK_TYPE;
+		}
+
+		String routingKey = getBatchTaskRoutingKey(taskType, taskId);
+
+		JsonNode taskJsonNode = executeInSpan(
+			connection, POLL_SPAN_NAME,
+			() -> {
+				if (batchTaskType == BatchTaskType.EXPORT) {
+					return getExportTaskJsonNode(
+						connection, taskId, connectionTimeoutMillis,
+						routingKey);
+				}
+
+				return getImportTaskJsonNode(
+					connection, taskId, connectionTimeoutMillis, routingKey);
+			});
+
+		String taskStatus = taskJsonNode.path(
+			"executeStatus"
+		).asText();
+
+		if (taskStatus.equalsIgnoreCase("failed") ||
+			(taskStatus.equalsIgnoreCase("completed") &&
+			 (batchTaskType == BatchTaskType.IMPORT))) {
+
+			connection.releaseRoutingKey(routingKey);
+		}
+
+		return Result.<String, Void>builder(
+		).output(
+			taskJsonNode.toString()
+		).build();
+	}
+
+	@DisplayName("Batch - Submit Export Task")
+	@Summary(
+		"Submits an export task and returns its ID without waiting for it " +
+			"to finish"
+	)
+	public String submitExportTask(
+			@Connection LiferayConnection connection,
+			@MetadataKeyId(ClassNameTypeKeysResolver.class) String className,
+			@Optional String siteId,
+			@Optional @Summary("Comma-separated list") String fieldNames,
+			@Optional
+			@Summary(
+				"OData filter expression, for example \"active eq true and " +
+					"dateModified ge 2021-01-01T00:00:00Z\""
+			)
+			String filter,
+			@Optional @Summary("Keywords that the records must match")
+			String search,
+			@OfValues(BatchExportFieldValueProvider.class) @Optional
+			@Summary(
+				"Comma-separated list of fields, each optionally followed by " +
+					"\":asc\" or \":desc\""
+			)
+			String sort,
+			@ConfigOverride @DisplayName("Connection Timeout") @Optional
+			@Placement(order = 1, tab = Placement.ADVANCED_TAB)
+			@Summary("Socket connection timeout value")
+			int connectionTimeout,
+			@ConfigOverride @DisplayName("Connection Timeout Unit") @Optional
+			@Placement(order = 2, tab = Placement.ADVANCED_TAB)
+			@Summary("Time unit to be used in the timeout configurations")
+			TimeUnit connectionTimeoutTimeUnit)
+		throws ModuleException {
+
+		long connectionTimeoutMillis = connectionTimeoutTimeUnit.toMillis(
+			connectionTimeout);
+
+		String exportTaskId = submitBatchTask(
+			connection, EXPORT_TASK_TYPE,
+			routingKey -> doSubmitExportTask(
+				className, connection, fieldNames, filter, search, siteId,
+				sort, connectionTimeoutMillis, null, routingKey));
+
+		logger.info("Submitted batch export task with ID {}", exportTaskId);
+
+		return exportTaskId;
+	}
+
+	@DisplayName("Batch - Submit Import Task - Create")
+	@Summary(
+		"Submits a create import task and returns its ID without waiting " +
+			"for it to finish"
+	)
+	public String submitImportCreateTask(
+			@Connection LiferayConnection connection,
+			@MetadataKeyId(ClassNameTypeKeysResolver.class) String className,
+			@NullSafe @Optional Map<String, String> fieldNameMappings,
+			@Content @DisplayName("Records")
+			@TypeResolver(value = BatchImportInputTypeResolver.class)
+			InputStream inputStream,
+			@ConfigOverride @DisplayName("Connection Timeout") @Optional
+			@Placement(order = 1, tab = Placement.ADVANCED_TAB)
+			@Summary("Socket connection timeout value")
+			int connectionTimeout,
+			@ConfigOverride @DisplayName("Connection Timeout Unit") @Optional
+			@Placement(order = 2, tab = Placement.ADVANCED_TAB)
+			@Summary("Time unit to be used in the timeout configurations")
+			TimeUnit connectionTimeoutTimeUnit)
+		throws ModuleException {
+
+		long connectionTimeoutMillis = connectionTimeoutTimeUnit.toMillis(
+			connectionTimeout);
+
+		String importTaskId = submitBatchTask(
+			connection, IMPORT_TASK_TYPE,
+			routingKey -> doSubmitImportCreateTask(
+				connection, IOUtils.toByteArray(inputStream), null,
+				className, fieldNameMappings, connectionTimeoutMillis, null,
+				routingKey));
+
+		logger.info("Submitted batch create task with ID {}", importTaskId);
+
+		return importTaskId;
+	}
+
+	@DisplayName("Batch - Submit Import Task - Delete")
+	@Summary(
+		"Submits a delete import task and returns its ID without waiting " +
+			"for it to finish"
+	)
+	public String submitImportDeleteTask(
+			@Connection LiferayConnection connection,
+			@MetadataKeyId(ClassNameTypeKeysResolver.class) String className,
+			@Content @DisplayName("Records")
+			@TypeResolver(value = BatchImportInputTypeResolver.class)
+			InputStream inputStream,
+			@ConfigOverride @DisplayName("Connection Timeout") @Optional
+			@Placement(order = 1, tab = Placement.ADVANCED_TAB)
+			@Summary("Socket connection timeout value")
+			int connectionTimeout,
+			@ConfigOverride @DisplayName("Connection Timeout Unit") @Optional
+			@Placement(order = 2, tab = Placement.ADVANCED_TAB)
+			@Summary("Time unit to be used in the timeout configurations")
+			TimeUnit connectionTimeoutTimeUnit)
+		throws ModuleException {
+
+		long connectionTimeoutMillis = connectionTimeoutTimeUnit.toMillis(
+			connectionTimeout);
+
+		String importTaskId = submitBatchTask(
+			connection, IMPORT_TASK_TYPE,
+			routingKey -> doSubmitImportDeleteTask(
+				connection, IOUtils.toByteArray(inputStream), null,
+				className, connectionTimeoutMillis, null, routingKey));
+
+		logger.info("Submitted batch delete task with ID {}", importTaskId);
+
+		return importTaskId;
+	}
+
+	@DisplayName("Batch - Submit Import Task - Update")
+	@Summary(
+		"Submits an update import task and returns its ID without waiting " +
+			"for it to finish"
+	)
+	public String submitImportUpdateTask(
+			@Connection LiferayConnection connection,
+			@MetadataKeyId(ClassNameTypeKeysResolver.class) String className,
+			@Content @DisplayName("Records")
+			@TypeResolver(value = BatchImportInputTypeResolver.class)
+			InputStream inputStream,
+			@ConfigOverride @DisplayName("Connection Timeout") @Optional
+			@Placement(order = 1, tab = Placement.ADVANCED_TAB)
+			@Summary("Socket connection timeout value")
+			int connectionTimeout,
+			@ConfigOverride @DisplayName("Connection Timeout Unit") @Optional
+			@Placement(order = 2, tab = Placement.ADVANCED_TAB)
+			@Summary("Time unit to be used in the timeout configurations")
+			TimeUnit connectionTimeoutTimeUnit)
+		throws ModuleException {
+
+		long connectionTimeoutMillis = connectionTimeoutTimeUnit.toMillis(
+			connectionTimeout);
+
+		String importTaskId = submitBatchTask(
+			connection, IMPORT_TASK_TYPE,
+			routingKey -> doSubmitImportUpdateTask(
+				connection, IOUtils.toByteArray(inputStream), null,
+				className, connectionTimeoutMillis, null, routingKey));
+
+		logger.info("Submitted batch update task with ID {}", importTaskId);
+
+		return importTaskId;
+	}
+
+	private void awaitBatchTaskUpdate(
+			LiferayConnection connection, String routingKey)
+		throws InterruptedException {
+
+		BatchTaskCallbackListener batchTaskCallbackListener =
+			connection.getBatchTaskCallbackListener();
+
+		if (batchTaskCallbackListener == null) {
+			Thread.sleep(1000);
+
+			return;
+		}
+
+		if (batchTaskCallbackListener.await(routingKey)) {
+			logger.debug("Batch task callback received, checking task status");
+		}
+	}
+
+	private void checkExportTaskExecutionResult(
+			LiferayConnection connection, String exportTaskId,
+			long connectionTimeoutMillis, String routingKey)
+		throws ModuleException {
+
+		LiferayMetrics liferayMetrics = connection.getLiferayMetrics();
+
+		long startTime = System.nanoTime();
+
+		try {
+			while (true) {
+				if (liferayMetrics != null) {
+					liferayMetrics.recordBatchTaskPoll(EXPORT_TASK_TYPE);
+				}
+
+				JsonNode exportTaskJsonNode = executeInSpan(
+					connection, POLL_SPAN_NAME,
+					() -> getExportTaskJsonNode(
+						connection, exportTaskId, connectionTimeoutMillis,
+						routingKey));
+
+				String exportTaskStatus = exportTaskJsonNode.get(
+					"executeStatus"
+				).asText();
+
+				if (exportTaskStatus.equalsIgnoreCase("completed")) {
+					break;
+				}
+				else if (exportTaskStatus.equalsIgnoreCase("failed")) {
+					String errorMessage = exportTaskJsonNode.get(
+						"errorMessage"
+					).asText();
+
+					logger.error(
+						"Batch export task with ID {} failed with message: {}",
+						exportTaskId, errorMessage);
+
+					throw new ModuleException(
+						exportTaskJsonNode.get(
+							"errorMessage"
+						).asText(),
+						LiferayError.BATCH_EXPORT_FAILED);
+				}
+
+				awaitBatchTaskUpdate(connection, routingKey);
+			}
+		}
+		catch (InterruptedException interruptedException) {
+			throw new ModuleException(
+				LiferayError.EXECUTION, interruptedException);
+		}
+
+		if (liferayMetrics != null) {
+			liferayMetrics.recordBatchTask(
+				EXPORT_TASK_TYPE, System.nanoTime() - startTime);
+		}
+	}
+
+	private void checkImportTaskExecutionResult(
+			LiferayConnection connection, String importTaskId,
+			long connectionTimeoutMillis, String routingKey)
+		throws ModuleException {
+
+		LiferayMetrics liferayMetrics = connection.getLiferayMetrics();
+
+		long startTime = System.nanoTime();
+
+		try {
+			while (true) {
+				if (liferayMetrics != null) {
+					liferayMetrics.recordBatchTaskPoll(IMPORT_TASK_TYPE);
+				}
+
+				JsonNode importTaskJsonNode = executeInSpan(
+					connection, POLL_SPAN_NAME,
+					() -> getImportTaskJsonNode(
+						connection, importTaskId, connectionTimeoutMillis,
+						routingKey));
+
+				String importTaskStatus = importTaskJsonNode.get(
+					"executeStatus"
+				).asText();
+
+				if (importTaskStatus.equalsIgnoreCase("completed")) {
+					if (liferayMetrics != null) {
+						liferayMetrics.recordBatchTask(
+							IMPORT_TASK_TYPE, System.nanoTime() - startTime);
+					}
+
+					break;
+				}
+				else if (importTaskStatus.equalsIgnoreCase("failed")) {
+					String errorMessage = importTaskJsonNode.get(
+						"errorMessage"
+					).asText();
+
+					logger.error(
+						"Batch import task with ID {} failed with message: {}",
+						importTaskId, errorMessage);
+
+					throw new ModuleException(
+						errorMessage, LiferayError.BATCH_IMPORT_FAILED);
+				}
+
+				awaitBatchTaskUpdate(connection, routingKey);
+			}
+		}
+		catch (InterruptedException interruptedException) {
+			throw new ModuleException(
+				LiferayError.EXECUTION, interruptedException);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private int compare(Comparable<?> comparable1, Comparable<?> comparable2) {
+		Comparable<Object> comparable = (Comparable<Object>)comparable1;
+
+		return comparable.compareTo(comparable2);
+	}
+
+	private void deletePartitionFile(Path path) {
+		try {
+			Files.deleteIfExists(path);
+		}
+		catch (IOException ioException) {
+			logger.warn(
+				"Unable to delete partition file {}", path, ioException);
+		}
+	}
+
+	private void deletePartitionFiles(Path[] paths) {
+		for (Path path : paths) {
+			if (path != null) {
+				deletePartitionFile(path);
+			}
+		}
+	}
+
+	private <T> T doExecuteExportTask(
+			LiferayConnection connection, String className, String fieldNames,
+			String filter, String search, String siteId, String sort,
+			long connectionTimeoutMillis,
+			Function<ZipInputStream, T> contentFunction)
+		throws ModuleException {
+
+		String routingKey = getRoutingKey(connection);
+
+		String callbackURL = registerBatchTaskCallback(connection, routingKey);
+
+		String taskKey = getTaskKey(
+			connection, EXPORT_TASK_TYPE, null, className, fieldNames, siteId,
+			filter, search, sort);
+
+		try {
+			TrackedBatchTask trackedBatchTask = getTrackedBatchTask(
+				connection, taskKey);
+
+			String exportTaskId;
+
+			if (trackedBatchTask == null) {
+				exportTaskId = executeInSpan(
+					connection, SUBMIT_SPAN_NAME,
+					() -> doSubmitExportTask(
+						className, connection, fieldNames, filter, search,
+						siteId, sort, connectionTimeoutMillis, callbackURL,
+						routingKey));
+
+				trackBatchTask(connection, taskKey, exportTaskId, false);
+
+				logger.info(
+					"Started batch export task with ID {}", exportTaskId);
+			}
+			else {
+				exportTaskId = trackedBatchTask.getTaskId();
+
+				logger.info(
+					"Reusing tracked batch export task with ID {}",
+					exportTaskId);
+			}
+
+			if ((trackedBatchTask == null) ||
+				!trackedBatchTask.isCompleted()) {
+
+				checkExportTaskExecutionResult(
+					connection, exportTaskId, connectionTimeoutMillis,
+					routingKey);
+
+				trackBatchTask(connection, taskKey, exportTaskId, true);
+
+				logger.info(
+					"Batch export with ID {} finished successfully",
+					exportTaskId);
+			}
+
+			return executeInSpan(
+				connection, DOWNLOAD_SPAN_NAME,
+				() -> contentFunction.apply(
+					getExportTaskContentZipInputStream(
+						connection, exportTaskId, connectionTimeoutMillis,
+						routingKey)));
+		}
+		catch (ModuleException moduleException) {
+			if (isBatchTaskLost(moduleException)) {
+				untrackBatchTask(connection, taskKey);
+			}
+
+			throw moduleException;
+		}
+		finally {
+			connection.releaseRoutingKey(routingKey);
+
+			unregisterBatchTaskCallback(connection, routingKey);
+		}
+	}
+
+	private String doSubmitBatchEndpointTask(
+			LiferayConnection connection, String endpoint,
+			BatchEndpointMethod batchEndpointMethod, InputStream inputStream,
+			Map<String, String> pathParams,
+			MultiMap<String, String> queryParams, long connectionTimeout,
+			String callbackURL, String routingKey)
+		throws ModuleException {
+
+		ResourceContext.Builder builder = new ResourceContext.Builder();
+
+		if (callbackURL != null) {
+			queryParams = new MultiMap<>(queryParams);
+
+			queryParams.put("callbackURL", callbackURL);
+		}
+
+		ResourceContext resourceContext = builder.connectionTimeout(
+			connectionTimeout
+		).endpoint(
+			endpoint
+		).inputStream(
+			inputStream
+		).pathParams(
+			pathParams
+		).queryParams(
+			queryParams
+		).routingKey(
+			routingKey
+		).build();
+
+		HttpResponse httpResponse;
+
+		if (batchEndpointMethod == BatchEndpointMethod.DELETE) {
+			httpResponse = connection.delete(resourceContext);
+		}
+		else if (batchEndpointMethod == BatchEndpointMethod.PUT) {
+			httpResponse = connection.put(resourceContext);
+		}
+		else {
+			httpResponse = connection.post(resourceContext);
+		}
+
+		liferayResponseValidator.validate(httpResponse);
+
+		JsonNode payloadJsonNode = jsonNodeReader.fromHttpResponse(
+			httpResponse);
+
+		JsonNode idJsonNode = payloadJsonNode.get("id");
+
+		return String.valueOf(idJsonNode.longValue());
+	}
+
+	private String doSubmitExportTask(
+			String className, LiferayConnection connection, String fieldNames,
+			String filter, String search, String siteId, String sort,
+			long connectionTimeout, String callbackURL, String routingKey)
+		throws ModuleException {
+
+		ResourceContext.Builder builder = new ResourceContext.Builder();
+
+		Map<String, String> pathParams = new HashMap<>();
+
+		pathParams.put("className", className);
+		pathParams.put("contentType", BatchExportContentType.JSON.toString());
+
+		MultiMap<String, String> queryParams = new MultiMap<>();
+
+		if (callbackURL != null) {
+			queryParams.put("callbackURL", callbackURL);
+		}
+
+		if (fieldNames != null) {
+			queryParams.put("fieldNames", fieldNames);
+		}
+
+		if (filter != null) {
+			queryParams.put("filter", filter);
+		}
+
+		if (search != null) {
+			queryParams.put("search", search);
+		}
+
+		if (siteId != null) {
+			queryParams.put("siteId", siteId);
+		}
+
+		if (sort != null) {
+			queryParams.put("sort", sort);
+		}
+
+		HttpResponse httpResponse = connection.post(
+			builder.connectionTimeout(
+				connectionTimeout
+			).endpoint(
+				"/v1.0/export-task/{className}/{contentType}"
+			).jaxRSAppBase(
+				"/headless-batch-engine"
+			).pathParams(
+				pathParams
+			).queryParams(
+				queryParams
+			).routingKey(
+				routingKey
+			).build());
+
+		liferayResponseValidator.validate(httpResponse);
+
+		JsonNode payloadJsonNode = jsonNodeReader.fromHttpResponse(
+			httpResponse);
+
+		JsonNode idJsonNode = payloadJsonNode.get("id");
+
+		return String.valueOf(idJsonNode.longValue());
+	}
+
+	private String doSubmitImportCreateTask(
+			LiferayConnection connection, byte[] bytes, Path path,
+			String className, Map<String, String> fieldNameMappings,
+			long connectionTimeout, String callbackURL, String routingKey)
+		throws ModuleException {
+
+		ResourceContext.Builder builder = new ResourceContext.Builder();
+
+		Map<String, String> pathParams = new HashMap<>();
+
+		pathParams.put("className", className);
+
+		MultiMap<String, String> queryParams = new MultiMap<>();
+
+		if (callbackURL != null) {
+			queryParams.put("callbackURL", callbackURL);
+		}
+
+		if (!fieldNameMappings.isEmpty()) {
+			queryParams.put(
+				"fieldNameMappings",
+				getFieldNameMappingsString(fieldNameMappings));
+		}
+
+		HttpResponse httpResponse = connection.post(
+			builder.bytes(
+				bytes
+			).connectionTimeout(
+				connectionTimeout
+			).contentType(
+				"multipart/form-data"
+			).endpoint(
+				"/v1.0/import-task/{className}"
+			).jaxRSAppBase(
+				"/headless-batch-engine"
+			).path(
+				path
+			).pathParams(
+				pathParams
+			).queryParams(
+				queryParams
+			).routingKey(
+				routingKey
+			).build());
+
+		liferayResponseValidator.validate(httpResponse);
+
+		JsonNode payloadJsonNode = jsonNodeReader.fromHttpResponse(
+			httpResponse);
+
+		JsonNode idJsonNode = payloadJsonNode.get("id");
+
+		return String.valueOf(idJsonNode.longValue());
+	}
+
+	private String doSubmitImportDeleteTask(
+			LiferayConnection connection, byte[] bytes, Path path,
+			String className, long connectionTimeout, String callbackURL,
+			String routingKey)
+		throws ModuleException {
+
+		ResourceContext.Builder builder = new ResourceContext.Builder();
+
+		Map<String, String> pathParams = new HashMap<>();
+
+		pathParams.put("className", className);
+
+		MultiMap<String, String> queryParams = new MultiMap<>();
+
+		if (callbackURL != null) {
+			queryParams.put("callbackURL", callbackURL);
+		}
+
+		HttpResponse httpResponse = connection.delete(
+			builder.bytes(
+				bytes
+			).connectionTimeout(
+				connectionTimeout
+			).contentType(
+				"multipart/form-data"
+			).endpoint(
+				"/v1.0/import-task/{className}"
+			).jaxRSAppBase(
+				"/headless-batch-engine"
+			).path(
+				path
+			).pathParams(
+				pathParams
+			).queryParams(
+				queryParams
+			).routingKey(
+				routingKey
+			).build());
+
+		liferayResponseValidator.validate(httpResponse);
+
+		JsonNode payloadJsonNode = jsonNodeReader.fromHttpResponse(
+			httpResponse);
+
+		JsonNode idJsonNode = payloadJsonNode.get("id");
+
+		return String.valueOf(idJsonNode.longValue());
+	}
+
+	private String doSubmitImportUpdateTask(
+			LiferayConnection connection, byte[] bytes, Path path,
+			String className, long connectionTimeout, String callbackURL,
+			String routingKey)
+		throws ModuleException {
+
+		ResourceContext.Builder builder = new ResourceContext.Builder();
+
+		Map<String, String> pathParams = new HashMap<>();
+
+		pathParams.put("className", className);
+
+		MultiMap<String, String> queryParams = new MultiMap<>();
+
+		if (callbackURL != null) {
+			queryParams.put("callbackURL", callbackURL);
+		}
+
+		HttpResponse httpResponse = connection.put(
+			builder.bytes(
+				bytes
+			).connectionTimeout(
+				connectionTimeout
+			).contentType(
+				"multipart/form-data"
+			).endpoint(
+				"/v1.0/import-task/{className}"
+			).jaxRSAppBase(
+				"/headless-batch-engine"
+			).path(
+				path
+			).pathParams(
+				pathParams
+			).queryParams(
+				queryParams
+			).routingKey(
+				routingKey
+			).build());
+
+		liferayResponseValidator.validate(httpResponse);
+
+		JsonNode payloadJsonNode = jsonNodeReader.fromHttpResponse(
+			httpResponse);
+
+		JsonNode idJsonNode = payloadJsonNode.get("id");
+
+		return String.valueOf(idJsonNode.longValue());
+	}
+
+	private void executeImportTask(
+			LiferayConnection connection, String importTaskName,
+			String taskKey, long connectionTimeoutMillis, String routingKey,
+			Supplier<String> submitSupplier)
+		throws ModuleException {
+
+		try {
+			TrackedBatchTask trackedBatchTask = getTrackedBatchTask(
+				connection, taskKey);
+
+			String importTaskId;
+
+			if (trackedBatchTask == null) {
+				importTaskId = executeInSpan(
+					connection, SUBMIT_SPAN_NAME, submitSupplier);
+
+				trackBatchTask(connection, taskKey, importTaskId, false);
+
+				logger.info(
+					"Started batch {} task with ID {}", importTaskName,
+					importTaskId);
+			}
+			else {
+				importTaskId = trackedBatchTask.getTaskId();
+
+				logger.info(
+					"Re-attached to tracked batch {} task with ID {}",
+					importTaskName, importTaskId);
+			}
+
+			checkImportTaskExecutionResult(
+				connection, importTaskId, connectionTimeoutMillis, routingKey);
+
+			untrackBatchTask(connection, taskKey);
+
+			logger.info(
+				"Batch {} task with ID {} finished successfully",
+				importTaskName, importTaskId);
+		}
+		catch (ModuleException moduleException) {
+			if (isBatchTaskLost(moduleException)) {
+				untrackBatchTask(connection, taskKey);
+			}
+
+			throw moduleException;
+		}
+	}
+
+	private <T> T executeInSpan(
+			LiferayConnection connection, String spanName,
+			Supplier<T> supplier)
+		throws ModuleException {
+
+		LiferayTracer liferayTracer = connection.getLiferayTracer();
+
+		LiferaySpan liferaySpan = liferayTracer.startSpan(spanName);
+
+		try {
+			return supplier.get();
+		}
+		catch (ModuleException moduleException) {
+			liferaySpan.setError(moduleException);
+
+			throw moduleException;
+		}
+		finally {
+			liferaySpan.end();
+		}
+	}
+
+	private String getBatchTaskRoutingKey(String taskType, String taskId) {
+		return taskType + "/" + taskId;
+	}
+
+	private InputStream getExportTaskContentInputStream(
+			LiferayConnection connection, String exportTaskId,
+			long connectionTimeout, String routingKey, long position)
+		throws ModuleException {
+
+		ResourceContext.Builder builder = new ResourceContext.Builder();
+
+		MultiMap<String, String> headers = new MultiMap<>();
+
+		if (position > 0) {
+			headers.put("Range", "bytes=" + position + "-");
+		}
+
+		Map<String, String> pathParams = new HashMap<>();
+
+		pathParams.put("exportTaskId", exportTaskId);
+
+		HttpResponse httpResponse = connection.get(
+			builder.connectionTimeout(
+				connectionTimeout
+			).endpoint(
+				"/v1.0/export-task/{exportTaskId}/content"
+			).headers(
+				headers
+			).jaxRSAppBase(
+				"/headless-batch-engine"
+			).pathParams(
+				pathParams
+			).routingKey(
+				routingKey
+			).streaming(
+				true
+			).build());
+
+		liferayResponseValidator.validate(httpResponse);
+
+		HttpEntity httpEntity = httpResponse.getEntity();
+
+		InputStream inputStream = httpEntity.getContent();
+
+		if ((position > 0) && (httpResponse.getStatusCode() != 206)) {
+			logger.debug(
+				"Range request for export task {} content was not honored, " +
+					"skipping {} bytes",
+				exportTaskId, position);
+
+			skip(inputStream, position);
+		}
+
+		return inputStream;
+	}
+
+	private ZipInputStream getExportTaskContentZipInputStream(
+			LiferayConnection connection, String exportTaskId,
+			long connectionTimeout, String routingKey)
+		throws ModuleException {
+
+		InputStream inputStream = getExportTaskContentInputStream(
+			connection, exportTaskId, connectionTimeout, routingKey, 0);
+
+		return new ZipInputStream(
+			new ResumableInputStream(
+				inputStream,
+				position -> {
+					logger.info(
+						"Resuming download of export task {} content from " +
+							"byte {}",
+						exportTaskId, position);
+
+					try {
+						return getExportTaskContentInputStream(
+							connection, exportTaskId, connectionTimeout,
+							routingKey, position);
+					}
+					catch (ModuleException moduleException) {
+						throw new IOException(moduleException);
+					}
+				},
+				MAX_DOWNLOAD_RESUMES));
+	}
+
+	private JsonNode getExportTaskJsonNode(
+			LiferayConnection connection, String exportTaskId,
+			long connectionTimeout, String routingKey)
 		throws ModuleException {
 
 		ResourceContext.Builder builder = new ResourceContext.Builder();
 
 		Map<String, String> pathParams = new HashMap<>();
 
-		pathParams.put("importTaskId", importTaskId);
+		pathParams.put("exportTaskId", exportTaskId);
 
 		HttpResponse httpResponse = connection.get(
 			builder.connectionTimeout(
 				connectionTimeout
 			).endpoint(
-				"/v1.0/import-task/{importTaskId}"
+				"/v1.0/export-task/{exportTaskId}"
 			).jaxRSAppBase(
 				"/headless-batch-engine"
 			).pathParams(
 				pathParams
+			).routingKey(
+				routingKey
 			).build());
 
 		liferayResponseValidator.validate(httpResponse);
@@ -370,183 +1558,465 @@ public class LiferayBatchOperations {
 		return jsonNodeReader.fromHttpResponse(httpResponse);
 	}
 
-	private String submitExportTask(
-			String className, LiferayConnection connection, String fieldNames,
-			String siteId, long connectionTimeout)
+	private Result<InputStream, Void> getExportTaskResult(
+			ZipInputStream zipInputStream, boolean spoolToFile)
 		throws ModuleException {
 
-		ResourceContext.Builder builder = new ResourceContext.Builder();
+		InputStream inputStream = zipInputStream;
 
-		Map<String, String> pathParams = new HashMap<>();
+		if (spoolToFile) {
+			MappedFileCursorStreamProvider mappedFileCursorStreamProvider =
+				spoolMappedExportTaskContent(zipInputStream);
 
-		pathParams.put("className", className);
-		pathParams.put("contentType", BatchExportContentType.JSON.toString());
+			inputStream = mappedFileCursorStreamProvider.openCursor();
+		}
+		else {
+			try {
+				zipInputStream.getNextEntry();
+			}
+			catch (IOException ioException) {
+				throw new ModuleException(LiferayError.EXECUTION, ioException);
+			}
+		}
 
-		MultiMap<String, String> queryParams = new MultiMap<>();
+		return Result.<InputStream, Void>builder(
+		).output(
+			inputStream
+		).build();
+	}
 
-		if (fieldNames != null) {
-			queryParams.put("fieldNames", fieldNames);
+	private String getFieldNameMappingsString(
+		Map<String, String> fieldNameMappings) {
+
+		StringBuilder sb = new StringBuilder();
+
+		for (Map.Entry<String, String> entry :
+				new TreeMap<>(fieldNameMappings).entrySet()) {
+
+			sb.append(entry.getKey() + "=" + entry.getValue());
+			sb.append(",");
 		}
 
-		if (siteId != null) {
-			queryParams.put("siteId", siteId);
+		if (sb.length() > 0) {
+			sb.setLength(sb.length() - 1);
 		}
 
-		HttpResponse httpResponse = connection.post(
+		return sb.toString();
+	}
+
+	private Path getFilePath(String filePath) throws ModuleException {
+		Path path = Paths.get(filePath);
+
+		if (!Files.isRegularFile(path) || !Files.isReadable(path)) {
+			throw new ModuleException(
+				"Unable to read file " + filePath, LiferayError.EXECUTION);
+		}
+
+		return path;
+	}
+
+	private String getFileVersion(Path path) {
+		File file = path.toFile();
+
+		return file.length() + ":" + file.lastModified();
+	}
+
+	private JsonNode getImportTaskJsonNode(
+			LiferayConnection connection, String importTaskId,
+			long connectionTimeout, String routingKey)
+		throws ModuleException {
+
+		ResourceContext.Builder builder = new ResourceContext.Builder();
+
+		Map<String, String> pathParams = new HashMap<>();
+
+		pathParams.put("importTaskId", importTaskId);
+
+		HttpResponse httpResponse = connection.get(
 			builder.connectionTimeout(
 				connectionTimeout
 			).endpoint(
-				"/v1.0/export-task/{className}/{contentType}"
+				"/v1.0/import-task/{importTaskId}"
 			).jaxRSAppBase(
 				"/headless-batch-engine"
 			).pathParams(
 				pathParams
-			).queryParams(
-				queryParams
+			).routingKey(
+				routingKey
 			).build());
 
 		liferayResponseValidator.validate(httpResponse);
 
-		JsonNode payloadJsonNode = jsonNodeReader.fromHttpResponse(
-			httpResponse);
+		return jsonNodeReader.fromHttpResponse(httpResponse);
+	}
 
-		JsonNode idJsonNode = payloadJsonNode.get("id");
+	private List<String> getPartitionBoundaries(
+			OASFormat oasFormat, String partitionField,
+			String partitionBoundaries)
+		throws ModuleException {
 
-		return String.valueOf(idJsonNode.longValue());
+		List<String> boundaries = new ArrayList<>();
+
+		Comparable<?> previousValue = null;
+
+		for (String boundary : partitionBoundaries.split(",")) {
+			boundary = boundary.trim();
+
+			if (boundary.isEmpty()) {
+				continue;
+			}
+
+			Comparable<?> value = getPartitionBoundaryValue(
+				oasFormat, partitionField, boundary);
+
+			if ((previousValue != null) &&
+				(compare(previousValue, value) >= 0)) {
+
+				throw new ModuleException(
+					"Partition boundaries must be in ascending order, " +
+						boundary + " follows " + previousValue,
+					LiferayError.EXECUTION);
+			}
+
+			if (value instanceof String) {
+				boundaries.add("'" + boundary.replace("'", "''") + "'");
+			}
+			else {
+				boundaries.add(boundary);
+			}
+
+			previousValue = value;
+		}
+
+		if (boundaries.isEmpty()) {
+			throw new ModuleException(
+				"Partition boundaries must not be empty",
+				LiferayError.EXECUTION);
+		}
+
+		return boundaries;
 	}
 
-	private String submitImportCreateTask(
-			LiferayConnection connection, InputStream inputStream,
-			String className, Map<String, String> fieldNameMappings,
-			long connectionTimeout)
+	private Comparable<?> getPartitionBoundaryValue(
+			OASFormat oasFormat, String partitionField, String boundary)
 		throws ModuleException {
 
-		ResourceContext.Builder builder = new ResourceContext.Builder();
+		try {
+			if ((oasFormat == OASFormat.INT32) ||
+				(oasFormat == OASFormat.INT64)) {
 
-		Map<String, String> pathParams = new HashMap<>();
+				return Long.valueOf(boundary);
+			}
+			else if ((oasFormat == OASFormat.BIGDECIMAL) ||
+					 (oasFormat == OASFormat.DOUBLE) ||
+					 (oasFormat == OASFormat.FLOAT)) {
 
-		pathParams.put("className", className);
+				return new BigDecimal(boundary);
+			}
+			else if (oasFormat == OASFormat.DATE) {
+				return LocalDate.parse(boundary);
+			}
+			else if (oasFormat == OASFormat.DATE_TIME) {
+				OffsetDateTime offsetDateTime = OffsetDateTime.parse(boundary);
 
-		MultiMap<String, String> queryParams = new MultiMap<>();
+				return offsetDateTime.toInstant();
+			}
+			else if (oasFormat == OASFormat.STRING) {
+				return boundary;
+			}
+		}
+		catch (DateTimeParseException | NumberFormatException exception) {
+			throw new ModuleException(
+				"Partition boundary " + boundary + " is not a valid value " +
+					"of partition field " + partitionField,
+				LiferayError.EXECUTION, exception);
+		}
 
-		if (!fieldNameMappings.isEmpty()) {
+		throw new ModuleException(
+			"Partition field " + partitionField + " of format " + oasFormat +
+				" cannot be partitioned",
+			LiferayError.EXECUTION);
+	}
+
+	private OASFormat getPartitionFieldOASFormat(
+			LiferayConnection connection, String className,
+			String partitionField)
+		throws ModuleException {
+
+		OASFormat oasFormat;
+
+		try {
+			oasFormat = metadataTypeBuilder.getFieldOASFormat(
+				connection.getOpenAPISpecJsonNode(), className,
+				partitionField);
+		}
+		catch (IOException ioException) {
+			throw new ModuleException(LiferayError.EXECUTION, ioException);
+		}
+		catch (TimeoutException timeoutException) {
+			throw new ModuleException(
+				LiferayError.CONNECTION_TIMEOUT, timeoutException);
+		}
+
+		if (oasFormat == null) {
+			throw new ModuleException(
+				"Partition field " + partitionField + " is not a field of " +
+					className,
+				LiferayError.EXECUTION);
+		}
+
+		return oasFormat;
+	}
+
+	private List<String> getPartitionFilters(
+			LiferayConnection connection, String className, String filter,
+			String partitionField, String partitionBoundaries)
+		throws ModuleException {
+
+		List<String> boundaries = getPartitionBoundaries(
+			getPartitionFieldOASFormat(connection, className, partitionField),
+			partitionField, partitionBoundaries);
+
+		List<String> partitionFilters = new ArrayList<>();
+
+		for (int i = 0; i <= boundaries.size(); i++) {
 			StringBuilder sb = new StringBuilder();
 
-			for (Map.Entry<String, String> entry :
-					fieldNameMappings.entrySet()) {
+			if (i > 0) {
+				sb.append(partitionField);
+				sb.append(" ge ");
+				sb.append(boundaries.get(i - 1));
+			}
+
+			if (i < boundaries.size()) {
+				if (sb.length() > 0) {
+					sb.append(" and ");
+				}
 
-				sb.append(entry.getKey() + "=" + entry.getValue());
-				sb.append(",");
+				sb.append(partitionField);
+				sb.append(" lt ");
+				sb.append(boundaries.get(i));
 			}
 
-			sb.setLength(sb.length() - 1);
+			if ((filter != null) && !filter.isEmpty()) {
+				sb.insert(0, "(" + filter + ") and (");
+				sb.append(")");
+			}
 
-			queryParams.put("fieldNameMappings", sb.toString());
+			partitionFilters.add(sb.toString());
 		}
 
-		HttpResponse httpResponse = connection.post(
-			builder.bytes(
-				IOUtils.toByteArray(inputStream)
-			).connectionTimeout(
-				connectionTimeout
-			).contentType(
-				"multipart/form-data"
-			).endpoint(
-				"/v1.0/import-task/{className}"
-			).jaxRSAppBase(
-				"/headless-batch-engine"
-			).pathParams(
-				pathParams
-			).queryParams(
-				queryParams
-			).build());
+		return partitionFilters;
+	}
 
-		liferayResponseValidator.validate(httpResponse);
+	private String getRoutingKey(LiferayConnection connection) {
+		String routingKey = String.valueOf(UUID.randomUUID());
 
-		JsonNode payloadJsonNode = jsonNodeReader.fromHttpResponse(
-			httpResponse);
+		connection.pinRoutingKey(routingKey);
 
-		JsonNode idJsonNode = payloadJsonNode.get("id");
+		return routingKey;
+	}
 
-		return String.valueOf(idJsonNode.longValue());
+	private String getTaskKey(
+		LiferayConnection connection, String taskType, byte[] bytes,
+		String... values) {
+
+		BatchTaskTracker batchTaskTracker = connection.getBatchTaskTracker();
+
+		if (batchTaskTracker == null) {
+			return null;
+		}
+
+		return batchTaskTracker.getTaskKey(taskType, bytes, values);
+	}
+
+	private TrackedBatchTask getTrackedBatchTask(
+		LiferayConnection connection, String taskKey) {
+
+		BatchTaskTracker batchTaskTracker = connection.getBatchTaskTracker();
+
+		if (batchTaskTracker == null) {
+			return null;
+		}
+
+		return batchTaskTracker.get(taskKey);
+	}
+
+	private boolean isBatchTaskLost(ModuleException moduleException) {
+		ErrorTypeDefinition<?> errorTypeDefinition = moduleException.getType();
+
+		if ((errorTypeDefinition == LiferayError.BATCH_EXPORT_FAILED) ||
+			(errorTypeDefinition == LiferayError.BATCH_IMPORT_FAILED) ||
+			(errorTypeDefinition == LiferayError.NOT_FOUND)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private String registerBatchTaskCallback(
+		LiferayConnection connection, String routingKey) {
+
+		BatchTaskCallbackListener batchTaskCallbackListener =
+			connection.getBatchTaskCallbackListener();
+
+		if (batchTaskCallbackListener == null) {
+			return null;
+		}
+
+		return batchTaskCallbackListener.register(routingKey);
 	}
 
-	private String submitImportDeleteTask(
-			LiferayConnection connection, InputStream inputStream,
-			String className, long connectionTimeout)
+	private void skip(InputStream inputStream, long length)
 		throws ModuleException {
 
-		ResourceContext.Builder builder = new ResourceContext.Builder();
+		try {
+			while (length > 0) {
+				long skipped = inputStream.skip(length);
 
-		Map<String, String> pathParams = new HashMap<>();
+				if (skipped > 0) {
+					length -= skipped;
+				}
+				else if (inputStream.read() != -1) {
+					length--;
+				}
+				else {
+					throw new EOFException(
+						"Export task content ended before the resume " +
+							"position");
+				}
+			}
+		}
+		catch (IOException ioException) {
+			throw new ModuleException(LiferayError.EXECUTION, ioException);
+		}
+	}
 
-		pathParams.put("className", className);
+	private Path spoolExportTaskContent(ZipInputStream zipInputStream) {
+		Path path = null;
 
-		HttpResponse httpResponse = connection.delete(
-			builder.bytes(
-				IOUtils.toByteArray(inputStream)
-			).connectionTimeout(
-				connectionTimeout
-			).contentType(
-				"multipart/form-data"
-			).endpoint(
-				"/v1.0/import-task/{className}"
-			).jaxRSAppBase(
-				"/headless-batch-engine"
-			).pathParams(
-				pathParams
-			).build());
+		try (ZipInputStream closeableZipInputStream = zipInputStream) {
+			closeableZipInputStream.getNextEntry();
 
-		liferayResponseValidator.validate(httpResponse);
+			path = Files.createTempFile("liferay-partition-", ".json");
 
-		JsonNode payloadJsonNode = jsonNodeReader.fromHttpResponse(
-			httpResponse);
+			Files.copy(
+				closeableZipInputStream, path,
+				StandardCopyOption.REPLACE_EXISTING);
 
-		JsonNode idJsonNode = payloadJsonNode.get("id");
+			return path;
+		}
+		catch (IOException ioException) {
+			if (path != null) {
+				deletePartitionFile(path);
+			}
 
-		return String.valueOf(idJsonNode.longValue());
+			throw new ModuleException(LiferayError.EXECUTION, ioException);
+		}
+	}
+
+	private MappedFileCursorStreamProvider spoolMappedExportTaskContent(
+		ZipInputStream zipInputStream) {
+
+		try (ZipInputStream closeableZipInputStream = zipInputStream) {
+			closeableZipInputStream.getNextEntry();
+
+			MappedFileCursorStreamProvider mappedFileCursorStreamProvider =
+				MappedFileCursorStreamProvider.spool(closeableZipInputStream);
+
+			logger.debug(
+				"Spooled {} bytes of export task content",
+				mappedFileCursorStreamProvider.getLength());
+
+			return mappedFileCursorStreamProvider;
+		}
+		catch (IOException ioException) {
+			throw new ModuleException(LiferayError.EXECUTION, ioException);
+		}
 	}
 
-	private String submitImportUpdateTask(
-			LiferayConnection connection, InputStream inputStream,
-			String className, long connectionTimeout)
+	private String submitBatchTask(
+			LiferayConnection connection, String taskType,
+			Function<String, String> submitFunction)
 		throws ModuleException {
 
-		ResourceContext.Builder builder = new ResourceContext.Builder();
+		String routingKey = getRoutingKey(connection);
 
-		Map<String, String> pathParams = new HashMap<>();
+		try {
+			String taskId = executeInSpan(
+				connection, SUBMIT_SPAN_NAME,
+				() -> submitFunction.apply(routingKey));
 
-		pathParams.put("className", className);
+			connection.transferRoutingKey(
+				routingKey, getBatchTaskRoutingKey(taskType, taskId));
 
-		HttpResponse httpResponse = connection.put(
-			builder.bytes(
-				IOUtils.toByteArray(inputStream)
-			).connectionTimeout(
-				connectionTimeout
-			).contentType(
-				"multipart/form-data"
-			).endpoint(
-				"/v1.0/import-task/{className}"
-			).jaxRSAppBase(
-				"/headless-batch-engine"
-			).pathParams(
-				pathParams
-			).build());
+			return taskId;
+		}
+		finally {
+			connection.releaseRoutingKey(routingKey);
+		}
+	}
 
-		liferayResponseValidator.validate(httpResponse);
+	private void trackBatchTask(
+		LiferayConnection connection, String taskKey, String taskId,
+		boolean completed) {
 
-		JsonNode payloadJsonNode = jsonNodeReader.fromHttpResponse(
-			httpResponse);
+		BatchTaskTracker batchTaskTracker = connection.getBatchTaskTracker();
 
-		JsonNode idJsonNode = payloadJsonNode.get("id");
+		if (batchTaskTracker == null) {
+			return;
+		}
 
-		return String.valueOf(idJsonNode.longValue());
+		if (completed) {
+			batchTaskTracker.trackCompleted(taskKey, taskId);
+		}
+		else {
+			batchTaskTracker.trackSubmitted(taskKey, taskId);
+		}
+	}
+
+	private void unregisterBatchTaskCallback(
+		LiferayConnection connection, String routingKey) {
+
+		BatchTaskCallbackListener batchTaskCallbackListener =
+			connection.getBatchTaskCallbackListener();
+
+		if (batchTaskCallbackListener != null) {
+			batchTaskCallbackListener.unregister(routingKey);
+		}
+	}
+
+	private void untrackBatchTask(
+		LiferayConnection connection, String taskKey) {
+
+		BatchTaskTracker batchTaskTracker = connection.getBatchTaskTracker();
+
+		if (batchTaskTracker == null) {
+			return;
+		}
+
+		batchTaskTracker.untrack(taskKey);
 	}
 
+	private static final String DOWNLOAD_SPAN_NAME = "liferay.batch.download";
+
+	private static final String EXPORT_TASK_TYPE = "export";
+
+	private static final String IMPORT_TASK_TYPE = "import";
+
+	private static final int MAX_DOWNLOAD_RESUMES = 5;
+
+	private static final String POLL_SPAN_NAME = "liferay.batch.poll";
+
+	private static final String SUBMIT_SPAN_NAME = "liferay.batch.submit";
+
 	private static final Logger logger = LoggerFactory.getLogger(
 		LiferayBatchOperations.class);
 
 	private final JsonNodeReader jsonNodeReader = new JsonNodeReader();
+	private final MetadataTypeBuilder metadataTypeBuilder =
+		new MetadataTypeBuilder();
 	private final LiferayResponseValidator liferayResponseValidator =
 		new LiferayResponseValidator();
 
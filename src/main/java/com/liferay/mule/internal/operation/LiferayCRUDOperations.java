@@ -16,8 +16,13 @@ package com.liferay.mule.internal.operation;
 
 import static org.mule.runtime.http.api.HttpConstants.Method;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 import com.liferay.mule.internal.connection.LiferayConnection;
 import com.liferay.mule.internal.connection.ResourceContext;
+import com.liferay.mule.internal.error.LiferayError;
 import com.liferay.mule.internal.error.LiferayResponseValidator;
 import com.liferay.mule.internal.error.provider.LiferayResponseErrorProvider;
 import com.liferay.mule.internal.metadata.input.PatchEndpointInputTypeResolver;
@@ -30,11 +35,20 @@ import com.liferay.mule.internal.metadata.output.DeleteEndpointOutputTypeResolve
 import com.liferay.mule.internal.metadata.output.GetEndpointOutputTypeResolver;
 import com.liferay.mule.internal.metadata.output.PatchEndpointOutputTypeResolver;
 import com.liferay.mule.internal.metadata.output.PostEndpointOutputTypeResolver;
+import com.liferay.mule.internal.streaming.BulkResultSpooler;
+import com.liferay.mule.internal.streaming.MappedFileCursorStreamProvider;
+import com.liferay.mule.internal.util.URITemplate;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.mule.runtime.api.util.MultiMap;
 import org.mule.runtime.core.api.util.IOUtils;
@@ -65,6 +79,76 @@ import org.slf4j.LoggerFactory;
 @Throws(LiferayResponseErrorProvider.class)
 public class LiferayCRUDOperations {
 
+	@DisplayName("Bulk - Update Records")
+	@MediaType(MediaType.APPLICATION_JSON)
+	@Summary(
+		"Sends each record of a JSON array as a separate PATCH request and " +
+			"returns the result of every record"
+	)
+	public Result<InputStream, Void> bulkPatch(
+			@Connection LiferayConnection connection,
+			@MetadataKeyId(PatchEndpointTypeKeysResolver.class) String endpoint,
+			@Content @DisplayName("Records") InputStream inputStream,
+			@DisplayName("Path Parameters") @NullSafe @Optional Map
+				<String, String> pathParams,
+			@DisplayName("Query Parameters") @NullSafe @Optional MultiMap
+				<String, String> queryParams,
+			@DisplayName("Parallelism") @Optional(defaultValue = "4")
+			@Summary("Maximum number of records sent concurrently")
+			int parallelism,
+			@ConfigOverride @DisplayName("Connection Timeout") @Optional
+			@Placement(order = 1, tab = Placement.ADVANCED_TAB)
+			@Summary("Socket connection timeout value")
+			int connectionTimeout,
+			@ConfigOverride @DisplayName("Connection Timeout Unit") @Optional
+			@Placement(order = 2, tab = Placement.ADVANCED_TAB)
+			@Summary("Time unit to be used in the timeout configurations")
+			TimeUnit connectionTimeoutTimeUnit)
+		throws ModuleException {
+
+		logEndpointParams(Method.PATCH, endpoint, pathParams, queryParams);
+
+		return executeBulk(
+			connection, Method.PATCH, endpoint, inputStream, pathParams,
+			queryParams, parallelism,
+			connectionTimeoutTimeUnit.toMillis(connectionTimeout));
+	}
+
+	@DisplayName("Bulk - Create Records")
+	@MediaType(MediaType.APPLICATION_JSON)
+	@Summary(
+		"Sends each record of a JSON array as a separate POST request and " +
+			"returns the result of every record"
+	)
+	public Result<InputStream, Void> bulkPost(
+			@Connection LiferayConnection connection,
+			@MetadataKeyId(PostEndpointTypeKeysResolver.class) String endpoint,
+			@Content @DisplayName("Records") InputStream inputStream,
+			@DisplayName("Path Parameters") @NullSafe @Optional Map
+				<String, String> pathParams,
+			@DisplayName("Query Parameters") @NullSafe @Optional MultiMap
+				<String, String> queryParams,
+			@DisplayName("Parallelism") @Optional(defaultValue = "4")
+			@Summary("Maximum number of records sent concurrently")
+			int parallelism,
+			@ConfigOverride @DisplayName("Connection Timeout") @Optional
+			@Placement(order = 1, tab = Placement.ADVANCED_TAB)
+			@Summary("Socket connection timeout value")
+			int connectionTimeout,
+			@ConfigOverride @DisplayName("Connection Timeout Unit") @Optional
+			@Placement(order = 2, tab = Placement.ADVANCED_TAB)
+			@Summary("Time unit to be used in the timeout configurations")
+			TimeUnit connectionTimeoutTimeUnit)
+		throws ModuleException {
+
+		logEndpointParams(Method.POST, endpoint, pathParams, queryParams);
+
+		return executeBulk(
+			connection, Method.POST, endpoint, inputStream, pathParams,
+			queryParams, parallelism,
+			connectionTimeoutTimeUnit.toMillis(connectionTimeout));
+	}
+
 	@DisplayName("Delete Record")
 	@MediaType(MediaType.APPLICATION_JSON)
 	@OutputResolver(output = DeleteEndpointOutputTypeResolver.class)
@@ -131,7 +215,9 @@ public class LiferayCRUDOperations {
 		ResourceContext.Builder builder = new ResourceContext.Builder();
 
 		HttpResponse httpResponse = connection.get(
-			builder.connectionTimeout(
+			builder.cacheable(
+				true
+			).connectionTimeout(
 				connectionTimeoutTimeUnit.toMillis(connectionTimeout)
 			).endpoint(
 				endpoint
@@ -236,6 +322,46 @@ public class LiferayCRUDOperations {
 		return geResult(httpResponse);
 	}
 
+	private Result<InputStream, Void> executeBulk(
+			LiferayConnection connection, Method method, String endpoint,
+			InputStream inputStream, Map<String, String> pathParams,
+			MultiMap<String, String> queryParams, int parallelism,
+			long connectionTimeoutMillis)
+		throws ModuleException {
+
+		if (parallelism < 1) {
+			throw new ModuleException(
+				"Parallelism must be greater than 0", LiferayError.EXECUTION);
+		}
+
+		URITemplate uriTemplate = new URITemplate(endpoint);
+
+		BulkResultSpooler bulkResultSpooler = new BulkResultSpooler(
+			objectMapper, parallelism, connectionTimeoutMillis,
+			(index, recordJsonNode) -> sendBulkRecord(
+				connection, method, uriTemplate, index, recordJsonNode,
+				pathParams, queryParams, connectionTimeoutMillis),
+			(index, throwable) -> getBulkRecordResult(index, null, throwable));
+
+		logger.debug("Sending {} requests to endpoint {}", method, endpoint);
+
+		MappedFileCursorStreamProvider mappedFileCursorStreamProvider;
+
+		try {
+			mappedFileCursorStreamProvider = bulkResultSpooler.spool(
+				inputStream);
+		}
+		catch (IOException ioException) {
+			throw new ModuleException(
+				ioException.getMessage(), LiferayError.EXECUTION, ioException);
+		}
+
+		return Result.<InputStream, Void>builder(
+		).output(
+			mappedFileCursorStreamProvider.openCursor()
+		).build();
+	}
+
 	private Result<String, Void> geResult(HttpResponse httpResponse) {
 		String responseBody = getResponseBody(httpResponse);
 
@@ -249,6 +375,73 @@ public class LiferayCRUDOperations {
 		).build();
 	}
 
+	private ObjectNode getBulkRecordResult(
+		int index, HttpResponse httpResponse, Throwable throwable) {
+
+		ObjectNode objectNode = objectMapper.createObjectNode();
+
+		objectNode.put("index", index);
+
+		if (throwable != null) {
+			if (throwable instanceof CompletionException) {
+				throwable = throwable.getCause();
+			}
+
+			LiferayError liferayError = LiferayError.EXECUTION;
+
+			if (throwable instanceof ModuleException) {
+				ModuleException moduleException = (ModuleException)throwable;
+
+				liferayError = (LiferayError)moduleException.getType();
+			}
+			else if (throwable instanceof TimeoutException) {
+				liferayError = LiferayError.CONNECTION_TIMEOUT;
+			}
+
+			objectNode.put("success", false);
+			objectNode.put("errorType", liferayError.name());
+			objectNode.put("errorMessage", throwable.getMessage());
+
+			return objectNode;
+		}
+
+		int statusCode = httpResponse.getStatusCode();
+
+		objectNode.put("success", statusCode < 400);
+		objectNode.put("statusCode", statusCode);
+
+		String responseBody = getResponseBody(httpResponse);
+
+		if (statusCode >= 400) {
+			objectNode.put("errorType", getLiferayError(statusCode).name());
+			objectNode.put("errorMessage", responseBody);
+
+			return objectNode;
+		}
+
+		if (responseBody.isEmpty()) {
+			return objectNode;
+		}
+
+		try {
+			objectNode.set("response", objectMapper.readTree(responseBody));
+		}
+		catch (IOException ioException) {
+			objectNode.put("response", responseBody);
+		}
+
+		return objectNode;
+	}
+
+	private LiferayError getLiferayError(int statusCode) {
+		try {
+			return LiferayError.fromStatus(statusCode);
+		}
+		catch (IllegalArgumentException illegalArgumentException) {
+			return LiferayError.EXECUTION;
+		}
+	}
+
 	private String getResponseBody(HttpResponse httpResponse) {
 		HttpEntity httpEntity = httpResponse.getEntity();
 
@@ -265,10 +458,62 @@ public class LiferayCRUDOperations {
 			method, endpoint, pathParams, queryParams);
 	}
 
+	private CompletableFuture<JsonNode> sendBulkRecord(
+		LiferayConnection connection, Method method, URITemplate uriTemplate,
+		int index, JsonNode recordJsonNode, Map<String, String> pathParams,
+		MultiMap<String, String> queryParams, long connectionTimeoutMillis) {
+
+		Map<String, String> recordPathParams = new HashMap<>(pathParams);
+
+		for (String parameterName : uriTemplate.getParameterNames()) {
+			JsonNode valueJsonNode = recordJsonNode.get(parameterName);
+
+			if ((valueJsonNode != null) && valueJsonNode.isValueNode()) {
+				recordPathParams.put(parameterName, valueJsonNode.asText());
+			}
+		}
+
+		CompletableFuture<HttpResponse> completableFuture;
+
+		try {
+			ResourceContext.Builder builder = new ResourceContext.Builder();
+
+			ResourceContext resourceContext = builder.connectionTimeout(
+				connectionTimeoutMillis
+			).endpoint(
+				uriTemplate.getTemplate()
+			).inputStream(
+				new ByteArrayInputStream(
+					objectMapper.writeValueAsBytes(recordJsonNode))
+			).pathParams(
+				recordPathParams
+			).queryParams(
+				queryParams
+			).build();
+
+			if (method == Method.PATCH) {
+				completableFuture = connection.patchAsync(resourceContext);
+			}
+			else {
+				completableFuture = connection.postAsync(resourceContext);
+			}
+		}
+		catch (IOException | RuntimeException exception) {
+			completableFuture = new CompletableFuture<>();
+
+			completableFuture.completeExceptionally(exception);
+		}
+
+		return completableFuture.handle(
+			(httpResponse, throwable) -> getBulkRecordResult(
+				index, httpResponse, throwable));
+	}
+
 	private static final Logger logger = LoggerFactory.getLogger(
 		LiferayCRUDOperations.class);
 
 	private final LiferayResponseValidator liferayResponseValidator =
 		new LiferayResponseValidator();
+	private final ObjectMapper objectMapper = new ObjectMapper();
 
 }
\ No newline at end of file
@@ -0,0 +1,343 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.source;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.liferay.mule.internal.connection.LiferayConnection;
+import com.liferay.mule.internal.connection.ResourceContext;
+import com.liferay.mule.internal.error.LiferayError;
+import com.liferay.mule.internal.error.LiferayResponseValidator;
+import com.liferay.mule.internal.util.JsonNodeReader;
+
+import java.io.Serializable;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.mule.runtime.api.connection.ConnectionException;
+import org.mule.runtime.api.connection.ConnectionProvider;
+import org.mule.runtime.api.util.MultiMap;
+import org.mule.runtime.extension.api.annotation.Alias;
+import org.mule.runtime.extension.api.annotation.param.ConfigOverride;
+import org.mule.runtime.extension.api.annotation.param.Connection;
+import org.mule.runtime.extension.api.annotation.param.MediaType;
+import org.mule.runtime.extension.api.annotation.param.NullSafe;
+import org.mule.runtime.extension.api.annotation.param.Optional;
+import org.mule.runtime.extension.api.annotation.param.Parameter;
+import org.mule.runtime.extension.api.annotation.param.display.DisplayName;
+import org.mule.runtime.extension.api.annotation.param.display.Placement;
+import org.mule.runtime.extension.api.annotation.param.display.Summary;
+import org.mule.runtime.extension.api.exception.ModuleException;
+import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.runtime.extension.api.runtime.source.PollContext;
+import org.mule.runtime.extension.api.runtime.source.PollingSource;
+import org.mule.runtime.extension.api.runtime.source.SourceCallbackContext;
+import org.mule.runtime.http.api.domain.message.response.HttpResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * @author Matija Petanjek
+ */
+@Alias("changed-records-listener")
+@DisplayName("On Changed Records")
+@MediaType(MediaType.APPLICATION_JSON)
+public class LiferayChangedRecordsSource extends PollingSource<String, Void> {
+
+	@Override
+	public void onRejectedItem(
+		Result<String, Void> result,
+		SourceCallbackContext sourceCallbackContext) {
+
+		logger.debug("Rejected changed record {}", result.getOutput());
+	}
+
+	@Override
+	public void poll(PollContext<String, Void> pollContext) {
+		Instant watermark = getWatermark(pollContext);
+
+		Set<String> watermarkKeys = new HashSet<>();
+
+		try {
+			for (int page = 1;;) {
+				JsonNode pageJsonNode = getPageJsonNode(watermark, page);
+
+				Instant lastDateModified = watermark;
+				Set<String> lastDateModifiedKeys = new HashSet<>(
+					watermarkKeys);
+
+				for (JsonNode itemJsonNode : pageJsonNode.get("items")) {
+					if (pollContext.isSourceStopping()) {
+						return;
+					}
+
+					Instant dateModified = getDateModified(itemJsonNode);
+					String key = getKey(itemJsonNode);
+
+					if ((dateModified != null) &&
+						dateModified.equals(watermark) &&
+						watermarkKeys.contains(key)) {
+
+						continue;
+					}
+
+					if (accept(pollContext, itemJsonNode, dateModified) ==
+							PollContext.PollItemStatus.SOURCE_STOPPING) {
+
+						return;
+					}
+
+					if (dateModified == null) {
+						continue;
+					}
+
+					if ((lastDateModified == null) ||
+						dateModified.isAfter(lastDateModified)) {
+
+						lastDateModified = dateModified;
+
+						lastDateModifiedKeys.clear();
+					}
+
+					if (dateModified.equals(lastDateModified)) {
+						lastDateModifiedKeys.add(key);
+					}
+				}
+
+				JsonNode lastPageJsonNode = pageJsonNode.get("lastPage");
+
+				if ((lastPageJsonNode == null) ||
+					(page >= lastPageJsonNode.asInt())) {
+
+					return;
+				}
+
+				if (Objects.equals(lastDateModified, watermark)) {
+					page++;
+				}
+				else {
+					page = 1;
+					watermark = lastDateModified;
+				}
+
+				watermarkKeys = lastDateModifiedKeys;
+			}
+		}
+		catch (ModuleException moduleException) {
+			logger.error(
+				"Unable to poll changed records of {}", endpoint,
+				moduleException);
+
+			if (moduleException.getType() == LiferayError.CONNECTION_TIMEOUT) {
+				pollContext.onConnectionException(
+					new ConnectionException(moduleException));
+			}
+		}
+	}
+
+	@Override
+	protected void doStart() throws ConnectionException {
+		liferayConnection = connectionProvider.connect();
+	}
+
+	@Override
+	protected void doStop() {
+		if (liferayConnection != null) {
+			connectionProvider.disconnect(liferayConnection);
+
+			liferayConnection = null;
+		}
+	}
+
+	private PollContext.PollItemStatus accept(
+		PollContext<String, Void> pollContext, JsonNode itemJsonNode,
+		Instant dateModified) {
+
+		return pollContext.accept(
+			pollItem -> {
+				pollItem.setResult(
+					Result.<String, Void>builder(
+					).output(
+						itemJsonNode.toString()
+					).build());
+
+				JsonNode idJsonNode = itemJsonNode.get("id");
+
+				if (idJsonNode != null) {
+					pollItem.setId(idJsonNode.asText());
+				}
+
+				if (dateModified != null) {
+					pollItem.setWatermark(dateModified);
+				}
+			});
+	}
+
+	private Instant getDateModified(JsonNode itemJsonNode) {
+		JsonNode dateModifiedJsonNode = itemJsonNode.get(dateModifiedField);
+
+		if (dateModifiedJsonNode == null) {
+			logger.warn(
+				"Record of {} does not have field {}", endpoint,
+				dateModifiedField);
+
+			return null;
+		}
+
+		try {
+			return Instant.parse(dateModifiedJsonNode.asText());
+		}
+		catch (DateTimeParseException dateTimeParseException) {
+			logger.warn(
+				"Unable to parse {} of a record of {}", dateModifiedField,
+				endpoint, dateTimeParseException);
+
+			return null;
+		}
+	}
+
+	private String getKey(JsonNode itemJsonNode) {
+		JsonNode idJsonNode = itemJsonNode.get("id");
+
+		if (idJsonNode != null) {
+			return idJsonNode.asText();
+		}
+
+		return itemJsonNode.toString();
+	}
+
+	private JsonNode getPageJsonNode(Instant watermark, int page)
+		throws ModuleException {
+
+		MultiMap<String, String> queryParams = new MultiMap<>();
+
+		if (watermark != null) {
+			queryParams.put(
+				"filter", dateModifiedField + " ge " + watermark);
+		}
+
+		queryParams.put("page", String.valueOf(page));
+		queryParams.put("pageSize", String.valueOf(pageSize));
+		queryParams.put("sort", dateModifiedField + ":asc");
+
+		ResourceContext.Builder builder = new ResourceContext.Builder();
+
+		HttpResponse httpResponse = liferayConnection.get(
+			builder.connectionTimeout(
+				connectionTimeoutTimeUnit.toMillis(connectionTimeout)
+			).endpoint(
+				endpoint
+			).pathParams(
+				pathParams
+			).queryParams(
+				queryParams
+			).build());
+
+		liferayResponseValidator.validate(httpResponse);
+
+		return jsonNodeReader.fromHttpResponse(httpResponse);
+	}
+
+	private Instant getWatermark(PollContext<String, Void> pollContext) {
+		Serializable watermark = pollContext.getWatermark(
+		).orElse(
+			null
+		);
+
+		if (watermark != null) {
+			return (Instant)watermark;
+		}
+
+		if (initialDateModified == null) {
+			return null;
+		}
+
+		try {
+			return Instant.parse(initialDateModified);
+		}
+		catch (DateTimeParseException dateTimeParseException) {
+			throw new ModuleException(
+				"Invalid initial date modified " + initialDateModified,
+				LiferayError.EXECUTION, dateTimeParseException);
+		}
+	}
+
+	private static final Logger logger = LoggerFactory.getLogger(
+		LiferayChangedRecordsSource.class);
+
+	@Connection
+	private ConnectionProvider<LiferayConnection> connectionProvider;
+
+	@ConfigOverride
+	@DisplayName("Connection Timeout")
+	@Optional
+	@Parameter
+	@Placement(order = 1, tab = Placement.ADVANCED_TAB)
+	@Summary("Socket connection timeout value")
+	private int connectionTimeout;
+
+	@ConfigOverride
+	@DisplayName("Connection Timeout Unit")
+	@Optional
+	@Parameter
+	@Placement(order = 2, tab = Placement.ADVANCED_TAB)
+	@Summary("Time unit to be used in the timeout configurations")
+	private TimeUnit connectionTimeoutTimeUnit;
+
+	@DisplayName("Date Modified Field")
+	@Optional(defaultValue = "dateModified")
+	@Parameter
+	@Summary("Field that holds the last modification date of a record")
+	private String dateModifiedField;
+
+	@DisplayName("Endpoint")
+	@Parameter
+	@Summary("Collection endpoint, for example /v1.0/sites/{siteId}/products")
+	private String endpoint;
+
+	@DisplayName("Initial Date Modified")
+	@Optional
+	@Parameter
+	@Summary(
+		"ISO-8601 date from which records are read when no watermark is " +
+			"stored yet; all records are read if it is not set"
+	)
+	private String initialDateModified;
+
+	private final JsonNodeReader jsonNodeReader = new JsonNodeReader();
+	private LiferayConnection liferayConnection;
+	private final LiferayResponseValidator liferayResponseValidator =
+		new LiferayResponseValidator();
+
+	@DisplayName("Page Size")
+	@Optional(defaultValue = "100")
+	@Parameter
+	private int pageSize;
+
+	@DisplayName("Path Parameters")
+	@NullSafe
+	@Optional
+	@Parameter
+	private Map<String, String> pathParams;
+
+}
\ No newline at end of file
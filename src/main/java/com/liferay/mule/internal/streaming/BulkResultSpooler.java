@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.streaming;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * @author Matija Petanjek
+ */
+public class BulkResultSpooler {
+
+	public BulkResultSpooler(
+		ObjectMapper objectMapper, int parallelism, long timeoutMillis,
+		BiFunction<Integer, JsonNode, CompletableFuture<JsonNode>>
+			sendFunction,
+		BiFunction<Integer, Throwable, JsonNode> failureFunction) {
+
+		this.objectMapper = objectMapper;
+		this.parallelism = parallelism;
+		this.timeoutMillis = timeoutMillis;
+		this.sendFunction = sendFunction;
+		this.failureFunction = failureFunction;
+	}
+
+	public MappedFileCursorStreamProvider spool(InputStream inputStream)
+		throws IOException {
+
+		Path path = Files.createTempFile("liferay-bulk-", ".json");
+
+		Deque<CompletableFuture<JsonNode>> completableFutures =
+			new ArrayDeque<>();
+
+		try {
+			try (JsonParser jsonParser = objectMapper.createParser(
+					inputStream);
+				OutputStream outputStream = Files.newOutputStream(path);
+				JsonGenerator jsonGenerator = objectMapper.getFactory(
+				).createGenerator(
+					outputStream
+				)) {
+
+				if (jsonParser.nextToken() != JsonToken.START_ARRAY) {
+					throw new IOException("Records must be a JSON array");
+				}
+
+				jsonGenerator.writeStartArray();
+
+				int index = 0;
+
+				while (true) {
+					JsonToken jsonToken = jsonParser.nextToken();
+
+					if (jsonToken == null) {
+						throw new EOFException(
+							"Records array is not terminated");
+					}
+
+					if (jsonToken == JsonToken.END_ARRAY) {
+						break;
+					}
+
+					if (completableFutures.size() >= parallelism) {
+						write(
+							jsonGenerator, index - completableFutures.size(),
+							completableFutures.removeFirst());
+					}
+
+					completableFutures.addLast(
+						sendFunction.apply(
+							index++, objectMapper.readTree(jsonParser)));
+				}
+
+				while (!completableFutures.isEmpty()) {
+					write(
+						jsonGenerator, index - completableFutures.size(),
+						completableFutures.removeFirst());
+				}
+
+				jsonGenerator.writeEndArray();
+
+				logger.debug("Sent {} bulk records", index);
+			}
+
+			return MappedFileCursorStreamProvider.map(path);
+		}
+		catch (IOException ioException) {
+			for (CompletableFuture<JsonNode> completableFuture :
+					completableFutures) {
+
+				completableFuture.cancel(true);
+			}
+
+			Files.deleteIfExists(path);
+
+			throw ioException;
+		}
+	}
+
+	private void write(
+			JsonGenerator jsonGenerator, int index,
+			CompletableFuture<JsonNode> completableFuture)
+		throws IOException {
+
+		JsonNode resultJsonNode;
+
+		try {
+			resultJsonNode = completableFuture.get(
+				timeoutMillis, TimeUnit.MILLISECONDS);
+		}
+		catch (ExecutionException executionException) {
+			resultJsonNode = failureFunction.apply(
+				index, executionException.getCause());
+		}
+		catch (InterruptedException interruptedException) {
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
+
+			throw new InterruptedIOException(
+				"Interrupted while waiting for bulk record " + index);
+		}
+		catch (TimeoutException timeoutException) {
+			completableFuture.cancel(true);
+
+			resultJsonNode = failureFunction.apply(index, timeoutException);
+		}
+
+		objectMapper.writeTree(jsonGenerator, resultJsonNode);
+	}
+
+	private static final Logger logger = LoggerFactory.getLogger(
+		BulkResultSpooler.class);
+
+	private final BiFunction<Integer, Throwable, JsonNode> failureFunction;
+	private final ObjectMapper objectMapper;
+	private final int parallelism;
+	private final BiFunction<Integer, JsonNode, CompletableFuture<JsonNode>>
+		sendFunction;
+	private final long timeoutMillis;
+
+}
\ No newline at end of file
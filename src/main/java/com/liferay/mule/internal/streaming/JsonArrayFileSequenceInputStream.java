@@ -0,0 +1,243 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.streaming;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * @author Matija Petanjek
+ */
+public class JsonArrayFileSequenceInputStream extends InputStream {
+
+	public JsonArrayFileSequenceInputStream(List<Path> paths)
+		throws IOException {
+
+		this.paths = paths;
+
+		try {
+			for (Path path : paths) {
+				FileChannel fileChannel = FileChannel.open(
+					path, StandardOpenOption.READ);
+
+				fileChannels.add(fileChannel);
+
+				long start = getStart(fileChannel, path);
+				long end = getEnd(fileChannel, path);
+
+				if (start < end) {
+					ends.add(end);
+					sliceFileChannels.add(fileChannel);
+					starts.add(start);
+				}
+			}
+		}
+		catch (IOException ioException) {
+			close();
+
+			throw ioException;
+		}
+
+		if (!starts.isEmpty()) {
+			position = starts.get(0);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+
+		closed = true;
+
+		for (FileChannel fileChannel : fileChannels) {
+			fileChannel.close();
+		}
+
+		for (Path path : paths) {
+			try {
+				Files.deleteIfExists(path);
+			}
+			catch (IOException ioException) {
+				logger.warn(
+					"Unable to delete partition file {}", path, ioException);
+			}
+		}
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (read(singleByte, 0, 1) < 0) {
+			return -1;
+		}
+
+		return singleByte[0] & 0xff;
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+		if (closed) {
+			throw new IOException("Stream is closed");
+		}
+
+		if (length == 0) {
+			return 0;
+		}
+
+		if (!started) {
+			started = true;
+
+			bytes[offset] = '[';
+
+			return 1;
+		}
+
+		while (index < starts.size()) {
+			if (separatorPending) {
+				separatorPending = false;
+
+				bytes[offset] = ',';
+
+				return 1;
+			}
+
+			long end = ends.get(index);
+
+			if (position < end) {
+				FileChannel fileChannel = sliceFileChannels.get(index);
+
+				int count = fileChannel.read(
+					ByteBuffer.wrap(
+						bytes, offset, (int)Math.min(length, end - position)),
+					position);
+
+				if (count < 0) {
+					throw new EOFException(
+						"Partition file ended at position " + position);
+				}
+
+				position += count;
+
+				return count;
+			}
+
+			index++;
+
+			if (index < starts.size()) {
+				position = starts.get(index);
+				separatorPending = true;
+			}
+		}
+
+		if (!finished) {
+			finished = true;
+
+			bytes[offset] = ']';
+
+			return 1;
+		}
+
+		return -1;
+	}
+
+	private long getEnd(FileChannel fileChannel, Path path)
+		throws IOException {
+
+		long position = skipWhitespace(
+			fileChannel, fileChannel.size() - 1, -1);
+
+		if (readByte(fileChannel, position) != ']') {
+			throw new IOException(
+				"Partition file " + path + " is not a JSON array");
+		}
+
+		return skipWhitespace(fileChannel, position - 1, -1) + 1;
+	}
+
+	private long getStart(FileChannel fileChannel, Path path)
+		throws IOException {
+
+		long position = skipWhitespace(fileChannel, 0, 1);
+
+		if (readByte(fileChannel, position) != '[') {
+			throw new IOException(
+				"Partition file " + path + " is not a JSON array");
+		}
+
+		return skipWhitespace(fileChannel, position + 1, 1);
+	}
+
+	private int readByte(FileChannel fileChannel, long position)
+		throws IOException {
+
+		if ((position < 0) || (position >= fileChannel.size())) {
+			return -1;
+		}
+
+		ByteBuffer byteBuffer = ByteBuffer.allocate(1);
+
+		if (fileChannel.read(byteBuffer, position) < 1) {
+			return -1;
+		}
+
+		return byteBuffer.get(0) & 0xff;
+	}
+
+	private long skipWhitespace(
+			FileChannel fileChannel, long position, int step)
+		throws IOException {
+
+		while (true) {
+			int b = readByte(fileChannel, position);
+
+			if ((b < 0) || !Character.isWhitespace(b)) {
+				return position;
+			}
+
+			position += step;
+		}
+	}
+
+	private static final Logger logger = LoggerFactory.getLogger(
+		JsonArrayFileSequenceInputStream.class);
+
+	private boolean closed;
+	private final List<Long> ends = new ArrayList<>();
+	private final List<FileChannel> fileChannels = new ArrayList<>();
+	private boolean finished;
+	private int index;
+	private final List<Path> paths;
+	private long position;
+	private boolean separatorPending;
+	private final byte[] singleByte = new byte[1];
+	private final List<FileChannel> sliceFileChannels = new ArrayList<>();
+	private boolean started;
+	private final List<Long> starts = new ArrayList<>();
+
+}
\ No newline at end of file
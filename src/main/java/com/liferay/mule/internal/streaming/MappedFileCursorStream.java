@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.streaming;
+
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+
+import org.mule.runtime.api.streaming.CursorProvider;
+import org.mule.runtime.api.streaming.bytes.CursorStream;
+
+/**
+ * @author Matija Petanjek
+ */
+public class MappedFileCursorStream extends CursorStream {
+
+	public MappedFileCursorStream(
+		CursorProvider<CursorStream> cursorProvider, ByteBuffer[] byteBuffers,
+		long length, long segmentSize) {
+
+		this.cursorProvider = cursorProvider;
+		this.byteBuffers = byteBuffers;
+		this.length = length;
+		this.segmentSize = segmentSize;
+	}
+
+	@Override
+	public int available() throws IOException {
+		checkReleased();
+
+		return (int)Math.min(Integer.MAX_VALUE, length - position);
+	}
+
+	@Override
+	public void close() {
+		release();
+	}
+
+	@Override
+	public long getPosition() {
+		return position;
+	}
+
+	@Override
+	public CursorProvider getProvider() {
+		return cursorProvider;
+	}
+
+	@Override
+	public boolean isReleased() {
+		return released;
+	}
+
+	@Override
+	public void mark(int readLimit) {
+		mark = position;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return true;
+	}
+
+	@Override
+	public int read() throws IOException {
+		checkReleased();
+
+		if (position >= length) {
+			return -1;
+		}
+
+		ByteBuffer byteBuffer = getByteBuffer();
+
+		position++;
+
+		return byteBuffer.get() & 0xff;
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+		checkReleased();
+
+		if (length == 0) {
+			return 0;
+		}
+
+		if (position >= this.length) {
+			return -1;
+		}
+
+		int count = 0;
+
+		while ((count < length) && (position < this.length)) {
+			ByteBuffer byteBuffer = getByteBuffer();
+
+			int segmentCount = Math.min(
+				length - count, byteBuffer.remaining());
+
+			byteBuffer.get(bytes, offset + count, segmentCount);
+
+			count += segmentCount;
+			position += segmentCount;
+		}
+
+		return count;
+	}
+
+	@Override
+	public void release() {
+		released = true;
+	}
+
+	@Override
+	public void reset() throws IOException {
+		seek(mark);
+	}
+
+	@Override
+	public void seek(long position) throws IOException {
+		checkReleased();
+
+		if ((position < 0) || (position > length)) {
+			throw new IOException(
+				"Position " + position + " is outside of the stream");
+		}
+
+		this.position = position;
+	}
+
+	@Override
+	public long skip(long count) throws IOException {
+		checkReleased();
+
+		long skipped = Math.max(0, Math.min(count, length - position));
+
+		position += skipped;
+
+		return skipped;
+	}
+
+	private void checkReleased() throws IOException {
+		if (released) {
+			throw new IOException("Cursor is released");
+		}
+	}
+
+	private ByteBuffer getByteBuffer() {
+		ByteBuffer byteBuffer = byteBuffers[(int)(position / segmentSize)];
+
+		byteBuffer.position((int)(position % segmentSize));
+
+		return byteBuffer;
+	}
+
+	private final ByteBuffer[] byteBuffers;
+	private final CursorProvider<CursorStream> cursorProvider;
+	private final long length;
+	private long mark;
+	private long position;
+	private volatile boolean released;
+	private final long segmentSize;
+
+}
\ No newline at end of file
@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.streaming;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.mule.runtime.api.streaming.CursorProvider;
+import org.mule.runtime.api.streaming.bytes.CursorStream;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * @author Matija Petanjek
+ */
+public class MappedFileCursorStreamProvider implements CursorStreamProvider {
+
+	public static MappedFileCursorStreamProvider map(Path path)
+		throws IOException {
+
+		MappedFileCursorStreamProvider mappedFileCursorStreamProvider =
+			new MappedFileCursorStreamProvider(path);
+
+		try {
+			Files.delete(path);
+		}
+		catch (IOException ioException) {
+			logger.debug(
+				"Unable to delete mapped spool file {}, it will be deleted " +
+					"when the provider is released",
+				path, ioException);
+
+			File file = path.toFile();
+
+			file.deleteOnExit();
+		}
+
+		return mappedFileCursorStreamProvider;
+	}
+
+	public static MappedFileCursorStreamProvider spool(InputStream inputStream)
+		throws IOException {
+
+		Path path = Files.createTempFile("liferay-spool-", ".tmp");
+
+		try {
+			try (FileChannel fileChannel = FileChannel.open(
+					path, StandardOpenOption.WRITE);
+				ReadableByteChannel readableByteChannel = Channels.newChannel(
+					inputStream)) {
+
+				long position = 0;
+
+				while (true) {
+					long count = fileChannel.transferFrom(
+						readableByteChannel, position, TRANSFER_SIZE);
+
+					if (count <= 0) {
+						break;
+					}
+
+					position += count;
+				}
+			}
+
+			return map(path);
+		}
+		catch (IOException ioException) {
+			Files.deleteIfExists(path);
+
+			throw ioException;
+		}
+	}
+
+	public MappedFileCursorStreamProvider(Path path) throws IOException {
+		this(path, SEGMENT_SIZE);
+	}
+
+	public MappedFileCursorStreamProvider(Path path, long segmentSize)
+		throws IOException {
+
+		this.path = path;
+		this.segmentSize = segmentSize;
+
+		try (FileChannel fileChannel = FileChannel.open(
+				path, StandardOpenOption.READ)) {
+
+			length = fileChannel.size();
+
+			byteBuffers = new ByteBuffer[
+				(int)((length + segmentSize - 1) / segmentSize)];
+
+			for (int i = 0; i < byteBuffers.length; i++) {
+				long position = i * segmentSize;
+
+				MappedByteBuffer mappedByteBuffer = fileChannel.map(
+					FileChannel.MapMode.READ_ONLY, position,
+					Math.min(segmentSize, length - position));
+
+				byteBuffers[i] = mappedByteBuffer;
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+	}
+
+	public long getLength() {
+		return length;
+	}
+
+	@Override
+	public boolean isClosed() {
+		return closed;
+	}
+
+	@Override
+	public CursorStream openCursor() {
+		return openCursor(this);
+	}
+
+	public CursorStream openCursor(
+		CursorProvider<CursorStream> cursorProvider) {
+
+		if (closed) {
+			throw new IllegalStateException(
+				"Cannot open a cursor on a closed provider");
+		}
+
+		ByteBuffer[] duplicateByteBuffers = new ByteBuffer[byteBuffers.length];
+
+		for (int i = 0; i < byteBuffers.length; i++) {
+			duplicateByteBuffers[i] = byteBuffers[i].duplicate();
+		}
+
+		return new MappedFileCursorStream(
+			cursorProvider, duplicateByteBuffers, length, segmentSize);
+	}
+
+	@Override
+	public void releaseResources() {
+		closed = true;
+
+		try {
+			Files.deleteIfExists(path);
+		}
+		catch (IOException ioException) {
+			logger.warn("Unable to delete spool file {}", path, ioException);
+		}
+	}
+
+	private static final long SEGMENT_SIZE = 1L << 30;
+
+	private static final long TRANSFER_SIZE = 1L << 24;
+
+	private static final Logger logger = LoggerFactory.getLogger(
+		MappedFileCursorStreamProvider.class);
+
+	private final ByteBuffer[] byteBuffers;
+	private volatile boolean closed;
+	private final long length;
+	private final Path path;
+	private final long segmentSize;
+
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.tracing;
+
+/**
+ * @author Matija Petanjek
+ */
+public interface LiferaySpan {
+
+	public void end();
+
+	public String getTraceParent();
+
+	public void setAttribute(String name, Object value);
+
+	public void setError(Throwable throwable);
+
+}
\ No newline at end of file
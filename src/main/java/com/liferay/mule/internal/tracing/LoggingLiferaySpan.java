@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.tracing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LoggingLiferaySpan implements LiferaySpan {
+
+	public LoggingLiferaySpan(
+		String name, LoggingLiferaySpan parentLoggingLiferaySpan, String spanId,
+		ThreadLocal<LoggingLiferaySpan> currentLoggingLiferaySpan) {
+
+		this.name = name;
+		this.parentLoggingLiferaySpan = parentLoggingLiferaySpan;
+		this.spanId = spanId;
+		this.currentLoggingLiferaySpan = currentLoggingLiferaySpan;
+
+		if (parentLoggingLiferaySpan == null) {
+			traceId = LoggingLiferayTracer.generateTraceId();
+		}
+		else {
+			traceId = parentLoggingLiferaySpan.getTraceId();
+		}
+
+		if (currentLoggingLiferaySpan != null) {
+			currentLoggingLiferaySpan.set(this);
+		}
+
+		startTime = System.nanoTime();
+	}
+
+	@Override
+	public synchronized void end() {
+		long duration = System.nanoTime() - startTime;
+
+		if ((currentLoggingLiferaySpan != null) &&
+			(currentLoggingLiferaySpan.get() == this)) {
+
+			if (parentLoggingLiferaySpan == null) {
+				currentLoggingLiferaySpan.remove();
+			}
+			else {
+				currentLoggingLiferaySpan.set(parentLoggingLiferaySpan);
+			}
+		}
+
+		String parentSpanId = null;
+
+		if (parentLoggingLiferaySpan != null) {
+			parentSpanId = parentLoggingLiferaySpan.getSpanId();
+		}
+
+		if (error == null) {
+			logger.info(
+				"Span {} with trace ID {}, span ID {} and parent span ID {} " +
+					"finished in {} ms with attributes {}",
+				name, traceId, spanId, parentSpanId, duration / 1000000.0,
+				attributes);
+		}
+		else {
+			logger.info(
+				"Span {} with trace ID {}, span ID {} and parent span ID {} " +
+					"failed in {} ms with attributes {} and error {}",
+				name, traceId, spanId, parentSpanId, duration / 1000000.0,
+				attributes, error);
+		}
+	}
+
+	public String getSpanId() {
+		return spanId;
+	}
+
+	public String getTraceId() {
+		return traceId;
+	}
+
+	@Override
+	public String getTraceParent() {
+		return "00-" + traceId + "-" + spanId + "-01";
+	}
+
+	@Override
+	public synchronized void setAttribute(String name, Object value) {
+		attributes.put(name, value);
+	}
+
+	@Override
+	public void setError(Throwable throwable) {
+		error = throwable.toString();
+	}
+
+	private static final Logger logger = LoggerFactory.getLogger(
+		LoggingLiferaySpan.class);
+
+	private final Map<String, Object> attributes = new LinkedHashMap<>();
+	private final ThreadLocal<LoggingLiferaySpan> currentLoggingLiferaySpan;
+	private volatile String error;
+	private final String name;
+	private final LoggingLiferaySpan parentLoggingLiferaySpan;
+	private final String spanId;
+	private final long startTime;
+	private final String traceId;
+
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LoggingLiferayTracer implements LiferayTracer {
+
+	@Override
+	public LiferaySpan startAsyncSpan(String name) {
+		return new LoggingLiferaySpan(
+			name, currentLoggingLiferaySpan.get(), generateSpanId(), null);
+	}
+
+	@Override
+	public LiferaySpan startSpan(String name) {
+		return new LoggingLiferaySpan(
+			name, currentLoggingLiferaySpan.get(), generateSpanId(),
+			currentLoggingLiferaySpan);
+	}
+
+	protected static String generateSpanId() {
+		ThreadLocalRandom threadLocalRandom = ThreadLocalRandom.current();
+
+		return toHex(threadLocalRandom.nextLong() | 1L);
+	}
+
+	protected static String generateTraceId() {
+		ThreadLocalRandom threadLocalRandom = ThreadLocalRandom.current();
+
+		return toHex(threadLocalRandom.nextLong()) +
+			toHex(threadLocalRandom.nextLong() | 1L);
+	}
+
+	private static String toHex(long value) {
+		String hex = Long.toHexString(value);
+
+		StringBuilder sb = new StringBuilder(16);
+
+		for (int i = hex.length(); i < 16; i++) {
+			sb.append('0');
+		}
+
+		sb.append(hex);
+
+		return sb.toString();
+	}
+
+	private static final ThreadLocal<LoggingLiferaySpan>
+		currentLoggingLiferaySpan = new ThreadLocal<>();
+
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.UUID;
+
+/**
+ * @author Matija Petanjek
+ */
+public class MultipartFileInputStream extends InputStream {
+
+	public MultipartFileInputStream(
+			String name, Path path, String partContentType)
+		throws IOException {
+
+		Path fileNamePath = path.getFileName();
+
+		String head = String.format(
+			"--%s\r\nContent-Disposition: form-data; name=\"%s\"; " +
+				"filename=\"%s\"\r\nContent-Type: %s\r\n\r\n",
+			BOUNDARY, name, fileNamePath, partContentType);
+
+		headBytes = head.getBytes(StandardCharsets.UTF_8);
+
+		fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+
+		fileSize = fileChannel.size();
+
+		length = headBytes.length + fileSize + TAIL_BYTES.length;
+	}
+
+	@Override
+	public int available() {
+		return (int)Math.min(Integer.MAX_VALUE, length - position);
+	}
+
+	@Override
+	public void close() throws IOException {
+		fileChannel.close();
+	}
+
+	public String getContentType() {
+		return "multipart/form-data; boundary=" + BOUNDARY;
+	}
+
+	public long getLength() {
+		return length;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (read(singleByte, 0, 1) == -1) {
+			return -1;
+		}
+
+		return singleByte[0] & 0xff;
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+		if (length == 0) {
+			return 0;
+		}
+
+		if (position >= this.length) {
+			fileChannel.close();
+
+			return -1;
+		}
+
+		int count;
+
+		if (position < headBytes.length) {
+			count = copy(headBytes, position, bytes, offset, length);
+		}
+		else if (position < (headBytes.length + fileSize)) {
+			ByteBuffer byteBuffer = ByteBuffer.wrap(
+				bytes, offset,
+				(int)Math.min(
+					length, headBytes.length + fileSize - position));
+
+			count = fileChannel.read(
+				byteBuffer, position - headBytes.length);
+
+			if (count == -1) {
+				throw new IOException(
+					"File was truncated while it was being read");
+			}
+		}
+		else {
+			count = copy(
+				TAIL_BYTES, position - headBytes.length - fileSize, bytes,
+				offset, length);
+		}
+
+		position += count;
+
+		return count;
+	}
+
+	private int copy(
+		byte[] sourceBytes, long sourcePosition, byte[] bytes, int offset,
+		int length) {
+
+		int count = (int)Math.min(
+			length, sourceBytes.length - sourcePosition);
+
+		System.arraycopy(
+			sourceBytes, (int)sourcePosition, bytes, offset, count);
+
+		return count;
+	}
+
+	private static final String BOUNDARY =
+		"LiferayBoundary" + UUID.randomUUID();
+
+	private static final byte[] TAIL_BYTES =
+		("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8);
+
+	private final FileChannel fileChannel;
+	private final long fileSize;
+	private final byte[] headBytes;
+	private final long length;
+	private long position;
+	private final byte[] singleByte = new byte[1];
+
+}
\ No newline at end of file
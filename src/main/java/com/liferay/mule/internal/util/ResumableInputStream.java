@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * @author Matija Petanjek
+ */
+public class ResumableInputStream extends InputStream {
+
+	public ResumableInputStream(
+		InputStream inputStream, Opener opener, int maxResumes) {
+
+		this.inputStream = inputStream;
+		this.opener = opener;
+		this.maxResumes = maxResumes;
+	}
+
+	@Override
+	public void close() throws IOException {
+		inputStream.close();
+	}
+
+	public long getPosition() {
+		return position;
+	}
+
+	public int getResumes() {
+		return resumes;
+	}
+
+	@Override
+	public int read() throws IOException {
+		while (true) {
+			try {
+				int value = inputStream.read();
+
+				if (value != -1) {
+					position++;
+				}
+
+				return value;
+			}
+			catch (IOException ioException) {
+				resume(ioException);
+			}
+		}
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+		while (true) {
+			try {
+				int count = inputStream.read(bytes, offset, length);
+
+				if (count > 0) {
+					position += count;
+				}
+
+				return count;
+			}
+			catch (IOException ioException) {
+				resume(ioException);
+			}
+		}
+	}
+
+	@FunctionalInterface
+	public interface Opener {
+
+		public InputStream open(long position) throws IOException;
+
+	}
+
+	private void closeQuietly() {
+		try {
+			inputStream.close();
+		}
+		catch (IOException ioException) {
+			logger.debug("Unable to close interrupted stream", ioException);
+		}
+	}
+
+	private void resume(IOException ioException) throws IOException {
+		closeQuietly();
+
+		while (true) {
+			if (resumes >= maxResumes) {
+				throw ioException;
+			}
+
+			resumes++;
+
+			logger.warn(
+				"Stream interrupted after {} bytes, resuming (attempt {} of " +
+					"{})",
+				position, resumes, maxResumes, ioException);
+
+			try {
+				inputStream = opener.open(position);
+
+				return;
+			}
+			catch (IOException openIOException) {
+				openIOException.addSuppressed(ioException);
+
+				ioException = openIOException;
+			}
+		}
+	}
+
+	private static final Logger logger = LoggerFactory.getLogger(
+		ResumableInputStream.class);
+
+	private InputStream inputStream;
+	private final int maxResumes;
+	private final Opener opener;
+	private long position;
+	private int resumes;
+
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.util;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * @author Matija Petanjek
+ */
+public class RunnableUtil {
+
+	public static void run(Queue<Runnable> runnables) {
+		Runnable runnable = runnables.poll();
+
+		while (runnable != null) {
+			try {
+				runnable.run();
+			}
+			catch (RuntimeException runtimeException) {
+				runnables.clear();
+
+				throw runtimeException;
+			}
+
+			runnable = runnables.poll();
+		}
+	}
+
+	public static CompletableFuture<Void> runAsync(
+		Queue<Runnable> runnables, int parallelism, Executor executor) {
+
+		CompletableFuture<?>[] completableFutures =
+			new CompletableFuture<?>[Math.min(parallelism, runnables.size())];
+
+		for (int i = 0; i < completableFutures.length; i++) {
+			completableFutures[i] = CompletableFuture.runAsync(
+				() -> run(runnables), executor);
+		}
+
+		return CompletableFuture.allOf(completableFutures);
+	}
+
+	private RunnableUtil() {
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.util;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Matija Petanjek
+ */
+public class URITemplate {
+
+	public URITemplate(String template) {
+		List<String> segments = new ArrayList<>();
+		List<String> parameterNames = new ArrayList<>();
+
+		int index = 0;
+
+		while (index < template.length()) {
+			int openIndex = template.indexOf('{', index);
+
+			int closeIndex = -1;
+
+			if (openIndex != -1) {
+				closeIndex = template.indexOf('}', openIndex);
+			}
+
+			if ((openIndex == -1) || (closeIndex == -1)) {
+				segments.add(template.substring(index));
+				parameterNames.add(null);
+
+				break;
+			}
+
+			if (openIndex > index) {
+				segments.add(template.substring(index, openIndex));
+				parameterNames.add(null);
+			}
+
+			String parameterName = template.substring(
+				openIndex + 1, closeIndex);
+
+			segments.add("{" + parameterName + "}");
+			parameterNames.add(parameterName);
+
+			index = closeIndex + 1;
+		}
+
+		this.segments = segments.toArray(new String[0]);
+		this.parameterNames = parameterNames.toArray(new String[0]);
+		this.template = template;
+	}
+
+	public List<String> getParameterNames() {
+		List<String> parameterNames = new ArrayList<>();
+
+		for (String parameterName : this.parameterNames) {
+			if (parameterName != null) {
+				parameterNames.add(parameterName);
+			}
+		}
+
+		return Collections.unmodifiableList(parameterNames);
+	}
+
+	public String getTemplate() {
+		return template;
+	}
+
+	public String render(Map<String, String> pathParams) {
+		StringBuilder sb = new StringBuilder(template.length() + 16);
+
+		render(sb, pathParams);
+
+		return sb.toString();
+	}
+
+	public void render(StringBuilder sb, Map<String, String> pathParams) {
+		for (int i = 0; i < segments.length; i++) {
+			if (parameterNames[i] == null) {
+				sb.append(segments[i]);
+
+				continue;
+			}
+
+			String value = pathParams.get(parameterNames[i]);
+
+			if (value == null) {
+				sb.append(segments[i]);
+			}
+			else {
+				appendEncoded(sb, value);
+			}
+		}
+	}
+
+	private static void appendEncoded(StringBuilder sb, String value) {
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+
+			if ((c < 128) && allowedCharacters[c]) {
+				sb.append(c);
+
+				continue;
+			}
+
+			String remainder = value.substring(i);
+
+			for (byte b : remainder.getBytes(StandardCharsets.UTF_8)) {
+				if ((b >= 0) && allowedCharacters[b]) {
+					sb.append((char)b);
+				}
+				else {
+					sb.append('%');
+					sb.append(hexDigits[(b >> 4) & 0xF]);
+					sb.append(hexDigits[b & 0xF]);
+				}
+			}
+
+			return;
+		}
+	}
+
+	private static final boolean[] allowedCharacters = new boolean[128];
+	private static final char[] hexDigits = "0123456789ABCDEF".toCharArray();
+
+	static {
+		for (char c = 'a'; c <= 'z'; c++) {
+			allowedCharacters[c] = true;
+		}
+
+		for (char c = 'A'; c <= 'Z'; c++) {
+			allowedCharacters[c] = true;
+		}
+
+		for (char c = '0'; c <= '9'; c++) {
+			allowedCharacters[c] = true;
+		}
+
+		for (char c : "-._~!$&'()*+,;=:@".toCharArray()) {
+			allowedCharacters[c] = true;
+		}
+	}
+
+	private final String[] parameterNames;
+	private final String[] segments;
+	private final String template;
+
+}
\ No newline at end of file
@@ -0,0 +1,533 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection;
+
+import com.liferay.mule.internal.error.LiferayError;
+import com.liferay.mule.internal.metrics.LatencyStatistics;
+import com.liferay.mule.internal.metrics.LiferayMetrics;
+import com.liferay.mule.internal.tracing.LoggingLiferayTracer;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import org.mule.runtime.core.api.util.IOUtils;
+import org.mule.runtime.extension.api.exception.ModuleException;
+import org.mule.runtime.http.api.HttpService;
+import org.mule.runtime.http.api.client.HttpClient;
+import org.mule.runtime.http.api.client.HttpClientFactory;
+import org.mule.runtime.http.api.domain.entity.ByteArrayHttpEntity;
+import org.mule.runtime.http.api.domain.entity.HttpEntity;
+import org.mule.runtime.http.api.domain.message.request.HttpRequest;
+import org.mule.runtime.http.api.domain.message.response.HttpResponse;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LiferayConnectionTest {
+
+	@Before
+	public void setUp() throws Exception {
+		httpClient = Mockito.mock(HttpClient.class);
+
+		HttpClientFactory httpClientFactory = Mockito.mock(
+			HttpClientFactory.class);
+
+		Mockito.doReturn(
+			httpClient
+		).when(
+			httpClientFactory
+		).create(
+			Mockito.any()
+		);
+
+		httpService = Mockito.mock(HttpService.class);
+
+		Mockito.doReturn(
+			httpClientFactory
+		).when(
+			httpService
+		).getClientFactory();
+
+		liferayMetrics = new LiferayMetrics();
+
+		liferayConnection = LiferayConnection.withBasicAuthentication(
+			httpService, OPEN_API_URL, null, "test@liferay.com", "test", null,
+			getLiferayConnectionSettings());
+	}
+
+	@After
+	public void tearDown() {
+		liferayConnection.invalidate();
+	}
+
+	@Test
+	public void testGetAdditionalJaxRSAppBaseEndpoint() throws Exception {
+		liferayConnection = LiferayConnection.withBasicAuthentication(
+			httpService, OPEN_API_URL,
+			Collections.singletonList(
+				"http://localhost:8080/o/headless-delivery/v1.0/openapi.json"),
+			"test@liferay.com", "test", null, getLiferayConnectionSettings());
+
+		Mockito.doReturn(
+			getHttpResponse()
+		).when(
+			httpClient
+		).send(
+			Mockito.any(), Mockito.anyInt(), Mockito.anyBoolean(),
+			Mockito.any()
+		);
+
+		ResourceContext.Builder builder = new ResourceContext.Builder();
+
+		liferayConnection.get(
+			builder.connectionTimeout(
+				5000
+			).endpoint(
+				"/headless-delivery/v1.0/blog-postings"
+			).build());
+		liferayConnection.get(getResourceContext());
+
+		ArgumentCaptor<HttpRequest> argumentCaptor = ArgumentCaptor.forClass(
+			HttpRequest.class);
+
+		Mockito.verify(
+			httpClient, Mockito.times(2)
+		).send(
+			argumentCaptor.capture(), Mockito.anyInt(), Mockito.anyBoolean(),
+			Mockito.any()
+		);
+
+		List<HttpRequest> httpRequests = argumentCaptor.getAllValues();
+
+		Assert.assertEquals(
+			"http://localhost:8080/o/headless-delivery/v1.0/blog-postings",
+			String.valueOf(httpRequests.get(0).getUri()));
+		Assert.assertEquals(
+			"http://localhost:8080/o/headless-commerce-admin-catalog/v1.0" +
+				"/catalogs",
+			String.valueOf(httpRequests.get(1).getUri()));
+	}
+
+	@Test
+	public void testGetCoalescesConcurrentIdenticalRequests()
+		throws Exception {
+
+		CountDownLatch countDownLatch = new CountDownLatch(1);
+
+		Mockito.doAnswer(
+			invocation -> {
+				countDownLatch.await();
+
+				return getHttpResponse();
+			}
+		).when(
+			httpClient
+		).send(
+			Mockito.any(), Mockito.anyInt(), Mockito.anyBoolean(),
+			Mockito.any()
+		);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		try {
+			Future<HttpResponse> future1 = executorService.submit(
+				() -> liferayConnection.get(getResourceContext()));
+
+			Mockito.verify(
+				httpClient, Mockito.timeout(5000)
+			).send(
+				Mockito.any(), Mockito.anyInt(), Mockito.anyBoolean(),
+				Mockito.any()
+			);
+
+			Future<HttpResponse> future2 = executorService.submit(
+				() -> liferayConnection.get(getResourceContext()));
+
+			Thread.sleep(500);
+
+			countDownLatch.countDown();
+
+			assertContent(future1.get(5, TimeUnit.SECONDS));
+			assertContent(future2.get(5, TimeUnit.SECONDS));
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		Mockito.verify(
+			httpClient, Mockito.times(1)
+		).send(
+			Mockito.any(), Mockito.anyInt(), Mockito.anyBoolean(),
+			Mockito.any()
+		);
+	}
+
+	@Test
+	public void testGetCoalescedRequestFailsWithError() throws Exception {
+		CountDownLatch countDownLatch = new CountDownLatch(1);
+
+		Mockito.doAnswer(
+			invocation -> {
+				countDownLatch.await();
+
+				throw new OutOfMemoryError();
+			}
+		).when(
+			httpClient
+		).send(
+			Mockito.any(), Mockito.anyInt(), Mockito.anyBoolean(),
+			Mockito.any()
+		);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		try {
+			Future<HttpResponse> future1 = executorService.submit(
+				() -> liferayConnection.get(getResourceContext()));
+
+			Mockito.verify(
+				httpClient, Mockito.timeout(5000)
+			).send(
+				Mockito.any(), Mockito.anyInt(), Mockito.anyBoolean(),
+				Mockito.any()
+			);
+
+			Future<HttpResponse> future2 = executorService.submit(
+				() -> liferayConnection.get(getResourceContext()));
+
+			Thread.sleep(500);
+
+			countDownLatch.countDown();
+
+			assertFailure(future1, OutOfMemoryError.class);
+			assertFailure(future2, ModuleException.class);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testGetCoalescedRequestTimesOut() throws Exception {
+		CountDownLatch countDownLatch = new CountDownLatch(1);
+
+		Mockito.doAnswer(
+			invocation -> {
+				countDownLatch.await();
+
+				return getHttpResponse();
+			}
+		).when(
+			httpClient
+		).send(
+			Mockito.any(), Mockito.anyInt(), Mockito.anyBoolean(),
+			Mockito.any()
+		);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(1);
+
+		try {
+			Future<HttpResponse> future = executorService.submit(
+				() -> liferayConnection.get(getResourceContext()));
+
+			Mockito.verify(
+				httpClient, Mockito.timeout(5000)
+			).send(
+				Mockito.any(), Mockito.anyInt(), Mockito.anyBoolean(),
+				Mockito.any()
+			);
+
+			ResourceContext.Builder builder = new ResourceContext.Builder();
+
+			try {
+				liferayConnection.get(
+					builder.cacheable(
+						true
+					).connectionTimeout(
+						100
+					).endpoint(
+						"/v1.0/catalogs"
+					).build());
+
+				Assert.fail();
+			}
+			catch (ModuleException moduleException) {
+				Assert.assertEquals(
+					LiferayError.CONNECTION_TIMEOUT, moduleException.getType());
+			}
+
+			countDownLatch.countDown();
+
+			assertContent(future.get(5, TimeUnit.SECONDS));
+		}
+		finally {
+			countDownLatch.countDown();
+
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testGetOpenAPISpecHeadHttpResponseFallsBackToGet()
+		throws Exception {
+
+		Mockito.doAnswer(
+			invocation -> {
+				HttpRequest httpRequest = invocation.getArgument(0);
+
+				if (Objects.equals(httpRequest.getMethod(), "HEAD")) {
+					return HttpResponse.builder(
+					).reasonPhrase(
+						"Method Not Allowed"
+					).statusCode(
+						405
+					).build();
+				}
+
+				return getHttpResponse();
+			}
+		).when(
+			httpClient
+		).send(
+			Mockito.any(), Mockito.anyInt(), Mockito.anyBoolean(),
+			Mockito.any()
+		);
+
+		HttpResponse httpResponse =
+			liferayConnection.getOpenAPISpecHeadHttpResponse();
+
+		Assert.assertEquals(200, httpResponse.getStatusCode());
+
+		httpResponse = liferayConnection.getOpenAPISpecHeadHttpResponse();
+
+		Assert.assertEquals(200, httpResponse.getStatusCode());
+
+		ArgumentCaptor<HttpRequest> argumentCaptor = ArgumentCaptor.forClass(
+			HttpRequest.class);
+
+		Mockito.verify(
+			httpClient, Mockito.times(3)
+		).send(
+			argumentCaptor.capture(), Mockito.anyInt(), Mockito.anyBoolean(),
+			Mockito.any()
+		);
+
+		List<HttpRequest> httpRequests = argumentCaptor.getAllValues();
+
+		Assert.assertEquals("HEAD", httpRequests.get(0).getMethod());
+		Assert.assertEquals("GET", httpRequests.get(1).getMethod());
+		Assert.assertEquals("GET", httpRequests.get(2).getMethod());
+	}
+
+	@Test
+	public void testGetRecordsMetrics() throws Exception {
+		Mockito.doReturn(
+			getHttpResponse()
+		).when(
+			httpClient
+		).send(
+			Mockito.any(), Mockito.anyInt(), Mockito.anyBoolean(),
+			Mockito.any()
+		);
+
+		liferayConnection.get(getResourceContext());
+		liferayConnection.get(getResourceContext());
+
+		Map<String, Long> requestCounts = liferayMetrics.getRequestCounts();
+
+		Assert.assertEquals(
+			Long.valueOf(2), requestCounts.get("GET /v1.0/catalogs 200"));
+
+		Map<String, LatencyStatistics> requestDurations =
+			liferayMetrics.getRequestDurations();
+
+		LatencyStatistics latencyStatistics = requestDurations.get(
+			"GET /v1.0/catalogs");
+
+		Assert.assertEquals(2, latencyStatistics.getCount());
+
+		Assert.assertEquals(0, liferayMetrics.getInFlightRequests());
+	}
+
+	@Test
+	public void testGetRecordsPropagatesTraceParent() throws Exception {
+		Mockito.doReturn(
+			getHttpResponse()
+		).when(
+			httpClient
+		).send(
+			Mockito.any(), Mockito.anyInt(), Mockito.anyBoolean(),
+			Mockito.any()
+		);
+
+		liferayConnection.get(getResourceContext());
+
+		ArgumentCaptor<HttpRequest> argumentCaptor = ArgumentCaptor.forClass(
+			HttpRequest.class);
+
+		Mockito.verify(
+			httpClient
+		).send(
+			argumentCaptor.capture(), Mockito.anyInt(), Mockito.anyBoolean(),
+			Mockito.any()
+		);
+
+		HttpRequest httpRequest = argumentCaptor.getValue();
+
+		String traceParent = httpRequest.getHeaderValue("traceparent");
+
+		Assert.assertNotNull(traceParent);
+		Assert.assertTrue(
+			traceParent,
+			traceParent.matches("00-[0-9a-f]{32}-[0-9a-f]{16}-01"));
+	}
+
+	@Test
+	public void testPostAsyncRecordsTimeoutMetrics() throws Exception {
+		Mockito.doReturn(
+			getHttpResponse()
+		).when(
+			httpClient
+		).send(
+			Mockito.any(), Mockito.anyInt(), Mockito.anyBoolean(),
+			Mockito.any()
+		);
+
+		CompletableFuture<HttpResponse> completableFuture =
+			new CompletableFuture<>();
+
+		Mockito.doAnswer(
+			invocation -> {
+				Assert.assertEquals(1, liferayMetrics.getInFlightRequests());
+
+				return completableFuture;
+			}
+		).when(
+			httpClient
+		).sendAsync(
+			Mockito.any(), Mockito.anyInt(), Mockito.anyBoolean(),
+			Mockito.any()
+		);
+
+		CompletableFuture<HttpResponse> postCompletableFuture =
+			liferayConnection.postAsync(getResourceContext());
+
+		completableFuture.completeExceptionally(
+			new TimeoutException("Request timed out"));
+
+		try {
+			postCompletableFuture.join();
+
+			Assert.fail();
+		}
+		catch (CompletionException completionException) {
+			Assert.assertTrue(
+				completionException.getCause() instanceof TimeoutException);
+		}
+
+		Assert.assertEquals(
+			Collections.singletonMap("CONNECTION_TIMEOUT", 1L),
+			liferayMetrics.getErrorCounts());
+		Assert.assertEquals(0, liferayMetrics.getInFlightRequests());
+	}
+
+	private void assertContent(HttpResponse httpResponse) {
+		HttpEntity httpEntity = httpResponse.getEntity();
+
+		Assert.assertEquals(CONTENT, IOUtils.toString(httpEntity.getContent()));
+	}
+
+	private void assertFailure(
+			Future<HttpResponse> future, Class<?> throwableClass)
+		throws Exception {
+
+		try {
+			future.get(5, TimeUnit.SECONDS);
+
+			Assert.fail();
+		}
+		catch (ExecutionException executionException) {
+			Assert.assertTrue(
+				throwableClass.isInstance(executionException.getCause()));
+		}
+	}
+
+	private HttpResponse getHttpResponse() {
+		return HttpResponse.builder(
+		).entity(
+			new ByteArrayHttpEntity(CONTENT.getBytes(StandardCharsets.UTF_8))
+		).reasonPhrase(
+			"OK"
+		).statusCode(
+			200
+		).build();
+	}
+
+	private LiferayConnectionSettings getLiferayConnectionSettings() {
+		LiferayConnectionSettings.Builder builder =
+			new LiferayConnectionSettings.Builder();
+
+		return builder.liferayMetrics(
+			liferayMetrics
+		).liferayTracer(
+			new LoggingLiferayTracer()
+		).build();
+	}
+
+	private ResourceContext getResourceContext() {
+		ResourceContext.Builder builder = new ResourceContext.Builder();
+
+		return builder.cacheable(
+			true
+		).connectionTimeout(
+			5000
+		).endpoint(
+			"/v1.0/catalogs"
+		).build();
+	}
+
+	private static final String CONTENT = "{\"items\": []}";
+
+	private static final String OPEN_API_URL =
+		"http://localhost:8080/o/headless-commerce-admin-catalog/v1.0" +
+			"/openapi.json";
+
+	private HttpClient httpClient;
+	private HttpService httpService;
+	private LiferayConnection liferayConnection;
+	private LiferayMetrics liferayMetrics;
+
+}
\ No newline at end of file
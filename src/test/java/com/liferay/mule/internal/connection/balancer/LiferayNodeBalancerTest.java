@@ -0,0 +1,407 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.balancer;
+
+import com.liferay.mule.internal.connection.LiferayConnection;
+import com.liferay.mule.internal.connection.LiferayConnectionSettings;
+import com.liferay.mule.internal.operation.BatchTaskType;
+import com.liferay.mule.internal.operation.LiferayBatchOperations;
+import com.liferay.mule.internal.operation.LiferayCRUDOperations;
+import com.liferay.mule.internal.standin.LiferayStandInServer;
+
+import java.io.InputStream;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.mule.runtime.api.util.MultiMap;
+import org.mule.runtime.core.api.util.IOUtils;
+import org.mule.runtime.extension.api.runtime.operation.Result;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LiferayNodeBalancerTest {
+
+	@Test
+	public void testExecuteExportTask() throws Exception {
+		LiferayStandInServer liferayStandInServer1 = new LiferayStandInServer(
+			3, 0);
+		LiferayStandInServer liferayStandInServer2 = new LiferayStandInServer(
+			3, 0);
+
+		liferayStandInServer1.start();
+		liferayStandInServer2.start();
+
+		try {
+			LiferayConnection liferayConnection = getLiferayConnection(
+				liferayStandInServer1, liferayStandInServer2);
+
+			try {
+				Result<InputStream, Void> result =
+					liferayBatchOperations.executeExportTask(
+						liferayConnection, "com.liferay.headless.v1_0.Entity",
+						null, null, null, null, null, 5, TimeUnit.SECONDS,
+						false);
+
+				assertContent(result);
+
+				Assert.assertEquals(
+					0, liferayStandInServer1.getRequestsCount());
+				Assert.assertEquals(
+					3, liferayStandInServer2.getRequestsCount());
+			}
+			finally {
+				liferayConnection.invalidate();
+			}
+		}
+		finally {
+			liferayStandInServer1.stop();
+			liferayStandInServer2.stop();
+		}
+	}
+
+	@Test
+	public void testGet() throws Exception {
+		LiferayStandInServer liferayStandInServer1 = new LiferayStandInServer(
+			3, 0);
+		LiferayStandInServer liferayStandInServer2 = new LiferayStandInServer(
+			3, 0);
+
+		liferayStandInServer1.start();
+		liferayStandInServer2.start();
+
+		try {
+			LiferayConnection liferayConnection = getLiferayConnection(
+				liferayStandInServer1, liferayStandInServer2);
+
+			try {
+				for (int i = 0; i < 4; i++) {
+					liferayCRUDOperations.get(
+						liferayConnection, "/entities/{id}",
+						Collections.singletonMap("id", "2"), new MultiMap<>(),
+						5, TimeUnit.SECONDS);
+				}
+
+				Assert.assertEquals(
+					2, liferayStandInServer1.getRequestsCount());
+				Assert.assertEquals(
+					2, liferayStandInServer2.getRequestsCount());
+			}
+			finally {
+				liferayConnection.invalidate();
+			}
+		}
+		finally {
+			liferayStandInServer1.stop();
+			liferayStandInServer2.stop();
+		}
+	}
+
+	@Test
+	public void testPinExpires() throws Exception {
+		LiferayNodeBalancer liferayNodeBalancer = new LiferayNodeBalancer(
+			Arrays.asList(BASE_URLS), LoadBalancingStrategy.ROUND_ROBIN, 2,
+			60000, 50);
+
+		liferayNodeBalancer.pin("task1");
+		liferayNodeBalancer.pin("task2");
+
+		Assert.assertEquals(2, liferayNodeBalancer.getRoutedCount());
+
+		Thread.sleep(100);
+
+		liferayNodeBalancer.pin("task3");
+
+		Assert.assertEquals(1, liferayNodeBalancer.getRoutedCount());
+
+		Thread.sleep(100);
+
+		LiferayNode liferayNode = liferayNodeBalancer.select("task3");
+
+		Assert.assertNotSame(liferayNode, liferayNodeBalancer.select("task3"));
+		Assert.assertEquals(0, liferayNodeBalancer.getRoutedCount());
+	}
+
+	@Test
+	public void testRecordFailureEjectsNode() {
+		LiferayNodeBalancer liferayNodeBalancer = getLiferayNodeBalancer(
+			LoadBalancingStrategy.ROUND_ROBIN, 60000);
+
+		LiferayNode liferayNode = liferayNodeBalancer.select(null);
+
+		liferayNodeBalancer.recordFailure(liferayNode);
+
+		Assert.assertFalse(liferayNode.isEjected(System.currentTimeMillis()));
+
+		liferayNodeBalancer.recordResponse(liferayNode, 503);
+
+		Assert.assertTrue(liferayNode.isEjected(System.currentTimeMillis()));
+
+		for (int i = 0; i < 6; i++) {
+			Assert.assertNotSame(liferayNode, liferayNodeBalancer.select(null));
+		}
+	}
+
+	@Test
+	public void testRecordResponseResetsFailures() {
+		LiferayNodeBalancer liferayNodeBalancer = getLiferayNodeBalancer(
+			LoadBalancingStrategy.ROUND_ROBIN, 60000);
+
+		LiferayNode liferayNode = liferayNodeBalancer.select(null);
+
+		liferayNodeBalancer.recordFailure(liferayNode);
+		liferayNodeBalancer.recordResponse(liferayNode, 200);
+		liferayNodeBalancer.recordFailure(liferayNode);
+
+		Assert.assertFalse(liferayNode.isEjected(System.currentTimeMillis()));
+	}
+
+	@Test
+	public void testSelectEjectedNodeAfterEjectionTime() throws Exception {
+		LiferayNodeBalancer liferayNodeBalancer = getLiferayNodeBalancer(
+			LoadBalancingStrategy.ROUND_ROBIN, 50);
+
+		LiferayNode liferayNode = liferayNodeBalancer.select(null);
+
+		liferayNodeBalancer.recordFailure(liferayNode);
+		liferayNodeBalancer.recordFailure(liferayNode);
+
+		Thread.sleep(100);
+
+		Assert.assertFalse(liferayNode.isEjected(System.currentTimeMillis()));
+		Assert.assertNotSame(liferayNode, liferayNodeBalancer.select(null));
+		Assert.assertNotSame(liferayNode, liferayNodeBalancer.select(null));
+		Assert.assertSame(liferayNode, liferayNodeBalancer.select(null));
+
+		liferayNodeBalancer.recordFailure(liferayNode);
+
+		Assert.assertTrue(liferayNode.isEjected(System.currentTimeMillis()));
+	}
+
+	@Test
+	public void testSelectLeastInFlight() {
+		LiferayNodeBalancer liferayNodeBalancer = getLiferayNodeBalancer(
+			LoadBalancingStrategy.LEAST_IN_FLIGHT, 60000);
+
+		LiferayNode liferayNode1 = liferayNodeBalancer.select(null);
+
+		liferayNode1.startRequest();
+		liferayNode1.startRequest();
+
+		LiferayNode liferayNode2 = liferayNodeBalancer.select(null);
+
+		liferayNode2.startRequest();
+
+		LiferayNode liferayNode3 = liferayNodeBalancer.select(null);
+
+		Assert.assertNotSame(liferayNode1, liferayNode2);
+		Assert.assertNotSame(liferayNode1, liferayNode3);
+		Assert.assertNotSame(liferayNode2, liferayNode3);
+
+		liferayNode3.startRequest();
+		liferayNode3.startRequest();
+		liferayNode3.startRequest();
+
+		Assert.assertSame(liferayNode2, liferayNodeBalancer.select(null));
+		Assert.assertSame(liferayNode2, liferayNodeBalancer.select(null));
+	}
+
+	@Test
+	public void testSelectRoundRobin() {
+		LiferayNodeBalancer liferayNodeBalancer = getLiferayNodeBalancer(
+			LoadBalancingStrategy.ROUND_ROBIN, 60000);
+
+		for (int i = 0; i < 6; i++) {
+			LiferayNode liferayNode = liferayNodeBalancer.select(null);
+
+			Assert.assertEquals(BASE_URLS[i % 3], liferayNode.getBaseURL());
+		}
+	}
+
+	@Test
+	public void testSelectWhenAllNodesAreEjected() {
+		LiferayNodeBalancer liferayNodeBalancer = getLiferayNodeBalancer(
+			LoadBalancingStrategy.ROUND_ROBIN, 60000);
+
+		for (int i = 0; i < 3; i++) {
+			LiferayNode liferayNode = liferayNodeBalancer.select(null);
+
+			liferayNodeBalancer.recordFailure(liferayNode);
+			liferayNodeBalancer.recordFailure(liferayNode);
+		}
+
+		Assert.assertNotNull(liferayNodeBalancer.select(null));
+	}
+
+	@Test
+	public void testSelectWithRoutingKey() {
+		LiferayNodeBalancer liferayNodeBalancer = getLiferayNodeBalancer(
+			LoadBalancingStrategy.ROUND_ROBIN, 60000);
+
+		liferayNodeBalancer.pin("task");
+
+		LiferayNode liferayNode = liferayNodeBalancer.select("task");
+
+		for (int i = 0; i < 6; i++) {
+			Assert.assertSame(liferayNode, liferayNodeBalancer.select("task"));
+			Assert.assertNotNull(liferayNodeBalancer.select(null));
+		}
+
+		liferayNodeBalancer.release("task");
+
+		Assert.assertNotSame(liferayNode, liferayNodeBalancer.select("task"));
+	}
+
+	@Test
+	public void testSelectWithUnknownRoutingKey() {
+		LiferayNodeBalancer liferayNodeBalancer = getLiferayNodeBalancer(
+			LoadBalancingStrategy.ROUND_ROBIN, 60000);
+
+		for (int i = 0; i < 6; i++) {
+			LiferayNode liferayNode = liferayNodeBalancer.select("task");
+
+			Assert.assertEquals(BASE_URLS[i % 3], liferayNode.getBaseURL());
+		}
+
+		Assert.assertEquals(0, liferayNodeBalancer.getRoutedCount());
+	}
+
+	@Test
+	public void testSubmitExportTask() throws Exception {
+		LiferayStandInServer liferayStandInServer1 = new LiferayStandInServer(
+			3, 0);
+		LiferayStandInServer liferayStandInServer2 = new LiferayStandInServer(
+			3, 0);
+
+		liferayStandInServer1.start();
+		liferayStandInServer2.start();
+
+		try {
+			LiferayConnection liferayConnection = getLiferayConnection(
+				liferayStandInServer1, liferayStandInServer2);
+
+			try {
+				String exportTaskId = liferayBatchOperations.submitExportTask(
+					liferayConnection, "com.liferay.headless.v1_0.Entity",
+					null, null, null, null, null, 5, TimeUnit.SECONDS);
+
+				liferayCRUDOperations.get(
+					liferayConnection, "/entities/{id}",
+					Collections.singletonMap("id", "2"), new MultiMap<>(), 5,
+					TimeUnit.SECONDS);
+
+				Result<String, Void> result =
+					liferayBatchOperations.getBatchTaskStatus(
+						liferayConnection, BatchTaskType.EXPORT, exportTaskId,
+						5, TimeUnit.SECONDS);
+
+				Assert.assertEquals(
+					"{\"executeStatus\":\"COMPLETED\",\"id\":" +
+						exportTaskId + "}",
+					result.getOutput());
+
+				assertContent(
+					liferayBatchOperations.downloadExportTaskContent(
+						liferayConnection, exportTaskId, 5, TimeUnit.SECONDS,
+						false));
+
+				Assert.assertEquals(
+					1, liferayStandInServer1.getRequestsCount());
+				Assert.assertEquals(
+					3, liferayStandInServer2.getRequestsCount());
+			}
+			finally {
+				liferayConnection.invalidate();
+			}
+		}
+		finally {
+			liferayStandInServer1.stop();
+			liferayStandInServer2.stop();
+		}
+	}
+
+	@Test
+	public void testTransfer() {
+		LiferayNodeBalancer liferayNodeBalancer = getLiferayNodeBalancer(
+			LoadBalancingStrategy.ROUND_ROBIN, 60000);
+
+		liferayNodeBalancer.pin("submit");
+
+		LiferayNode liferayNode = liferayNodeBalancer.select("submit");
+
+		liferayNodeBalancer.transfer("submit", "task");
+
+		for (int i = 0; i < 6; i++) {
+			Assert.assertSame(liferayNode, liferayNodeBalancer.select("task"));
+		}
+
+		Assert.assertNotSame(liferayNode, liferayNodeBalancer.select("submit"));
+
+		liferayNodeBalancer.transfer("unknown", "task2");
+
+		Assert.assertNotNull(liferayNodeBalancer.select("task2"));
+		Assert.assertEquals(1, liferayNodeBalancer.getRoutedCount());
+	}
+
+	private void assertContent(Result<InputStream, Void> result)
+		throws Exception {
+
+		try (InputStream inputStream = result.getOutput()) {
+			String output = IOUtils.toString(inputStream);
+
+			Assert.assertTrue(output.contains("\"name\": \"Entity 3\""));
+		}
+	}
+
+	private LiferayConnection getLiferayConnection(
+			LiferayStandInServer liferayStandInServer1,
+			LiferayStandInServer liferayStandInServer2)
+		throws Exception {
+
+		LiferayConnectionSettings.Builder builder =
+			new LiferayConnectionSettings.Builder();
+
+		return liferayStandInServer1.getLiferayConnection(
+			builder.liferayNodeBalancer(
+				new LiferayNodeBalancer(
+					Arrays.asList(
+						liferayStandInServer2.getBaseURL(),
+						liferayStandInServer1.getBaseURL()),
+					LoadBalancingStrategy.ROUND_ROBIN, 3, 30000, 60000)));
+	}
+
+	private LiferayNodeBalancer getLiferayNodeBalancer(
+		LoadBalancingStrategy loadBalancingStrategy, long ejectionTimeMillis) {
+
+		return new LiferayNodeBalancer(
+			Arrays.asList(BASE_URLS), loadBalancingStrategy, 2,
+			ejectionTimeMillis, 60000);
+	}
+
+	private static final String[] BASE_URLS = {
+		"http://node1:8080", "http://node2:8080", "http://node3:8080"
+	};
+
+	private final LiferayBatchOperations liferayBatchOperations =
+		new LiferayBatchOperations();
+	private final LiferayCRUDOperations liferayCRUDOperations =
+		new LiferayCRUDOperations();
+
+}
\ No newline at end of file
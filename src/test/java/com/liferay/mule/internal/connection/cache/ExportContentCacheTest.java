@@ -0,0 +1,338 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.cache;
+
+import com.liferay.mule.internal.connection.LiferayConnection;
+import com.liferay.mule.internal.connection.LiferayConnectionSettings;
+import com.liferay.mule.internal.error.LiferayError;
+import com.liferay.mule.internal.operation.LiferayBatchOperations;
+import com.liferay.mule.internal.standin.LiferayStandInServer;
+import com.liferay.mule.internal.streaming.MappedFileCursorStreamProvider;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.mule.runtime.api.streaming.bytes.CursorStream;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+import org.mule.runtime.core.api.util.IOUtils;
+import org.mule.runtime.extension.api.exception.ModuleException;
+import org.mule.runtime.extension.api.runtime.operation.Result;
+
+/**
+ * @author Matija Petanjek
+ */
+public class ExportContentCacheTest {
+
+	@Test
+	public void testExecuteExportTask() throws Exception {
+		LiferayStandInServer liferayStandInServer = new LiferayStandInServer(
+			3, 0);
+
+		liferayStandInServer.start();
+
+		ExportContentCache exportContentCache = new ExportContentCache(
+			60000, null);
+
+		LiferayConnectionSettings.Builder builder =
+			new LiferayConnectionSettings.Builder();
+
+		try {
+			LiferayConnection liferayConnection =
+				liferayStandInServer.getLiferayConnection(
+					builder.exportContentCache(exportContentCache));
+
+			try {
+				for (int i = 0; i < 2; i++) {
+					Result<InputStream, Void> result =
+						liferayBatchOperations.executeExportTask(
+							liferayConnection,
+							"com.liferay.headless.v1_0.Entity", null, null,
+							null, null, null, 5, TimeUnit.SECONDS, false);
+
+					try (InputStream inputStream = result.getOutput()) {
+						String output = IOUtils.toString(inputStream);
+
+						Assert.assertTrue(
+							output.contains("\"name\": \"Entity 1\""));
+					}
+				}
+
+				Assert.assertEquals(3, liferayStandInServer.getRequestsCount());
+				Assert.assertEquals(1, exportContentCache.size());
+			}
+			finally {
+				liferayConnection.invalidate();
+			}
+		}
+		finally {
+			liferayStandInServer.stop();
+		}
+	}
+
+	@Test
+	public void testGetKey() {
+		ExportContentCache exportContentCache = new ExportContentCache(
+			60000, null);
+
+		Assert.assertEquals(
+			exportContentCache.getKey("a", null, "b"),
+			exportContentCache.getKey("a", null, "b"));
+		Assert.assertNotEquals(
+			exportContentCache.getKey("a", null),
+			exportContentCache.getKey("a", "null"));
+		Assert.assertNotEquals(
+			exportContentCache.getKey("a", null),
+			exportContentCache.getKey("a", ""));
+		Assert.assertNotEquals(
+			exportContentCache.getKey("a,b", null),
+			exportContentCache.getKey("a", "b"));
+		Assert.assertNotEquals(
+			exportContentCache.getKey("a\u0000b", null),
+			exportContentCache.getKey("a", "b"));
+	}
+
+	@Test
+	public void testOpenCursor() throws IOException {
+		ExportContentCache exportContentCache = new ExportContentCache(
+			60000, null);
+
+		try {
+			assertContent(exportContentCache.openCursor("key", this::export));
+			assertContent(exportContentCache.openCursor("key", this::export));
+
+			Assert.assertEquals(1, exportsCount.get());
+			Assert.assertEquals(1, exportContentCache.size());
+		}
+		finally {
+			exportContentCache.clear();
+		}
+
+		Assert.assertEquals(0, exportContentCache.size());
+	}
+
+	@Test
+	public void testOpenCursorAfterFailure() throws IOException {
+		ExportContentCache exportContentCache = new ExportContentCache(
+			60000, null);
+
+		try {
+			exportContentCache.openCursor(
+				"key",
+				() -> {
+					throw new ModuleException(
+						"Export failed", LiferayError.BATCH_EXPORT_FAILED);
+				});
+
+			Assert.fail();
+		}
+		catch (ModuleException moduleException) {
+			Assert.assertEquals(0, exportContentCache.size());
+		}
+
+		try {
+			assertContent(exportContentCache.openCursor("key", this::export));
+
+			Assert.assertEquals(1, exportsCount.get());
+		}
+		finally {
+			exportContentCache.clear();
+		}
+	}
+
+	@Test
+	public void testOpenCursorAfterFreshnessWindow() throws IOException {
+		ExportContentCache exportContentCache = new ExportContentCache(0, null);
+
+		try {
+			assertContent(exportContentCache.openCursor("key", this::export));
+			assertContent(exportContentCache.openCursor("key", this::export));
+
+			Assert.assertEquals(2, exportsCount.get());
+		}
+		finally {
+			exportContentCache.clear();
+		}
+	}
+
+	@Test
+	public void testOpenCursorConcurrently() throws Exception {
+		ExportContentCache exportContentCache = new ExportContentCache(
+			60000, null);
+
+		CountDownLatch exportStartedCountDownLatch = new CountDownLatch(1);
+		CountDownLatch exportCountDownLatch = new CountDownLatch(1);
+
+		try {
+			CompletableFuture<CursorStream> completableFuture =
+				CompletableFuture.supplyAsync(
+					() -> exportContentCache.openCursor(
+						"key",
+						() -> {
+							exportStartedCountDownLatch.countDown();
+
+							try {
+								exportCountDownLatch.await();
+							}
+							catch (InterruptedException interruptedException) {
+								throw new ModuleException(
+									LiferayError.EXECUTION,
+									interruptedException);
+							}
+
+							return export();
+						}));
+
+			Assert.assertTrue(
+				exportStartedCountDownLatch.await(5, TimeUnit.SECONDS));
+
+			CompletableFuture<CursorStream> joiningCompletableFuture =
+				CompletableFuture.supplyAsync(
+					() -> exportContentCache.openCursor("key", this::export));
+
+			exportCountDownLatch.countDown();
+
+			assertContent(completableFuture.get(5, TimeUnit.SECONDS));
+			assertContent(joiningCompletableFuture.get(5, TimeUnit.SECONDS));
+
+			Assert.assertEquals(1, exportsCount.get());
+		}
+		finally {
+			exportCountDownLatch.countDown();
+
+			exportContentCache.clear();
+		}
+	}
+
+	@Test
+	public void testReleaseResources() throws IOException {
+		ExportContentCache exportContentCache = new ExportContentCache(
+			60000, null);
+
+		CursorStream cursorStream1 = exportContentCache.openCursor(
+			"key", this::export);
+		CursorStream cursorStream2 = exportContentCache.openCursor(
+			"key", this::export);
+
+		CursorStreamProvider cursorStreamProvider1 =
+			(CursorStreamProvider)cursorStream1.getProvider();
+
+		cursorStreamProvider1.releaseResources();
+
+		exportContentCache.clear();
+
+		Assert.assertFalse(mappedFileCursorStreamProvider.isClosed());
+
+		assertContent(cursorStream2);
+
+		CursorStreamProvider cursorStreamProvider2 =
+			(CursorStreamProvider)cursorStream2.getProvider();
+
+		assertContent(cursorStreamProvider2.openCursor());
+
+		cursorStreamProvider2.releaseResources();
+
+		Assert.assertTrue(mappedFileCursorStreamProvider.isClosed());
+		Assert.assertEquals(1, exportsCount.get());
+	}
+
+	@Test
+	public void testScheduledExpiration() throws Exception {
+		ScheduledExecutorService scheduledExecutorService =
+			Executors.newSingleThreadScheduledExecutor();
+
+		ExportContentCache exportContentCache = new ExportContentCache(
+			1, scheduledExecutorService);
+
+		try {
+			CursorStream cursorStream = exportContentCache.openCursor(
+				"key", this::export);
+
+			long time = System.currentTimeMillis();
+
+			while ((exportContentCache.size() > 0) &&
+				   ((System.currentTimeMillis() - time) < 5000)) {
+
+				Thread.sleep(10);
+			}
+
+			Assert.assertEquals(0, exportContentCache.size());
+			Assert.assertFalse(mappedFileCursorStreamProvider.isClosed());
+
+			assertContent(cursorStream);
+
+			CursorStreamProvider cursorStreamProvider =
+				(CursorStreamProvider)cursorStream.getProvider();
+
+			assertContent(cursorStreamProvider.openCursor());
+
+			cursorStreamProvider.releaseResources();
+
+			Assert.assertTrue(mappedFileCursorStreamProvider.isClosed());
+		}
+		finally {
+			exportContentCache.clear();
+
+			scheduledExecutorService.shutdownNow();
+		}
+	}
+
+	private void assertContent(CursorStream cursorStream) throws IOException {
+		try {
+			Assert.assertEquals(CONTENT, IOUtils.toString(cursorStream));
+		}
+		finally {
+			cursorStream.close();
+		}
+	}
+
+	private MappedFileCursorStreamProvider export() {
+		exportsCount.incrementAndGet();
+
+		try {
+			mappedFileCursorStreamProvider =
+				MappedFileCursorStreamProvider.spool(
+					new ByteArrayInputStream(
+						CONTENT.getBytes(StandardCharsets.UTF_8)));
+
+			return mappedFileCursorStreamProvider;
+		}
+		catch (IOException ioException) {
+			throw new UncheckedIOException(ioException);
+		}
+	}
+
+	private static final String CONTENT = "[{\"id\": 1}, {\"id\": 2}]";
+
+	private final AtomicInteger exportsCount = new AtomicInteger();
+	private final LiferayBatchOperations liferayBatchOperations =
+		new LiferayBatchOperations();
+	private volatile MappedFileCursorStreamProvider
+		mappedFileCursorStreamProvider;
+
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.cache;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mule.runtime.core.api.util.IOUtils;
+import org.mule.runtime.http.api.domain.entity.HttpEntity;
+import org.mule.runtime.http.api.domain.message.response.HttpResponse;
+import org.mule.runtime.http.api.domain.message.response.HttpResponseBuilder;
+
+/**
+ * @author Matija Petanjek
+ */
+public class HttpResponseCacheTest {
+
+	@Before
+	public void setUp() {
+		httpResponseCache = new HttpResponseCache(2, 1000);
+	}
+
+	@Test
+	public void testExpiredEntryIsRevalidatable() {
+		HttpResponseCacheEntry httpResponseCacheEntry =
+			getHttpResponseCacheEntry("\"etag\"", 100);
+
+		Assert.assertTrue(httpResponseCacheEntry.isExpired(100));
+		Assert.assertTrue(httpResponseCacheEntry.isRevalidatable());
+
+		httpResponseCacheEntry = httpResponseCacheEntry.withExpirationTime(200);
+
+		Assert.assertFalse(httpResponseCacheEntry.isExpired(100));
+		Assert.assertEquals("\"etag\"", httpResponseCacheEntry.getETag());
+	}
+
+	@Test
+	public void testGet() {
+		httpResponseCache.put("key", getHttpResponseCacheEntry(null, 100));
+
+		HttpResponseCacheEntry httpResponseCacheEntry = httpResponseCache.get(
+			"key");
+
+		Assert.assertFalse(httpResponseCacheEntry.isRevalidatable());
+
+		HttpResponse httpResponse = httpResponseCacheEntry.toHttpResponse();
+
+		Assert.assertEquals(200, httpResponse.getStatusCode());
+
+		HttpEntity httpEntity = httpResponse.getEntity();
+
+		Assert.assertEquals(CONTENT, IOUtils.toString(httpEntity.getContent()));
+
+		httpEntity = httpResponseCacheEntry.toHttpResponse(
+		).getEntity();
+
+		Assert.assertEquals(CONTENT, IOUtils.toString(httpEntity.getContent()));
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEntryIsEvicted() {
+		httpResponseCache.put("key1", getHttpResponseCacheEntry(null, 100));
+		httpResponseCache.put("key2", getHttpResponseCacheEntry(null, 100));
+
+		httpResponseCache.get("key1");
+
+		httpResponseCache.put("key3", getHttpResponseCacheEntry(null, 100));
+
+		Assert.assertEquals(2, httpResponseCache.size());
+		Assert.assertNotNull(httpResponseCache.get("key1"));
+		Assert.assertNull(httpResponseCache.get("key2"));
+		Assert.assertNotNull(httpResponseCache.get("key3"));
+	}
+
+	private HttpResponseCacheEntry getHttpResponseCacheEntry(
+		String eTag, long expirationTime) {
+
+		HttpResponseBuilder httpResponseBuilder = HttpResponse.builder();
+
+		if (eTag != null) {
+			httpResponseBuilder.addHeader("ETag", eTag);
+		}
+
+		return new HttpResponseCacheEntry(
+			httpResponseBuilder.reasonPhrase(
+				"OK"
+			).statusCode(
+				200
+			).build(),
+			CONTENT.getBytes(StandardCharsets.UTF_8), expirationTime);
+	}
+
+	private static final String CONTENT = "{\"id\": 1}";
+
+	private HttpResponseCache httpResponseCache;
+
+}
\ No newline at end of file
@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.callback;
+
+import com.liferay.mule.internal.connection.LiferayConnection;
+import com.liferay.mule.internal.connection.LiferayConnectionSettings;
+import com.liferay.mule.internal.metrics.LiferayMetrics;
+import com.liferay.mule.internal.operation.LiferayBatchOperations;
+import com.liferay.mule.internal.standin.LiferayStandInServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.net.ServerSocket;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mule.runtime.core.api.util.IOUtils;
+import org.mule.runtime.extension.api.runtime.operation.Result;
+
+/**
+ * @author Matija Petanjek
+ */
+public class BatchTaskCallbackListenerTest {
+
+	@Before
+	public void setUp() throws Exception {
+		liferayStandInServer = new LiferayStandInServer(3, 500);
+
+		liferayStandInServer.start();
+
+		port = getAvailablePort();
+
+		batchTaskCallbackListener = new BatchTaskCallbackListener(
+			"localhost", port, "http://localhost:" + port, 30000);
+	}
+
+	@After
+	public void tearDown() {
+		liferayStandInServer.stop();
+	}
+
+	@Test
+	public void testExecuteExportTask() throws Exception {
+		LiferayMetrics liferayMetrics = new LiferayMetrics();
+
+		LiferayConnectionSettings.Builder builder =
+			new LiferayConnectionSettings.Builder();
+
+		LiferayConnection liferayConnection =
+			liferayStandInServer.getLiferayConnection(
+				builder.batchTaskCallbackListener(
+					batchTaskCallbackListener
+				).liferayMetrics(
+					liferayMetrics
+				));
+
+		try {
+			assertExecuteExportTask(liferayConnection);
+
+			Assert.assertEquals(1, liferayStandInServer.getCallbacksCount());
+
+			Map<String, Long> batchTaskPollCounts =
+				liferayMetrics.getBatchTaskPollCounts();
+
+			Assert.assertEquals(
+				Long.valueOf(2), batchTaskPollCounts.get("export"));
+		}
+		finally {
+			liferayConnection.invalidate();
+		}
+	}
+
+	@Test
+	public void testExecuteExportTaskWithSharedListener() throws Exception {
+		LiferayConnectionSettings.Builder builder =
+			new LiferayConnectionSettings.Builder();
+
+		builder.batchTaskCallbackListener(batchTaskCallbackListener);
+
+		LiferayConnection liferayConnection1 =
+			liferayStandInServer.getLiferayConnection(builder);
+		LiferayConnection liferayConnection2 =
+			liferayStandInServer.getLiferayConnection(builder);
+
+		try {
+			Assert.assertEquals(
+				2, batchTaskCallbackListener.getReferenceCount());
+
+			liferayConnection1.invalidate();
+			liferayConnection1.invalidate();
+
+			Assert.assertEquals(
+				1, batchTaskCallbackListener.getReferenceCount());
+
+			assertExecuteExportTask(liferayConnection2);
+
+			Assert.assertEquals(1, liferayStandInServer.getCallbacksCount());
+		}
+		finally {
+			liferayConnection1.invalidate();
+			liferayConnection2.invalidate();
+		}
+
+		Assert.assertEquals(0, batchTaskCallbackListener.getReferenceCount());
+
+		try (ServerSocket serverSocket = new ServerSocket(port)) {
+			Assert.assertEquals(port, serverSocket.getLocalPort());
+		}
+	}
+
+	private void assertExecuteExportTask(LiferayConnection liferayConnection)
+		throws Exception {
+
+		Result<InputStream, Void> result =
+			liferayBatchOperations.executeExportTask(
+				liferayConnection, "com.liferay.headless.v1_0.Entity", null,
+				null, null, null, null, 5, TimeUnit.SECONDS, false);
+
+		try (InputStream inputStream = result.getOutput()) {
+			String output = IOUtils.toString(inputStream);
+
+			Assert.assertTrue(output.contains("\"name\": \"Entity 3\""));
+		}
+	}
+
+	private int getAvailablePort() throws IOException {
+		try (ServerSocket serverSocket = new ServerSocket(0)) {
+			return serverSocket.getLocalPort();
+		}
+	}
+
+	private BatchTaskCallbackListener batchTaskCallbackListener;
+	private final LiferayBatchOperations liferayBatchOperations =
+		new LiferayBatchOperations();
+	private LiferayStandInServer liferayStandInServer;
+	private int port;
+
+}
\ No newline at end of file
@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.connection.tracker;
+
+import com.liferay.mule.internal.connection.LiferayConnection;
+import com.liferay.mule.internal.connection.LiferayConnectionSettings;
+import com.liferay.mule.internal.operation.LiferayBatchOperations;
+import com.liferay.mule.internal.standin.LiferayStandInServer;
+import com.liferay.mule.internal.standin.StandInObjectStore;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.mule.runtime.core.api.util.IOUtils;
+import org.mule.runtime.extension.api.runtime.operation.Result;
+
+/**
+ * @author Matija Petanjek
+ */
+public class BatchTaskTrackerTest {
+
+	@Test
+	public void testExecuteExportTask() throws Exception {
+		LiferayStandInServer liferayStandInServer = new LiferayStandInServer(
+			3, 0);
+
+		liferayStandInServer.start();
+
+		try {
+			LiferayConnectionSettings.Builder builder =
+				new LiferayConnectionSettings.Builder();
+
+			LiferayConnection liferayConnection =
+				liferayStandInServer.getLiferayConnection(
+					builder.batchTaskTracker(
+						new BatchTaskTracker(
+							new StandInObjectStore<>(), 60000)));
+
+			try {
+				for (int i = 0; i < 2; i++) {
+					Result<InputStream, Void> result =
+						liferayBatchOperations.executeExportTask(
+							liferayConnection,
+							"com.liferay.headless.v1_0.Entity", null, null,
+							null, null, null, 5, TimeUnit.SECONDS, false);
+
+					try (InputStream inputStream = result.getOutput()) {
+						String output = IOUtils.toString(inputStream);
+
+						Assert.assertTrue(
+							output.contains("\"name\": \"Entity 3\""));
+					}
+				}
+
+				Assert.assertEquals(4, liferayStandInServer.getRequestsCount());
+			}
+			finally {
+				liferayConnection.invalidate();
+			}
+		}
+		finally {
+			liferayStandInServer.stop();
+		}
+	}
+
+	@Test
+	public void testExecuteImportCreateTask() throws Exception {
+		LiferayStandInServer liferayStandInServer = new LiferayStandInServer(
+			3, 0);
+
+		liferayStandInServer.start();
+
+		try {
+			BatchTaskTracker batchTaskTracker = new BatchTaskTracker(
+				new StandInObjectStore<>(), 60000);
+
+			LiferayConnectionSettings.Builder builder =
+				new LiferayConnectionSettings.Builder();
+
+			LiferayConnection liferayConnection =
+				liferayStandInServer.getLiferayConnection(
+					builder.batchTaskTracker(batchTaskTracker));
+
+			try {
+				String records = "[{\"name\": \"A\"}]";
+
+				String importTaskId =
+					liferayBatchOperations.submitImportCreateTask(
+						liferayConnection, "com.liferay.headless.v1_0.Entity",
+						Collections.emptyMap(), getInputStream(records), 5,
+						TimeUnit.SECONDS);
+
+				String taskKey = batchTaskTracker.getTaskKey(
+					"create", records.getBytes(StandardCharsets.UTF_8),
+					"com.liferay.headless.v1_0.Entity", "");
+
+				batchTaskTracker.trackSubmitted(taskKey, importTaskId);
+
+				liferayBatchOperations.executeImportCreateTask(
+					liferayConnection, "com.liferay.headless.v1_0.Entity",
+					Collections.emptyMap(), getInputStream(records), 5,
+					TimeUnit.SECONDS);
+
+				Assert.assertEquals(2, liferayStandInServer.getRequestsCount());
+				Assert.assertNull(batchTaskTracker.get(taskKey));
+			}
+			finally {
+				liferayConnection.invalidate();
+			}
+		}
+		finally {
+			liferayStandInServer.stop();
+		}
+	}
+
+	@Test
+	public void testGet() {
+		BatchTaskTracker batchTaskTracker = new BatchTaskTracker(
+			new StandInObjectStore<>(), 60000);
+
+		Assert.assertNull(batchTaskTracker.get("key"));
+
+		batchTaskTracker.trackSubmitted("key", "1");
+
+		TrackedBatchTask trackedBatchTask = batchTaskTracker.get("key");
+
+		Assert.assertEquals("1", trackedBatchTask.getTaskId());
+		Assert.assertFalse(trackedBatchTask.isCompleted());
+
+		batchTaskTracker.trackCompleted("key", "1");
+
+		trackedBatchTask = batchTaskTracker.get("key");
+
+		Assert.assertEquals("1", trackedBatchTask.getTaskId());
+		Assert.assertTrue(trackedBatchTask.isCompleted());
+
+		batchTaskTracker.untrack("key");
+
+		Assert.assertNull(batchTaskTracker.get("key"));
+	}
+
+	@Test
+	public void testGetCompletedTaskAfterReuseTime() {
+		BatchTaskTracker batchTaskTracker = new BatchTaskTracker(
+			new StandInObjectStore<>(), 0);
+
+		batchTaskTracker.trackSubmitted("key", "1");
+
+		Assert.assertNotNull(batchTaskTracker.get("key"));
+
+		batchTaskTracker.trackCompleted("key", "1");
+
+		Assert.assertNull(batchTaskTracker.get("key"));
+	}
+
+	@Test
+	public void testGetTaskKey() {
+		BatchTaskTracker batchTaskTracker = new BatchTaskTracker(
+			new StandInObjectStore<>(), 0);
+
+		byte[] bytes = "[{\"name\": \"A\"}]".getBytes(StandardCharsets.UTF_8);
+
+		String taskKey = batchTaskTracker.getTaskKey(
+			"create", bytes, "Entity", null);
+
+		Assert.assertTrue(taskKey.startsWith("create:"));
+		Assert.assertEquals(
+			taskKey,
+			batchTaskTracker.getTaskKey(
+				"create", bytes.clone(), "Entity", null));
+		Assert.assertNotEquals(
+			taskKey,
+			batchTaskTracker.getTaskKey("update", bytes, "Entity", null));
+		Assert.assertNotEquals(
+			taskKey,
+			batchTaskTracker.getTaskKey("create", bytes, "Entity", ""));
+		Assert.assertNotEquals(
+			taskKey,
+			batchTaskTracker.getTaskKey("create", new byte[0], "Entity", null));
+	}
+
+	private InputStream getInputStream(String s) {
+		return new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private final LiferayBatchOperations liferayBatchOperations =
+		new LiferayBatchOperations();
+
+}
\ No newline at end of file
@@ -64,6 +64,18 @@ public class MetadataKeysBuilderTest {
 		);
 	}
 
+	@Test
+	public void testBuildBatchEndpointMetadataKeys()
+		throws ConnectionException, MetadataResolvingException {
+
+		Set<String> metadataKeyIds = toMetadataKeyIdSet(
+			metadataKeysBuilder.buildBatchEndpointMetadataKeys(null));
+
+		Assert.assertEquals(
+			metadataKeyIds.toString(), 1, metadataKeyIds.size());
+		Assert.assertTrue(metadataKeyIds.contains("/entities/batch"));
+	}
+
 	@Test
 	public void testBuildClassNameMetadataKeys()
 		throws ConnectionException, MetadataResolvingException {
@@ -21,9 +21,18 @@ import com.liferay.mule.internal.oas.constants.OASConstants;
 
 import java.io.InputStream;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.xml.namespace.QName;
 
@@ -48,6 +57,7 @@ import org.mule.metadata.api.model.ObjectType;
 import org.mule.metadata.api.model.StringType;
 import org.mule.metadata.api.model.impl.DefaultArrayType;
 import org.mule.metadata.api.model.impl.DefaultObjectType;
+import org.mule.runtime.api.metadata.MetadataContext;
 
 /**
  * @author Matija Petanjek
@@ -56,6 +66,7 @@ public class MetadataTypeBuilderTest {
 
 	@Before
 	public void setUp() throws Exception {
+		metadataContext = Mockito.mock(MetadataContext.class);
 		metadataTypeBuilder = Mockito.spy(MetadataTypeBuilder.class);
 
 		Class<?> clazz = getClass();
@@ -67,7 +78,7 @@ public class MetadataTypeBuilderTest {
 
 		ObjectMapper objectMapper = new ObjectMapper();
 
-		JsonNode openAPISpecJsonNode = objectMapper.readTree(inputStream);
+		openAPISpecJsonNode = objectMapper.readTree(inputStream);
 
 		BaseTypeBuilder baseTypeBuilder = new BaseTypeBuilder(
 			MetadataFormat.JSON);
@@ -77,7 +88,7 @@ public class MetadataTypeBuilderTest {
 		).when(
 			metadataTypeBuilder
 		).getObjectTypeBuilder(
-			Mockito.any(), Mockito.anyString()
+			Mockito.anyString()
 		);
 
 		Mockito.doReturn(
@@ -85,7 +96,7 @@ public class MetadataTypeBuilderTest {
 		).when(
 			metadataTypeBuilder
 		).getArrayTypeBuilder(
-			Mockito.any(), Mockito.anyString()
+			Mockito.anyString()
 		);
 
 		Mockito.doReturn(
@@ -354,10 +365,51 @@ public class MetadataTypeBuilderTest {
 				"stringField") instanceof StringType);
 	}
 
+	@Test
+	public void testBuildMetadataTypeConcurrently() throws Exception {
+		MetadataTypeBuilder metadataTypeBuilder = new MetadataTypeBuilder() {
+
+			@Override
+			protected JsonNode getOASJsonNode(MetadataContext metadataContext) {
+				return openAPISpecJsonNode;
+			}
+
+		};
+
+		String endpointReferencePath =
+			OASConstants.
+				PATH_RESPONSES_DEFAULT_CONTENT_APPLICATION_JSON_SCHEMA_PATTERN;
+
+		Callable<MetadataType> callable =
+			() -> metadataTypeBuilder.buildMetadataType(
+				metadataContext, "/nestedEntities/{id}",
+				OASConstants.OPERATION_GET, endpointReferencePath);
+
+		MetadataType expectedMetadataType = callable.call();
+
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+		try {
+			List<Future<MetadataType>> futures = new ArrayList<>();
+
+			for (int i = 0; i < 200; i++) {
+				futures.add(executorService.submit(callable));
+			}
+
+			for (Future<MetadataType> future : futures) {
+				Assert.assertEquals(
+					expectedMetadataType, future.get(10, TimeUnit.SECONDS));
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
 	@Test
 	public void testBuildMetadataTypeWhenNoResponseContent() throws Exception {
 		metadataTypeBuilder.buildMetadataType(
-			null, "/entities/{id}", OASConstants.OPERATION_DELETE,
+			metadataContext, "/entities/{id}", OASConstants.OPERATION_DELETE,
 			OASConstants.
 				PATH_RESPONSES_DEFAULT_CONTENT_APPLICATION_JSON_SCHEMA_PATTERN);
 
@@ -368,6 +420,21 @@ public class MetadataTypeBuilderTest {
 		);
 	}
 
+	@Test
+	public void testGetFilterableFieldNames() {
+		Assert.assertEquals(
+			Arrays.asList(
+				"bigDecimalField", "binaryField", "booleanField", "byteField",
+				"dateField", "dateTimeField", "doubleField", "floatField",
+				"integerField", "longField", "stringField"),
+			metadataTypeBuilder.getFilterableFieldNames(
+				openAPISpecJsonNode, "com.liferay.headless.v1_0.Entity"));
+		Assert.assertEquals(
+			Collections.emptyList(),
+			metadataTypeBuilder.getFilterableFieldNames(
+				openAPISpecJsonNode, "com.liferay.headless.v1_0.Unknown"));
+	}
+
 	private MetadataType getEntityMetadataType(String endpoint)
 		throws Exception {
 
@@ -380,7 +447,7 @@ public class MetadataTypeBuilderTest {
 		throws Exception {
 
 		return metadataTypeBuilder.buildMetadataType(
-			null, path, httpMethod,
+			metadataContext, path, httpMethod,
 			OASConstants.
 				PATH_RESPONSES_DEFAULT_CONTENT_APPLICATION_JSON_SCHEMA_PATTERN);
 	}
@@ -409,6 +476,8 @@ public class MetadataTypeBuilderTest {
 		return qName.toString();
 	}
 
+	private MetadataContext metadataContext;
 	private MetadataTypeBuilder metadataTypeBuilder;
+	private JsonNode openAPISpecJsonNode;
 
 }
\ No newline at end of file
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.metadata;
+
+import com.liferay.mule.internal.connection.LiferayConnection;
+import com.liferay.mule.internal.connection.LiferayConnectionSettings;
+import com.liferay.mule.internal.connection.cache.MetadataTypeCache;
+import com.liferay.mule.internal.oas.constants.OASConstants;
+import com.liferay.mule.internal.standin.LiferayStandInServer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Matija Petanjek
+ */
+public class MetadataTypeCacheLoaderTest {
+
+	@Before
+	public void setUp() throws Exception {
+		liferayStandInServer = new LiferayStandInServer(3, 0);
+
+		liferayStandInServer.start();
+
+		metadataTypeCache = new MetadataTypeCache(4, 60000);
+
+		executorService = Executors.newCachedThreadPool();
+
+		metadataTypeCacheLoader = new MetadataTypeCacheLoader(
+			runnable -> {
+				tasksCount.incrementAndGet();
+
+				executorService.execute(runnable);
+			});
+
+		LiferayConnectionSettings.Builder builder =
+			new LiferayConnectionSettings.Builder();
+
+		liferayConnection = liferayStandInServer.getLiferayConnection(
+			builder.metadataTypeCache(metadataTypeCache));
+	}
+
+	@After
+	public void tearDown() {
+		executorService.shutdownNow();
+
+		liferayConnection.invalidate();
+
+		liferayStandInServer.stop();
+	}
+
+	@Test
+	public void testLoad() throws Exception {
+		CompletableFuture<Void> completableFuture =
+			metadataTypeCacheLoader.load(liferayConnection);
+
+		completableFuture.get(10, TimeUnit.SECONDS);
+
+		String responsesReferencePath =
+			OASConstants.
+				PATH_RESPONSES_DEFAULT_CONTENT_APPLICATION_JSON_SCHEMA_PATTERN;
+
+		Assert.assertNotNull(
+			metadataTypeCache.getBatchMetadataType(
+				"com.liferay.headless.v1_0.Entity"));
+		Assert.assertNotNull(
+			metadataTypeCache.getMetadataType(
+				"/entities/{id}", OASConstants.OPERATION_GET,
+				responsesReferencePath));
+		Assert.assertNotNull(
+			metadataTypeCache.getMetadataType(
+				"/entities", OASConstants.OPERATION_GET,
+				responsesReferencePath));
+		Assert.assertNotNull(metadataTypeCache.getOASJsonNode());
+
+		Assert.assertEquals(5, tasksCount.get());
+	}
+
+	@Test
+	public void testLoadOnce() throws Exception {
+		CompletableFuture<Void> completableFuture =
+			metadataTypeCacheLoader.load(liferayConnection);
+
+		completableFuture.get(10, TimeUnit.SECONDS);
+
+		long requestsCount = liferayStandInServer.getRequestsCount();
+		int size = metadataTypeCache.size();
+
+		completableFuture = metadataTypeCacheLoader.load(liferayConnection);
+
+		completableFuture.get(10, TimeUnit.SECONDS);
+
+		Assert.assertEquals(
+			requestsCount, liferayStandInServer.getRequestsCount());
+		Assert.assertEquals(size, metadataTypeCache.size());
+	}
+
+	@Test
+	public void testLoadWithoutMetadataTypeCache() throws Exception {
+		LiferayConnection liferayConnection =
+			liferayStandInServer.getLiferayConnection(
+				new LiferayConnectionSettings.Builder());
+
+		CompletableFuture<Void> completableFuture =
+			metadataTypeCacheLoader.load(liferayConnection);
+
+		Assert.assertTrue(completableFuture.isDone());
+		Assert.assertEquals(0, liferayStandInServer.getRequestsCount());
+	}
+
+	private ExecutorService executorService;
+	private LiferayConnection liferayConnection;
+	private LiferayStandInServer liferayStandInServer;
+	private MetadataTypeCache metadataTypeCache;
+	private MetadataTypeCacheLoader metadataTypeCacheLoader;
+	private final AtomicInteger tasksCount = new AtomicInteger();
+
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LatencyHistogramTest {
+
+	@Test
+	public void testGetLatencyStatistics() {
+		LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+		for (int i = 0; i < 99; i++) {
+			latencyHistogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+		}
+
+		latencyHistogram.record(TimeUnit.MILLISECONDS.toNanos(100));
+
+		LatencyStatistics latencyStatistics =
+			latencyHistogram.getLatencyStatistics();
+
+		Assert.assertEquals(100, latencyStatistics.getCount());
+		Assert.assertEquals(100, latencyStatistics.getMaxMillis(), 0.001);
+		Assert.assertEquals(1.99, latencyStatistics.getMeanMillis(), 0.001);
+		Assert.assertTrue(latencyStatistics.getP50Millis() >= 1);
+		Assert.assertTrue(latencyStatistics.getP50Millis() <= 2.048);
+		Assert.assertTrue(latencyStatistics.getP99Millis() <= 2.048);
+	}
+
+	@Test
+	public void testGetLatencyStatisticsWithoutRecords() {
+		LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+		LatencyStatistics latencyStatistics =
+			latencyHistogram.getLatencyStatistics();
+
+		Assert.assertEquals(0, latencyStatistics.getCount());
+		Assert.assertEquals(0, latencyStatistics.getMaxMillis(), 0);
+		Assert.assertEquals(0, latencyStatistics.getP50Millis(), 0);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.mule.internal.oas;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Matija Petanjek
+ */
+public class OASMergerTest {
+
+	@Test
+	public void testMerge() throws Exception {
+		JsonNode oasJsonNode = getOASJsonNode("Catalog", "/v1.0/catalogs");
+
+		JsonNode mergedOASJsonNode = oasMerger.merge(
+			oasJsonNode,
+			Collections.singletonMap(
+				"/headless-delivery",
+				getOASJsonNode("BlogPosting", "/v1.0/blog-postings")));
+
+		JsonNode pathsJsonNode = mergedOASJsonNode.get("paths");
+
+		Assert.assertTrue(pathsJsonNode.has("/v1.0/catalogs"));
+		Assert.assertTrue(
+			pathsJsonNode.has("/headless-delivery/v1.0/blog-postings"));
+
+		JsonNode schemasJsonNode = mergedOASJsonNode.at("/components/schemas");
+
+		Assert.assertTrue(schemasJsonNode.has("BlogPosting"));
+		Assert.assertTrue(schemasJsonNode.has("Catalog"));
+
+		JsonNode originalPathsJsonNode = oasJsonNode.get("paths");
+
+		Assert.assertEquals(1, originalPathsJsonNode.size());
+	}
+
+	@Test
+	public void testMergeRenamesConflictingSchemas() throws Exception {
+		JsonNode mergedOASJsonNode = oasMerger.merge(
+			getOASJsonNode("Product", "/v1.0/products", "sku"),
+			Collections.singletonMap(
+				"/headless-commerce-delivery-catalog",
+				getOASJsonNode("Product", "/v1.0/products", "name")));
+
+		JsonNode schemasJsonNode = mergedOASJsonNode.at("/components/schemas");
+
+		Assert.assertTrue(schemasJsonNode.has("Product"));
+		Assert.assertTrue(
+			schemasJsonNode.has("headless-commerce-delivery-catalog.Product"));
+
+		JsonNode referenceJsonNode = mergedOASJsonNode.at(
+			"/paths/~1headless-commerce-delivery-catalog~1v1.0~1products/get" +
+				"/responses/default/content/application~1json/schema/$ref");
+
+		Assert.assertEquals(
+			"#/components/schemas/headless-commerce-delivery-catalog.Product",
+			referenceJsonNode.textValue());
+
+		referenceJsonNode = mergedOASJsonNode.at(
+			"/paths/~1v1.0~1products/get/responses/default/content" +
+				"/application~1json/schema/$ref");
+
+		Assert.assertEquals(
+			"#/components/schemas/Product", referenceJsonNode.textValue());
+	}
+
+	@Test
+	public void testMergeSharesIdenticalSchemas() throws Exception {
+		JsonNode mergedOASJsonNode = oasMerger.merge(
+			getOASJsonNode("Product", "/v1.0/products"),
+			Collections.singletonMap(
+				"/headless-commerce-delivery-catalog",
+				getOASJsonNode("Product", "/v1.0/products")));
+
+		JsonNode schemasJsonNode = mergedOASJsonNode.at("/components/schemas");
+
+		Assert.assertEquals(1, schemasJsonNode.size());
+	}
+
+	private JsonNode getOASJsonNode(String schemaName, String path)
+		throws Exception {
+
+		return getOASJsonNode(schemaName, path, "id");
+	}
+
+	private JsonNode getOASJsonNode(
+			String schemaName, String path, String propertyName)
+		throws Exception {
+
+		String json = String.format(
+			"{\"components\": {\"schemas\": {\"%1$s\": {\"properties\": " +
+				"{\"%3$s\": {\"type\": \"string\"}}, \"type\": " +
+					"\"object\"}}}, \"paths\": {\"%2$s\": {\"get\": " +
+						"{\"responses\": {\"default\": {\"content\": " +
+							"{\"application/json\": {\"schema\": {\"$ref\": " +
+								"\"#/components/schemas/%1$s\"}}}}}}}}}",
+			schemaName, path, propertyName);
+
+		return objectMapper.readTree(json);
+	}
+
+	private final OASMerger oasMerger = new OASMerger();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+}
\ No newline at end of file
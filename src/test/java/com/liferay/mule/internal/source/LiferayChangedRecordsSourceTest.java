@@ -0,0 +1,237 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.source;
+
+import com.liferay.mule.internal.connection.LiferayConnection;
+import com.liferay.mule.internal.connection.LiferayConnectionSettings;
+import com.liferay.mule.internal.standin.LiferayStandInServer;
+import com.liferay.mule.internal.standin.StandInPollContext;
+
+import java.lang.reflect.Field;
+
+import java.time.Instant;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mule.runtime.api.connection.ConnectionException;
+import org.mule.runtime.api.connection.ConnectionProvider;
+import org.mule.runtime.api.connection.ConnectionValidationResult;
+import org.mule.runtime.extension.api.runtime.operation.Result;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LiferayChangedRecordsSourceTest {
+
+	@Before
+	public void setUp() throws Exception {
+		liferayStandInServer = new LiferayStandInServer(3, 0);
+
+		liferayStandInServer.start();
+	}
+
+	@After
+	public void tearDown() {
+		liferayStandInServer.stop();
+	}
+
+	@Test
+	public void testPoll() throws Exception {
+		LiferayChangedRecordsSource liferayChangedRecordsSource =
+			getLiferayChangedRecordsSource(null);
+
+		liferayChangedRecordsSource.doStart();
+
+		try {
+			StandInPollContext<String, Void> standInPollContext =
+				new StandInPollContext<>();
+
+			List<Result<String, Void>> results = standInPollContext.poll(
+				liferayChangedRecordsSource);
+
+			assertEntities(results, 1, 2, 3);
+			Assert.assertEquals(
+				Optional.of(Instant.parse("2021-01-01T00:03:00Z")),
+				standInPollContext.getWatermark());
+
+			assertEntities(
+				standInPollContext.poll(liferayChangedRecordsSource));
+
+			liferayStandInServer.setCollectionSize(5);
+
+			assertEntities(
+				standInPollContext.poll(liferayChangedRecordsSource), 4, 5);
+			Assert.assertEquals(
+				Optional.of(Instant.parse("2021-01-01T00:05:00Z")),
+				standInPollContext.getWatermark());
+		}
+		finally {
+			liferayChangedRecordsSource.doStop();
+		}
+	}
+
+	@Test
+	public void testPollWithInitialDateModified() throws Exception {
+		LiferayChangedRecordsSource liferayChangedRecordsSource =
+			getLiferayChangedRecordsSource("2021-01-01T00:02:00Z");
+
+		liferayChangedRecordsSource.doStart();
+
+		try {
+			StandInPollContext<String, Void> standInPollContext =
+				new StandInPollContext<>();
+
+			assertEntities(
+				standInPollContext.poll(liferayChangedRecordsSource), 2, 3);
+		}
+		finally {
+			liferayChangedRecordsSource.doStop();
+		}
+	}
+
+	@Test
+	public void testPollWithModifiedRecord() throws Exception {
+		liferayStandInServer.setCollectionSize(5);
+
+		LiferayChangedRecordsSource liferayChangedRecordsSource =
+			getLiferayChangedRecordsSource(null);
+
+		liferayChangedRecordsSource.doStart();
+
+		try {
+			StandInPollContext<String, Void> standInPollContext =
+				new StandInPollContext<String, Void>() {
+
+					@Override
+					public PollItemStatus accept(
+						Consumer<PollItem<String, Void>> consumer) {
+
+						PollItemStatus pollItemStatus = super.accept(consumer);
+
+						if (acceptedCount.incrementAndGet() == 2) {
+							liferayStandInServer.modifyRecord(1);
+						}
+
+						return pollItemStatus;
+					}
+
+					private final AtomicInteger acceptedCount =
+						new AtomicInteger();
+
+				};
+
+			assertEntities(
+				standInPollContext.poll(liferayChangedRecordsSource), 1, 2, 3,
+				4, 5, 1);
+			Assert.assertEquals(
+				Optional.of(Instant.parse("2021-01-01T00:06:00Z")),
+				standInPollContext.getWatermark());
+		}
+		finally {
+			liferayChangedRecordsSource.doStop();
+		}
+	}
+
+	private void assertEntities(
+		List<Result<String, Void>> results, int... ids) {
+
+		Assert.assertEquals(ids.length, results.size());
+
+		for (int i = 0; i < ids.length; i++) {
+			Result<String, Void> result = results.get(i);
+
+			String output = result.getOutput();
+
+			Assert.assertTrue(
+				output, output.contains("\"name\":\"Entity " + ids[i] + "\""));
+		}
+	}
+
+	private LiferayChangedRecordsSource getLiferayChangedRecordsSource(
+			String initialDateModified)
+		throws Exception {
+
+		LiferayChangedRecordsSource liferayChangedRecordsSource =
+			new LiferayChangedRecordsSource();
+
+		setField(
+			liferayChangedRecordsSource, "connectionProvider",
+			new StandInConnectionProvider());
+		setField(liferayChangedRecordsSource, "connectionTimeout", 5);
+		setField(
+			liferayChangedRecordsSource, "connectionTimeoutTimeUnit",
+			TimeUnit.SECONDS);
+		setField(
+			liferayChangedRecordsSource, "dateModifiedField", "dateModified");
+		setField(liferayChangedRecordsSource, "endpoint", "/entities");
+		setField(
+			liferayChangedRecordsSource, "initialDateModified",
+			initialDateModified);
+		setField(liferayChangedRecordsSource, "pageSize", 2);
+		setField(
+			liferayChangedRecordsSource, "pathParams",
+			Collections.emptyMap());
+
+		return liferayChangedRecordsSource;
+	}
+
+	private void setField(Object object, String name, Object value)
+		throws Exception {
+
+		Class<?> clazz = object.getClass();
+
+		Field field = clazz.getDeclaredField(name);
+
+		field.setAccessible(true);
+
+		field.set(object, value);
+	}
+
+	private LiferayStandInServer liferayStandInServer;
+
+	private class StandInConnectionProvider
+		implements ConnectionProvider<LiferayConnection> {
+
+		@Override
+		public LiferayConnection connect() throws ConnectionException {
+			return liferayStandInServer.getLiferayConnection(
+				new LiferayConnectionSettings.Builder());
+		}
+
+		@Override
+		public void disconnect(LiferayConnection liferayConnection) {
+			liferayConnection.invalidate();
+		}
+
+		@Override
+		public ConnectionValidationResult validate(
+			LiferayConnection liferayConnection) {
+
+			return ConnectionValidationResult.success();
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,336 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.standin;
+
+import com.liferay.mule.internal.connection.LiferayConnection;
+import com.liferay.mule.internal.connection.LiferayConnectionSettings;
+import com.liferay.mule.internal.connection.ResourceContext;
+import com.liferay.mule.internal.error.LiferayResponseValidator;
+import com.liferay.mule.internal.metrics.LatencyHistogram;
+import com.liferay.mule.internal.metrics.LatencyStatistics;
+import com.liferay.mule.internal.metrics.LiferayMetrics;
+import com.liferay.mule.internal.operation.LiferayBatchOperations;
+import com.liferay.mule.internal.operation.LiferayCRUDOperations;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.mule.runtime.api.connection.ConnectionException;
+import org.mule.runtime.api.util.MultiMap;
+import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.runtime.http.api.domain.message.response.HttpResponse;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LiferayLoadTestRunner {
+
+	public static void main(String[] args) throws Exception {
+		String openAPISpecURL = System.getProperty("liferay.loadtest.openapi");
+
+		LiferayStandInServer liferayStandInServer = null;
+
+		if (openAPISpecURL == null) {
+			liferayStandInServer = new LiferayStandInServer(
+				Integer.getInteger("liferay.loadtest.collection.size", 1000),
+				Long.getLong("liferay.loadtest.task.duration", 2000));
+
+			liferayStandInServer.start();
+
+			openAPISpecURL = liferayStandInServer.getOpenAPISpecURL();
+		}
+
+		LiferayLoadTestRunner liferayLoadTestRunner = new LiferayLoadTestRunner(
+			openAPISpecURL);
+
+		try {
+			String scenarios = System.getProperty(
+				"liferay.loadtest.scenarios", DEFAULT_SCENARIOS);
+
+			for (String scenario : scenarios.split(",")) {
+				liferayLoadTestRunner.run(scenario.trim());
+			}
+
+			liferayLoadTestRunner.printConnectionMetrics();
+		}
+		finally {
+			liferayLoadTestRunner.close();
+
+			if (liferayStandInServer != null) {
+				System.out.printf(
+					"Stand-in server handled %d requests and %d OAuth 2.0 " +
+						"token requests%n",
+					liferayStandInServer.getRequestsCount(),
+					liferayStandInServer.getOAuth2TokenRequestsCount());
+
+				liferayStandInServer.stop();
+			}
+		}
+	}
+
+	public LiferayLoadTestRunner(String openAPISpecURL)
+		throws ConnectionException {
+
+		String authentication = System.getProperty(
+			"liferay.loadtest.authentication", "basic");
+
+		LiferayConnectionSettings.Builder builder =
+			new LiferayConnectionSettings.Builder();
+
+		LiferayConnectionSettings liferayConnectionSettings =
+			builder.liferayMetrics(
+				liferayMetrics
+			).build();
+
+		if (authentication.equals("oauth2")) {
+			liferayConnection = LiferayConnection.withOAuth2Authentication(
+				new StandInHttpService(), openAPISpecURL, null,
+				System.getProperty("liferay.loadtest.consumer.key", "test"),
+				System.getProperty("liferay.loadtest.consumer.secret", "test"),
+				null, liferayConnectionSettings);
+		}
+		else {
+			liferayConnection = LiferayConnection.withBasicAuthentication(
+				new StandInHttpService(), openAPISpecURL, null,
+				System.getProperty(
+					"liferay.loadtest.user.name", "test@liferay.com"),
+				System.getProperty("liferay.loadtest.password", "test"), null,
+				liferayConnectionSettings);
+		}
+	}
+
+	public void close() {
+		liferayConnection.invalidate();
+	}
+
+	public void printConnectionMetrics() {
+		System.out.println("Connection request durations:");
+
+		Map<String, LatencyStatistics> requestDurations =
+			liferayMetrics.getRequestDurations();
+
+		for (Map.Entry<String, LatencyStatistics> entry :
+				requestDurations.entrySet()) {
+
+			System.out.printf("  %s %s%n", entry.getKey(), entry.getValue());
+		}
+
+		System.out.printf(
+			"Connection errors: %s%n", liferayMetrics.getErrorCounts());
+	}
+
+	public void run(String scenario) throws InterruptedException {
+		Callable<?> callable = getCallable(scenario);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(
+			concurrency);
+
+		AtomicReference<Exception> exceptionReference =
+			new AtomicReference<>();
+		LongAdder failuresCount = new LongAdder();
+		LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+		long startTime = System.nanoTime();
+
+		long endTime = startTime + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+		for (int i = 0; i < concurrency; i++) {
+			executorService.execute(
+				() -> {
+					while (System.nanoTime() < endTime) {
+						long operationStartTime = System.nanoTime();
+
+						try {
+							callable.call();
+						}
+						catch (Exception exception) {
+							exceptionReference.compareAndSet(null, exception);
+							failuresCount.increment();
+						}
+
+						latencyHistogram.record(
+							System.nanoTime() - operationStartTime);
+					}
+				});
+		}
+
+		executorService.shutdown();
+
+		executorService.awaitTermination(
+			durationSeconds + (2 * CONNECTION_TIMEOUT_SECONDS),
+			TimeUnit.SECONDS);
+
+		double elapsedSeconds = (System.nanoTime() - startTime) / 1000000000.0;
+
+		LatencyStatistics latencyStatistics =
+			latencyHistogram.getLatencyStatistics();
+
+		System.out.printf(
+			"%s: %d operations, %d failures, %.1f operations/s, latency " +
+				"(ms) %s%n",
+			scenario, latencyStatistics.getCount(), failuresCount.sum(),
+			latencyStatistics.getCount() / elapsedSeconds, latencyStatistics);
+
+		Exception exception = exceptionReference.get();
+
+		if (exception != null) {
+			System.out.printf("%s: first failure %s%n", scenario, exception);
+		}
+	}
+
+	private Callable<?> getCallable(String scenario) {
+		if (scenario.equals("bulk-create")) {
+			return () -> read(
+				liferayCRUDOperations.bulkPost(
+					liferayConnection, endpoint, getRecordsInputStream(),
+					Collections.emptyMap(), new MultiMap<>(), 4,
+					CONNECTION_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+		}
+		else if (scenario.equals("connection")) {
+			return () -> {
+				HttpResponse httpResponse = liferayConnection.get(
+					getResourceContext());
+
+				liferayResponseValidator.validate(httpResponse);
+
+				return httpResponse;
+			};
+		}
+		else if (scenario.equals("export")) {
+			return () -> read(
+				liferayBatchOperations.executeExportTask(
+					liferayConnection, className, null, null, null, null,
+					null, CONNECTION_TIMEOUT_SECONDS, TimeUnit.SECONDS,
+					false));
+		}
+		else if (scenario.equals("get")) {
+			return () -> liferayCRUDOperations.get(
+				liferayConnection, endpoint, Collections.emptyMap(),
+				getPageQueryParams(), CONNECTION_TIMEOUT_SECONDS,
+				TimeUnit.SECONDS);
+		}
+		else if (scenario.equals("import-create")) {
+			return () -> {
+				liferayBatchOperations.executeImportCreateTask(
+					liferayConnection, className, Collections.emptyMap(),
+					getRecordsInputStream(), CONNECTION_TIMEOUT_SECONDS,
+					TimeUnit.SECONDS);
+
+				return null;
+			};
+		}
+
+		throw new IllegalArgumentException("Unknown scenario " + scenario);
+	}
+
+	private MultiMap<String, String> getPageQueryParams() {
+		MultiMap<String, String> queryParams = new MultiMap<>();
+
+		ThreadLocalRandom threadLocalRandom = ThreadLocalRandom.current();
+
+		queryParams.put(
+			"page", String.valueOf(threadLocalRandom.nextInt(1, 51)));
+		queryParams.put("pageSize", "20");
+
+		return queryParams;
+	}
+
+	private InputStream getRecordsInputStream() {
+		StringBuilder sb = new StringBuilder("[");
+
+		for (int i = 0; i < recordsCount; i++) {
+			if (i > 0) {
+				sb.append(",");
+			}
+
+			sb.append("{\"name\": \"Entity ");
+			sb.append(i);
+			sb.append("\"}");
+		}
+
+		sb.append("]");
+
+		String records = sb.toString();
+
+		return new ByteArrayInputStream(
+			records.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private ResourceContext getResourceContext() {
+		ResourceContext.Builder builder = new ResourceContext.Builder();
+
+		return builder.connectionTimeout(
+			TimeUnit.SECONDS.toMillis(CONNECTION_TIMEOUT_SECONDS)
+		).endpoint(
+			endpoint
+		).queryParams(
+			getPageQueryParams()
+		).build();
+	}
+
+	private long read(Result<InputStream, Void> result) throws IOException {
+		long count = 0;
+
+		try (InputStream inputStream = result.getOutput()) {
+			byte[] buffer = new byte[8192];
+
+			int read;
+
+			while ((read = inputStream.read(buffer)) != -1) {
+				count += read;
+			}
+		}
+
+		return count;
+	}
+
+	private static final int CONNECTION_TIMEOUT_SECONDS = 30;
+
+	private static final String DEFAULT_SCENARIOS =
+		"connection,get,bulk-create,export,import-create";
+
+	private final String className = System.getProperty(
+		"liferay.loadtest.class.name", "com.liferay.headless.v1_0.Entity");
+	private final int concurrency = Integer.getInteger(
+		"liferay.loadtest.concurrency", 16);
+	private final long durationSeconds = Long.getLong(
+		"liferay.loadtest.duration", 30);
+	private final String endpoint = System.getProperty(
+		"liferay.loadtest.endpoint", "/entities");
+	private final LiferayBatchOperations liferayBatchOperations =
+		new LiferayBatchOperations();
+	private final LiferayConnection liferayConnection;
+	private final LiferayCRUDOperations liferayCRUDOperations =
+		new LiferayCRUDOperations();
+	private final LiferayMetrics liferayMetrics = new LiferayMetrics();
+	private final LiferayResponseValidator liferayResponseValidator =
+		new LiferayResponseValidator();
+	private final int recordsCount = Integer.getInteger(
+		"liferay.loadtest.records.count", 100);
+
+}
\ No newline at end of file
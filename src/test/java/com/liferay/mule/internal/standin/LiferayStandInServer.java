@@ -0,0 +1,655 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.standin;
+
+import com.liferay.mule.internal.connection.LiferayConnection;
+import com.liferay.mule.internal.connection.LiferayConnectionSettings;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.UnsupportedEncodingException;
+
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLDecoder;
+
+import java.nio.charset.StandardCharsets;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.mule.runtime.api.connection.ConnectionException;
+import org.mule.runtime.core.api.util.IOUtils;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LiferayStandInServer {
+
+	public LiferayStandInServer(int collectionSize, long taskDurationMillis)
+		throws IOException {
+
+		this(getBundledOpenAPISpec(), collectionSize, taskDurationMillis);
+	}
+
+	public LiferayStandInServer(
+			byte[] openAPISpec, int collectionSize, long taskDurationMillis)
+		throws IOException {
+
+		this.openAPISpec = openAPISpec;
+		this.collectionSize = collectionSize;
+		this.taskDurationMillis = taskDurationMillis;
+
+		exportTaskContent = getExportTaskContent(collectionSize);
+	}
+
+	public String getBaseURL() {
+		InetSocketAddress inetSocketAddress = httpServer.getAddress();
+
+		return String.format(
+			"http://localhost:%d", inetSocketAddress.getPort());
+	}
+
+	public String getLastRequestPath() {
+		return lastRequestPath;
+	}
+
+	public Map<String, String> getLastRequestQueryParams() {
+		return lastRequestQueryParams;
+	}
+
+	public LiferayConnection getLiferayConnection(
+			LiferayConnectionSettings.Builder builder)
+		throws ConnectionException {
+
+		return LiferayConnection.withBasicAuthentication(
+			new StandInHttpService(), getOpenAPISpecURL(), null,
+			"test@liferay.com", "test", null, builder.build());
+	}
+
+	public long getCallbacksCount() {
+		return callbacksCount.sum();
+	}
+
+	public long getOAuth2TokenRequestsCount() {
+		return oAuth2TokenRequestsCount.sum();
+	}
+
+	public String getOpenAPISpecURL() {
+		return getBaseURL() + OPEN_API_SPEC_PATH;
+	}
+
+	public long getRequestsCount() {
+		return requestsCount.sum();
+	}
+
+	public void modifyRecord(long id) {
+		long minutes = collectionSize;
+
+		for (long modifiedMinutes : modifiedRecordsMinutes.values()) {
+			minutes = Math.max(minutes, modifiedMinutes);
+		}
+
+		modifiedRecordsMinutes.put(id, minutes + 1);
+	}
+
+	public void setCollectionSize(int collectionSize) {
+		this.collectionSize = collectionSize;
+	}
+
+	public void setExportTaskContentInterruptions(
+		int exportTaskContentInterruptions) {
+
+		this.exportTaskContentInterruptions.set(
+			exportTaskContentInterruptions);
+	}
+
+	public void start() throws IOException {
+		System.setProperty("sun.net.httpserver.nodelay", "true");
+
+		httpServer = HttpServer.create(
+			new InetSocketAddress("localhost", 0), 0);
+
+		httpServer.createContext("/", this::handle);
+		httpServer.setExecutor(executorService);
+
+		httpServer.start();
+	}
+
+	public void stop() {
+		httpServer.stop(0);
+
+		executorService.shutdownNow();
+	}
+
+	private static byte[] getBundledOpenAPISpec() throws IOException {
+		ClassLoader classLoader = LiferayStandInServer.class.getClassLoader();
+
+		try (InputStream inputStream = classLoader.getResourceAsStream(
+				"com/liferay/mule/internal/metadata/openapi.json")) {
+
+			return IOUtils.toByteArray(inputStream);
+		}
+	}
+
+	private byte[] getExportTaskContent(int collectionSize) throws IOException {
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(
+				byteArrayOutputStream)) {
+
+			zipOutputStream.putNextEntry(new ZipEntry("export.json"));
+
+			zipOutputStream.write('[');
+
+			for (int i = 1; i <= collectionSize; i++) {
+				if (i > 1) {
+					zipOutputStream.write(',');
+				}
+
+				zipOutputStream.write(getItemJSON(i));
+			}
+
+			zipOutputStream.write(']');
+
+			zipOutputStream.closeEntry();
+		}
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private long getFirstMinutes(String filter) {
+		if (filter == null) {
+			return 1;
+		}
+
+		Matcher matcher = dateModifiedFilterPattern.matcher(filter);
+
+		if (!matcher.matches()) {
+			return 1;
+		}
+
+		Duration duration = Duration.between(
+			DATE_MODIFIED, Instant.parse(matcher.group(2)));
+
+		long seconds = duration.getSeconds();
+
+		if (matcher.group(1).equals("gt")) {
+			return Math.max(1, Math.floorDiv(seconds, 60) + 1);
+		}
+
+		return Math.max(1, Math.floorDiv(seconds + 59, 60));
+	}
+
+	private byte[] getItemJSON(long id) {
+		String json = String.format(
+			"{\"active\": true, \"dateModified\": \"%s\", \"id\": %d, " +
+				"\"name\": \"Entity %d\"}",
+			DATE_MODIFIED.plus(getMinutes(id), ChronoUnit.MINUTES), id, id);
+
+		return json.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private String getMethod(HttpExchange httpExchange) {
+		Headers headers = httpExchange.getRequestHeaders();
+
+		String method = headers.getFirst("X-HTTP-Method-Override");
+
+		if (method == null) {
+			method = httpExchange.getRequestMethod();
+		}
+
+		return method;
+	}
+
+	private long getMinutes(long id) {
+		return modifiedRecordsMinutes.getOrDefault(id, id);
+	}
+
+	private byte[] getPageJSON(Map<String, String> queryParams) {
+		int page = getPositiveInt(queryParams.get("page"), 1);
+		int pageSize = getPositiveInt(queryParams.get("pageSize"), 20);
+
+		long firstMinutes = getFirstMinutes(queryParams.get("filter"));
+
+		List<Long> ids = new ArrayList<>();
+
+		for (long id = 1; id <= collectionSize; id++) {
+			if (getMinutes(id) >= firstMinutes) {
+				ids.add(id);
+			}
+		}
+
+		ids.sort(Comparator.comparingLong(this::getMinutes));
+
+		long totalCount = ids.size();
+
+		long lastPage = Math.max(1, (totalCount + pageSize - 1) / pageSize);
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		writeString(byteArrayOutputStream, "{\"items\": [");
+
+		long start = (long)(page - 1) * pageSize;
+
+		long end = Math.min(start + pageSize, totalCount);
+
+		for (long i = start; i < end; i++) {
+			if (i > start) {
+				byteArrayOutputStream.write(',');
+			}
+
+			byte[] itemJSON = getItemJSON(ids.get((int)i));
+
+			byteArrayOutputStream.write(itemJSON, 0, itemJSON.length);
+		}
+
+		writeString(
+			byteArrayOutputStream,
+			String.format(
+				"], \"lastPage\": %d, \"page\": %d, \"pageSize\": %d, " +
+					"\"totalCount\": %d}",
+				lastPage, page, pageSize, totalCount));
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private int getPositiveInt(String value, int defaultValue) {
+		if (value == null) {
+			return defaultValue;
+		}
+
+		try {
+			return Math.max(1, Integer.parseInt(value));
+		}
+		catch (NumberFormatException numberFormatException) {
+			return defaultValue;
+		}
+	}
+
+	private Map<String, String> getQueryParams(URI uri)
+		throws UnsupportedEncodingException {
+
+		Map<String, String> queryParams = new HashMap<>();
+
+		String query = uri.getRawQuery();
+
+		if (query == null) {
+			return queryParams;
+		}
+
+		for (String param : query.split("&")) {
+			int index = param.indexOf('=');
+
+			if (index == -1) {
+				continue;
+			}
+
+			queryParams.put(
+				URLDecoder.decode(param.substring(0, index), "UTF-8"),
+				URLDecoder.decode(param.substring(index + 1), "UTF-8"));
+		}
+
+		return queryParams;
+	}
+
+	private byte[] getTaskJSON(long taskId, String executeStatus) {
+		String json = String.format(
+			"{\"executeStatus\": \"%s\", \"id\": %d}", executeStatus, taskId);
+
+		return json.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private void handle(HttpExchange httpExchange) throws IOException {
+		requestsCount.increment();
+
+		byte[] requestBody;
+
+		try (InputStream inputStream = httpExchange.getRequestBody()) {
+			requestBody = IOUtils.toByteArray(inputStream);
+		}
+
+		String method = getMethod(httpExchange);
+
+		URI uri = httpExchange.getRequestURI();
+
+		String path = uri.getPath();
+
+		lastRequestPath = path;
+
+		Map<String, String> queryParams = getQueryParams(uri);
+
+		lastRequestQueryParams = queryParams;
+
+		try {
+			if (path.equals(OAUTH2_TOKEN_PATH)) {
+				handleOAuth2Token(httpExchange, method);
+			}
+			else if (path.endsWith("/openapi.json")) {
+				if (method.equals("HEAD")) {
+					write(httpExchange, 200, null);
+				}
+				else {
+					write(httpExchange, 200, openAPISpec);
+				}
+			}
+			else if (path.startsWith(BATCH_ENGINE_PATH)) {
+				handleBatchEngine(httpExchange, method, path, queryParams);
+			}
+			else {
+				handleResource(
+					httpExchange, method, path, queryParams, requestBody);
+			}
+		}
+		finally {
+			httpExchange.close();
+		}
+	}
+
+	private void handleBatchEngine(
+			HttpExchange httpExchange, String method, String path,
+			Map<String, String> queryParams)
+		throws IOException {
+
+		Matcher matcher = exportTaskContentPattern.matcher(path);
+
+		if (matcher.matches()) {
+			if (!tasks.containsKey(Long.valueOf(matcher.group(1)))) {
+				write(httpExchange, 404, null);
+
+				return;
+			}
+
+			Headers headers = httpExchange.getRequestHeaders();
+
+			String range = headers.getFirst("Range");
+
+			if ((range == null) &&
+				(exportTaskContentInterruptions.getAndDecrement() > 0)) {
+
+				Headers responseHeaders = httpExchange.getResponseHeaders();
+
+				responseHeaders.set("Content-Type", "application/zip");
+
+				httpExchange.sendResponseHeaders(
+					200, exportTaskContent.length);
+
+				OutputStream outputStream = httpExchange.getResponseBody();
+
+				outputStream.write(
+					exportTaskContent, 0, exportTaskContent.length / 2);
+				outputStream.flush();
+
+				return;
+			}
+
+			if (range == null) {
+				write(
+					httpExchange, 200, "application/zip", exportTaskContent);
+
+				return;
+			}
+
+			int start = Integer.parseInt(
+				range.substring("bytes=".length(), range.length() - 1));
+
+			Headers responseHeaders = httpExchange.getResponseHeaders();
+
+			responseHeaders.set(
+				"Content-Range",
+				String.format(
+					"bytes %d-%d/%d", start, exportTaskContent.length - 1,
+					exportTaskContent.length));
+
+			write(
+				httpExchange, 206, "application/zip",
+				Arrays.copyOfRange(
+					exportTaskContent, start, exportTaskContent.length));
+
+			return;
+		}
+
+		matcher = taskPattern.matcher(path);
+
+		if (matcher.matches() && method.equals("GET")) {
+			long taskId = Long.parseLong(matcher.group(1));
+
+			Long startTime = tasks.get(taskId);
+
+			if (startTime == null) {
+				write(httpExchange, 404, null);
+
+				return;
+			}
+
+			String executeStatus = "STARTED";
+
+			if ((System.currentTimeMillis() - startTime) >=
+					taskDurationMillis) {
+
+				executeStatus = "COMPLETED";
+			}
+
+			write(httpExchange, 200, getTaskJSON(taskId, executeStatus));
+
+			return;
+		}
+
+		if (method.equals("GET")) {
+			write(httpExchange, 405, null);
+
+			return;
+		}
+
+		long taskId = taskIdCounter.incrementAndGet();
+
+		tasks.put(taskId, System.currentTimeMillis());
+
+		String callbackURL = queryParams.get("callbackURL");
+
+		if (callbackURL != null) {
+			executorService.submit(() -> sendCallback(callbackURL));
+		}
+
+		write(httpExchange, 200, getTaskJSON(taskId, "INITIAL"));
+	}
+
+	private void handleOAuth2Token(HttpExchange httpExchange, String method)
+		throws IOException {
+
+		if (!method.equals("POST")) {
+			write(httpExchange, 405, null);
+
+			return;
+		}
+
+		oAuth2TokenRequestsCount.increment();
+
+		String json = String.format(
+			"{\"access_token\": \"%s\", \"expires_in\": 600, " +
+				"\"token_type\": \"Bearer\"}",
+			UUID.randomUUID());
+
+		write(httpExchange, 200, json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void handleResource(
+			HttpExchange httpExchange, String method, String path,
+			Map<String, String> queryParams, byte[] requestBody)
+		throws IOException {
+
+		if (method.equals("DELETE")) {
+			write(httpExchange, 204, null);
+
+			return;
+		}
+
+		if (!method.equals("GET")) {
+			if (requestBody.length == 0) {
+				requestBody = getItemJSON(recordIdCounter.incrementAndGet());
+			}
+
+			write(httpExchange, 200, requestBody);
+
+			return;
+		}
+
+		Matcher matcher = itemPattern.matcher(path);
+
+		if (matcher.matches()) {
+			write(
+				httpExchange, 200,
+				getItemJSON(Long.parseLong(matcher.group(1))));
+
+			return;
+		}
+
+		write(httpExchange, 200, getPageJSON(queryParams));
+	}
+
+	private void sendCallback(String callbackURL) {
+		try {
+			Thread.sleep(taskDurationMillis);
+
+			URL url = new URL(callbackURL);
+
+			HttpURLConnection httpURLConnection =
+				(HttpURLConnection)url.openConnection();
+
+			httpURLConnection.setRequestMethod("POST");
+
+			callbacksCount.increment();
+
+			httpURLConnection.getResponseCode();
+
+			httpURLConnection.disconnect();
+		}
+		catch (InterruptedException interruptedException) {
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
+		}
+		catch (IOException ioException) {
+			throw new UncheckedIOException(ioException);
+		}
+	}
+
+	private void write(HttpExchange httpExchange, int statusCode, byte[] bytes)
+		throws IOException {
+
+		write(httpExchange, statusCode, "application/json", bytes);
+	}
+
+	private void write(
+			HttpExchange httpExchange, int statusCode, String contentType,
+			byte[] bytes)
+		throws IOException {
+
+		if ((bytes == null) || (statusCode == 204)) {
+			httpExchange.sendResponseHeaders(statusCode, -1);
+
+			return;
+		}
+
+		Headers headers = httpExchange.getResponseHeaders();
+
+		headers.set("Content-Type", contentType);
+
+		httpExchange.sendResponseHeaders(statusCode, bytes.length);
+
+		try (OutputStream outputStream = httpExchange.getResponseBody()) {
+			outputStream.write(bytes);
+		}
+	}
+
+	private void writeString(
+		ByteArrayOutputStream byteArrayOutputStream, String s) {
+
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+
+		byteArrayOutputStream.write(bytes, 0, bytes.length);
+	}
+
+	private static final String BATCH_ENGINE_PATH =
+		"/o/headless-batch-engine/";
+
+	private static final Instant DATE_MODIFIED = Instant.parse(
+		"2021-01-01T00:00:00Z");
+
+	private static final String OAUTH2_TOKEN_PATH = "/o/oauth2/token";
+
+	private static final String OPEN_API_SPEC_PATH =
+		"/o/headless-commerce-admin-catalog/v1.0/openapi.json";
+
+	private static final Pattern dateModifiedFilterPattern = Pattern.compile(
+		"dateModified (ge|gt) (\\S+)");
+	private static final Pattern exportTaskContentPattern = Pattern.compile(
+		".*/export-task/(\\d+)/content");
+	private static final Pattern itemPattern = Pattern.compile(".*/(\\d+)");
+	private static final Pattern taskPattern = Pattern.compile(
+		".*/(?:export|import)-task/(\\d+)");
+
+	private final LongAdder callbacksCount = new LongAdder();
+	private volatile int collectionSize;
+	private final ExecutorService executorService =
+		Executors.newCachedThreadPool();
+	private final byte[] exportTaskContent;
+	private final AtomicInteger exportTaskContentInterruptions =
+		new AtomicInteger();
+	private HttpServer httpServer;
+	private volatile String lastRequestPath;
+	private volatile Map<String, String> lastRequestQueryParams;
+	private final ConcurrentMap<Long, Long> modifiedRecordsMinutes =
+		new ConcurrentHashMap<>();
+	private final LongAdder oAuth2TokenRequestsCount = new LongAdder();
+	private final byte[] openAPISpec;
+	private final AtomicLong recordIdCounter = new AtomicLong();
+	private final LongAdder requestsCount = new LongAdder();
+	private final AtomicLong taskIdCounter = new AtomicLong();
+	private final ConcurrentMap<Long, Long> tasks = new ConcurrentHashMap<>();
+	private final long taskDurationMillis;
+
+}
\ No newline at end of file
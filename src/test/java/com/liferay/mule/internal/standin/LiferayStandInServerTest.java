@@ -0,0 +1,598 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.liferay.mule.internal.connection.LiferayConnection;
+import com.liferay.mule.internal.connection.LiferayConnectionSettings;
+import com.liferay.mule.internal.connection.ResourceContext;
+import com.liferay.mule.internal.error.LiferayError;
+import com.liferay.mule.internal.metrics.LiferayMetrics;
+import com.liferay.mule.internal.operation.BatchTaskType;
+import com.liferay.mule.internal.operation.LiferayBatchOperations;
+import com.liferay.mule.internal.operation.LiferayCRUDOperations;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mule.runtime.api.streaming.bytes.CursorStream;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+import org.mule.runtime.api.util.MultiMap;
+import org.mule.runtime.core.api.util.IOUtils;
+import org.mule.runtime.extension.api.exception.ModuleException;
+import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.runtime.http.api.domain.entity.HttpEntity;
+import org.mule.runtime.http.api.domain.message.response.HttpResponse;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LiferayStandInServerTest {
+
+	@Before
+	public void setUp() throws Exception {
+		liferayStandInServer = new LiferayStandInServer(3, 0);
+
+		liferayStandInServer.start();
+	}
+
+	@After
+	public void tearDown() {
+		if (liferayConnection != null) {
+			liferayConnection.invalidate();
+		}
+
+		liferayStandInServer.stop();
+	}
+
+	@Test
+	public void testBulkPost() throws Exception {
+		liferayConnection = liferayStandInServer.getLiferayConnection(
+			new LiferayConnectionSettings.Builder());
+
+		Result<InputStream, Void> result = liferayCRUDOperations.bulkPost(
+			liferayConnection, "/entities",
+			getInputStream("[{\"name\": \"A\"}, {\"name\": \"B\"}]"),
+			Collections.emptyMap(), new MultiMap<>(), 2, 5, TimeUnit.SECONDS);
+
+		Assert.assertEquals(2, liferayStandInServer.getRequestsCount());
+
+		try (InputStream inputStream = result.getOutput()) {
+			String output = IOUtils.toString(inputStream);
+
+			Assert.assertTrue(output.contains("\"name\":\"A\""));
+			Assert.assertTrue(output.contains("\"name\":\"B\""));
+		}
+	}
+
+	@Test
+	public void testExecuteExportTask() throws Exception {
+		liferayConnection = liferayStandInServer.getLiferayConnection(
+			new LiferayConnectionSettings.Builder());
+
+		Result<InputStream, Void> result =
+			liferayBatchOperations.executeExportTask(
+				liferayConnection, "com.liferay.headless.v1_0.Entity", null,
+				null, null, null, null, 5, TimeUnit.SECONDS, false);
+
+		try (InputStream inputStream = result.getOutput()) {
+			String output = IOUtils.toString(inputStream);
+
+			Assert.assertTrue(output.contains("\"name\": \"Entity 1\""));
+			Assert.assertTrue(output.contains("\"name\": \"Entity 3\""));
+		}
+	}
+
+	@Test
+	public void testExecuteExportTaskWithInterruptedDownload()
+		throws Exception {
+
+		liferayConnection = liferayStandInServer.getLiferayConnection(
+			new LiferayConnectionSettings.Builder());
+
+		liferayStandInServer.setExportTaskContentInterruptions(1);
+
+		Result<InputStream, Void> result =
+			liferayBatchOperations.executeExportTask(
+				liferayConnection, "com.liferay.headless.v1_0.Entity", null,
+				null, null, null, null, 5, TimeUnit.SECONDS, false);
+
+		try (InputStream inputStream = result.getOutput()) {
+			String output = IOUtils.toString(inputStream);
+
+			Assert.assertTrue(output.contains("\"name\": \"Entity 1\""));
+			Assert.assertTrue(output.contains("\"name\": \"Entity 3\""));
+		}
+
+		Assert.assertEquals(4, liferayStandInServer.getRequestsCount());
+	}
+
+	@Test
+	public void testExecuteExportTaskWithSpoolToFile() throws Exception {
+		liferayConnection = liferayStandInServer.getLiferayConnection(
+			new LiferayConnectionSettings.Builder());
+
+		Result<InputStream, Void> result =
+			liferayBatchOperations.executeExportTask(
+				liferayConnection, "com.liferay.headless.v1_0.Entity", null,
+				null, null, null, null, 5, TimeUnit.SECONDS, true);
+
+		CursorStream cursorStream = (CursorStream)result.getOutput();
+
+		CursorStreamProvider cursorStreamProvider =
+			(CursorStreamProvider)cursorStream.getProvider();
+
+		try {
+			String output = IOUtils.toString(cursorStream);
+
+			Assert.assertTrue(output.contains("\"name\": \"Entity 1\""));
+
+			cursorStream.close();
+
+			try (CursorStream cursorStream2 =
+					cursorStreamProvider.openCursor()) {
+
+				Assert.assertEquals(output, IOUtils.toString(cursorStream2));
+			}
+		}
+		finally {
+			cursorStreamProvider.releaseResources();
+		}
+	}
+
+	@Test
+	public void testExecuteExportTaskWithSpoolToFileDeletesSpoolFile()
+		throws Exception {
+
+		liferayConnection = liferayStandInServer.getLiferayConnection(
+			new LiferayConnectionSettings.Builder());
+
+		Set<Path> spoolPaths = getSpoolPaths();
+
+		Result<InputStream, Void> result =
+			liferayBatchOperations.executeExportTask(
+				liferayConnection, "com.liferay.headless.v1_0.Entity", null,
+				null, null, null, null, 5, TimeUnit.SECONDS, true);
+
+		try (InputStream inputStream = result.getOutput()) {
+			String output = IOUtils.toString(inputStream);
+
+			Assert.assertTrue(output.contains("\"name\": \"Entity 3\""));
+		}
+
+		Assert.assertEquals(spoolPaths, getSpoolPaths());
+	}
+
+	@Test
+	public void testExecuteImportCreateTask() throws Exception {
+		liferayConnection = liferayStandInServer.getLiferayConnection(
+			new LiferayConnectionSettings.Builder());
+
+		liferayBatchOperations.executeImportCreateTask(
+			liferayConnection, "com.liferay.headless.v1_0.Entity",
+			Collections.emptyMap(), getInputStream("[{\"name\": \"A\"}]"), 5,
+			TimeUnit.SECONDS);
+
+		Assert.assertEquals(2, liferayStandInServer.getRequestsCount());
+	}
+
+	@Test
+	public void testExecuteImportCreateTaskFromFile() throws Exception {
+		liferayConnection = liferayStandInServer.getLiferayConnection(
+			new LiferayConnectionSettings.Builder());
+
+		Path path = Files.createTempFile("import-", ".json");
+
+		try {
+			Files.write(
+				path, "[{\"name\": \"A\"}]".getBytes(StandardCharsets.UTF_8));
+
+			liferayBatchOperations.executeImportCreateTaskFromFile(
+				liferayConnection, "com.liferay.headless.v1_0.Entity",
+				Collections.emptyMap(), String.valueOf(path), 5,
+				TimeUnit.SECONDS);
+		}
+		finally {
+			Files.delete(path);
+		}
+
+		Assert.assertEquals(2, liferayStandInServer.getRequestsCount());
+	}
+
+	@Test
+	public void testExecutePartitionedExportTask() throws Exception {
+		ExecutorService executorService = Executors.newCachedThreadPool();
+
+		AtomicInteger tasksCount = new AtomicInteger();
+
+		try {
+			LiferayConnectionSettings.Builder builder =
+				new LiferayConnectionSettings.Builder();
+
+			liferayConnection = liferayStandInServer.getLiferayConnection(
+				builder.executor(
+					runnable -> {
+						tasksCount.incrementAndGet();
+
+						executorService.execute(runnable);
+					}));
+
+			Result<InputStream, Void> result =
+				liferayBatchOperations.executePartitionedExportTask(
+					liferayConnection, "com.liferay.headless.v1_0.Entity",
+					null, null, "active eq true", null, "longField", "2,3", 2,
+					5, TimeUnit.SECONDS);
+
+			try (InputStream inputStream = result.getOutput()) {
+				ObjectMapper objectMapper = new ObjectMapper();
+
+				JsonNode jsonNode = objectMapper.readTree(inputStream);
+
+				Assert.assertTrue(jsonNode.isArray());
+				Assert.assertEquals(9, jsonNode.size());
+				Assert.assertEquals(
+					"Entity 1", jsonNode.get(3).get("name").asText());
+			}
+
+			Assert.assertEquals(2, tasksCount.get());
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testExecutePartitionedExportTaskWithInvalidBoundaries()
+		throws Exception {
+
+		liferayConnection = liferayStandInServer.getLiferayConnection(
+			new LiferayConnectionSettings.Builder());
+
+		assertPartitionedExportTaskFails("booleanField", "true");
+		assertPartitionedExportTaskFails("dateTimeField", "2021-01-01");
+		assertPartitionedExportTaskFails("id", "2,3");
+		assertPartitionedExportTaskFails("longField", "2) or (active eq true");
+		assertPartitionedExportTaskFails("longField", "3,2");
+		assertPartitionedExportTaskFails("longField", "2,2");
+		assertPartitionedExportTaskFails("stringField", "b,a");
+
+		Assert.assertEquals(7, liferayStandInServer.getRequestsCount());
+	}
+
+	@Test
+	public void testExecutePartitionedExportTaskWithStringBoundaries()
+		throws Exception {
+
+		liferayConnection = liferayStandInServer.getLiferayConnection(
+			new LiferayConnectionSettings.Builder());
+
+		Result<InputStream, Void> result =
+			liferayBatchOperations.executePartitionedExportTask(
+				liferayConnection, "com.liferay.headless.v1_0.Entity", null,
+				null, null, null, "stringField", "O'Brien", 1, 5,
+				TimeUnit.SECONDS);
+
+		try (InputStream inputStream = result.getOutput()) {
+			ObjectMapper objectMapper = new ObjectMapper();
+
+			JsonNode jsonNode = objectMapper.readTree(inputStream);
+
+			Assert.assertEquals(6, jsonNode.size());
+		}
+	}
+
+	@Test
+	public void testGetOpenAPISpecHeadHttpResponse() throws Exception {
+		liferayConnection = liferayStandInServer.getLiferayConnection(
+			new LiferayConnectionSettings.Builder());
+
+		HttpResponse httpResponse =
+			liferayConnection.getOpenAPISpecHeadHttpResponse();
+
+		Assert.assertEquals(200, httpResponse.getStatusCode());
+
+		HttpEntity httpEntity = httpResponse.getEntity();
+
+		Assert.assertEquals(0, httpEntity.getBytes().length);
+
+		Assert.assertEquals(1, liferayStandInServer.getRequestsCount());
+	}
+
+	@Test
+	public void testGetPage() throws Exception {
+		liferayConnection = liferayStandInServer.getLiferayConnection(
+			new LiferayConnectionSettings.Builder());
+
+		MultiMap<String, String> queryParams = new MultiMap<>();
+
+		queryParams.put("page", "2");
+		queryParams.put("pageSize", "2");
+
+		Result<String, Void> result = liferayCRUDOperations.get(
+			liferayConnection, "/entities", Collections.emptyMap(),
+			queryParams, 5, TimeUnit.SECONDS);
+
+		String output = result.getOutput();
+
+		Assert.assertTrue(output.contains("\"name\": \"Entity 3\""));
+		Assert.assertFalse(output.contains("\"name\": \"Entity 2\""));
+		Assert.assertTrue(output.contains("\"lastPage\": 2"));
+		Assert.assertTrue(output.contains("\"totalCount\": 3"));
+	}
+
+	@Test
+	public void testGetWithAdditionalOpenAPISpecPaths() throws Exception {
+		String additionalOpenAPISpecURL =
+			liferayStandInServer.getBaseURL() +
+				"/o/headless-delivery/v1.0/openapi.json";
+
+		LiferayConnectionSettings.Builder builder =
+			new LiferayConnectionSettings.Builder();
+
+		liferayConnection = LiferayConnection.withBasicAuthentication(
+			new StandInHttpService(), liferayStandInServer.getOpenAPISpecURL(),
+			Collections.singletonList(additionalOpenAPISpecURL),
+			"test@liferay.com", "test", null,
+			builder.liferayMetrics(
+				new LiferayMetrics()
+			).build());
+
+		JsonNode oasJsonNode = liferayConnection.getOpenAPISpecJsonNode();
+
+		JsonNode pathsJsonNode = oasJsonNode.get("paths");
+
+		Assert.assertTrue(pathsJsonNode.has("/entities/{id}"));
+		Assert.assertTrue(
+			pathsJsonNode.has("/headless-delivery/entities/{id}"));
+		Assert.assertEquals(2, liferayStandInServer.getRequestsCount());
+
+		Result<String, Void> result = liferayCRUDOperations.get(
+			liferayConnection, "/headless-delivery/entities/{id}",
+			Collections.singletonMap("id", "2"), new MultiMap<>(), 5,
+			TimeUnit.SECONDS);
+
+		Assert.assertEquals(
+			"{\"active\": true, \"dateModified\": " +
+				"\"2021-01-01T00:02:00Z\", \"id\": 2, \"name\": \"Entity 2\"}",
+			result.getOutput());
+		Assert.assertEquals(
+			"/o/headless-delivery/entities/2",
+			liferayStandInServer.getLastRequestPath());
+	}
+
+	@Test
+	public void testGetWithOAuth2Authentication() throws Exception {
+		LiferayConnectionSettings.Builder builder =
+			new LiferayConnectionSettings.Builder();
+
+		liferayConnection = LiferayConnection.withOAuth2Authentication(
+			new StandInHttpService(), liferayStandInServer.getOpenAPISpecURL(),
+			null, "test", "test", null,
+			builder.liferayMetrics(
+				new LiferayMetrics()
+			).build());
+
+		Result<String, Void> result = liferayCRUDOperations.get(
+			liferayConnection, "/entities/{id}",
+			Collections.singletonMap("id", "2"), new MultiMap<>(), 5,
+			TimeUnit.SECONDS);
+
+		Assert.assertEquals(
+			"{\"active\": true, \"dateModified\": " +
+				"\"2021-01-01T00:02:00Z\", \"id\": 2, \"name\": \"Entity 2\"}",
+			result.getOutput());
+		Assert.assertEquals(
+			1, liferayStandInServer.getOAuth2TokenRequestsCount());
+	}
+
+	@Test
+	public void testGetWithRangeHeader() throws Exception {
+		liferayConnection = liferayStandInServer.getLiferayConnection(
+			new LiferayConnectionSettings.Builder());
+
+		String exportTaskId = liferayBatchOperations.submitExportTask(
+			liferayConnection, "com.liferay.headless.v1_0.Entity", null, null,
+			null, null, null, 5, TimeUnit.SECONDS);
+
+		HttpResponse httpResponse = liferayConnection.get(
+			getExportTaskContentResourceContext(exportTaskId, null));
+
+		HttpEntity httpEntity = httpResponse.getEntity();
+
+		byte[] bytes = IOUtils.toByteArray(httpEntity.getContent());
+
+		MultiMap<String, String> headers = new MultiMap<>();
+
+		headers.put("Range", "bytes=10-");
+
+		httpResponse = liferayConnection.get(
+			getExportTaskContentResourceContext(exportTaskId, headers));
+
+		Assert.assertEquals(206, httpResponse.getStatusCode());
+
+		httpEntity = httpResponse.getEntity();
+
+		Assert.assertArrayEquals(
+			Arrays.copyOfRange(bytes, 10, bytes.length),
+			IOUtils.toByteArray(httpEntity.getContent()));
+	}
+
+	@Test
+	public void testSubmitExportTask() throws Exception {
+		liferayConnection = liferayStandInServer.getLiferayConnection(
+			new LiferayConnectionSettings.Builder());
+
+		String exportTaskId1 = liferayBatchOperations.submitExportTask(
+			liferayConnection, "com.liferay.headless.v1_0.Entity", null, null,
+			null, null, null, 5, TimeUnit.SECONDS);
+		String exportTaskId2 = liferayBatchOperations.submitExportTask(
+			liferayConnection, "com.liferay.headless.v1_0.Entity", null, null,
+			null, null, null, 5, TimeUnit.SECONDS);
+
+		Assert.assertNotEquals(exportTaskId1, exportTaskId2);
+
+		Result<String, Void> result =
+			liferayBatchOperations.getBatchTaskStatus(
+				liferayConnection, BatchTaskType.EXPORT, exportTaskId2, 5,
+				TimeUnit.SECONDS);
+
+		Assert.assertEquals(
+			"{\"executeStatus\":\"COMPLETED\",\"id\":" + exportTaskId2 + "}",
+			result.getOutput());
+
+		Result<InputStream, Void> contentResult =
+			liferayBatchOperations.downloadExportTaskContent(
+				liferayConnection, exportTaskId1, 5, TimeUnit.SECONDS, false);
+
+		try (InputStream inputStream = contentResult.getOutput()) {
+			String output = IOUtils.toString(inputStream);
+
+			Assert.assertTrue(output.contains("\"name\": \"Entity 3\""));
+		}
+
+		Assert.assertEquals(4, liferayStandInServer.getRequestsCount());
+	}
+
+	@Test
+	public void testSubmitExportTaskWithFilter() throws Exception {
+		liferayConnection = liferayStandInServer.getLiferayConnection(
+			new LiferayConnectionSettings.Builder());
+
+		liferayBatchOperations.submitExportTask(
+			liferayConnection, "com.liferay.headless.v1_0.Entity", null,
+			"id,name", "active eq true", "Entity", "dateModified:desc", 5,
+			TimeUnit.SECONDS);
+
+		Map<String, String> queryParams =
+			liferayStandInServer.getLastRequestQueryParams();
+
+		Assert.assertEquals("id,name", queryParams.get("fieldNames"));
+		Assert.assertEquals("active eq true", queryParams.get("filter"));
+		Assert.assertEquals("Entity", queryParams.get("search"));
+		Assert.assertEquals("dateModified:desc", queryParams.get("sort"));
+	}
+
+	@Test
+	public void testSubmitImportCreateTask() throws Exception {
+		liferayConnection = liferayStandInServer.getLiferayConnection(
+			new LiferayConnectionSettings.Builder());
+
+		String importTaskId = liferayBatchOperations.submitImportCreateTask(
+			liferayConnection, "com.liferay.headless.v1_0.Entity",
+			Collections.emptyMap(), getInputStream("[{\"name\": \"A\"}]"), 5,
+			TimeUnit.SECONDS);
+
+		Result<String, Void> result =
+			liferayBatchOperations.getBatchTaskStatus(
+				liferayConnection, BatchTaskType.IMPORT, importTaskId, 5,
+				TimeUnit.SECONDS);
+
+		String output = result.getOutput();
+
+		Assert.assertTrue(output, output.contains("\"COMPLETED\""));
+		Assert.assertEquals(2, liferayStandInServer.getRequestsCount());
+	}
+
+	private void assertPartitionedExportTaskFails(
+		String partitionField, String partitionBoundaries) {
+
+		try {
+			liferayBatchOperations.executePartitionedExportTask(
+				liferayConnection, "com.liferay.headless.v1_0.Entity", null,
+				null, null, null, partitionField, partitionBoundaries, 1, 5,
+				TimeUnit.SECONDS);
+
+			Assert.fail(partitionField + " " + partitionBoundaries);
+		}
+		catch (ModuleException moduleException) {
+			Assert.assertEquals(
+				LiferayError.EXECUTION, moduleException.getType());
+		}
+	}
+
+	private ResourceContext getExportTaskContentResourceContext(
+		String exportTaskId, MultiMap<String, String> headers) {
+
+		ResourceContext.Builder builder = new ResourceContext.Builder();
+
+		if (headers != null) {
+			builder.headers(headers);
+		}
+
+		return builder.connectionTimeout(
+			5000
+		).endpoint(
+			"/v1.0/export-task/{exportTaskId}/content"
+		).jaxRSAppBase(
+			"/headless-batch-engine"
+		).pathParams(
+			Collections.singletonMap("exportTaskId", exportTaskId)
+		).build();
+	}
+
+	private InputStream getInputStream(String s) {
+		return new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private Set<Path> getSpoolPaths() throws IOException {
+		Set<Path> spoolPaths = new HashSet<>();
+
+		try (DirectoryStream<Path> directoryStream =
+				Files.newDirectoryStream(
+					Paths.get(System.getProperty("java.io.tmpdir")),
+					"liferay-spool-*")) {
+
+			for (Path path : directoryStream) {
+				spoolPaths.add(path);
+			}
+		}
+
+		return spoolPaths;
+	}
+
+
+
+	private final LiferayBatchOperations liferayBatchOperations =
+		new LiferayBatchOperations();
+	private LiferayConnection liferayConnection;
+	private final LiferayCRUDOperations liferayCRUDOperations =
+		new LiferayCRUDOperations();
+	private LiferayStandInServer liferayStandInServer;
+
+}
\ No newline at end of file
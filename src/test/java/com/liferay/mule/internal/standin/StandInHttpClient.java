@@ -0,0 +1,352 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.standin;
+
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.net.URLEncoder;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+
+import org.mule.runtime.api.util.MultiMap;
+import org.mule.runtime.core.api.util.IOUtils;
+import org.mule.runtime.http.api.client.HttpClient;
+import org.mule.runtime.http.api.client.auth.HttpAuthentication;
+import org.mule.runtime.http.api.domain.entity.ByteArrayHttpEntity;
+import org.mule.runtime.http.api.domain.entity.HttpEntity;
+import org.mule.runtime.http.api.domain.entity.InputStreamHttpEntity;
+import org.mule.runtime.http.api.domain.entity.multipart.HttpPart;
+import org.mule.runtime.http.api.domain.message.request.HttpRequest;
+import org.mule.runtime.http.api.domain.message.response.HttpResponse;
+import org.mule.runtime.http.api.domain.message.response.HttpResponseBuilder;
+
+/**
+ * @author Matija Petanjek
+ */
+public class StandInHttpClient implements HttpClient {
+
+	public StandInHttpClient(boolean streaming) {
+		this.streaming = streaming;
+	}
+
+	@Override
+	public HttpResponse send(
+			HttpRequest httpRequest, int responseTimeout,
+			boolean followRedirects, HttpAuthentication httpAuthentication)
+		throws IOException, TimeoutException {
+
+		URL url = new URL(getURL(httpRequest));
+
+		HttpURLConnection httpURLConnection =
+			(HttpURLConnection)url.openConnection();
+
+		httpURLConnection.setConnectTimeout(responseTimeout);
+		httpURLConnection.setInstanceFollowRedirects(followRedirects);
+		httpURLConnection.setReadTimeout(responseTimeout);
+
+		String method = httpRequest.getMethod();
+
+		if (method.equals("PATCH")) {
+			httpURLConnection.setRequestMethod("POST");
+			httpURLConnection.setRequestProperty(
+				"X-HTTP-Method-Override", method);
+		}
+		else {
+			httpURLConnection.setRequestMethod(method);
+		}
+
+		for (String headerName : httpRequest.getHeaderNames()) {
+			for (String headerValue :
+					httpRequest.getHeaderValues(headerName)) {
+
+				httpURLConnection.addRequestProperty(headerName, headerValue);
+			}
+		}
+
+		try {
+			writeEntity(httpURLConnection, httpRequest.getEntity());
+
+			return getHttpResponse(httpURLConnection, method);
+		}
+		catch (SocketTimeoutException socketTimeoutException) {
+			TimeoutException timeoutException = new TimeoutException(
+				socketTimeoutException.getMessage());
+
+			timeoutException.initCause(socketTimeoutException);
+
+			throw timeoutException;
+		}
+	}
+
+	@Override
+	public CompletableFuture<HttpResponse> sendAsync(
+		HttpRequest httpRequest, int responseTimeout, boolean followRedirects,
+		HttpAuthentication httpAuthentication) {
+
+		return CompletableFuture.supplyAsync(
+			() -> {
+				try {
+					return send(
+						httpRequest, responseTimeout, followRedirects,
+						httpAuthentication);
+				}
+				catch (Exception exception) {
+					throw new CompletionException(exception);
+				}
+			},
+			executorService);
+	}
+
+	@Override
+	public void start() {
+	}
+
+	@Override
+	public void stop() {
+		executorService.shutdownNow();
+	}
+
+	private InputStream getContentLengthInputStream(
+		InputStream inputStream, long contentLength) {
+
+		if (contentLength < 0) {
+			return inputStream;
+		}
+
+		return new FilterInputStream(inputStream) {
+
+			@Override
+			public int read() throws IOException {
+				int value = super.read();
+
+				if (value == -1) {
+					checkContentLength();
+				}
+				else {
+					position++;
+				}
+
+				return value;
+			}
+
+			@Override
+			public int read(byte[] bytes, int offset, int length)
+				throws IOException {
+
+				int count = super.read(bytes, offset, length);
+
+				if (count == -1) {
+					checkContentLength();
+				}
+				else {
+					position += count;
+				}
+
+				return count;
+			}
+
+			private void checkContentLength() throws IOException {
+				if (position < contentLength) {
+					throw new EOFException(
+						String.format(
+							"Connection closed after %d of %d bytes",
+							position, contentLength));
+				}
+			}
+
+			private long position;
+
+		};
+	}
+
+	private HttpResponse getHttpResponse(
+			HttpURLConnection httpURLConnection, String method)
+		throws IOException {
+
+		int statusCode = httpURLConnection.getResponseCode();
+
+		HttpResponseBuilder httpResponseBuilder = HttpResponse.builder();
+
+		Map<String, List<String>> headerFields =
+			httpURLConnection.getHeaderFields();
+
+		for (Map.Entry<String, List<String>> entry : headerFields.entrySet()) {
+			if (entry.getKey() != null) {
+				httpResponseBuilder.addHeaders(
+					entry.getKey(), entry.getValue());
+			}
+		}
+
+		InputStream inputStream = httpURLConnection.getErrorStream();
+
+		if (statusCode < 400) {
+			inputStream = httpURLConnection.getInputStream();
+		}
+
+		HttpEntity httpEntity = new ByteArrayHttpEntity(new byte[0]);
+
+		if ((inputStream != null) && !method.equals("HEAD")) {
+			inputStream = getContentLengthInputStream(
+				inputStream, httpURLConnection.getContentLengthLong());
+
+			if (streaming) {
+				httpEntity = new InputStreamHttpEntity(inputStream);
+			}
+			else {
+				try {
+					httpEntity = new ByteArrayHttpEntity(
+						IOUtils.toByteArray(inputStream));
+				}
+				finally {
+					inputStream.close();
+				}
+			}
+		}
+		else if (inputStream != null) {
+			inputStream.close();
+		}
+
+		return httpResponseBuilder.entity(
+			httpEntity
+		).reasonPhrase(
+			httpURLConnection.getResponseMessage()
+		).statusCode(
+			statusCode
+		).build();
+	}
+
+	private String getURL(HttpRequest httpRequest) throws IOException {
+		StringBuilder sb = new StringBuilder(
+			String.valueOf(httpRequest.getUri()));
+
+		MultiMap<String, String> queryParams = httpRequest.getQueryParams();
+
+		char separator = '?';
+
+		for (String name : queryParams.keySet()) {
+			for (String value : queryParams.getAll(name)) {
+				sb.append(separator);
+				sb.append(URLEncoder.encode(name, "UTF-8"));
+				sb.append('=');
+				sb.append(URLEncoder.encode(value, "UTF-8"));
+
+				separator = '&';
+			}
+		}
+
+		return sb.toString();
+	}
+
+	private void writeEntity(
+			HttpURLConnection httpURLConnection, HttpEntity httpEntity)
+		throws IOException {
+
+		if (httpEntity == null) {
+			return;
+		}
+
+		if (httpEntity.isComposed()) {
+			writeMultipartEntity(httpURLConnection, httpEntity);
+
+			return;
+		}
+
+		if (httpEntity.isStreaming()) {
+			httpURLConnection.setChunkedStreamingMode(8192);
+			httpURLConnection.setDoOutput(true);
+
+			try (InputStream inputStream = httpEntity.getContent();
+				OutputStream outputStream =
+					httpURLConnection.getOutputStream()) {
+
+				IOUtils.copyLarge(inputStream, outputStream);
+			}
+
+			return;
+		}
+
+		byte[] bytes = httpEntity.getBytes();
+
+		if (bytes.length == 0) {
+			return;
+		}
+
+		httpURLConnection.setDoOutput(true);
+		httpURLConnection.setFixedLengthStreamingMode(bytes.length);
+
+		try (OutputStream outputStream = httpURLConnection.getOutputStream()) {
+			outputStream.write(bytes);
+		}
+	}
+
+	private void writeMultipartEntity(
+			HttpURLConnection httpURLConnection, HttpEntity httpEntity)
+		throws IOException {
+
+		String boundary = "StandInBoundary" + System.nanoTime();
+
+		httpURLConnection.setChunkedStreamingMode(8192);
+		httpURLConnection.setDoOutput(true);
+		httpURLConnection.setRequestProperty(
+			"Content-Type", "multipart/form-data; boundary=" + boundary);
+
+		try (OutputStream outputStream = httpURLConnection.getOutputStream()) {
+			for (HttpPart httpPart : httpEntity.getParts()) {
+				writeString(
+					outputStream,
+					String.format(
+						"--%s\r\nContent-Disposition: form-data; " +
+							"name=\"%s\"; filename=\"%s\"\r\n" +
+								"Content-Type: %s\r\n\r\n",
+						boundary, httpPart.getName(), httpPart.getFileName(),
+						httpPart.getContentType()));
+
+				try (InputStream inputStream = httpPart.getInputStream()) {
+					IOUtils.copyLarge(inputStream, outputStream);
+				}
+
+				writeString(outputStream, "\r\n");
+			}
+
+			writeString(outputStream, "--" + boundary + "--\r\n");
+		}
+	}
+
+	private void writeString(OutputStream outputStream, String s)
+		throws IOException {
+
+		outputStream.write(s.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private final ExecutorService executorService =
+		Executors.newCachedThreadPool();
+	private final boolean streaming;
+
+}
\ No newline at end of file
@@ -0,0 +1,222 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.mule.internal.standin;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.net.InetSocketAddress;
+
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.mule.runtime.core.api.util.IOUtils;
+import org.mule.runtime.http.api.HttpConstants;
+import org.mule.runtime.http.api.domain.message.request.HttpRequest;
+import org.mule.runtime.http.api.domain.request.ClientConnection;
+import org.mule.runtime.http.api.domain.request.HttpRequestContext;
+import org.mule.runtime.http.api.domain.request.ServerConnection;
+import org.mule.runtime.http.api.server.HttpServer;
+import org.mule.runtime.http.api.server.HttpServerConfiguration;
+import org.mule.runtime.http.api.server.RequestHandler;
+import org.mule.runtime.http.api.server.RequestHandlerManager;
+import org.mule.runtime.http.api.server.ServerAddress;
+
+/**
+ * @author Matija Petanjek
+ */
+public class StandInHttpServer implements HttpServer {
+
+	public StandInHttpServer(HttpServerConfiguration httpServerConfiguration) {
+		this.httpServerConfiguration = httpServerConfiguration;
+	}
+
+	@Override
+	public RequestHandlerManager addRequestHandler(
+		Collection<String> methods, String path,
+		RequestHandler requestHandler) {
+
+		return addRequestHandler(path, requestHandler);
+	}
+
+	@Override
+	public RequestHandlerManager addRequestHandler(
+		String path, RequestHandler requestHandler) {
+
+		this.requestHandler = requestHandler;
+
+		return new RequestHandlerManager() {
+
+			@Override
+			public void dispose() {
+			}
+
+			@Override
+			public void start() {
+			}
+
+			@Override
+			public void stop() {
+			}
+
+		};
+	}
+
+	@Override
+	public void dispose() {
+		executorService.shutdownNow();
+	}
+
+	@Override
+	public HttpConstants.Protocol getProtocol() {
+		return HttpConstants.Protocol.HTTP;
+	}
+
+	@Override
+	public ServerAddress getServerAddress() {
+		InetSocketAddress inetSocketAddress = httpServer.getAddress();
+
+		return new ServerAddress() {
+
+			@Override
+			public String getIp() {
+				return inetSocketAddress.getHostString();
+			}
+
+			@Override
+			public int getPort() {
+				return inetSocketAddress.getPort();
+			}
+
+			@Override
+			public boolean overlaps(ServerAddress serverAddress) {
+				return getPort() == serverAddress.getPort();
+			}
+
+		};
+	}
+
+	@Override
+	public boolean isStopped() {
+		return stopped;
+	}
+
+	@Override
+	public boolean isStopping() {
+		return false;
+	}
+
+	@Override
+	public HttpServer start() throws IOException {
+		httpServer = com.sun.net.httpserver.HttpServer.create(
+			new InetSocketAddress(
+				httpServerConfiguration.getHost(),
+				httpServerConfiguration.getPort()),
+			0);
+
+		httpServer.createContext("/", this::handle);
+		httpServer.setExecutor(executorService);
+
+		httpServer.start();
+
+		stopped = false;
+
+		return this;
+	}
+
+	@Override
+	public HttpServer stop() {
+		httpServer.stop(0);
+
+		stopped = true;
+
+		return this;
+	}
+
+	private void handle(HttpExchange httpExchange) throws IOException {
+		try (InputStream inputStream = httpExchange.getRequestBody()) {
+			IOUtils.toByteArray(inputStream);
+		}
+
+		HttpRequest httpRequest = HttpRequest.builder(
+		).method(
+			httpExchange.getRequestMethod()
+		).uri(
+			httpExchange.getRequestURI()
+		).build();
+
+		CountDownLatch countDownLatch = new CountDownLatch(1);
+
+		int[] statusCode = {500};
+
+		requestHandler.handleRequest(
+			new HttpRequestContext() {
+
+				@Override
+				public ClientConnection getClientConnection() {
+					return null;
+				}
+
+				@Override
+				public HttpRequest getRequest() {
+					return httpRequest;
+				}
+
+				@Override
+				public String getScheme() {
+					return "http";
+				}
+
+				@Override
+				public ServerConnection getServerConnection() {
+					return null;
+				}
+
+			},
+			(httpResponse, responseStatusCallback) -> {
+
+				statusCode[0] = httpResponse.getStatusCode();
+
+				countDownLatch.countDown();
+
+				responseStatusCallback.responseSendSuccessfully();
+			});
+
+		try {
+			countDownLatch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException interruptedException) {
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
+		}
+
+		httpExchange.sendResponseHeaders(statusCode[0], -1);
+
+		httpExchange.close();
+	}
+
+	private final ExecutorService executorService =
+		Executors.newCachedThreadPool();
+	private com.sun.net.httpserver.HttpServer httpServer;
+	private final HttpServerConfiguration httpServerConfiguration;
+	private volatile RequestHandler requestHandler;
+	private volatile boolean stopped = true;
+
+}
\ No newline at end of file
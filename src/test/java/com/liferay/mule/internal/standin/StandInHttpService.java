@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.standin;
+
+import org.mule.runtime.http.api.HttpService;
+import org.mule.runtime.http.api.client.HttpClientFactory;
+import org.mule.runtime.http.api.server.HttpServer;
+import org.mule.runtime.http.api.server.HttpServerConfiguration;
+import org.mule.runtime.http.api.server.HttpServerFactory;
+
+/**
+ * @author Matija Petanjek
+ */
+public class StandInHttpService implements HttpService {
+
+	@Override
+	public HttpClientFactory getClientFactory() {
+		return httpClientConfiguration -> new StandInHttpClient(
+			httpClientConfiguration.isStreaming());
+	}
+
+	@Override
+	public String getName() {
+		return "Stand-In HTTP Service";
+	}
+
+	@Override
+	public HttpServerFactory getServerFactory() {
+		return new HttpServerFactory() {
+
+			@Override
+			public HttpServer create(
+				HttpServerConfiguration httpServerConfiguration) {
+
+				return new StandInHttpServer(httpServerConfiguration);
+			}
+
+			@Override
+			public HttpServer lookup(String name) {
+				throw new UnsupportedOperationException();
+			}
+
+		};
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.standin;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.mule.runtime.api.store.ObjectAlreadyExistsException;
+import org.mule.runtime.api.store.ObjectDoesNotExistException;
+import org.mule.runtime.api.store.ObjectStore;
+
+/**
+ * @author Matija Petanjek
+ */
+public class StandInObjectStore<T extends Serializable>
+	implements ObjectStore<T> {
+
+	@Override
+	public List<String> allKeys() {
+		return new ArrayList<>(values.keySet());
+	}
+
+	@Override
+	public void clear() {
+		values.clear();
+	}
+
+	@Override
+	public void close() {
+	}
+
+	@Override
+	public boolean contains(String key) {
+		return values.containsKey(key);
+	}
+
+	@Override
+	public boolean isPersistent() {
+		return true;
+	}
+
+	@Override
+	public void open() {
+	}
+
+	@Override
+	public T remove(String key) throws ObjectDoesNotExistException {
+		T value = values.remove(key);
+
+		if (value == null) {
+			throw new ObjectDoesNotExistException();
+		}
+
+		return value;
+	}
+
+	@Override
+	public T retrieve(String key) throws ObjectDoesNotExistException {
+		T value = values.get(key);
+
+		if (value == null) {
+			throw new ObjectDoesNotExistException();
+		}
+
+		return value;
+	}
+
+	@Override
+	public Map<String, T> retrieveAll() {
+		return new HashMap<>(values);
+	}
+
+	@Override
+	public void store(String key, T value)
+		throws ObjectAlreadyExistsException {
+
+		if (values.putIfAbsent(key, value) != null) {
+			throw new ObjectAlreadyExistsException();
+		}
+	}
+
+	private final ConcurrentMap<String, T> values = new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
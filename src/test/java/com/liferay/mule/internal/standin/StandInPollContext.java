@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.standin;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.mule.runtime.api.connection.ConnectionException;
+import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.runtime.extension.api.runtime.source.PollContext;
+import org.mule.runtime.extension.api.runtime.source.PollingSource;
+import org.mule.runtime.extension.api.runtime.source.SourceCallbackContext;
+
+/**
+ * @author Matija Petanjek
+ */
+public class StandInPollContext<T, A> implements PollContext<T, A> {
+
+	@Override
+	public PollItemStatus accept(Consumer<PollItem<T, A>> consumer) {
+		StandInPollItem pollItem = new StandInPollItem();
+
+		consumer.accept(pollItem);
+
+		Serializable itemWatermark = pollItem.watermark;
+
+		if ((watermark != null) && (itemWatermark != null)) {
+			int value = compare(itemWatermark, watermark);
+
+			if ((value < 0) ||
+				((value == 0) && watermarkIds.contains(pollItem.id))) {
+
+				return PollItemStatus.FILTERED_BY_WATERMARK;
+			}
+		}
+
+		results.add(pollItem.result);
+
+		if (itemWatermark != null) {
+			if ((nextWatermark == null) ||
+				(compare(itemWatermark, nextWatermark) > 0)) {
+
+				nextWatermark = itemWatermark;
+
+				nextWatermarkIds.clear();
+			}
+
+			if (compare(itemWatermark, nextWatermark) == 0) {
+				nextWatermarkIds.add(pollItem.id);
+			}
+		}
+
+		return PollItemStatus.ACCEPTED;
+	}
+
+	public ConnectionException getConnectionException() {
+		return connectionException;
+	}
+
+	@Override
+	public Optional<Serializable> getWatermark() {
+		return Optional.ofNullable(watermark);
+	}
+
+	@Override
+	public boolean isSourceStopping() {
+		return false;
+	}
+
+	@Override
+	public void onConnectionException(
+		ConnectionException connectionException) {
+
+		this.connectionException = connectionException;
+	}
+
+	public List<Result<T, A>> poll(PollingSource<T, A> pollingSource) {
+		results.clear();
+
+		nextWatermark = watermark;
+		nextWatermarkIds = new HashSet<>(watermarkIds);
+
+		pollingSource.poll(this);
+
+		watermark = nextWatermark;
+		watermarkIds = nextWatermarkIds;
+
+		return new ArrayList<>(results);
+	}
+
+	@Override
+	public void setWatermarkComparator(
+		Comparator<? extends Serializable> comparator) {
+	}
+
+	@SuppressWarnings("unchecked")
+	private int compare(
+		Serializable serializable1, Serializable serializable2) {
+		Comparable<Serializable> comparable =
+			(Comparable<Serializable>)serializable1;
+
+		return comparable.compareTo(serializable2);
+	}
+
+	private ConnectionException connectionException;
+	private Serializable nextWatermark;
+	private Set<String> nextWatermarkIds = new HashSet<>();
+	private final List<Result<T, A>> results = new ArrayList<>();
+	private Serializable watermark;
+	private Set<String> watermarkIds = new HashSet<>();
+
+	private class StandInPollItem implements PollItem<T, A> {
+
+		@Override
+		public SourceCallbackContext getSourceCallbackContext() {
+			return null;
+		}
+
+		@Override
+		public PollItem<T, A> setId(String id) {
+			this.id = id;
+
+			return this;
+		}
+
+		@Override
+		public PollItem<T, A> setResult(Result<T, A> result) {
+			this.result = result;
+
+			return this;
+		}
+
+		@Override
+		public PollItem<T, A> setWatermark(Serializable watermark) {
+			this.watermark = watermark;
+
+			return this;
+		}
+
+		private String id;
+		private Result<T, A> result;
+		private Serializable watermark;
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.streaming;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.mule.runtime.api.streaming.bytes.CursorStream;
+import org.mule.runtime.core.api.util.IOUtils;
+
+/**
+ * @author Matija Petanjek
+ */
+public class BulkResultSpoolerTest {
+
+	@Test
+	public void testSpool() throws IOException {
+		BulkResultSpooler bulkResultSpooler = new BulkResultSpooler(
+			objectMapper, 2, 5000, this::getResult, this::getFailureResult);
+
+		assertContent(
+			"[{\"index\":0,\"id\":1},{\"index\":1,\"id\":2}," +
+				"{\"index\":2,\"id\":3}]",
+			bulkResultSpooler.spool(
+				getInputStream("[{\"id\": 1}, {\"id\": 2}, {\"id\": 3}]")));
+	}
+
+	@Test
+	public void testSpoolEmptyArray() throws IOException {
+		BulkResultSpooler bulkResultSpooler = new BulkResultSpooler(
+			objectMapper, 2, 5000, this::getResult, this::getFailureResult);
+
+		assertContent("[]", bulkResultSpooler.spool(getInputStream(" [ ] ")));
+	}
+
+	@Test
+	public void testSpoolInvalidContent() throws IOException {
+		BulkResultSpooler bulkResultSpooler = new BulkResultSpooler(
+			objectMapper, 2, 5000, this::getResult, this::getFailureResult);
+
+		try {
+			bulkResultSpooler.spool(getInputStream("{\"id\": 1}"));
+
+			Assert.fail();
+		}
+		catch (IOException ioException) {
+			Assert.assertEquals(
+				"Records must be a JSON array", ioException.getMessage());
+		}
+	}
+
+	@Test
+	public void testSpoolSendsRecordsWithinWindow() throws IOException {
+		List<CompletableFuture<JsonNode>> completableFutures =
+			new ArrayList<>();
+
+		BiFunction<Integer, JsonNode, CompletableFuture<JsonNode>>
+			sendFunction = (index, recordJsonNode) -> {
+				long pendingCount = completableFutures.stream(
+				).filter(
+					completableFuture -> !completableFuture.isDone()
+				).count();
+
+				Assert.assertTrue(pendingCount < 2);
+
+				CompletableFuture<JsonNode> completableFuture =
+					CompletableFuture.supplyAsync(
+						() -> getResult(
+							index, recordJsonNode
+						).join());
+
+				completableFutures.add(completableFuture);
+
+				return completableFuture;
+			};
+
+		BulkResultSpooler bulkResultSpooler = new BulkResultSpooler(
+			objectMapper, 2, 5000, sendFunction, this::getFailureResult);
+
+		MappedFileCursorStreamProvider mappedFileCursorStreamProvider =
+			bulkResultSpooler.spool(
+				getInputStream("[{\"id\": 1}, {\"id\": 2}, {\"id\": 3}]"));
+
+		Assert.assertEquals(3, completableFutures.size());
+
+		assertContent(
+			"[{\"index\":0,\"id\":1},{\"index\":1,\"id\":2}," +
+				"{\"index\":2,\"id\":3}]",
+			mappedFileCursorStreamProvider);
+	}
+
+	@Test
+	public void testSpoolTimesOut() throws IOException {
+		BulkResultSpooler bulkResultSpooler = new BulkResultSpooler(
+			objectMapper, 2, 50,
+			(index, recordJsonNode) -> {
+				if (index == 0) {
+					return new CompletableFuture<>();
+				}
+
+				return getResult(index, recordJsonNode);
+			},
+			this::getFailureResult);
+
+		assertContent(
+			"[{\"index\":0,\"error\":\"TimeoutException\"}," +
+				"{\"index\":1,\"id\":2}]",
+			bulkResultSpooler.spool(
+				getInputStream("[{\"id\": 1}, {\"id\": 2}]")));
+	}
+
+	private void assertContent(
+			String expected,
+			MappedFileCursorStreamProvider mappedFileCursorStreamProvider)
+		throws IOException {
+
+		try (CursorStream cursorStream =
+				mappedFileCursorStreamProvider.openCursor()) {
+
+			Assert.assertEquals(expected, IOUtils.toString(cursorStream));
+		}
+		finally {
+			mappedFileCursorStreamProvider.releaseResources();
+		}
+	}
+
+	private JsonNode getFailureResult(int index, Throwable throwable) {
+		ObjectNode objectNode = objectMapper.createObjectNode();
+
+		objectNode.put("index", index);
+
+		Class<?> clazz = throwable.getClass();
+
+		objectNode.put("error", clazz.getSimpleName());
+
+		return objectNode;
+	}
+
+	private InputStream getInputStream(String content) {
+		return new ByteArrayInputStream(
+			content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private CompletableFuture<JsonNode> getResult(
+		int index, JsonNode recordJsonNode) {
+
+		ObjectNode objectNode = objectMapper.createObjectNode();
+
+		objectNode.put("index", index);
+		objectNode.setAll((ObjectNode)recordJsonNode);
+
+		return CompletableFuture.completedFuture(objectNode);
+	}
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.streaming;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.mule.runtime.core.api.util.IOUtils;
+
+/**
+ * @author Matija Petanjek
+ */
+public class JsonArrayFileSequenceInputStreamTest {
+
+	@Test
+	public void testRead() throws IOException {
+		List<Path> paths = getPaths(
+			"[{\"id\": 1}, {\"id\": 2}]", " [ ]\n", "\n[{\"id\": 3}]\n", "[]");
+
+		try (InputStream inputStream = new JsonArrayFileSequenceInputStream(
+				paths)) {
+
+			Assert.assertEquals(
+				"[{\"id\": 1}, {\"id\": 2},{\"id\": 3}]",
+				IOUtils.toString(inputStream));
+		}
+
+		for (Path path : paths) {
+			Assert.assertFalse(Files.exists(path));
+		}
+	}
+
+	@Test
+	public void testReadEmptyArrays() throws IOException {
+		try (InputStream inputStream = new JsonArrayFileSequenceInputStream(
+				getPaths("[]", "[ ]"))) {
+
+			Assert.assertEquals("[]", IOUtils.toString(inputStream));
+		}
+
+		try (InputStream inputStream = new JsonArrayFileSequenceInputStream(
+				Collections.emptyList())) {
+
+			Assert.assertEquals("[]", IOUtils.toString(inputStream));
+		}
+	}
+
+	@Test
+	public void testReadInvalidContent() throws IOException {
+		List<Path> paths = getPaths("[1]", "{\"id\": 1}");
+
+		try {
+			new JsonArrayFileSequenceInputStream(paths);
+
+			Assert.fail();
+		}
+		catch (IOException ioException) {
+			Assert.assertTrue(
+				ioException.getMessage(
+				).endsWith(
+					"is not a JSON array"
+				));
+		}
+
+		for (Path path : paths) {
+			Assert.assertFalse(Files.exists(path));
+		}
+	}
+
+	private List<Path> getPaths(String... contents) throws IOException {
+		List<Path> paths = new ArrayList<>();
+
+		for (String content : contents) {
+			Path path = Files.createTempFile("liferay-partition-", ".json");
+
+			Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+
+			paths.add(path);
+		}
+
+		return paths;
+	}
+
+}
\ No newline at end of file
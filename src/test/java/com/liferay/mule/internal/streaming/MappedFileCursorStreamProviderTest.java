@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.streaming;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.mule.runtime.api.streaming.bytes.CursorStream;
+import org.mule.runtime.core.api.util.IOUtils;
+
+/**
+ * @author Matija Petanjek
+ */
+public class MappedFileCursorStreamProviderTest {
+
+	@Test
+	public void testOpenCursor() throws IOException {
+		byte[] bytes = getBytes(100);
+
+		Path path = Files.createTempFile("liferay-spool-", ".tmp");
+
+		Files.write(path, bytes);
+
+		MappedFileCursorStreamProvider mappedFileCursorStreamProvider =
+			new MappedFileCursorStreamProvider(path, 7);
+
+		try (CursorStream cursorStream1 =
+				mappedFileCursorStreamProvider.openCursor();
+			CursorStream cursorStream2 =
+				mappedFileCursorStreamProvider.openCursor()) {
+
+			Assert.assertEquals(0, cursorStream1.read());
+			Assert.assertEquals(1, cursorStream1.read());
+
+			Assert.assertArrayEquals(bytes, IOUtils.toByteArray(cursorStream2));
+
+			cursorStream1.seek(95);
+
+			byte[] buffer = new byte[10];
+
+			Assert.assertEquals(5, cursorStream1.read(buffer, 0, 10));
+			Assert.assertEquals(95, buffer[0]);
+			Assert.assertEquals(99, buffer[4]);
+			Assert.assertEquals(-1, cursorStream1.read());
+			Assert.assertEquals(100, cursorStream1.getPosition());
+
+			cursorStream1.seek(6);
+
+			Assert.assertEquals(2, cursorStream1.read(buffer, 0, 2));
+			Assert.assertEquals(6, buffer[0]);
+			Assert.assertEquals(7, buffer[1]);
+		}
+		finally {
+			mappedFileCursorStreamProvider.releaseResources();
+		}
+
+		Assert.assertFalse(Files.exists(path));
+	}
+
+	@Test(expected = IOException.class)
+	public void testReadReleasedCursor() throws IOException {
+		MappedFileCursorStreamProvider mappedFileCursorStreamProvider =
+			MappedFileCursorStreamProvider.spool(
+				new ByteArrayInputStream(getBytes(10)));
+
+		try {
+			CursorStream cursorStream =
+				mappedFileCursorStreamProvider.openCursor();
+
+			cursorStream.release();
+
+			cursorStream.read();
+		}
+		finally {
+			mappedFileCursorStreamProvider.releaseResources();
+		}
+	}
+
+	@Test
+	public void testSpool() throws IOException {
+		byte[] bytes = getBytes(1000);
+
+		MappedFileCursorStreamProvider mappedFileCursorStreamProvider =
+			MappedFileCursorStreamProvider.spool(
+				new ByteArrayInputStream(bytes));
+
+		try {
+			Assert.assertEquals(
+				1000, mappedFileCursorStreamProvider.getLength());
+
+			for (int i = 0; i < 2; i++) {
+				try (CursorStream cursorStream =
+						mappedFileCursorStreamProvider.openCursor()) {
+
+					Assert.assertArrayEquals(
+						bytes, IOUtils.toByteArray(cursorStream));
+					Assert.assertSame(
+						mappedFileCursorStreamProvider,
+						cursorStream.getProvider());
+				}
+			}
+		}
+		finally {
+			mappedFileCursorStreamProvider.releaseResources();
+		}
+
+		Assert.assertTrue(mappedFileCursorStreamProvider.isClosed());
+	}
+
+	@Test
+	public void testSpoolDeletesMappedFile() throws IOException {
+		Set<Path> spoolPaths = getSpoolPaths();
+
+		byte[] bytes = getBytes(100);
+
+		MappedFileCursorStreamProvider mappedFileCursorStreamProvider =
+			MappedFileCursorStreamProvider.spool(
+				new ByteArrayInputStream(bytes));
+
+		Assert.assertEquals(spoolPaths, getSpoolPaths());
+
+		try (CursorStream cursorStream =
+				mappedFileCursorStreamProvider.openCursor()) {
+
+			Assert.assertArrayEquals(bytes, IOUtils.toByteArray(cursorStream));
+		}
+
+		Assert.assertEquals(spoolPaths, getSpoolPaths());
+	}
+
+	private byte[] getBytes(int length) {
+		byte[] bytes = new byte[length];
+
+		for (int i = 0; i < length; i++) {
+			bytes[i] = (byte)i;
+		}
+
+		return bytes;
+	}
+
+
+	private Set<Path> getSpoolPaths() throws IOException {
+		Set<Path> spoolPaths = new HashSet<>();
+
+		try (DirectoryStream<Path> directoryStream =
+				Files.newDirectoryStream(
+					Paths.get(System.getProperty("java.io.tmpdir")),
+					"liferay-spool-*")) {
+
+			for (Path path : directoryStream) {
+				spoolPaths.add(path);
+			}
+		}
+
+		return spoolPaths;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.tracing;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Matija Petanjek
+ */
+public class LoggingLiferayTracerTest {
+
+	@Test
+	public void testStartAsyncSpanIsNotActivated() {
+		LiferaySpan asyncLiferaySpan = liferayTracer.startAsyncSpan("async");
+
+		LiferaySpan liferaySpan = liferayTracer.startSpan("span");
+
+		Assert.assertNotEquals(
+			getTraceId(asyncLiferaySpan), getTraceId(liferaySpan));
+
+		liferaySpan.end();
+		asyncLiferaySpan.end();
+	}
+
+	@Test
+	public void testStartSpanInheritsTraceId() {
+		LiferaySpan parentLiferaySpan = liferayTracer.startSpan("parent");
+
+		LiferaySpan childLiferaySpan = liferayTracer.startSpan("child");
+
+		Assert.assertEquals(
+			getTraceId(parentLiferaySpan), getTraceId(childLiferaySpan));
+		Assert.assertNotEquals(
+			parentLiferaySpan.getTraceParent(),
+			childLiferaySpan.getTraceParent());
+
+		childLiferaySpan.end();
+
+		LiferaySpan siblingLiferaySpan = liferayTracer.startSpan("sibling");
+
+		Assert.assertEquals(
+			getTraceId(parentLiferaySpan), getTraceId(siblingLiferaySpan));
+
+		siblingLiferaySpan.end();
+		parentLiferaySpan.end();
+
+		LiferaySpan rootLiferaySpan = liferayTracer.startSpan("root");
+
+		Assert.assertNotEquals(
+			getTraceId(parentLiferaySpan), getTraceId(rootLiferaySpan));
+
+		rootLiferaySpan.end();
+	}
+
+	private String getTraceId(LiferaySpan liferaySpan) {
+		String traceParent = liferaySpan.getTraceParent();
+
+		String[] parts = traceParent.split("-");
+
+		return parts[1];
+	}
+
+	private final LiferayTracer liferayTracer = new LoggingLiferayTracer();
+
+}
\ No newline at end of file
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.mule.runtime.core.api.util.IOUtils;
+
+/**
+ * @author Matija Petanjek
+ */
+public class MultipartFileInputStreamTest {
+
+	@Test
+	public void testRead() throws IOException {
+		Path path = Files.createTempFile("import-", ".json");
+
+		try {
+			Files.write(
+				path, "[{\"name\": \"A\"}]".getBytes(StandardCharsets.UTF_8));
+
+			try (MultipartFileInputStream multipartFileInputStream =
+					new MultipartFileInputStream(
+						"file", path, "application/json")) {
+
+				String contentType =
+					multipartFileInputStream.getContentType();
+
+				Assert.assertTrue(
+					contentType.startsWith("multipart/form-data; boundary="));
+
+				String boundary = contentType.substring(
+					contentType.indexOf('=') + 1);
+
+				byte[] bytes = IOUtils.toByteArray(multipartFileInputStream);
+
+				Assert.assertEquals(
+					multipartFileInputStream.getLength(), bytes.length);
+				Assert.assertEquals(
+					String.format(
+						"--%s\r\nContent-Disposition: form-data; " +
+							"name=\"file\"; filename=\"%s\"\r\n" +
+								"Content-Type: application/json\r\n\r\n" +
+									"[{\"name\": \"A\"}]\r\n--%s--\r\n",
+						boundary, path.getFileName(), boundary),
+					new String(bytes, StandardCharsets.UTF_8));
+			}
+		}
+		finally {
+			Files.delete(path);
+		}
+	}
+
+	@Test
+	public void testReadByte() throws IOException {
+		Path path = Files.createTempFile("import-", ".json");
+
+		try {
+			Files.write(path, new byte[] {(byte)0xff, 1});
+
+			try (MultipartFileInputStream multipartFileInputStream =
+					new MultipartFileInputStream(
+						"file", path, "application/json")) {
+
+				ByteArrayOutputStream byteArrayOutputStream =
+					new ByteArrayOutputStream();
+
+				int value;
+
+				while ((value = multipartFileInputStream.read()) != -1) {
+					byteArrayOutputStream.write(value);
+				}
+
+				byte[] bytes = byteArrayOutputStream.toByteArray();
+
+				Assert.assertEquals(
+					multipartFileInputStream.getLength(), bytes.length);
+
+				String s = new String(bytes, StandardCharsets.ISO_8859_1);
+
+				Assert.assertTrue(s.contains("\r\n\r\n\u00ff\u0001\r\n--"));
+			}
+		}
+		finally {
+			Files.delete(path);
+		}
+	}
+
+}
\ No newline at end of file
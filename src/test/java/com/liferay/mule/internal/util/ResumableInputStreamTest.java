@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.mule.runtime.core.api.util.IOUtils;
+
+/**
+ * @author Matija Petanjek
+ */
+public class ResumableInputStreamTest {
+
+	@Test
+	public void testRead() throws IOException {
+		byte[] bytes = getBytes(100);
+
+		ResumableInputStream resumableInputStream = new ResumableInputStream(
+			getInterruptedInputStream(bytes, 0, 30),
+			position -> getInterruptedInputStream(
+				bytes, (int)position, (int)position + 50),
+			5);
+
+		Assert.assertArrayEquals(
+			bytes, IOUtils.toByteArray(resumableInputStream));
+		Assert.assertEquals(100, resumableInputStream.getPosition());
+		Assert.assertEquals(2, resumableInputStream.getResumes());
+	}
+
+	@Test
+	public void testReadFailsAfterMaxResumes() {
+		byte[] bytes = getBytes(100);
+
+		ResumableInputStream resumableInputStream = new ResumableInputStream(
+			getInterruptedInputStream(bytes, 0, 10),
+			position -> getInterruptedInputStream(
+				bytes, (int)position, (int)position + 10),
+			2);
+
+		byte[] buffer = new byte[100];
+
+		try {
+			while (resumableInputStream.read(buffer, 0, buffer.length) != -1) {
+			}
+
+			Assert.fail();
+		}
+		catch (IOException ioException) {
+			Assert.assertEquals("Interrupted", ioException.getMessage());
+		}
+
+		Assert.assertEquals(30, resumableInputStream.getPosition());
+		Assert.assertEquals(2, resumableInputStream.getResumes());
+	}
+
+	@Test
+	public void testReadWithoutResumes() throws IOException {
+		byte[] bytes = getBytes(100);
+
+		ResumableInputStream resumableInputStream = new ResumableInputStream(
+			new ByteArrayInputStream(bytes),
+			position -> {
+				throw new IOException();
+			},
+			5);
+
+		Assert.assertArrayEquals(
+			bytes, IOUtils.toByteArray(resumableInputStream));
+		Assert.assertEquals(0, resumableInputStream.getResumes());
+	}
+
+	private byte[] getBytes(int length) {
+		byte[] bytes = new byte[length];
+
+		for (int i = 0; i < length; i++) {
+			bytes[i] = (byte)i;
+		}
+
+		return bytes;
+	}
+
+	private InputStream getInterruptedInputStream(
+		byte[] bytes, int start, int end) {
+
+		return new InputStream() {
+
+			@Override
+			public int read() throws IOException {
+				if (position >= bytes.length) {
+					return -1;
+				}
+
+				if (position >= end) {
+					throw new IOException("Interrupted");
+				}
+
+				return bytes[position++] & 0xff;
+			}
+
+			private int position = start;
+
+		};
+	}
+
+}
\ No newline at end of file
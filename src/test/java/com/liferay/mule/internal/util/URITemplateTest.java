@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2000-2021 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mule.internal.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Matija Petanjek
+ */
+public class URITemplateTest {
+
+	@Test
+	public void testGetParameterNames() {
+		URITemplate uriTemplate = new URITemplate(
+			"/v1.0/catalogs/{catalogId}/products/{productId}");
+
+		Assert.assertEquals(
+			Arrays.asList("catalogId", "productId"),
+			uriTemplate.getParameterNames());
+	}
+
+	@Test
+	public void testRender() {
+		URITemplate uriTemplate = new URITemplate(
+			"/v1.0/catalogs/{catalogId}/products/{productId}");
+
+		Map<String, String> pathParams = new HashMap<>();
+
+		pathParams.put("catalogId", "1");
+		pathParams.put("productId", "2");
+
+		Assert.assertEquals(
+			"/v1.0/catalogs/1/products/2", uriTemplate.render(pathParams));
+	}
+
+	@Test
+	public void testRenderEncodesValues() {
+		URITemplate uriTemplate = new URITemplate(
+			"/v1.0/products/by-externalReferenceCode/{externalReferenceCode}");
+
+		Map<String, String> pathParams = new HashMap<>();
+
+		pathParams.put("externalReferenceCode", "a b/\u010D?");
+
+		Assert.assertEquals(
+			"/v1.0/products/by-externalReferenceCode/a%20b%2F%C4%8D%3F",
+			uriTemplate.render(pathParams));
+	}
+
+	@Test
+	public void testRenderWithoutParameters() {
+		URITemplate uriTemplate = new URITemplate("/v1.0/catalogs");
+
+		Assert.assertEquals(
+			"/v1.0/catalogs", uriTemplate.render(new HashMap<>()));
+	}
+
+	@Test
+	public void testRenderWithUnresolvedParameter() {
+		URITemplate uriTemplate = new URITemplate("/v1.0/products/{id}");
+
+		Assert.assertEquals(
+			"/v1.0/products/{id}", uriTemplate.render(new HashMap<>()));
+	}
+
+}
\ No newline at end of file